@@ -0,0 +1,201 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark;
+
+import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.SQLType;
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import io.shardingsphere.core.executor.ShardingExecuteGroup;
+import io.shardingsphere.core.executor.StatementExecuteUnit;
+import io.shardingsphere.core.executor.sql.execute.SQLExecuteCallback;
+import io.shardingsphere.core.executor.sql.execute.SQLExecuteTemplate;
+import io.shardingsphere.core.executor.sql.execute.result.MemoryQueryResult;
+import io.shardingsphere.core.executor.sql.execute.result.StreamQueryResult;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
+import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareCallback;
+import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareTemplate;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for SQL execution with H2 in-memory databases as stand-ins of actual data sources.
+ * 
+ * <p>Drive connection planning, execute groups and query result loading against every actual table.</p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ExecuteBenchmark {
+    
+    private static final int DATA_SOURCE_COUNT = 4;
+    
+    private static final int TABLE_COUNT_PER_DATA_SOURCE = 16;
+    
+    private static final int ROW_COUNT_PER_TABLE = 100;
+    
+    @Param({"1", "4", "16"})
+    private int maxConnectionsSizePerQuery;
+    
+    private final Map<String, List<Connection>> connections = new HashMap<>(DATA_SOURCE_COUNT, 1);
+    
+    private final Collection<RouteUnit> routeUnits = new LinkedList<>();
+    
+    private ShardingExecuteEngine executeEngine;
+    
+    private SQLExecutePrepareTemplate sqlExecutePrepareTemplate;
+    
+    private SQLExecuteTemplate sqlExecuteTemplate;
+    
+    /**
+     * Set up H2 databases, connections and route units.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        for (int i = 0; i < DATA_SOURCE_COUNT; i++) {
+            String dataSourceName = "ds_" + i;
+            String url = String.format("jdbc:h2:mem:benchmark_%s;DB_CLOSE_DELAY=-1;MODE=MySQL", dataSourceName);
+            createTables(url);
+            List<Connection> dataSourceConnections = new ArrayList<>(maxConnectionsSizePerQuery);
+            for (int j = 0; j < maxConnectionsSizePerQuery; j++) {
+                dataSourceConnections.add(DriverManager.getConnection(url, "sa", ""));
+            }
+            connections.put(dataSourceName, dataSourceConnections);
+            for (int j = 0; j < TABLE_COUNT_PER_DATA_SOURCE; j++) {
+                routeUnits.add(new RouteUnit(dataSourceName, new SQLUnit(
+                        String.format("SELECT order_id, user_id, status FROM t_order_%d ORDER BY order_id", j), Collections.<List<Object>>singletonList(Collections.emptyList()))));
+            }
+        }
+        executeEngine = new ShardingExecuteEngine(0);
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery, executeEngine, new DataSourceStatisticsRegistry());
+        sqlExecuteTemplate = new SQLExecuteTemplate(executeEngine);
+    }
+    
+    private void createTables(final String url) throws SQLException {
+        try (
+                Connection connection = DriverManager.getConnection(url, "sa", "");
+                Statement statement = connection.createStatement()) {
+            for (int i = 0; i < TABLE_COUNT_PER_DATA_SOURCE; i++) {
+                statement.execute(String.format("DROP TABLE IF EXISTS t_order_%d", i));
+                statement.execute(String.format("CREATE TABLE t_order_%d (order_id BIGINT PRIMARY KEY, user_id INT NOT NULL, status VARCHAR(45))", i));
+                for (int j = 0; j < ROW_COUNT_PER_TABLE; j++) {
+                    statement.execute(String.format("INSERT INTO t_order_%d VALUES (%d, %d, 'init')", i, j, j % 10));
+                }
+            }
+        }
+    }
+    
+    /**
+     * Close connections and execute engine.
+     *
+     * @throws SQLException SQL exception
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        for (List<Connection> each : connections.values()) {
+            for (Connection connection : each) {
+                connection.close();
+            }
+        }
+        connections.clear();
+        routeUnits.clear();
+        executeEngine.close();
+    }
+    
+    /**
+     * Execute query on all actual tables and load query results.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @SuppressWarnings("unchecked")
+    @Benchmark
+    public void executeQuery(final Blackhole blackhole) throws SQLException {
+        Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups = sqlExecutePrepareTemplate.getExecuteUnitGroups(routeUnits, new SQLExecutePrepareCallback() {
+            
+            @Override
+            public List<Connection> getConnections(final ConnectionMode connectionMode, final String dataSourceName, final int connectionSize) {
+                return connections.get(dataSourceName).subList(0, connectionSize);
+            }
+            
+            @Override
+            public int getCachedConnectionSize(final String dataSourceName) {
+                return connections.get(dataSourceName).size();
+            }
+            
+            @Override
+            public StatementExecuteUnit createStatementExecuteUnit(final Connection connection, final RouteUnit routeUnit, final ConnectionMode connectionMode) throws SQLException {
+                return new StatementExecuteUnit(routeUnit, connection.createStatement(), connectionMode);
+            }
+        });
+        try {
+            List<QueryResult> queryResults = sqlExecuteTemplate.executeGroup((Collection) executeGroups, new SQLExecuteCallback<QueryResult>(DatabaseType.H2, SQLType.DQL, true) {
+                
+                @Override
+                protected QueryResult executeSQL(final StatementExecuteUnit statementExecuteUnit) throws SQLException {
+                    Statement statement = statementExecuteUnit.getStatement();
+                    statement.executeQuery(statementExecuteUnit.getRouteUnit().getSqlUnit().getSql());
+                    return ConnectionMode.MEMORY_STRICTLY == statementExecuteUnit.getConnectionMode() ? new StreamQueryResult(statement.getResultSet()) : new MemoryQueryResult(statement.getResultSet());
+                }
+            });
+            for (QueryResult each : queryResults) {
+                while (each.next()) {
+                    blackhole.consume(each.getValue(1, Object.class));
+                }
+            }
+        } finally {
+            closeStatements(executeGroups);
+        }
+    }
+    
+    private void closeStatements(final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups) throws SQLException {
+        for (ShardingExecuteGroup<StatementExecuteUnit> each : executeGroups) {
+            for (StatementExecuteUnit statementExecuteUnit : each.getInputs()) {
+                statementExecuteUnit.getStatement().close();
+            }
+        }
+    }
+}
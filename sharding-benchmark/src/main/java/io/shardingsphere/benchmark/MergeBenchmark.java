@@ -0,0 +1,157 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark;
+
+import io.shardingsphere.benchmark.fixture.BenchmarkShardingConfiguration;
+import io.shardingsphere.benchmark.fixture.ListQueryResult;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.DQLMergeEngine;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.routing.router.sharding.ParsingSQLRouter;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for merging query results of DQL.
+ * 
+ * <p>Merge sorted query results of many shards by ORDER BY and GROUP BY, query results are in memory to exclude cost of JDBC driver.</p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MergeBenchmark {
+    
+    private static final String ORDER_BY_SQL = "SELECT order_id, user_id, status FROM t_order ORDER BY order_id";
+    
+    private static final String GROUP_BY_SQL = "SELECT user_id, COUNT(*) AS orders_count FROM t_order GROUP BY user_id ORDER BY user_id";
+    
+    private static final String GROUP_BY_MEMORY_SQL = "SELECT user_id, COUNT(*) AS orders_count FROM t_order GROUP BY user_id ORDER BY orders_count";
+    
+    @Param({"16", "256"})
+    private int shardCount;
+    
+    @Param("1000")
+    private int rowCountPerShard;
+    
+    private SelectStatement orderByStatement;
+    
+    private SelectStatement groupByStatement;
+    
+    private SelectStatement groupByMemoryStatement;
+    
+    private List<List<Object[]>> orderByRows;
+    
+    private List<List<Object[]>> groupByRows;
+    
+    /**
+     * Set up parsed select statements and rows of every shard.
+     */
+    @Setup
+    public void setUp() {
+        ShardingRule shardingRule = BenchmarkShardingConfiguration.createShardingRule();
+        ParsingSQLRouter router = new ParsingSQLRouter(shardingRule, BenchmarkShardingConfiguration.createShardingTableMetaData(), 
+                DatabaseType.MySQL, false, 0, BenchmarkShardingConfiguration.createShardingDataSourceMetaData(shardingRule));
+        orderByStatement = parseAndRoute(router, ORDER_BY_SQL);
+        groupByStatement = parseAndRoute(router, GROUP_BY_SQL);
+        groupByMemoryStatement = parseAndRoute(router, GROUP_BY_MEMORY_SQL);
+        orderByRows = new ArrayList<>(shardCount);
+        groupByRows = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            List<Object[]> shardOrderByRows = new ArrayList<>(rowCountPerShard);
+            List<Object[]> shardGroupByRows = new ArrayList<>(rowCountPerShard);
+            for (int j = 0; j < rowCountPerShard; j++) {
+                shardOrderByRows.add(new Object[] {(long) j * shardCount + i, j % 100, "init"});
+                shardGroupByRows.add(new Object[] {j, (long) (i + j) % 7 + 1});
+            }
+            orderByRows.add(shardOrderByRows);
+            groupByRows.add(shardGroupByRows);
+        }
+    }
+    
+    private SelectStatement parseAndRoute(final ParsingSQLRouter router, final String sql) {
+        SelectStatement result = (SelectStatement) router.parse(sql, false);
+        router.route(sql, Collections.emptyList(), result);
+        return result;
+    }
+    
+    /**
+     * Merge query results by ORDER BY.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void orderByStreamMerge(final Blackhole blackhole) throws SQLException {
+        consume(new DQLMergeEngine(createQueryResults(Arrays.asList("order_id", "user_id", "status"), orderByRows), orderByStatement).merge(), blackhole);
+    }
+    
+    /**
+     * Merge query results by GROUP BY which is same with ORDER BY.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void groupByStreamMerge(final Blackhole blackhole) throws SQLException {
+        consume(new DQLMergeEngine(createQueryResults(Arrays.asList("user_id", "orders_count"), groupByRows), groupByStatement).merge(), blackhole);
+    }
+    
+    /**
+     * Merge query results by GROUP BY which is different with ORDER BY.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void groupByMemoryMerge(final Blackhole blackhole) throws SQLException {
+        consume(new DQLMergeEngine(createQueryResults(Arrays.asList("user_id", "orders_count"), groupByRows), groupByMemoryStatement).merge(), blackhole);
+    }
+    
+    private List<QueryResult> createQueryResults(final List<String> columnLabels, final List<List<Object[]>> rows) {
+        List<QueryResult> result = new ArrayList<>(rows.size());
+        for (List<Object[]> each : rows) {
+            result.add(new ListQueryResult(columnLabels, each.iterator()));
+        }
+        return result;
+    }
+    
+    private void consume(final MergedResult mergedResult, final Blackhole blackhole) throws SQLException {
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark;
+
+import io.shardingsphere.benchmark.fixture.BenchmarkShardingConfiguration;
+import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.spi.metrics.MetricsStage;
+import io.shardingsphere.spi.metrics.SPIMetricsTracker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for overhead of metrics per SQL.
+ * 
+ * <p>Track all stages of one SQL which executes on some data sources, use {@code -t} option to measure contention of histograms.</p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsBenchmark {
+    
+    private static final String LOGIC_TABLE_NAME = "t_order";
+    
+    @Param({"1", "10"})
+    private int executeUnitCount;
+    
+    private final SPIMetricsTracker metricsTracker = SPIMetricsTracker.getInstance();
+    
+    private List<String> dataSourceNames;
+    
+    /**
+     * Set up data source names.
+     */
+    @Setup
+    public void setUp() {
+        dataSourceNames = BenchmarkShardingConfiguration.getDataSourceNames().subList(0, executeUnitCount);
+    }
+    
+    /**
+     * Track all stages of one SQL.
+     */
+    @Benchmark
+    public void trackSQL() {
+        metricsTracker.finish(MetricsStage.PARSE, metricsTracker.start(), LOGIC_TABLE_NAME, null, null, true);
+        metricsTracker.finish(MetricsStage.ROUTE, metricsTracker.start(), LOGIC_TABLE_NAME, null, null, true);
+        metricsTracker.finish(MetricsStage.REWRITE, metricsTracker.start(), LOGIC_TABLE_NAME, null, null, true);
+        for (String each : dataSourceNames) {
+            metricsTracker.finish(MetricsStage.EXECUTE, metricsTracker.start(), null, each, ConnectionMode.MEMORY_STRICTLY, true);
+        }
+        metricsTracker.finish(MetricsStage.MERGE, metricsTracker.start(), LOGIC_TABLE_NAME, null, null, true);
+    }
+}
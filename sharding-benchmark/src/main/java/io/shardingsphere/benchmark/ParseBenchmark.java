@@ -0,0 +1,123 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark;
+
+import io.shardingsphere.benchmark.fixture.BenchmarkShardingConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.rule.ShardingRule;
+import io.shardingsphere.test.sql.SQLCaseType;
+import io.shardingsphere.test.sql.SQLCasesLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for SQL parsing.
+ * 
+ * <p>Parse all MySQL DQL and DML cases in {@code sharding-sql-test}, and SQL with wide IN lists.</p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParseBenchmark {
+    
+    @Param({"10", "1000"})
+    private int inListSize;
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingTableMetaData shardingTableMetaData;
+    
+    private List<String> corpusSQLs;
+    
+    private String wideInListSQL;
+    
+    /**
+     * Set up sharding rule and SQL corpus.
+     */
+    @Setup
+    public void setUp() {
+        shardingRule = BenchmarkShardingConfiguration.createShardingRule();
+        shardingTableMetaData = BenchmarkShardingConfiguration.createShardingTableMetaData();
+        corpusSQLs = loadCorpusSQLs();
+        wideInListSQL = BenchmarkShardingConfiguration.createWideInListSQL(inListSize);
+    }
+    
+    private List<String> loadCorpusSQLs() {
+        List<String> result = new ArrayList<>();
+        for (Object[] each : SQLCasesLoader.getInstance().getSupportedSQLTestParameters(Collections.singletonList(DatabaseType.MySQL), DatabaseType.class)) {
+            if (SQLCaseType.Placeholder != each[2]) {
+                continue;
+            }
+            String sql = SQLCasesLoader.getInstance().getSupportedSQL((String) each[0], SQLCaseType.Placeholder, Collections.emptyList());
+            if (isParsable(sql)) {
+                result.add(sql);
+            }
+        }
+        return result;
+    }
+    
+    private boolean isParsable(final String sql) {
+        try {
+            new SQLParsingEngine(DatabaseType.MySQL, sql, shardingRule, shardingTableMetaData).parse(false);
+            return true;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            return false;
+        }
+    }
+    
+    /**
+     * Parse all SQL cases of corpus once.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void parseCorpus(final Blackhole blackhole) {
+        for (String each : corpusSQLs) {
+            blackhole.consume(new SQLParsingEngine(DatabaseType.MySQL, each, shardingRule, shardingTableMetaData).parse(false));
+        }
+    }
+    
+    /**
+     * Parse SQL with wide IN lists.
+     *
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parseWideInList() {
+        return new SQLParsingEngine(DatabaseType.MySQL, wideInListSQL, shardingRule, shardingTableMetaData).parse(false);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark;
+
+import io.shardingsphere.benchmark.fixture.BenchmarkShardingConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.optimizer.OptimizeEngineFactory;
+import io.shardingsphere.core.optimizer.condition.ShardingConditions;
+import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.rewrite.SQLBuilder;
+import io.shardingsphere.core.rewrite.SQLRewriteEngine;
+import io.shardingsphere.core.routing.type.TableUnit;
+import io.shardingsphere.core.routing.type.standard.StandardRoutingEngine;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for SQL rewriting.
+ * 
+ * <p>Rewrite SQL with wide IN lists for table units routed in set up.</p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RewriteBenchmark {
+    
+    @Param({"10", "1000"})
+    private int inListSize;
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingDataSourceMetaData shardingDataSourceMetaData;
+    
+    private String sql;
+    
+    private List<Object> parameters;
+    
+    private SQLStatement sqlStatement;
+    
+    private ShardingConditions shardingConditions;
+    
+    private List<TableUnit> tableUnits;
+    
+    /**
+     * Set up parsed SQL statement and routed table units.
+     */
+    @Setup
+    public void setUp() {
+        shardingRule = BenchmarkShardingConfiguration.createShardingRule();
+        shardingDataSourceMetaData = BenchmarkShardingConfiguration.createShardingDataSourceMetaData(shardingRule);
+        sql = BenchmarkShardingConfiguration.createWideInListSQL(inListSize);
+        parameters = BenchmarkShardingConfiguration.createWideInListParameters(inListSize);
+        sqlStatement = new SQLParsingEngine(DatabaseType.MySQL, sql, shardingRule, BenchmarkShardingConfiguration.createShardingTableMetaData()).parse(false);
+        shardingConditions = OptimizeEngineFactory.newInstance(shardingRule, sqlStatement, parameters, null).optimize();
+        tableUnits = new StandardRoutingEngine(shardingRule, "t_order", shardingConditions).route().getTableUnits().getTableUnits();
+    }
+    
+    /**
+     * Rewrite SQL and generate SQL units for all routed table units.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void rewrite(final Blackhole blackhole) {
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, sql, DatabaseType.MySQL, sqlStatement, shardingConditions, parameters);
+        SQLBuilder sqlBuilder = rewriteEngine.rewrite(1 < tableUnits.size());
+        for (TableUnit each : tableUnits) {
+            blackhole.consume(rewriteEngine.generateSQL(each, sqlBuilder, shardingDataSourceMetaData));
+        }
+    }
+}
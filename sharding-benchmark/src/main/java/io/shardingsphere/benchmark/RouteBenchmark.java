@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark;
+
+import io.shardingsphere.benchmark.fixture.BenchmarkShardingConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.core.routing.router.sharding.ParsingSQLRouter;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for SQL routing, which include rewriting of every route unit.
+ * 
+ * <p>SQL statements are parsed once in set up, as parsing result cache does for prepared statements.</p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RouteBenchmark {
+    
+    private static final String BINDING_TABLES_SQL = 
+            "SELECT i.* FROM t_order o JOIN t_order_item i ON o.user_id = i.user_id AND o.order_id = i.order_id WHERE o.user_id IN (?, ?) AND o.order_id IN (?, ?) ORDER BY i.item_id";
+    
+    private static final String FULL_ROUTE_SQL = "SELECT i.* FROM t_order o JOIN t_order_item i ON o.user_id = i.user_id AND o.order_id = i.order_id ORDER BY i.item_id";
+    
+    @Param({"10", "1000"})
+    private int inListSize;
+    
+    private ShardingRule shardingRule;
+    
+    private ParsingSQLRouter router;
+    
+    private String wideInListSQL;
+    
+    private List<Object> wideInListParameters;
+    
+    private SQLStatement wideInListStatement;
+    
+    private List<Object> bindingTablesParameters;
+    
+    private SQLStatement bindingTablesStatement;
+    
+    private SQLStatement fullRouteStatement;
+    
+    /**
+     * Set up sharding rule and parsed SQL statements.
+     */
+    @Setup
+    public void setUp() {
+        shardingRule = BenchmarkShardingConfiguration.createShardingRule();
+        router = new ParsingSQLRouter(shardingRule, BenchmarkShardingConfiguration.createShardingTableMetaData(), 
+                DatabaseType.MySQL, false, 0, BenchmarkShardingConfiguration.createShardingDataSourceMetaData(shardingRule));
+        wideInListSQL = BenchmarkShardingConfiguration.createWideInListSQL(inListSize);
+        wideInListParameters = BenchmarkShardingConfiguration.createWideInListParameters(inListSize);
+        wideInListStatement = router.parse(wideInListSQL, false);
+        bindingTablesParameters = Arrays.<Object>asList(1, 2, 100L, 200L);
+        bindingTablesStatement = router.parse(BINDING_TABLES_SQL, false);
+        fullRouteStatement = router.parse(FULL_ROUTE_SQL, false);
+    }
+    
+    /**
+     * Route SQL with wide IN lists on sharding columns.
+     *
+     * @return SQL route result
+     */
+    @Benchmark
+    public SQLRouteResult routeWideInList() {
+        return router.route(wideInListSQL, wideInListParameters, wideInListStatement);
+    }
+    
+    /**
+     * Route SQL of binding tables with sharding conditions.
+     *
+     * @return SQL route result
+     */
+    @Benchmark
+    public SQLRouteResult routeBindingTables() {
+        return router.route(BINDING_TABLES_SQL, bindingTablesParameters, bindingTablesStatement);
+    }
+    
+    /**
+     * Route SQL of binding tables to all actual data nodes.
+     *
+     * @return SQL route result
+     */
+    @Benchmark
+    public SQLRouteResult routeToAllDataNodes() {
+        return router.route(FULL_ROUTE_SQL, Collections.emptyList(), fullRouteStatement);
+    }
+}
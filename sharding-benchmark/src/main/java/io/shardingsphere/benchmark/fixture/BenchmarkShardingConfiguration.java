@@ -0,0 +1,153 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.fixture;
+
+import com.google.common.base.Joiner;
+import io.shardingsphere.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.api.config.TableRuleConfiguration;
+import io.shardingsphere.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.metadata.table.ColumnMetaData;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.rule.ShardingRule;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sharding configuration for benchmark.
+ * 
+ * <p>
+ * {@code t_order} and {@code t_order_item} are binding tables with {@value #TABLE_COUNT_PER_DATA_SOURCE} tables in each of {@value #DATA_SOURCE_COUNT} data sources,
+ * and {@value #OTHER_LOGIC_TABLE_COUNT} other logic tables make routing rule lookup realistic.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkShardingConfiguration {
+    
+    public static final int DATA_SOURCE_COUNT = 10;
+    
+    public static final int TABLE_COUNT_PER_DATA_SOURCE = 100;
+    
+    public static final int OTHER_LOGIC_TABLE_COUNT = 50;
+    
+    /**
+     * Get data source names.
+     *
+     * @return data source names
+     */
+    public static List<String> getDataSourceNames() {
+        List<String> result = new ArrayList<>(DATA_SOURCE_COUNT);
+        for (int i = 0; i < DATA_SOURCE_COUNT; i++) {
+            result.add("ds_" + i);
+        }
+        return result;
+    }
+    
+    /**
+     * Create sharding rule.
+     *
+     * @return sharding rule
+     */
+    public static ShardingRule createShardingRule() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_order", "order_id"));
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_order_item", "order_id"));
+        for (int i = 0; i < OTHER_LOGIC_TABLE_COUNT; i++) {
+            shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_other_" + i, "id"));
+        }
+        shardingRuleConfig.getBindingTableGroups().add("t_order, t_order_item");
+        shardingRuleConfig.setDefaultDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % " + DATA_SOURCE_COUNT + "}"));
+        return new ShardingRule(shardingRuleConfig, getDataSourceNames());
+    }
+    
+    private static TableRuleConfiguration createTableRuleConfiguration(final String logicTable, final String shardingColumn) {
+        TableRuleConfiguration result = new TableRuleConfiguration();
+        result.setLogicTable(logicTable);
+        result.setActualDataNodes(String.format("ds_${0..%d}.%s_${0..%d}", DATA_SOURCE_COUNT - 1, logicTable, TABLE_COUNT_PER_DATA_SOURCE - 1));
+        result.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration(shardingColumn, String.format("%s_${%s %% %d}", logicTable, shardingColumn, TABLE_COUNT_PER_DATA_SOURCE)));
+        return result;
+    }
+    
+    /**
+     * Create sharding table meta data.
+     *
+     * @return sharding table meta data
+     */
+    public static ShardingTableMetaData createShardingTableMetaData() {
+        Map<String, TableMetaData> tableMetaDataMap = new HashMap<>(2, 1);
+        tableMetaDataMap.put("t_order", new TableMetaData(Arrays.asList(
+                new ColumnMetaData("order_id", "bigint", true), new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "varchar", false))));
+        tableMetaDataMap.put("t_order_item", new TableMetaData(Arrays.asList(new ColumnMetaData("item_id", "bigint", true), 
+                new ColumnMetaData("order_id", "bigint", false), new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "varchar", false))));
+        return new ShardingTableMetaData(tableMetaDataMap);
+    }
+    
+    /**
+     * Create sharding data source meta data.
+     *
+     * @param shardingRule sharding rule
+     * @return sharding data source meta data
+     */
+    public static ShardingDataSourceMetaData createShardingDataSourceMetaData(final ShardingRule shardingRule) {
+        Map<String, String> dataSourceURLs = new LinkedHashMap<>(DATA_SOURCE_COUNT, 1);
+        for (String each : getDataSourceNames()) {
+            dataSourceURLs.put(each, "jdbc:mysql://127.0.0.1:3306/" + each);
+        }
+        return new ShardingDataSourceMetaData(dataSourceURLs, shardingRule, DatabaseType.MySQL);
+    }
+    
+    /**
+     * Create SQL with wide IN list on both sharding columns of {@code t_order}.
+     *
+     * @param inListSize size of each IN list
+     * @return SQL with placeholders
+     */
+    public static String createWideInListSQL(final int inListSize) {
+        String placeholders = Joiner.on(", ").join(Collections.nCopies(inListSize, "?"));
+        return String.format("SELECT order_id, user_id, status FROM t_order WHERE user_id IN (%s) AND order_id IN (%s) ORDER BY user_id, order_id", placeholders, placeholders);
+    }
+    
+    /**
+     * Create parameters for SQL with wide IN list.
+     *
+     * @param inListSize size of each IN list
+     * @return parameters
+     */
+    public static List<Object> createWideInListParameters(final int inListSize) {
+        List<Object> result = new ArrayList<>(inListSize * 2);
+        for (int i = 0; i < inListSize; i++) {
+            result.add(i);
+        }
+        for (int i = 0; i < inListSize; i++) {
+            result.add((long) i * 7);
+        }
+        return result;
+    }
+}
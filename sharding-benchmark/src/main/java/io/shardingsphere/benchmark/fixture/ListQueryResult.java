@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.fixture;
+
+import io.shardingsphere.core.merger.QueryResult;
+import lombok.RequiredArgsConstructor;
+
+import java.io.InputStream;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Query result backed by rows in memory, which isolate merge cost from JDBC driver.
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class ListQueryResult implements QueryResult {
+    
+    private final List<String> columnLabels;
+    
+    private final Iterator<Object[]> rows;
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    @Override
+    public boolean next() {
+        if (rows.hasNext()) {
+            currentRow = rows.next();
+            return true;
+        }
+        currentRow = null;
+        return false;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnLabels.size();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return columnLabels.get(columnIndex - 1);
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) {
+        return getValue(columnLabels.indexOf(columnLabel) + 1, type);
+    }
+    
+    @Override
+    public int getInt(final int columnIndex) {
+        Object result = getValue(columnIndex, int.class);
+        return null == result ? 0 : ((Number) result).intValue();
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) {
+        Object result = getValue(columnIndex, long.class);
+        return null == result ? 0L : ((Number) result).longValue();
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) {
+        Object result = getValue(columnIndex, double.class);
+        return null == result ? 0D : ((Number) result).doubleValue();
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
+        return getValue(columnLabel, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        throw new UnsupportedOperationException("getInputStream");
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) {
+        throw new UnsupportedOperationException("getInputStream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+}
@@ -61,6 +61,21 @@ public final class HintManager implements AutoCloseable {
         HintManagerHolder.setMasterRouteOnly(true);
     }
     
+    /**
+     * Set read consistency token for read your writes across connections.
+     *
+     * <p>
+     * Query will route to slave data sources which have replicated all writes before the token, 
+     * instead of master data source. 
+     * Only effective for master-slave rules which configured replication lag probe.
+     * </p>
+     *
+     * @param lastWriteTimestampMillis timestamp in milliseconds of last write committed
+     */
+    public void setReadConsistencyToken(final long lastWriteTimestampMillis) {
+        HintManagerHolder.setReadConsistencyToken(lastWriteTimestampMillis);
+    }
+    
     /**
      * Add sharding value for database.
      *
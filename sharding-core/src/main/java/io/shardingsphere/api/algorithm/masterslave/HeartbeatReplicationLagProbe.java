@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.api.algorithm.masterslave;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+
+/**
+ * Replication lag probe via heartbeat table.
+ *
+ * <p>
+ * Heartbeat table should be updated with current timestamp on master data source periodically, 
+ * such as {@code pt-heartbeat} does. 
+ * Replication lag is time elapsed since latest heartbeat replicated to slave data source, 
+ * so clock of master database should be synchronized with application.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class HeartbeatReplicationLagProbe implements ReplicationLagProbe {
+    
+    private final String sql;
+    
+    public HeartbeatReplicationLagProbe() {
+        this("heartbeat", "ts");
+    }
+    
+    public HeartbeatReplicationLagProbe(final String tableName, final String timestampColumnName) {
+        sql = String.format("SELECT MAX(%s) FROM %s", timestampColumnName, tableName);
+    }
+    
+    @Override
+    public long getReplicationLagMilliseconds(final Connection slaveConnection) throws SQLException {
+        try (
+                Statement statement = slaveConnection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            if (!resultSet.next()) {
+                return -1L;
+            }
+            Timestamp heartbeat = resultSet.getTimestamp(1);
+            return null == heartbeat ? -1L : Math.max(0L, System.currentTimeMillis() - heartbeat.getTime());
+        }
+    }
+}
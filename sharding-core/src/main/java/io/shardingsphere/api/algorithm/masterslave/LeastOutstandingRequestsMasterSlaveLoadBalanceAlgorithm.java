@@ -0,0 +1,61 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.api.algorithm.masterslave;
+
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatistics;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Least outstanding requests slave database load-balance algorithm.
+ *
+ * <p>
+ * Select the slave database which has fewest in-flight executions.
+ * Select slave database in round robin if execution statistics absent.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class LeastOutstandingRequestsMasterSlaveLoadBalanceAlgorithm implements StatisticsAwareMasterSlaveLoadBalanceAlgorithm {
+    
+    private final AtomicInteger offset = new AtomicInteger();
+    
+    @Override
+    public String getDataSource(final String name, final String masterDataSourceName, final List<String> slaveDataSourceNames) {
+        return slaveDataSourceNames.get((offset.getAndIncrement() & Integer.MAX_VALUE) % slaveDataSourceNames.size());
+    }
+    
+    @Override
+    public String getDataSource(final DataSourceStatisticsRegistry statisticsRegistry, final String name, final String masterDataSourceName, final List<String> slaveDataSourceNames) {
+        int size = slaveDataSourceNames.size();
+        int start = (offset.getAndIncrement() & Integer.MAX_VALUE) % size;
+        String result = null;
+        int minInFlightCount = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            String each = slaveDataSourceNames.get((start + i) % size);
+            DataSourceStatistics statistics = statisticsRegistry.getStatistics(each);
+            if (statistics.getInFlightCount() < minInFlightCount) {
+                minInFlightCount = statistics.getInFlightCount();
+                result = each;
+            }
+        }
+        return result;
+    }
+}
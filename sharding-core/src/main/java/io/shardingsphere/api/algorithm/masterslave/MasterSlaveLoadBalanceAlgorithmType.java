@@ -30,7 +30,9 @@ import lombok.RequiredArgsConstructor;
 public enum MasterSlaveLoadBalanceAlgorithmType {
     
     ROUND_ROBIN(new RoundRobinMasterSlaveLoadBalanceAlgorithm()),
-    RANDOM(new RandomMasterSlaveLoadBalanceAlgorithm());
+    RANDOM(new RandomMasterSlaveLoadBalanceAlgorithm()),
+    LEAST_OUTSTANDING_REQUESTS(new LeastOutstandingRequestsMasterSlaveLoadBalanceAlgorithm()),
+    LATENCY_AWARE(new LatencyAwareMasterSlaveLoadBalanceAlgorithm());
     
     private final MasterSlaveLoadBalanceAlgorithm algorithm;
     
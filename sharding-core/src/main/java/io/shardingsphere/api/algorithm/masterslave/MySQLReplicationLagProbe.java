@@ -0,0 +1,48 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.api.algorithm.masterslave;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Replication lag probe via {@code SHOW SLAVE STATUS} of MySQL.
+ *
+ * <p>Replication lag is unknown if slave SQL thread or IO thread is not running.</p>
+ * 
+ * <p>{@code Seconds_Behind_Master} is truncated to whole seconds, so one more second is added as upper bound of real lag.</p>
+ *
+ * @author zhangliang
+ */
+public final class MySQLReplicationLagProbe implements ReplicationLagProbe {
+    
+    @Override
+    public long getReplicationLagMilliseconds(final Connection slaveConnection) throws SQLException {
+        try (
+                Statement statement = slaveConnection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SHOW SLAVE STATUS")) {
+            if (!resultSet.next()) {
+                return -1L;
+            }
+            long result = resultSet.getLong("Seconds_Behind_Master");
+            return resultSet.wasNull() ? -1L : (result + 1L) * 1000L;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.api.algorithm.masterslave;
+
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
+
+import java.util.List;
+
+/**
+ * Master-slave database load-balance algorithm which selects slave database by execution statistics.
+ *
+ * <p>Execution statistics are provided by master-slave rule, so slave databases of different rules never share statistics.</p>
+ *
+ * @author zhangliang
+ */
+public interface StatisticsAwareMasterSlaveLoadBalanceAlgorithm extends MasterSlaveLoadBalanceAlgorithm {
+    
+    /**
+     * Get data source by execution statistics.
+     *
+     * @param statisticsRegistry statistics registry of slave data sources
+     * @param name master-slave logic data source name
+     * @param masterDataSourceName name of master data sources
+     * @param slaveDataSourceNames names of slave data sources
+     * @return name of selected data source
+     */
+    String getDataSource(DataSourceStatisticsRegistry statisticsRegistry, String name, String masterDataSourceName, List<String> slaveDataSourceNames);
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.api.algorithm.masterslave;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Weighted random slave database load-balance algorithm.
+ *
+ * <p>Slave database which is absent in weights has default weight {@code 1}.</p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class WeightedMasterSlaveLoadBalanceAlgorithm implements MasterSlaveLoadBalanceAlgorithm {
+    
+    private static final int DEFAULT_WEIGHT = 1;
+    
+    private final Map<String, Integer> weights;
+    
+    @Override
+    public String getDataSource(final String name, final String masterDataSourceName, final List<String> slaveDataSourceNames) {
+        int totalWeight = 0;
+        for (String each : slaveDataSourceNames) {
+            totalWeight += getWeight(each);
+        }
+        if (0 == totalWeight) {
+            return slaveDataSourceNames.get(ThreadLocalRandom.current().nextInt(slaveDataSourceNames.size()));
+        }
+        int random = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (String each : slaveDataSourceNames) {
+            random -= getWeight(each);
+            if (random < 0) {
+                return each;
+            }
+        }
+        return slaveDataSourceNames.get(slaveDataSourceNames.size() - 1);
+    }
+    
+    private int getWeight(final String slaveDataSourceName) {
+        Integer result = weights.get(slaveDataSourceName);
+        return null == result ? DEFAULT_WEIGHT : Math.max(result, 0);
+    }
+}
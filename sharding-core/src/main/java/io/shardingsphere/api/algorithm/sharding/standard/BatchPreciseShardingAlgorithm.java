@@ -0,0 +1,48 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.api.algorithm.sharding.standard;
+
+import io.shardingsphere.api.algorithm.sharding.ListShardingValue;
+
+import java.util.Collection;
+
+/**
+ * Precise sharding algorithm which shards all values of {@code =} and {@code IN} in one pass.
+ * 
+ * <p>
+ * Implement this interface instead of {@code PreciseShardingAlgorithm} if sharding values can be grouped by target cheaply,
+ * then routing of large {@code IN} list will not call precise sharding for each value.
+ * Without it, every value is passed to precise sharding, even after all available targets are hit.
+ * A batch implementation may stop early, e.g. once all available targets are hit.
+ * </p>
+ * 
+ * @author zhangliang
+ * 
+ * @param <T> class type of sharding value
+ */
+public interface BatchPreciseShardingAlgorithm<T extends Comparable<?>> extends PreciseShardingAlgorithm<T> {
+    
+    /**
+     * Sharding.
+     * 
+     * @param availableTargetNames available data sources or tables's names
+     * @param shardingValue sharding values
+     * @return sharding results for data sources or tables's names
+     */
+    Collection<String> doSharding(Collection<String> availableTargetNames, ListShardingValue<T> shardingValue);
+}
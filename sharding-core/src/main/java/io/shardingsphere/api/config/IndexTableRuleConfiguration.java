@@ -0,0 +1,42 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Index table rule configuration.
+ * 
+ * <p>
+ * Index table maps values of a unique non-sharding column to sharding values of logic table,
+ * it should be configured as table rule sharding by index column, and has both index column and sharding column of logic table.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@Getter
+@Setter
+public final class IndexTableRuleConfiguration implements RuleConfiguration {
+    
+    private String logicTable;
+    
+    private String indexColumn;
+    
+    private String indexTable;
+}
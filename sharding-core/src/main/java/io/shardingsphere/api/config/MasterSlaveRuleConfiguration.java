@@ -18,6 +18,7 @@
 package io.shardingsphere.api.config;
 
 import io.shardingsphere.api.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithm;
+import io.shardingsphere.api.algorithm.masterslave.ReplicationLagProbe;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -44,4 +45,13 @@ public final class MasterSlaveRuleConfiguration implements RuleConfiguration {
     private Collection<String> slaveDataSourceNames;
     
     private MasterSlaveLoadBalanceAlgorithm loadBalanceAlgorithm;
+    
+    private ReplicationLagProbe replicationLagProbe;
+    
+    private long maxReplicationLagMilliseconds;
+    
+    public MasterSlaveRuleConfiguration(final String name, final String masterDataSourceName, 
+                                        final Collection<String> slaveDataSourceNames, final MasterSlaveLoadBalanceAlgorithm loadBalanceAlgorithm) {
+        this(name, masterDataSourceName, slaveDataSourceNames, loadBalanceAlgorithm, null, 0L);
+    }
 }
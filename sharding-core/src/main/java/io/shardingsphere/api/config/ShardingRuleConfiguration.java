@@ -40,6 +40,10 @@ public final class ShardingRuleConfiguration implements RuleConfiguration {
     
     private Collection<String> bindingTableGroups = new LinkedList<>();
     
+    private Collection<String> broadcastTables = new LinkedList<>();
+    
+    private Collection<IndexTableRuleConfiguration> indexTableRuleConfigs = new LinkedList<>();
+    
     private ShardingStrategyConfiguration defaultDatabaseShardingStrategyConfig;
     
     private ShardingStrategyConfiguration defaultTableShardingStrategyConfig;
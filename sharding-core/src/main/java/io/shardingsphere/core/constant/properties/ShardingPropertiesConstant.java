@@ -66,6 +66,61 @@ public enum ShardingPropertiesConstant {
     
     MAX_CONNECTIONS_SIZE_PER_QUERY("max.connections.size.per.query", String.valueOf(1), int.class),
     
+    /**
+     * Max route units of cartesian routing.
+     *
+     * <p>
+     * Cartesian routing of non-binding sharding tables will fail before execution if route units exceed this value.
+     * Default: infinite.
+     * </p>
+     */
+    MAX_CARTESIAN_ROUTE_UNITS("max.cartesian.route.units", String.valueOf(0), int.class),
+    
+    /**
+     * Max cached physical prepared statements size per connection.
+     *
+     * <p>
+     * Physical prepared statements will be reused by same SQL on same connection, which make server side prepared statements effective.
+     * Default: 0, do not cache.
+     * </p>
+     */
+    PREPARED_STATEMENT_CACHE_SIZE("prepared.statement.cache.size", String.valueOf(0), int.class),
+    
+    /**
+     * Enable or Disable to load query results into off-heap memory.
+     *
+     * <p>
+     * Query results of connection strictly mode will be serialized into off-heap memory instead of heap, 
+     * and spill to temp file beyond budget, which keep heap stable for large cross-shard queries.
+     * Default: false
+     * </p>
+     */
+    OFF_HEAP_QUERY_RESULT_ENABLED("off.heap.query.result.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Default query timeout seconds of logic statement.
+     *
+     * <p>
+     * Used as deadline of whole sharding execution if query timeout is not set on statement.
+     * Remaining time before deadline is propagated to every physical statement,
+     * all physical statements will be cancelled if any of them failure or deadline expired.
+     * Default: 0, no timeout.
+     * </p>
+     */
+    QUERY_TIMEOUT_SECONDS("query.timeout.seconds", String.valueOf(0), int.class),
+    
+    /**
+     * Enable or Disable to force execute on physical connections, statements and result sets in parallel.
+     *
+     * <p>
+     * Commit, rollback, set auto commit and close of logic connection, close of logic statement and result set
+     * are executed on every physical target concurrently with sharding execute pool, exceptions are thrown together after all targets are executed.
+     * Only works for local transaction, XA and BASE transactions always execute physical targets serially in order.
+     * Default: false
+     * </p>
+     */
+    PARALLEL_FORCE_EXECUTE_ENABLED("parallel.force.execute.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
     PROXY_TRANSACTION_ENABLED("proxy.transaction.enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
     PROXY_OPENTRACING_ENABLED("proxy.opentracing.enabled", String.valueOf(Boolean.FALSE), boolean.class),
@@ -74,7 +129,18 @@ public enum ShardingPropertiesConstant {
     
     PROXY_BACKEND_MAX_CONNECTIONS("proxy.backend.max.connections", String.valueOf(8), int.class),
     
-    PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class);
+    PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
+    
+    /**
+     * Worker threads size to execute commands of all client channels for XA transaction in Sharding-Proxy.
+     *
+     * <p>
+     * XA transaction of channel is suspended from worker thread after each command and resumed before next command,
+     * so threads size is not related to count of client connections.
+     * Default: CPU cores * 2
+     * </p>
+     */
+    PROXY_XA_EXECUTOR_SIZE("proxy.xa.executor.size", String.valueOf(Runtime.getRuntime().availableProcessors() * 2), int.class);
     
     private final String key;
     
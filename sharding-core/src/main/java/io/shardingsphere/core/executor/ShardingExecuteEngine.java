@@ -24,6 +24,7 @@ import com.google.common.util.concurrent.MoreExecutors;
 import io.shardingsphere.core.exception.ShardingException;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -35,7 +36,10 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Sharding execute engine.
@@ -48,6 +52,8 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     
     private final ListeningExecutorService executorService;
     
+    private final AtomicInteger referenceCount = new AtomicInteger(1);
+    
     public ShardingExecuteEngine(final int executorSize) {
         executorService = MoreExecutors.listeningDecorator(
                 0 == executorSize ? Executors.newCachedThreadPool(ShardingThreadFactoryBuilder.build()) : Executors.newFixedThreadPool(executorSize, ShardingThreadFactoryBuilder.build()));
@@ -86,7 +92,14 @@ public final class ShardingExecuteEngine implements AutoCloseable {
         Iterator<I> inputIterator = inputs.iterator();
         I firstInput = inputIterator.next();
         Collection<ListenableFuture<O>> restFutures = asyncExecute(Lists.newArrayList(inputIterator), callback);
-        return getResults(syncExecute(firstInput, null == firstCallback ? callback : firstCallback), restFutures);
+        O firstResult;
+        try {
+            firstResult = syncExecute(firstInput, null == firstCallback ? callback : firstCallback);
+        } catch (final SQLException | RuntimeException ex) {
+            cancel(restFutures);
+            throw ex;
+        }
+        return getResults(firstResult, restFutures);
     }
     
     private <I, O> Collection<ListenableFuture<O>> asyncExecute(final Collection<I> inputs, final ShardingExecuteCallback<I, O> callback) {
@@ -116,6 +129,7 @@ public final class ShardingExecuteEngine implements AutoCloseable {
             try {
                 result.add(each.get());
             } catch (final InterruptedException | ExecutionException ex) {
+                cancel(restFutures);
                 return throwException(ex);
             }
         }
@@ -149,13 +163,40 @@ public final class ShardingExecuteEngine implements AutoCloseable {
      */
     public <I, O> List<O> groupExecute(
             final Collection<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> firstCallback, final ShardingGroupExecuteCallback<I, O> callback) throws SQLException {
+        return groupExecute(inputGroups, firstCallback, callback, 0L);
+    }
+    
+    /**
+     * Execute for group with timeout.
+     * 
+     * <p>Rest groups are cancelled if any group failure or timeout.</p>
+     *
+     * @param inputGroups input groups
+     * @param firstCallback first sharding execute callback
+     * @param callback sharding execute callback
+     * @param timeoutMilliseconds timeout milliseconds of whole execution, {@code 0} means no timeout
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result
+     * @throws SQLException throw if execute failure or timeout
+     */
+    public <I, O> List<O> groupExecute(final Collection<ShardingExecuteGroup<I>> inputGroups, 
+                                       final ShardingGroupExecuteCallback<I, O> firstCallback, final ShardingGroupExecuteCallback<I, O> callback, final long timeoutMilliseconds) throws SQLException {
         if (inputGroups.isEmpty()) {
             return Collections.emptyList();
         }
+        long deadlineNanos = 0L == timeoutMilliseconds ? 0L : System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMilliseconds);
         Iterator<ShardingExecuteGroup<I>> inputGroupsIterator = inputGroups.iterator();
         ShardingExecuteGroup<I> firstInputs = inputGroupsIterator.next();
         Collection<ListenableFuture<Collection<O>>> restResultFutures = asyncGroupExecute(Lists.newArrayList(inputGroupsIterator), callback);
-        return getGroupResults(syncGroupExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
+        Collection<O> firstResults;
+        try {
+            firstResults = syncGroupExecute(firstInputs, null == firstCallback ? callback : firstCallback);
+        } catch (final SQLException | RuntimeException ex) {
+            cancel(restResultFutures);
+            throw ex;
+        }
+        return getGroupResults(firstResults, restResultFutures, deadlineNanos);
     }
     
     private <I, O> Collection<ListenableFuture<Collection<O>>> asyncGroupExecute(final List<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback) {
@@ -182,19 +223,29 @@ public final class ShardingExecuteEngine implements AutoCloseable {
         return callback.execute(executeGroup.getInputs(), true);
     }
     
-    private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures) throws SQLException {
+    private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures, final long deadlineNanos) throws SQLException {
         List<O> result = new LinkedList<>();
         result.addAll(firstResults);
         for (ListenableFuture<Collection<O>> each : restFutures) {
             try {
-                result.addAll(each.get());
+                result.addAll(0L == deadlineNanos ? each.get() : each.get(Math.max(deadlineNanos - System.nanoTime(), 0L), TimeUnit.NANOSECONDS));
+            } catch (final TimeoutException ex) {
+                cancel(restFutures);
+                throw new SQLTimeoutException("Execution timeout, cancelled rest of execute groups.", ex);
             } catch (final InterruptedException | ExecutionException ex) {
+                cancel(restFutures);
                 return throwException(ex);
             }
         }
         return result;
     }
     
+    private void cancel(final Collection<? extends Future<?>> futures) {
+        for (Future<?> each : futures) {
+            each.cancel(true);
+        }
+    }
+    
     private <O> List<O> throwException(final Exception ex) throws SQLException {
         if (ex.getCause() instanceof SQLException) {
             throw (SQLException) ex.getCause();
@@ -202,8 +253,20 @@ public final class ShardingExecuteEngine implements AutoCloseable {
         throw new ShardingException(ex);
     }
     
+    /**
+     * Retain execute engine for another owner.
+     * 
+     * <p>Execute engine is only shut down after every owner closed it.</p>
+     */
+    public void retain() {
+        referenceCount.incrementAndGet();
+    }
+    
     @Override
     public void close() {
+        if (0 != referenceCount.decrementAndGet()) {
+            return;
+        }
         SHUTDOWN_EXECUTOR.execute(new Runnable() {
             
             @Override
@@ -24,6 +24,7 @@ import io.shardingsphere.core.event.ShardingEventBusInstance;
 import io.shardingsphere.core.event.executor.SQLExecutionEvent;
 import io.shardingsphere.core.event.executor.SQLExecutionEventFactory;
 import io.shardingsphere.core.executor.ShardingExecuteCallback;
+import io.shardingsphere.core.executor.ShardingExecuteDataMap;
 import io.shardingsphere.core.executor.ShardingGroupExecuteCallback;
 import io.shardingsphere.core.executor.StatementExecuteUnit;
 import io.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorExceptionHandler;
@@ -31,6 +32,8 @@ import io.shardingsphere.core.metadata.datasource.DataSourceMetaData;
 import io.shardingsphere.core.metadata.datasource.DataSourceMetaDataFactory;
 import io.shardingsphere.spi.executor.SPISQLExecutionHook;
 import io.shardingsphere.spi.executor.SQLExecutionHook;
+import io.shardingsphere.spi.metrics.MetricsStage;
+import io.shardingsphere.spi.metrics.SPIMetricsTracker;
 import lombok.RequiredArgsConstructor;
 
 import java.sql.SQLException;
@@ -57,6 +60,8 @@ public abstract class SQLExecuteCallback<T> implements ShardingExecuteCallback<S
     
     private final EventBus shardingEventBus = ShardingEventBusInstance.getInstance();
     
+    private final SPIMetricsTracker metricsTracker = SPIMetricsTracker.getInstance();
+    
     @Override
     public final T execute(final StatementExecuteUnit statementExecuteUnit, final boolean isTrunkThread) throws SQLException {
         return execute0(statementExecuteUnit, isTrunkThread);
@@ -80,10 +85,12 @@ public abstract class SQLExecuteCallback<T> implements ShardingExecuteCallback<S
             // TODO remove after BED removed
             shardingEventBus.post(SQLExecutionEventFactory.createEvent(sqlType, statementExecuteUnit, each, dataSourceMetaData));
         }
+        long startNanos = metricsTracker.start();
         try {
-            sqlExecutionHook.start(statementExecuteUnit.getRouteUnit(), dataSourceMetaData, isTrunkThread);
+            sqlExecutionHook.start(statementExecuteUnit.getRouteUnit(), dataSourceMetaData, isTrunkThread, ShardingExecuteDataMap.getDataMap());
             T result = executeSQL(statementExecuteUnit);
             sqlExecutionHook.finishSuccess();
+            metricsTracker.finish(MetricsStage.EXECUTE, startNanos, null, statementExecuteUnit.getRouteUnit().getDataSourceName(), statementExecuteUnit.getConnectionMode(), true);
             for (List<Object> each : parameterSets) {
                 // TODO remove after BED removed
                 SQLExecutionEvent finishEvent = SQLExecutionEventFactory.createEvent(sqlType, statementExecuteUnit, each, dataSourceMetaData);
@@ -93,6 +100,7 @@ public abstract class SQLExecuteCallback<T> implements ShardingExecuteCallback<S
             return result;
         } catch (final SQLException ex) {
             sqlExecutionHook.finishFailure(ex);
+            metricsTracker.finish(MetricsStage.EXECUTE, startNanos, null, statementExecuteUnit.getRouteUnit().getDataSourceName(), statementExecuteUnit.getConnectionMode(), false);
             for (List<Object> each : parameterSets) {
                 // TODO remove after BED removed
                 SQLExecutionEvent finishEvent = SQLExecutionEventFactory.createEvent(sqlType, statementExecuteUnit, each, dataSourceMetaData);
@@ -101,6 +109,10 @@ public abstract class SQLExecuteCallback<T> implements ShardingExecuteCallback<S
             }
             ExecutorExceptionHandler.handleException(ex);
             return null;
+        } catch (final RuntimeException ex) {
+            sqlExecutionHook.finishFailure(ex);
+            metricsTracker.finish(MetricsStage.EXECUTE, startNanos, null, statementExecuteUnit.getRouteUnit().getDataSourceName(), statementExecuteUnit.getConnectionMode(), false);
+            throw ex;
         }
     }
     
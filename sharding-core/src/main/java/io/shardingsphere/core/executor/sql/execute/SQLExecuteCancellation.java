@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute;
+
+import io.shardingsphere.core.executor.ShardingExecuteGroup;
+import io.shardingsphere.core.executor.StatementExecuteUnit;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SQL execute cancellation.
+ * 
+ * <p>Share deadline and cancel state among all physical statements of one logic statement execution.</p>
+ *
+ * @author zhangliang
+ */
+@Slf4j
+final class SQLExecuteCancellation {
+    
+    private final Map<Statement, Integer> originalTimeoutSeconds = new IdentityHashMap<>();
+    
+    @Getter
+    private final int timeoutSeconds;
+    
+    private final long deadlineNanos;
+    
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    
+    SQLExecuteCancellation(final Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> sqlExecuteGroups, final int defaultTimeoutSeconds) throws SQLException {
+        int maxTimeoutSeconds = 0;
+        for (ShardingExecuteGroup<? extends StatementExecuteUnit> each : sqlExecuteGroups) {
+            for (StatementExecuteUnit statementExecuteUnit : each.getInputs()) {
+                int queryTimeoutSeconds = statementExecuteUnit.getStatement().getQueryTimeout();
+                originalTimeoutSeconds.put(statementExecuteUnit.getStatement(), queryTimeoutSeconds);
+                maxTimeoutSeconds = Math.max(maxTimeoutSeconds, queryTimeoutSeconds);
+            }
+        }
+        timeoutSeconds = 0 == maxTimeoutSeconds ? defaultTimeoutSeconds : maxTimeoutSeconds;
+        deadlineNanos = 0 == timeoutSeconds ? 0L : System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+    }
+    
+    /**
+     * Propagate remaining time before deadline to physical statement.
+     *
+     * @param statement physical statement to be executed
+     * @throws SQLException throw if execution is cancelled or deadline expired
+     */
+    void propagate(final Statement statement) throws SQLException {
+        if (cancelled.get()) {
+            throw new SQLException("Execution is cancelled because of failure of other execute unit.");
+        }
+        if (0L == deadlineNanos) {
+            return;
+        }
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        if (remainingNanos <= 0L) {
+            cancel();
+            throw new SQLTimeoutException("Execution timeout before execute unit started.");
+        }
+        statement.setQueryTimeout((int) Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(remainingNanos + TimeUnit.SECONDS.toNanos(1L) - 1L)));
+    }
+    
+    /**
+     * Reset query timeout of physical statement, which may be reused by next execution.
+     *
+     * @param statement physical statement executed
+     */
+    void reset(final Statement statement) {
+        if (0L == deadlineNanos) {
+            return;
+        }
+        try {
+            statement.setQueryTimeout(originalTimeoutSeconds.get(statement));
+        } catch (final SQLException ex) {
+            log.warn("Reset query timeout of statement failure: {}", ex.getMessage());
+        }
+    }
+    
+    /**
+     * Cancel all physical statements, only the first invocation take effect.
+     */
+    void cancel() {
+        if (!cancelled.compareAndSet(false, true)) {
+            return;
+        }
+        for (Statement each : originalTimeoutSeconds.keySet()) {
+            try {
+                each.cancel();
+            } catch (final SQLException ex) {
+                log.warn("Cancel statement failure: {}", ex.getMessage());
+            }
+        }
+    }
+}
@@ -17,16 +17,22 @@
 
 package io.shardingsphere.core.executor.sql.execute;
 
+import io.shardingsphere.core.executor.ShardingExecuteDataMap;
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
 import io.shardingsphere.core.executor.ShardingExecuteGroup;
+import io.shardingsphere.core.executor.ShardingGroupExecuteCallback;
 import io.shardingsphere.core.executor.StatementExecuteUnit;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsSQLExecutionHook;
 import io.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorExceptionHandler;
 import lombok.RequiredArgsConstructor;
 
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * SQL execute template.
@@ -36,11 +42,28 @@ import java.util.List;
  * @author maxiaoguang
  * @author panjuan
  */
-@RequiredArgsConstructor
 public final class SQLExecuteTemplate {
     
     private final ShardingExecuteEngine executeEngine;
     
+    private final int defaultQueryTimeoutSeconds;
+    
+    private final DataSourceStatisticsRegistry statisticsRegistry;
+    
+    public SQLExecuteTemplate(final ShardingExecuteEngine executeEngine) {
+        this(executeEngine, 0);
+    }
+    
+    public SQLExecuteTemplate(final ShardingExecuteEngine executeEngine, final int defaultQueryTimeoutSeconds) {
+        this(executeEngine, defaultQueryTimeoutSeconds, null);
+    }
+    
+    public SQLExecuteTemplate(final ShardingExecuteEngine executeEngine, final int defaultQueryTimeoutSeconds, final DataSourceStatisticsRegistry statisticsRegistry) {
+        this.executeEngine = executeEngine;
+        this.defaultQueryTimeoutSeconds = defaultQueryTimeoutSeconds;
+        this.statisticsRegistry = statisticsRegistry;
+    }
+    
     /**
      * Execute group.
      *
@@ -56,6 +79,12 @@ public final class SQLExecuteTemplate {
     
     /**
      * Execute group.
+     * 
+     * <p>
+     * Deadline of execution is derived from query timeout of statements, or default query timeout if absent.
+     * All physical statements will be cancelled if any of them failure or deadline expired.
+     * Statistics registry is shared with SQL execution hooks by sharding execute data map during execution if present.
+     * </p>
      *
      * @param sqlExecuteGroups SQL execute groups
      * @param firstCallback first SQL execute callback
@@ -67,11 +96,48 @@ public final class SQLExecuteTemplate {
     @SuppressWarnings("unchecked")
     public <T> List<T> executeGroup(final Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> sqlExecuteGroups,
                                     final SQLExecuteCallback<T> firstCallback, final SQLExecuteCallback<T> callback) throws SQLException {
+        SQLExecuteCancellation cancellation = new SQLExecuteCancellation(sqlExecuteGroups, defaultQueryTimeoutSeconds);
+        if (null != statisticsRegistry) {
+            ShardingExecuteDataMap.getDataMap().put(DataSourceStatisticsSQLExecutionHook.STATISTICS_REGISTRY, statisticsRegistry);
+        }
         try {
-            return executeEngine.groupExecute((Collection) sqlExecuteGroups, firstCallback, callback);
+            return executeEngine.groupExecute((Collection) sqlExecuteGroups, null == firstCallback ? null : new CancellableSQLExecuteCallback<>(firstCallback, cancellation),
+                    new CancellableSQLExecuteCallback<>(callback, cancellation), TimeUnit.SECONDS.toMillis(cancellation.getTimeoutSeconds()));
         } catch (final SQLException ex) {
+            cancellation.cancel();
             ExecutorExceptionHandler.handleException(ex);
             return Collections.emptyList();
+        } finally {
+            ShardingExecuteDataMap.getDataMap().remove(DataSourceStatisticsSQLExecutionHook.STATISTICS_REGISTRY);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CancellableSQLExecuteCallback<T> implements ShardingGroupExecuteCallback<StatementExecuteUnit, T> {
+        
+        private final SQLExecuteCallback<T> delegate;
+        
+        private final SQLExecuteCancellation cancellation;
+        
+        @Override
+        public Collection<T> execute(final Collection<StatementExecuteUnit> statementExecuteUnits, final boolean isTrunkThread) throws SQLException {
+            Collection<T> result = new LinkedList<>();
+            for (StatementExecuteUnit each : statementExecuteUnits) {
+                result.add(execute(each, isTrunkThread));
+            }
+            return result;
+        }
+        
+        private T execute(final StatementExecuteUnit statementExecuteUnit, final boolean isTrunkThread) throws SQLException {
+            cancellation.propagate(statementExecuteUnit.getStatement());
+            try {
+                return delegate.execute(statementExecuteUnit, isTrunkThread);
+            } catch (final SQLException | RuntimeException ex) {
+                cancellation.cancel();
+                throw ex;
+            } finally {
+                cancellation.reset(statementExecuteUnit.getStatement());
+            }
         }
     }
 }
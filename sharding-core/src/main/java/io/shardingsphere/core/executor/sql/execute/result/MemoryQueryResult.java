@@ -20,6 +20,7 @@ package io.shardingsphere.core.executor.sql.execute.result;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.util.NumberUtil;
 
 import java.io.InputStream;
 import java.sql.ResultSet;
@@ -47,6 +48,8 @@ public final class MemoryQueryResult implements QueryResult {
     
     private List<Object> currentRow;
     
+    private boolean wasNull;
+    
     public MemoryQueryResult(final ResultSet resultSet) throws SQLException {
         columnLabelAndIndexMap = getMetaData(resultSet.getMetaData());
         resultData = getResultData(resultSet);
@@ -84,37 +87,52 @@ public final class MemoryQueryResult implements QueryResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
-        return currentRow.get(columnIndex - 1);
+        return getCell(columnIndex - 1);
     }
     
     @Override
     public Object getValue(final String columnLabel, final Class<?> type) {
-        return currentRow.get(getIndexByColumnLabel(columnLabel));
+        return getCell(getIndexByColumnLabel(columnLabel));
+    }
+    
+    @Override
+    public int getInt(final int columnIndex) {
+        return (int) NumberUtil.toLongValue(getCell(columnIndex - 1));
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) {
+        return NumberUtil.toLongValue(getCell(columnIndex - 1));
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) {
+        return NumberUtil.toDoubleValue(getCell(columnIndex - 1));
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.get(columnIndex - 1);
+        return getCell(columnIndex - 1);
     }
     
     @Override
     public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
-        return currentRow.get(getIndexByColumnLabel(columnLabel));
+        return getCell(getIndexByColumnLabel(columnLabel));
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) {
-        return (InputStream) currentRow.get(columnIndex - 1);
+        return (InputStream) getCell(columnIndex - 1);
     }
     
     @Override
     public InputStream getInputStream(final String columnLabel, final String type) {
-        return (InputStream) currentRow.get(getIndexByColumnLabel(columnLabel));
+        return (InputStream) getCell(getIndexByColumnLabel(columnLabel));
     }
     
     @Override
     public boolean wasNull() {
-        return null == currentRow;
+        return wasNull;
     }
     
     @Override
@@ -132,6 +150,12 @@ public final class MemoryQueryResult implements QueryResult {
         throw new SQLException("Column index out of range", "9999");
     }
     
+    private Object getCell(final int index) {
+        Object result = currentRow.get(index);
+        wasNull = null == result;
+        return result;
+    }
+    
     private Integer getIndexByColumnLabel(final String columnLabel) {
         return new ArrayList<>(columnLabelAndIndexMap.get(columnLabel)).get(0) - 1;
     }
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result;
+
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.util.NumberUtil;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Query result for loading into off-heap memory.
+ *
+ * <p>
+ * Rows are serialized into compact binary format in pooled off-heap chunks, 
+ * spill to temp file beyond budget, and are deserialized row by row when calling {@code next()}. 
+ * Off-heap chunks and temp file are released after all rows read or query result closed, and after query result is unreachable as a last resort.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class OffHeapQueryResult implements QueryResult, AutoCloseable {
+    
+    private static final int STREAM_BUFFER_SIZE = 8192;
+    
+    private static final ReferenceQueue<OffHeapQueryResult> UNREACHABLE_RESULTS = new ReferenceQueue<>();
+    
+    private static final Set<RowBufferReference> ROW_BUFFER_REFERENCES = Collections.newSetFromMap(new ConcurrentHashMap<RowBufferReference, Boolean>());
+    
+    private final List<String> columnLabels;
+    
+    private final Map<String, Integer> columnLabelAndIndexMap;
+    
+    private final OffHeapRowBuffer rowBuffer = new OffHeapRowBuffer();
+    
+    private final RowBufferReference rowBufferReference;
+    
+    private final DataInputStream rowInputStream;
+    
+    private long remainingRowCount;
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    public OffHeapQueryResult(final ResultSet resultSet) throws SQLException {
+        releaseUnreachableResults();
+        columnLabels = getColumnLabels(resultSet.getMetaData());
+        columnLabelAndIndexMap = getColumnLabelAndIndexMap(columnLabels);
+        rowBufferReference = new RowBufferReference(this, rowBuffer);
+        ROW_BUFFER_REFERENCES.add(rowBufferReference);
+        try {
+            remainingRowCount = writeRows(resultSet);
+            rowInputStream = new DataInputStream(new BufferedInputStream(rowBuffer.getInputStream(), STREAM_BUFFER_SIZE));
+        } catch (final IOException ex) {
+            release();
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * Judge whether result set can be loaded into off-heap memory.
+     *
+     * <p>Large object and user defined types can not be serialized into binary row.</p>
+     *
+     * @param resultSetMetaData result set meta data
+     * @return can be loaded into off-heap memory or not
+     * @throws SQLException SQL exception
+     */
+    public static boolean isSupported(final ResultSetMetaData resultSetMetaData) throws SQLException {
+        for (int columnIndex = 1; columnIndex <= resultSetMetaData.getColumnCount(); columnIndex++) {
+            switch (resultSetMetaData.getColumnType(columnIndex)) {
+                case Types.BLOB:
+                case Types.CLOB:
+                case Types.NCLOB:
+                case Types.ARRAY:
+                case Types.STRUCT:
+                case Types.REF:
+                case Types.SQLXML:
+                case Types.DATALINK:
+                case Types.ROWID:
+                case Types.JAVA_OBJECT:
+                case Types.DISTINCT:
+                case Types.OTHER:
+                    return false;
+                default:
+                    break;
+            }
+        }
+        return true;
+    }
+    
+    private static void releaseUnreachableResults() {
+        Reference<? extends OffHeapQueryResult> each;
+        while (null != (each = UNREACHABLE_RESULTS.poll())) {
+            ((RowBufferReference) each).release();
+        }
+    }
+    
+    private List<String> getColumnLabels(final ResultSetMetaData resultSetMetaData) throws SQLException {
+        List<String> result = new ArrayList<>(resultSetMetaData.getColumnCount());
+        for (int columnIndex = 1; columnIndex <= resultSetMetaData.getColumnCount(); columnIndex++) {
+            result.add(resultSetMetaData.getColumnLabel(columnIndex));
+        }
+        return result;
+    }
+    
+    private Map<String, Integer> getColumnLabelAndIndexMap(final List<String> columnLabels) {
+        Map<String, Integer> result = new HashMap<>(columnLabels.size(), 1);
+        for (int i = columnLabels.size() - 1; i >= 0; i--) {
+            result.put(columnLabels.get(i), i);
+        }
+        return result;
+    }
+    
+    private long writeRows(final ResultSet resultSet) throws SQLException, IOException {
+        long result = 0;
+        int columnCount = columnLabels.size();
+        try (DataOutputStream rowOutputStream = new DataOutputStream(new BufferedOutputStream(rowBuffer.getOutputStream(), STREAM_BUFFER_SIZE))) {
+            while (resultSet.next()) {
+                for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                    BinaryRowCodec.write(rowOutputStream, resultSet.getObject(columnIndex));
+                }
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (0 == remainingRowCount) {
+            currentRow = null;
+            release();
+            return false;
+        }
+        remainingRowCount--;
+        currentRow = new Object[columnLabels.size()];
+        try {
+            for (int i = 0; i < currentRow.length; i++) {
+                currentRow[i] = BinaryRowCodec.read(rowInputStream);
+            }
+        } catch (final IOException ex) {
+            release();
+            throw new SQLException(ex);
+        }
+        return true;
+    }
+    
+    private void release() {
+        rowBufferReference.release();
+    }
+    
+    @Override
+    public void close() {
+        currentRow = null;
+        remainingRowCount = 0;
+        release();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        return getCell(columnIndex - 1);
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) {
+        return getCell(getIndexByColumnLabel(columnLabel));
+    }
+    
+    @Override
+    public int getInt(final int columnIndex) {
+        return (int) NumberUtil.toLongValue(getCell(columnIndex - 1));
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) {
+        return NumberUtil.toLongValue(getCell(columnIndex - 1));
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) {
+        return NumberUtil.toDoubleValue(getCell(columnIndex - 1));
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getCell(columnIndex - 1);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
+        return getCell(getIndexByColumnLabel(columnLabel));
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        return toInputStream(getCell(columnIndex - 1));
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) {
+        return toInputStream(getCell(getIndexByColumnLabel(columnLabel)));
+    }
+    
+    private InputStream toInputStream(final Object value) {
+        if (value instanceof byte[]) {
+            return new ByteArrayInputStream((byte[]) value);
+        }
+        if (value instanceof String) {
+            return new ByteArrayInputStream(((String) value).getBytes(StandardCharsets.UTF_8));
+        }
+        return (InputStream) value;
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnLabels.size();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) throws SQLException {
+        if (columnIndex < 1 || columnIndex > columnLabels.size()) {
+            throw new SQLException("Column index out of range", "9999");
+        }
+        return columnLabels.get(columnIndex - 1);
+    }
+    
+    private Object getCell(final int index) {
+        Object result = currentRow[index];
+        wasNull = null == result;
+        return result;
+    }
+    
+    private int getIndexByColumnLabel(final String columnLabel) {
+        return columnLabelAndIndexMap.get(columnLabel);
+    }
+    
+    private static final class RowBufferReference extends PhantomReference<OffHeapQueryResult> {
+        
+        private final OffHeapRowBuffer rowBuffer;
+        
+        RowBufferReference(final OffHeapQueryResult queryResult, final OffHeapRowBuffer rowBuffer) {
+            super(queryResult, UNREACHABLE_RESULTS);
+            this.rowBuffer = rowBuffer;
+        }
+        
+        void release() {
+            ROW_BUFFER_REFERENCES.remove(this);
+            rowBuffer.release();
+        }
+    }
+}
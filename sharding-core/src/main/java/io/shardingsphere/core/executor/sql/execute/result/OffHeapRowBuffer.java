@@ -0,0 +1,265 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Row buffer which stores binary rows in pooled off-heap chunks.
+ *
+ * <p>
+ * Bytes beyond budget of each buffer or budget of process spill to temp file, 
+ * which is memory-mapped when reading back.
+ * </p>
+ *
+ * @author zhangliang
+ */
+final class OffHeapRowBuffer {
+    
+    private static final int CHUNK_SIZE = 64 * 1024;
+    
+    private static final long MAX_BYTES_PER_BUFFER = 16L * 1024 * 1024;
+    
+    private static final long MAX_BYTES_PER_PROCESS = 256L * 1024 * 1024;
+    
+    private static final String SPILL_FILE_PREFIX = "sharding-query-result-";
+    
+    private static final String SPILL_FILE_SUFFIX = ".spill";
+    
+    private static final AtomicLong PROCESS_RESERVED_BYTES = new AtomicLong();
+    
+    private static final Queue<ByteBuffer> CHUNK_POOL = new ConcurrentLinkedQueue<>();
+    
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    
+    private File spillFile;
+    
+    private OutputStream spillOutputStream;
+    
+    private RandomAccessFile spillRandomAccessFile;
+    
+    private boolean released;
+    
+    /**
+     * Get output stream to write bytes.
+     *
+     * @return output stream
+     */
+    OutputStream getOutputStream() {
+        return new ChunkOutputStream();
+    }
+    
+    /**
+     * Finish writing and get input stream to read bytes back.
+     *
+     * @return input stream
+     * @throws IOException IO exception
+     */
+    InputStream getInputStream() throws IOException {
+        List<ByteBuffer> buffers = new ArrayList<>(chunks.size() + 1);
+        for (ByteBuffer each : chunks) {
+            each.flip();
+            buffers.add(each);
+        }
+        if (null != spillOutputStream) {
+            spillOutputStream.close();
+            spillRandomAccessFile = new RandomAccessFile(spillFile, "r");
+            FileChannel fileChannel = spillRandomAccessFile.getChannel();
+            long size = fileChannel.size();
+            for (long position = 0; position < size; position += Integer.MAX_VALUE) {
+                buffers.add(fileChannel.map(MapMode.READ_ONLY, position, Math.min(Integer.MAX_VALUE, size - position)));
+            }
+        }
+        return new ChunkInputStream(buffers.iterator());
+    }
+    
+    /**
+     * Judge whether spilled to temp file.
+     *
+     * @return spilled or not
+     */
+    boolean isSpilled() {
+        return null != spillFile;
+    }
+    
+    /**
+     * Release off-heap chunks and temp file.
+     */
+    synchronized void release() {
+        if (released) {
+            return;
+        }
+        released = true;
+        for (ByteBuffer each : chunks) {
+            each.clear();
+            CHUNK_POOL.offer(each);
+        }
+        PROCESS_RESERVED_BYTES.addAndGet(-(long) chunks.size() * CHUNK_SIZE);
+        chunks.clear();
+        closeSpillFile();
+    }
+    
+    private void closeSpillFile() {
+        if (null == spillFile) {
+            return;
+        }
+        try {
+            if (null != spillRandomAccessFile) {
+                spillRandomAccessFile.close();
+            } else {
+                spillOutputStream.close();
+            }
+        } catch (final IOException ignored) {
+        }
+        if (!spillFile.delete()) {
+            spillFile.deleteOnExit();
+        }
+    }
+    
+    private static File createSpillFile() throws IOException {
+        try {
+            return Files.createTempFile(SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"))).toFile();
+        } catch (final UnsupportedOperationException ignored) {
+            File result = Files.createTempFile(SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX).toFile();
+            result.setReadable(false, false);
+            result.setWritable(false, false);
+            result.setReadable(true, true);
+            result.setWritable(true, true);
+            return result;
+        }
+    }
+    
+    private boolean reserveChunk() {
+        if ((long) (chunks.size() + 1) * CHUNK_SIZE > MAX_BYTES_PER_BUFFER) {
+            return false;
+        }
+        while (true) {
+            long reservedBytes = PROCESS_RESERVED_BYTES.get();
+            if (reservedBytes + CHUNK_SIZE > MAX_BYTES_PER_PROCESS) {
+                return false;
+            }
+            if (PROCESS_RESERVED_BYTES.compareAndSet(reservedBytes, reservedBytes + CHUNK_SIZE)) {
+                ByteBuffer chunk = CHUNK_POOL.poll();
+                chunks.add(null == chunk ? ByteBuffer.allocateDirect(CHUNK_SIZE) : chunk);
+                return true;
+            }
+        }
+    }
+    
+    private final class ChunkOutputStream extends OutputStream {
+        
+        private ByteBuffer currentChunk;
+        
+        @Override
+        public void write(final int b) throws IOException {
+            if (null != spillOutputStream || !ensureWritable()) {
+                spillOutputStream.write(b);
+                return;
+            }
+            currentChunk.put((byte) b);
+        }
+        
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            int currentOffset = offset;
+            int remaining = length;
+            while (remaining > 0) {
+                if (null != spillOutputStream || !ensureWritable()) {
+                    spillOutputStream.write(bytes, currentOffset, remaining);
+                    return;
+                }
+                int writeLength = Math.min(remaining, currentChunk.remaining());
+                currentChunk.put(bytes, currentOffset, writeLength);
+                currentOffset += writeLength;
+                remaining -= writeLength;
+            }
+        }
+        
+        private boolean ensureWritable() throws IOException {
+            if (null != currentChunk && currentChunk.hasRemaining()) {
+                return true;
+            }
+            if (reserveChunk()) {
+                currentChunk = chunks.get(chunks.size() - 1);
+                return true;
+            }
+            spillFile = createSpillFile();
+            spillOutputStream = new BufferedOutputStream(new FileOutputStream(spillFile), CHUNK_SIZE);
+            return false;
+        }
+    }
+    
+    private static final class ChunkInputStream extends InputStream {
+        
+        private final Iterator<ByteBuffer> buffers;
+        
+        private ByteBuffer currentBuffer;
+        
+        ChunkInputStream(final Iterator<ByteBuffer> buffers) {
+            this.buffers = buffers;
+        }
+        
+        @Override
+        public int read() {
+            if (!ensureReadable()) {
+                return -1;
+            }
+            return currentBuffer.get() & 0xff;
+        }
+        
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) {
+            if (0 == length) {
+                return 0;
+            }
+            if (!ensureReadable()) {
+                return -1;
+            }
+            int result = Math.min(length, currentBuffer.remaining());
+            currentBuffer.get(bytes, offset, result);
+            return result;
+        }
+        
+        private boolean ensureReadable() {
+            while (null == currentBuffer || !currentBuffer.hasRemaining()) {
+                if (!buffers.hasNext()) {
+                    return false;
+                }
+                currentBuffer = buffers.next();
+            }
+            return true;
+        }
+    }
+}
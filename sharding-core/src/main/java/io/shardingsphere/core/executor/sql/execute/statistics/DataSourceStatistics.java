@@ -0,0 +1,233 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.statistics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Execution statistics of data source.
+ *
+ * <p>
+ * Track in-flight executions, connections held from pool and EWMA of execution latency, 
+ * and eject the data source for a while after consecutive connection failures.
+ * Replication progress of slave data source is also tracked here if replication lag probe configured, 
+ * and so are connection plans of executions.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class DataSourceStatistics {
+    
+    private static final double LATENCY_DECAY_FACTOR = 0.2D;
+    
+    private static final int MAX_CONSECUTIVE_FAILURES = 3;
+    
+    private static final long EJECTION_MILLISECONDS = TimeUnit.SECONDS.toMillis(10L);
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private final AtomicLong latencyNanosBits = new AtomicLong(Double.doubleToLongBits(0D));
+    
+    private final AtomicInteger consecutiveFailureCount = new AtomicInteger();
+    
+    private volatile long ejectedUntilMillis;
+    
+    private volatile long replicatedUntilMillis;
+    
+    private volatile int maxPoolSize;
+    
+    private final AtomicInteger heldConnectionCount = new AtomicInteger();
+    
+    private final AtomicLong streamingUnitCount = new AtomicLong();
+    
+    private final AtomicLong bufferedUnitCount = new AtomicLong();
+    
+    /**
+     * Record execution started.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Record execution finished success.
+     *
+     * @param latencyNanos execution latency in nanoseconds
+     */
+    public void finishSuccess(final long latencyNanos) {
+        inFlightCount.decrementAndGet();
+        consecutiveFailureCount.set(0);
+        updateLatency(latencyNanos);
+    }
+    
+    /**
+     * Record execution finished failure.
+     *
+     * @param latencyNanos execution latency in nanoseconds
+     * @param connectionFailure is failure caused by connection or not
+     */
+    public void finishFailure(final long latencyNanos, final boolean connectionFailure) {
+        inFlightCount.decrementAndGet();
+        updateLatency(latencyNanos);
+        if (connectionFailure) {
+            recordConnectionFailure();
+        }
+    }
+    
+    /**
+     * Record failure of connection acquisition or execution caused by connection.
+     */
+    public void recordConnectionFailure() {
+        if (consecutiveFailureCount.incrementAndGet() >= MAX_CONSECUTIVE_FAILURES) {
+            consecutiveFailureCount.set(0);
+            ejectedUntilMillis = System.currentTimeMillis() + EJECTION_MILLISECONDS;
+        }
+    }
+    
+    private void updateLatency(final long latencyNanos) {
+        while (true) {
+            long current = latencyNanosBits.get();
+            double currentLatency = Double.longBitsToDouble(current);
+            double newLatency = 0D == currentLatency ? latencyNanos : currentLatency + (latencyNanos - currentLatency) * LATENCY_DECAY_FACTOR;
+            if (latencyNanosBits.compareAndSet(current, Double.doubleToLongBits(newLatency))) {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Get count of in-flight executions.
+     *
+     * @return count of in-flight executions
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Get EWMA of execution latency.
+     *
+     * @return EWMA of execution latency in nanoseconds, {@code 0} if never executed
+     */
+    public double getLatencyNanos() {
+        return Double.longBitsToDouble(latencyNanosBits.get());
+    }
+    
+    /**
+     * Judge whether data source is available or ejected.
+     *
+     * @return data source is available or not
+     */
+    public boolean isAvailable() {
+        return 0L == ejectedUntilMillis || System.currentTimeMillis() >= ejectedUntilMillis;
+    }
+    
+    /**
+     * Record replication progress of slave data source.
+     *
+     * @param replicatedUntilMillis timestamp in milliseconds which all writes before have been replicated to slave data source
+     */
+    public void updateReplicatedUntilMillis(final long replicatedUntilMillis) {
+        if (replicatedUntilMillis > this.replicatedUntilMillis) {
+            this.replicatedUntilMillis = replicatedUntilMillis;
+        }
+    }
+    
+    /**
+     * Get replication progress of slave data source.
+     *
+     * @return timestamp in milliseconds which all writes before have been replicated to slave data source, {@code 0} if never probed
+     */
+    public long getReplicatedUntilMillis() {
+        return replicatedUntilMillis;
+    }
+    
+    /**
+     * Set max pool size of data source.
+     *
+     * @param maxPoolSize max pool size, {@code 0} if unknown
+     */
+    public void setMaxPoolSize(final int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+    
+    /**
+     * Record connection acquired from pool.
+     */
+    public void acquireConnection() {
+        heldConnectionCount.incrementAndGet();
+    }
+    
+    /**
+     * Record connection returned to pool.
+     */
+    public void releaseConnection() {
+        heldConnectionCount.decrementAndGet();
+    }
+    
+    /**
+     * Get count of connections held from pool.
+     * 
+     * <p>Connections are held until logic connection closed, including connections which only serve streaming result sets.</p>
+     *
+     * @return count of connections held from pool
+     */
+    public int getHeldConnectionCount() {
+        return heldConnectionCount.get();
+    }
+    
+    /**
+     * Get estimated available connection size of data source.
+     *
+     * @return estimated available connection size, {@link Integer#MAX_VALUE} if max pool size unknown
+     */
+    public int getAvailableConnectionSize() {
+        return 0 == maxPoolSize ? Integer.MAX_VALUE : Math.max(maxPoolSize - Math.max(heldConnectionCount.get(), inFlightCount.get()), 0);
+    }
+    
+    /**
+     * Record connection plan of execution.
+     *
+     * @param streamingUnitSize size of execute units which stream results
+     * @param bufferedUnitSize size of execute units which buffer results in memory
+     */
+    public void recordConnectionPlan(final int streamingUnitSize, final int bufferedUnitSize) {
+        streamingUnitCount.addAndGet(streamingUnitSize);
+        bufferedUnitCount.addAndGet(bufferedUnitSize);
+    }
+    
+    /**
+     * Get count of execute units which stream results.
+     *
+     * @return count of execute units which stream results
+     */
+    public long getStreamingUnitCount() {
+        return streamingUnitCount.get();
+    }
+    
+    /**
+     * Get count of execute units which buffer results in memory.
+     *
+     * @return count of execute units which buffer results in memory
+     */
+    public long getBufferedUnitCount() {
+        return bufferedUnitCount.get();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of data source execution statistics.
+ *
+ * <p>
+ * Registry is owned by sharding rule or master-slave rule, so statistics are scoped to data sources of the rule, 
+ * and data sources of different logic data sources never share statistics even if they have same names.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class DataSourceStatisticsRegistry {
+    
+    private final ConcurrentMap<String, DataSourceStatistics> statisticsMap = new ConcurrentHashMap<>();
+    
+    /**
+     * Get statistics of data source.
+     *
+     * @param dataSourceName data source name
+     * @return statistics of data source
+     */
+    public DataSourceStatistics getStatistics(final String dataSourceName) {
+        DataSourceStatistics result = statisticsMap.get(dataSourceName);
+        if (null != result) {
+            return result;
+        }
+        statisticsMap.putIfAbsent(dataSourceName, new DataSourceStatistics());
+        return statisticsMap.get(dataSourceName);
+    }
+    
+    /**
+     * Get available data source names, which are not ejected.
+     *
+     * <p>Return all data source names if all of them are ejected.</p>
+     *
+     * @param dataSourceNames data source names
+     * @return available data source names
+     */
+    public List<String> getAvailableDataSourceNames(final List<String> dataSourceNames) {
+        List<String> result = null;
+        for (int i = 0; i < dataSourceNames.size(); i++) {
+            String each = dataSourceNames.get(i);
+            DataSourceStatistics statistics = statisticsMap.get(each);
+            if (null == statistics || statistics.isAvailable()) {
+                if (null != result) {
+                    result.add(each);
+                }
+                continue;
+            }
+            if (null == result) {
+                result = new ArrayList<>(dataSourceNames.subList(0, i));
+            }
+        }
+        if (null == result) {
+            return dataSourceNames;
+        }
+        return result.isEmpty() ? dataSourceNames : result;
+    }
+    
+    /**
+     * Get replicated data source names, which have replicated all writes before timestamp.
+     *
+     * @param dataSourceNames data source names
+     * @param minReplicatedUntilMillis timestamp in milliseconds which all writes before should have been replicated
+     * @return replicated data source names, empty if none of them caught up
+     */
+    public List<String> getReplicatedDataSourceNames(final List<String> dataSourceNames, final long minReplicatedUntilMillis) {
+        List<String> result = new ArrayList<>(dataSourceNames.size());
+        for (String each : dataSourceNames) {
+            DataSourceStatistics statistics = statisticsMap.get(each);
+            if (null != statistics && statistics.getReplicatedUntilMillis() >= minReplicatedUntilMillis) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+}
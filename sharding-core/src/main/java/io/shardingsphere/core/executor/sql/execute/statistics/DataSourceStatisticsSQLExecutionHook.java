@@ -0,0 +1,79 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.statistics;
+
+import io.shardingsphere.core.metadata.datasource.DataSourceMetaData;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.spi.executor.SQLExecutionHook;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Map;
+
+/**
+ * SQL execution hook to collect execution statistics of data sources.
+ *
+ * <p>Statistics registry of current execution is shared by SQL execute template with sharding execute data map.</p>
+ *
+ * @author zhangliang
+ */
+public final class DataSourceStatisticsSQLExecutionHook implements SQLExecutionHook {
+    
+    public static final String STATISTICS_REGISTRY = "DATA_SOURCE_STATISTICS_REGISTRY";
+    
+    private static final String CONNECTION_EXCEPTION_SQL_STATE_CLASS = "08";
+    
+    private DataSourceStatistics statistics;
+    
+    private long startNanoTime;
+    
+    @Override
+    public void start(final RouteUnit routeUnit, final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+        Object statisticsRegistry = null == shardingExecuteDataMap ? null : shardingExecuteDataMap.get(STATISTICS_REGISTRY);
+        if (!(statisticsRegistry instanceof DataSourceStatisticsRegistry) || null == routeUnit || null == routeUnit.getDataSourceName()) {
+            return;
+        }
+        statistics = ((DataSourceStatisticsRegistry) statisticsRegistry).getStatistics(routeUnit.getDataSourceName());
+        statistics.start();
+        startNanoTime = System.nanoTime();
+    }
+    
+    @Override
+    public void finishSuccess() {
+        if (null != statistics) {
+            statistics.finishSuccess(System.nanoTime() - startNanoTime);
+            statistics = null;
+        }
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        if (null != statistics) {
+            statistics.finishFailure(System.nanoTime() - startNanoTime, isConnectionFailure(cause));
+            statistics = null;
+        }
+    }
+    
+    private boolean isConnectionFailure(final Exception cause) {
+        if (cause instanceof SQLTransientConnectionException || cause instanceof SQLNonTransientConnectionException) {
+            return true;
+        }
+        return cause instanceof SQLException && null != ((SQLException) cause).getSQLState() && ((SQLException) cause).getSQLState().startsWith(CONNECTION_EXCEPTION_SQL_STATE_CLASS);
+    }
+}
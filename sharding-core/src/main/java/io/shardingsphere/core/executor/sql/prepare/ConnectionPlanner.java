@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.prepare;
+
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Connection planner for SQL execution.
+ *
+ * <p>
+ * Plan how many connections to take from one data source for SQL units. 
+ * Take up to max connections size per query while heap is tight, so as to stream results. 
+ * Otherwise take no more than estimated available connections of pool, and buffer results which share connection in memory.
+ * Connections still held by other logic connections, e.g. for streaming result sets, are not available,
+ * while connections cached by caller itself are reused and always plannable.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+final class ConnectionPlanner {
+    
+    private static final double DEFAULT_MIN_FREE_MEMORY_RATIO = 0.2D;
+    
+    private final int maxConnectionsSizePerQuery;
+    
+    private final DataSourceStatisticsRegistry statisticsRegistry;
+    
+    private final double minFreeMemoryRatio;
+    
+    ConnectionPlanner(final int maxConnectionsSizePerQuery, final DataSourceStatisticsRegistry statisticsRegistry) {
+        this(maxConnectionsSizePerQuery, statisticsRegistry, DEFAULT_MIN_FREE_MEMORY_RATIO);
+    }
+    
+    /**
+     * Get connection size.
+     *
+     * @param dataSourceName data source name
+     * @param sqlUnitSize size of SQL units
+     * @param cachedConnectionSize size of connections cached by caller, which are reused without acquiring from pool
+     * @return connection size
+     */
+    int getConnectionSize(final String dataSourceName, final int sqlUnitSize, final int cachedConnectionSize) {
+        int result = Math.min(sqlUnitSize, maxConnectionsSizePerQuery);
+        if (1 == result || cachedConnectionSize >= result || isMemoryTight()) {
+            return result;
+        }
+        long plannableConnectionSize = (long) cachedConnectionSize + statisticsRegistry.getStatistics(dataSourceName).getAvailableConnectionSize();
+        return (int) Math.max(Math.min(result, plannableConnectionSize), 1L);
+    }
+    
+    private boolean isMemoryTight() {
+        Runtime runtime = Runtime.getRuntime();
+        long freeMemory = runtime.maxMemory() - runtime.totalMemory() + runtime.freeMemory();
+        return freeMemory < runtime.maxMemory() * minFreeMemoryRatio;
+    }
+}
@@ -44,6 +44,14 @@ public interface SQLExecutePrepareCallback {
      */
     List<Connection> getConnections(ConnectionMode connectionMode, String dataSourceName, int connectionSize) throws SQLException;
     
+    /**
+     * Get size of connections cached by caller, which are reused by {@link #getConnections} without acquiring from pool.
+     * 
+     * @param dataSourceName data source name
+     * @return size of cached connections
+     */
+    int getCachedConnectionSize(String dataSourceName);
+    
     /**
      * Create SQL execute unit.
      * 
@@ -17,19 +17,18 @@
 
 package io.shardingsphere.core.executor.sql.prepare;
 
-import com.google.common.collect.Lists;
 import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.executor.ShardingExecuteCallback;
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
 import io.shardingsphere.core.executor.ShardingExecuteGroup;
 import io.shardingsphere.core.executor.StatementExecuteUnit;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
 import io.shardingsphere.core.routing.RouteUnit;
 import io.shardingsphere.core.routing.SQLUnit;
-import lombok.AllArgsConstructor;
-import lombok.RequiredArgsConstructor;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -44,13 +43,23 @@ import java.util.Map.Entry;
  * @author zhangliang
  * @author panjuan
  */
-@RequiredArgsConstructor
-@AllArgsConstructor
 public final class SQLExecutePrepareTemplate {
     
-    private final int maxConnectionsSizePerQuery;
+    private final ConnectionPlanner connectionPlanner;
     
-    private ShardingExecuteEngine shardingExecuteEngine;
+    private final ShardingExecuteEngine shardingExecuteEngine;
+    
+    private final DataSourceStatisticsRegistry statisticsRegistry;
+    
+    public SQLExecutePrepareTemplate(final int maxConnectionsSizePerQuery, final DataSourceStatisticsRegistry statisticsRegistry) {
+        this(maxConnectionsSizePerQuery, null, statisticsRegistry);
+    }
+    
+    public SQLExecutePrepareTemplate(final int maxConnectionsSizePerQuery, final ShardingExecuteEngine shardingExecuteEngine, final DataSourceStatisticsRegistry statisticsRegistry) {
+        connectionPlanner = new ConnectionPlanner(maxConnectionsSizePerQuery, statisticsRegistry);
+        this.shardingExecuteEngine = shardingExecuteEngine;
+        this.statisticsRegistry = statisticsRegistry;
+    }
     
     /**
      * Get execute unit groups.
@@ -96,7 +105,7 @@ public final class SQLExecutePrepareTemplate {
         Map<String, List<SQLUnit>> result = new LinkedHashMap<>(routeUnits.size(), 1);
         for (RouteUnit each : routeUnits) {
             if (!result.containsKey(each.getDataSourceName())) {
-                result.put(each.getDataSourceName(), new LinkedList<SQLUnit>());
+                result.put(each.getDataSourceName(), new ArrayList<SQLUnit>());
             }
             result.get(each.getDataSourceName()).add(each.getSqlUnit());
         }
@@ -106,13 +115,41 @@ public final class SQLExecutePrepareTemplate {
     private List<ShardingExecuteGroup<StatementExecuteUnit>> getSQLExecuteGroups(
             final String dataSourceName, final List<SQLUnit> sqlUnits, final SQLExecutePrepareCallback callback) throws SQLException {
         List<ShardingExecuteGroup<StatementExecuteUnit>> result = new LinkedList<>();
-        int desiredPartitionSize = Math.max(sqlUnits.size() / maxConnectionsSizePerQuery, 1);
-        List<List<SQLUnit>> sqlUnitGroups = Lists.partition(sqlUnits, desiredPartitionSize);
-        ConnectionMode connectionMode = maxConnectionsSizePerQuery < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
-        List<Connection> connections = callback.getConnections(connectionMode, dataSourceName, sqlUnitGroups.size());
+        int connectionSize = connectionPlanner.getConnectionSize(dataSourceName, sqlUnits.size(), callback.getCachedConnectionSize(dataSourceName));
+        ConnectionMode connectionMode = connectionSize < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
+        List<Connection> connections = getConnections(connectionMode, dataSourceName, connectionSize, callback);
+        int streamingUnitSize = 0;
         int count = 0;
-        for (List<SQLUnit> each : sqlUnitGroups) {
-            result.add(getSQLExecuteGroup(connectionMode, connections.get(count++), dataSourceName, each, callback));
+        for (List<SQLUnit> each : partition(sqlUnits, connectionSize)) {
+            if (1 == each.size()) {
+                streamingUnitSize++;
+                result.add(getSQLExecuteGroup(ConnectionMode.MEMORY_STRICTLY, connections.get(count++), dataSourceName, each, callback));
+            } else {
+                result.add(getSQLExecuteGroup(ConnectionMode.CONNECTION_STRICTLY, connections.get(count++), dataSourceName, each, callback));
+            }
+        }
+        statisticsRegistry.getStatistics(dataSourceName).recordConnectionPlan(streamingUnitSize, sqlUnits.size() - streamingUnitSize);
+        return result;
+    }
+    
+    private List<Connection> getConnections(final ConnectionMode connectionMode, final String dataSourceName, final int connectionSize, final SQLExecutePrepareCallback callback) throws SQLException {
+        try {
+            return callback.getConnections(connectionMode, dataSourceName, connectionSize);
+        } catch (final SQLException ex) {
+            statisticsRegistry.getStatistics(dataSourceName).recordConnectionFailure();
+            throw ex;
+        }
+    }
+    
+    private List<List<SQLUnit>> partition(final List<SQLUnit> sqlUnits, final int partitionSize) {
+        List<List<SQLUnit>> result = new ArrayList<>(partitionSize);
+        int minGroupSize = sqlUnits.size() / partitionSize;
+        int remainder = sqlUnits.size() % partitionSize;
+        int fromIndex = 0;
+        for (int i = 0; i < partitionSize; i++) {
+            int toIndex = fromIndex + minGroupSize + (i < remainder ? 1 : 0);
+            result.add(sqlUnits.subList(fromIndex, toIndex));
+            fromIndex = toIndex;
         }
         return result;
     }
@@ -51,6 +51,8 @@ public final class HintManagerHolder {
     
     private static final Multimap<String, Comparable<?>> TABLE_SHARDING_VALUES = HashMultimap.create();
     
+    private static final ThreadLocal<Long> READ_CONSISTENCY_TOKEN = new ThreadLocal<>();
+    
     @Setter
     private static boolean databaseShardingOnly;
     
@@ -125,6 +127,25 @@ public final class HintManagerHolder {
         return null != HINT_MANAGER_HOLDER.get() && isMasterRouteOnly;
     }
     
+    /**
+     * Set read consistency token.
+     *
+     * @param lastWriteTimestampMillis timestamp in milliseconds of last write committed
+     */
+    public static void setReadConsistencyToken(final long lastWriteTimestampMillis) {
+        READ_CONSISTENCY_TOKEN.set(lastWriteTimestampMillis);
+    }
+    
+    /**
+     * Get read consistency token.
+     *
+     * @return timestamp in milliseconds of last write committed, {@code 0} if absent
+     */
+    public static long getReadConsistencyToken() {
+        Long result = READ_CONSISTENCY_TOKEN.get();
+        return null == HINT_MANAGER_HOLDER.get() || null == result ? 0L : result;
+    }
+    
     /**
      * Get database sharding value.
      * 
@@ -173,6 +194,7 @@ public final class HintManagerHolder {
         HINT_MANAGER_HOLDER.remove();
         DATABASE_SHARDING_VALUES.clear();
         TABLE_SHARDING_VALUES.clear();
+        READ_CONSISTENCY_TOKEN.remove();
         databaseShardingOnly = false;
         isMasterRouteOnly = false;
     }
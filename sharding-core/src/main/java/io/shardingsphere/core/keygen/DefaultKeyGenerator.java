@@ -18,6 +18,8 @@
 package io.shardingsphere.core.keygen;
 
 import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.Setter;
 
 import java.util.Calendar;
@@ -58,9 +60,11 @@ public final class DefaultKeyGenerator implements KeyGenerator {
     
     private static final long WORKER_ID_MAX_VALUE = 1L << WORKER_ID_BITS;
     
+    @Getter(AccessLevel.PACKAGE)
     @Setter
     private static TimeService timeService = new TimeService();
     
+    @Getter(AccessLevel.PACKAGE)
     private static long workerId;
     
     static {
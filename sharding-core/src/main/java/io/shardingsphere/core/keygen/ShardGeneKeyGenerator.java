@@ -0,0 +1,143 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.keygen;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import io.shardingsphere.core.exception.ShardingException;
+
+/**
+ * Distributed primary key generator which embeds shard gene.
+ * 
+ * <p>
+ * Use snowflake algorithm as same as {@code DefaultKeyGenerator}, but the lowest bits of key are shard gene,
+ * which is the hash of the name of the actual data node the row is routed to by its sharding value.
+ * So rows can be routed via generated key alone, whatever the sharding algorithms are,
+ * and keys still route correctly after data nodes are added, removed or reordered.
+ * Data nodes with same gene are all routed, keys whose gene matches no data node are routed by sharding strategies.
+ * Keys generated without sharding value carry {@code NO_GENE}, they and keys with gene 0 are routed by sharding strategies too.
+ * </p>
+ * 
+ * <pre>
+ * 1bit   sign bit.
+ * 41bits timestamp offset from 2016.11.01(Sharding-Sphere distributed primary key published data) to now.
+ * 10bits worker process id.
+ * 6bits  auto increment offset in one mills.
+ * 6bits  shard gene.
+ * </pre>
+ * 
+ * <p>
+ * Worker process id and time service are shared with {@code DefaultKeyGenerator}.
+ * Because of the shorter sequence, one worker process generates at most 64 keys per millisecond.
+ * </p>
+ * 
+ * <p>
+ * Values of key column must only be generated by this generator, or have 0 or {@code NO_GENE} in the lowest 6 bits.
+ * Other explicitly supplied or legacy keys are routed by the data node their lowest bits happen to match.
+ * Rows must not be moved to other data nodes after inserted, so it does not work with slot sharding strategy.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class ShardGeneKeyGenerator implements KeyGenerator {
+    
+    private static final long GENE_BITS = 6L;
+    
+    public static final int NO_GENE = (1 << GENE_BITS) - 1;
+    
+    private static final int MIN_GENE = 1;
+    
+    private static final long SEQUENCE_BITS = 6L;
+    
+    private static final long WORKER_ID_BITS = 10L;
+    
+    private static final long GENE_MASK = (1 << GENE_BITS) - 1;
+    
+    private static final long SEQUENCE_MASK = (1 << SEQUENCE_BITS) - 1;
+    
+    private static final long SEQUENCE_LEFT_SHIFT_BITS = GENE_BITS;
+    
+    private static final long WORKER_ID_LEFT_SHIFT_BITS = SEQUENCE_LEFT_SHIFT_BITS + SEQUENCE_BITS;
+    
+    private static final long TIMESTAMP_LEFT_SHIFT_BITS = WORKER_ID_LEFT_SHIFT_BITS + WORKER_ID_BITS;
+    
+    private long sequence;
+    
+    private long lastTime;
+    
+    /**
+     * Find shard gene of generated key.
+     * 
+     * @param value generated key
+     * @return shard gene, absent if value is not non-negative number or is generated without shard gene
+     */
+    public static Optional<Integer> findGene(final Comparable<?> value) {
+        if (!(value instanceof Number) || ((Number) value).longValue() < 0L) {
+            return Optional.absent();
+        }
+        int result = (int) (((Number) value).longValue() & GENE_MASK);
+        return MIN_GENE > result || NO_GENE == result ? Optional.<Integer>absent() : Optional.of(result);
+    }
+    
+    /**
+     * Get shard gene of actual data node.
+     * 
+     * @param dataSourceName data source name of actual data node
+     * @param tableName table name of actual data node
+     * @return shard gene
+     */
+    public static int getGene(final String dataSourceName, final String tableName) {
+        return MIN_GENE + ((dataSourceName + "." + tableName).toLowerCase().hashCode() & Integer.MAX_VALUE) % (NO_GENE - MIN_GENE);
+    }
+    
+    @Override
+    public Number generateKey() {
+        return generateKey(NO_GENE);
+    }
+    
+    /**
+     * Generate key with shard gene.
+     * 
+     * @param gene shard gene of actual data node which row is routed to
+     * @return key type is @{@link Long}.
+     */
+    public synchronized Number generateKey(final int gene) {
+        if (gene < MIN_GENE || gene > NO_GENE) {
+            throw new ShardingException("Shard gene should be between %d and %d, but shard gene is '%d'.", MIN_GENE, NO_GENE, gene);
+        }
+        long currentMillis = DefaultKeyGenerator.getTimeService().getCurrentMillis();
+        Preconditions.checkState(lastTime <= currentMillis, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastTime, currentMillis);
+        if (lastTime == currentMillis) {
+            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
+                currentMillis = waitUntilNextTime(currentMillis);
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTime = currentMillis;
+        return ((currentMillis - DefaultKeyGenerator.EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (DefaultKeyGenerator.getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | (sequence << SEQUENCE_LEFT_SHIFT_BITS) | gene;
+    }
+    
+    private long waitUntilNextTime(final long lastTime) {
+        long time = DefaultKeyGenerator.getTimeService().getCurrentMillis();
+        while (time <= lastTime) {
+            time = DefaultKeyGenerator.getTimeService().getCurrentMillis();
+        }
+        return time;
+    }
+}
@@ -24,6 +24,7 @@ import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.parsing.parser.sql.dal.DALStatement;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingsphere.core.rule.ShardingRule;
+import io.shardingsphere.spi.metrics.SPIMetricsTracker;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -51,6 +52,13 @@ public final class MergeEngineFactory {
      */
     public static MergeEngine newInstance(final ShardingRule shardingRule, final List<QueryResult> queryResults,
                                           final SQLStatement sqlStatement, final ShardingTableMetaData shardingTableMetaData) throws SQLException {
+        MergeEngine result = createMergeEngine(shardingRule, queryResults, sqlStatement, shardingTableMetaData);
+        return SPIMetricsTracker.getInstance().isEnabled() 
+                ? new MetricsMergeEngine(result, sqlStatement.getTables().isEmpty() ? null : sqlStatement.getTables().getSingleTableName()) : result;
+    }
+    
+    private static MergeEngine createMergeEngine(final ShardingRule shardingRule, final List<QueryResult> queryResults,
+                                                 final SQLStatement sqlStatement, final ShardingTableMetaData shardingTableMetaData) throws SQLException {
         if (sqlStatement instanceof SelectStatement) {
             return new DQLMergeEngine(queryResults, (SelectStatement) sqlStatement);
         } 
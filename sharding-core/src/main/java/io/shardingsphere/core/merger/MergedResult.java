@@ -56,6 +56,33 @@ public interface MergedResult {
      */
     Object getValue(String columnLabel, Class<?> type) throws SQLException;
     
+    /**
+     * Get int value.
+     *
+     * @param columnIndex column index
+     * @return int value, {@code 0} if value is {@code null}
+     * @throws SQLException SQL Exception
+     */
+    int getInt(int columnIndex) throws SQLException;
+    
+    /**
+     * Get long value.
+     *
+     * @param columnIndex column index
+     * @return long value, {@code 0} if value is {@code null}
+     * @throws SQLException SQL Exception
+     */
+    long getLong(int columnIndex) throws SQLException;
+    
+    /**
+     * Get double value.
+     *
+     * @param columnIndex column index
+     * @return double value, {@code 0} if value is {@code null}
+     * @throws SQLException SQL Exception
+     */
+    double getDouble(int columnIndex) throws SQLException;
+    
     /**
      * Get calendar value.
      *
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger;
+
+import io.shardingsphere.spi.metrics.MetricsStage;
+import io.shardingsphere.spi.metrics.SPIMetricsTracker;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.SQLException;
+
+/**
+ * Merge engine which tracks latency of merge.
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+final class MetricsMergeEngine implements MergeEngine {
+    
+    private final MergeEngine mergeEngine;
+    
+    private final String logicTableName;
+    
+    private final SPIMetricsTracker metricsTracker = SPIMetricsTracker.getInstance();
+    
+    @Override
+    public MergedResult merge() throws SQLException {
+        long startNanos = metricsTracker.start();
+        try {
+            MergedResult result = mergeEngine.merge();
+            metricsTracker.finish(MetricsStage.MERGE, startNanos, logicTableName, null, null, true);
+            return result;
+        } catch (final SQLException ex) {
+            metricsTracker.finish(MetricsStage.MERGE, startNanos, logicTableName, null, null, false);
+            throw ex;
+        }
+    }
+}
@@ -19,6 +19,7 @@ package io.shardingsphere.core.merger.dal.show;
 
 import io.shardingsphere.core.constant.ShardingConstant;
 import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.util.NumberUtil;
 import lombok.RequiredArgsConstructor;
 
 import java.io.InputStream;
@@ -70,6 +71,21 @@ public final class ShowDatabasesMergedResult implements MergedResult {
         return getValue(1, type);
     }
     
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return (int) NumberUtil.toLongValue(getValue(columnIndex, Object.class));
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        return NumberUtil.toLongValue(getValue(columnIndex, Object.class));
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        return NumberUtil.toDoubleValue(getValue(columnIndex, Object.class));
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
         throw new SQLFeatureNotSupportedException();
@@ -18,6 +18,7 @@
 package io.shardingsphere.core.merger.dql.common;
 
 import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.util.NumberUtil;
 import io.shardingsphere.core.util.SQLUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -72,6 +73,21 @@ public abstract class MemoryMergedResult implements MergedResult {
         return result;
     }
     
+    @Override
+    public final int getInt(final int columnIndex) {
+        return (int) NumberUtil.toLongValue(getCell(columnIndex));
+    }
+    
+    @Override
+    public final long getLong(final int columnIndex) {
+        return NumberUtil.toLongValue(getCell(columnIndex));
+    }
+    
+    @Override
+    public final double getDouble(final int columnIndex) {
+        return NumberUtil.toDoubleValue(getCell(columnIndex));
+    }
+    
     @Override
     public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
         // TODO implement with calendar
@@ -102,4 +118,10 @@ public abstract class MemoryMergedResult implements MergedResult {
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    private Object getCell(final int columnIndex) {
+        Object result = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
 }
@@ -26,6 +26,7 @@ import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnitFact
 import io.shardingsphere.core.merger.dql.orderby.OrderByStreamMergedResult;
 import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.util.NumberUtil;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -129,23 +130,44 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
-        return currentRow.get(columnIndex - 1);
+        return getCell(columnIndex);
     }
     
     @Override
     public Object getValue(final String columnLabel, final Class<?> type) {
         Preconditions.checkState(labelAndIndexMap.containsKey(columnLabel), String.format("Can't find columnLabel: %s", columnLabel));
-        return currentRow.get(labelAndIndexMap.get(columnLabel) - 1);
+        return getCell(labelAndIndexMap.get(columnLabel));
+    }
+    
+    @Override
+    public int getInt(final int columnIndex) {
+        return (int) NumberUtil.toLongValue(getCell(columnIndex));
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) {
+        return NumberUtil.toLongValue(getCell(columnIndex));
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) {
+        return NumberUtil.toDoubleValue(getCell(columnIndex));
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.get(columnIndex - 1);
+        return getCell(columnIndex);
     }
     
     @Override
     public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
         Preconditions.checkState(labelAndIndexMap.containsKey(columnLabel), String.format("Can't find columnLabel: %s", columnLabel));
-        return currentRow.get(labelAndIndexMap.get(columnLabel) - 1);
+        return getCell(labelAndIndexMap.get(columnLabel));
+    }
+    
+    private Object getCell(final int columnIndex) {
+        Object result = currentRow.get(columnIndex - 1);
+        setWasNull(null == result);
+        return result;
     }
 }
@@ -17,22 +17,33 @@
 
 package io.shardingsphere.core.metadata.table;
 
-import lombok.RequiredArgsConstructor;
+import com.google.common.base.Optional;
+import io.shardingsphere.core.rule.DataNode;
+import io.shardingsphere.core.rule.ShardingRule;
+import io.shardingsphere.core.rule.TableRule;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Sharding table meta data.
  *
+ * <p>Copy on write, refreshing table meta data after DDL publishes a new map and never blocks readers.</p>
+ *
  * @author panjuan
  * @author zhaojun
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class ShardingTableMetaData {
     
-    private final Map<String, TableMetaData> tableMetaDataMap;
+    private volatile Map<String, TableMetaData> tableMetaDataMap;
+    
+    public ShardingTableMetaData(final Map<String, TableMetaData> tableMetaDataMap) {
+        this.tableMetaDataMap = Collections.unmodifiableMap(new HashMap<>(tableMetaDataMap));
+    }
     
     /**
      * Add table meta data.
@@ -40,8 +51,10 @@ public final class ShardingTableMetaData {
      * @param logicTableName logic table name
      * @param tableMetaData table meta data
      */
-    public void put(final String logicTableName, final TableMetaData tableMetaData) {
-        tableMetaDataMap.put(logicTableName, tableMetaData);
+    public synchronized void put(final String logicTableName, final TableMetaData tableMetaData) {
+        Map<String, TableMetaData> result = new HashMap<>(tableMetaDataMap);
+        result.put(logicTableName, tableMetaData);
+        tableMetaDataMap = Collections.unmodifiableMap(result);
     }
     
     /**
@@ -62,7 +75,20 @@ public final class ShardingTableMetaData {
      * @return contains column from table meta data or not
      */
     public boolean containsColumn(final String tableName, final String column) {
-        return containsTable(tableName) && tableMetaDataMap.get(tableName).getAllColumnNames().contains(column.toLowerCase());
+        TableMetaData tableMetaData = tableMetaDataMap.get(tableName);
+        return null != tableMetaData && tableMetaData.containsColumn(column);
+    }
+    
+    /**
+     * Find ordinal position of column via table.
+     *
+     * @param tableName table name
+     * @param column column
+     * @return ordinal position of column, start from 0
+     */
+    public Optional<Integer> findColumnIndex(final String tableName, final String column) {
+        TableMetaData tableMetaData = tableMetaDataMap.get(tableName);
+        return null == tableMetaData ? Optional.<Integer>absent() : tableMetaData.findColumnIndex(column);
     }
     
     /**
@@ -74,4 +100,49 @@ public final class ShardingTableMetaData {
     public Collection<String> getAllColumnNames(final String tableName) {
         return tableMetaDataMap.get(tableName).getAllColumnNames();
     }
+    
+    /**
+     * Get table meta data which can be reused after sharding rule or data sources renewed.
+     *
+     * <p>Table meta data is reusable if the actual data nodes of its table rule are not changed and none of them located in changed data sources.</p>
+     *
+     * @param originalShardingRule original sharding rule
+     * @param shardingRule renewed sharding rule
+     * @param changedDataSourceNames names of changed data sources
+     * @return reusable table meta data map, key is logic table name
+     */
+    public Map<String, TableMetaData> getReusableTableMetaData(final ShardingRule originalShardingRule, final ShardingRule shardingRule, final Collection<String> changedDataSourceNames) {
+        Map<String, TableMetaData> result = new HashMap<>(tableMetaDataMap.size(), 1);
+        for (Entry<String, TableMetaData> entry : tableMetaDataMap.entrySet()) {
+            if (isReusable(entry.getKey(), originalShardingRule, shardingRule, changedDataSourceNames)) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+    
+    private boolean isReusable(final String logicTableName, final ShardingRule originalShardingRule, final ShardingRule shardingRule, final Collection<String> changedDataSourceNames) {
+        Optional<TableRule> originalTableRule = originalShardingRule.tryFindTableRuleByLogicTable(logicTableName);
+        Optional<TableRule> tableRule = shardingRule.tryFindTableRuleByLogicTable(logicTableName);
+        if (originalTableRule.isPresent() != tableRule.isPresent()) {
+            return false;
+        }
+        if (shardingRule.isBroadcastTable(logicTableName)) {
+            return originalShardingRule.isBroadcastTable(logicTableName);
+        }
+        if (!tableRule.isPresent()) {
+            Optional<String> defaultDataSourceName = shardingRule.findActualDefaultDataSourceName();
+            return defaultDataSourceName.isPresent() && defaultDataSourceName.equals(originalShardingRule.findActualDefaultDataSourceName())
+                    && !changedDataSourceNames.contains(defaultDataSourceName.get());
+        }
+        if (!originalTableRule.get().getActualDataNodes().equals(tableRule.get().getActualDataNodes())) {
+            return false;
+        }
+        for (DataNode each : tableRule.get().getActualDataNodes()) {
+            if (changedDataSourceNames.contains(shardingRule.getShardingDataSourceNames().getRawMasterDataSourceName(each.getDataSourceName()))) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -17,37 +17,95 @@
 
 package io.shardingsphere.core.metadata.table;
 
+import com.google.common.base.Optional;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Table metadata.
  *
+ * <p>Immutable, column names are indexed in lower case when constructing, so lookups are case-insensitive and do not copy column names.</p>
+ *
  * @author panjuan
+ * @author zhangliang
  */
-@RequiredArgsConstructor
-@Getter
-@EqualsAndHashCode
-@ToString
+@EqualsAndHashCode(of = "columnMetaData")
+@ToString(of = "columnMetaData")
 public final class TableMetaData {
     
+    @Getter
     private final Collection<ColumnMetaData> columnMetaData;
     
+    private final Collection<String> allColumnNames;
+    
+    private final Map<String, Integer> columnIndexes;
+    
+    private final Set<String> primaryKeyColumns;
+    
+    public TableMetaData(final Collection<ColumnMetaData> columnMetaData) {
+        this.columnMetaData = Collections.unmodifiableList(new ArrayList<>(columnMetaData));
+        List<String> allColumnNames = new ArrayList<>(columnMetaData.size());
+        Map<String, Integer> columnIndexes = new HashMap<>(columnMetaData.size(), 1);
+        Set<String> primaryKeyColumns = new HashSet<>();
+        for (ColumnMetaData each : columnMetaData) {
+            String columnName = each.getColumnName().toLowerCase();
+            columnIndexes.put(columnName, allColumnNames.size());
+            allColumnNames.add(columnName);
+            if (each.isPrimaryKey()) {
+                primaryKeyColumns.add(columnName);
+            }
+        }
+        this.allColumnNames = Collections.unmodifiableList(allColumnNames);
+        this.columnIndexes = Collections.unmodifiableMap(columnIndexes);
+        this.primaryKeyColumns = Collections.unmodifiableSet(primaryKeyColumns);
+    }
+    
     /**
      * Get all column names.
      *
-     * @return column names
+     * @return column names in lower case
      */
     public Collection<String> getAllColumnNames() {
-        Collection<String> result = new LinkedList<>();
-        for (ColumnMetaData each : columnMetaData) {
-            result.add(each.getColumnName().toLowerCase());
-        }
-        return result;
+        return allColumnNames;
+    }
+    
+    /**
+     * Judge contains column or not.
+     *
+     * @param columnName column name
+     * @return contains column or not
+     */
+    public boolean containsColumn(final String columnName) {
+        return columnIndexes.containsKey(columnName.toLowerCase());
+    }
+    
+    /**
+     * Find ordinal position of column.
+     *
+     * @param columnName column name
+     * @return ordinal position of column, start from 0
+     */
+    public Optional<Integer> findColumnIndex(final String columnName) {
+        return Optional.fromNullable(columnIndexes.get(columnName.toLowerCase()));
+    }
+    
+    /**
+     * Judge column is primary key or not.
+     *
+     * @param columnName column name
+     * @return column is primary key or not
+     */
+    public boolean isPrimaryKey(final String columnName) {
+        return primaryKeyColumns.contains(columnName.toLowerCase());
     }
 }
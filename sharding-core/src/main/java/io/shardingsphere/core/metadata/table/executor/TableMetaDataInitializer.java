@@ -29,8 +29,10 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.Map;
 
 /**
@@ -57,32 +59,55 @@ public final class TableMetaDataInitializer {
      * @return all table meta data
      */
     public Map<String, TableMetaData> load(final ShardingRule shardingRule) {
+        return load(shardingRule, Collections.<String, TableMetaData>emptyMap());
+    }
+    
+    /**
+     * Load table meta data which are not loaded yet.
+     *
+     * @param shardingRule sharding rule
+     * @param loadedTableMetaData loaded table meta data, key is logic table name
+     * @return all table meta data
+     */
+    public Map<String, TableMetaData> load(final ShardingRule shardingRule, final Map<String, TableMetaData> loadedTableMetaData) {
         Map<String, TableMetaData> result = new HashMap<>();
         try {
-            result.putAll(loadShardingTables(shardingRule));
-            result.putAll(loadDefaultTables(shardingRule));
+            result.putAll(loadShardingTables(shardingRule, loadedTableMetaData));
+            result.putAll(loadDefaultTables(shardingRule, loadedTableMetaData));
+            result.putAll(load(shardingRule.getBroadcastTables(), shardingRule, loadedTableMetaData));
         } catch (final SQLException ex) {
             throw new ShardingException(ex);
         }
         return result;
     }
     
-    private Map<String, TableMetaData> loadShardingTables(final ShardingRule shardingRule) throws SQLException {
-        Map<String, TableMetaData> result = new HashMap<>(shardingRule.getTableRules().size(), 1);
+    private Map<String, TableMetaData> loadShardingTables(final ShardingRule shardingRule, final Map<String, TableMetaData> loadedTableMetaData) throws SQLException {
+        Collection<String> logicTableNames = new LinkedList<>();
         for (TableRule each : shardingRule.getTableRules()) {
-            result.put(each.getLogicTable(), tableMetaDataLoader.load(each.getLogicTable(), shardingRule));
+            logicTableNames.add(each.getLogicTable());
         }
-        return result;
+        return load(logicTableNames, shardingRule, loadedTableMetaData);
     }
     
-    private Map<String, TableMetaData> loadDefaultTables(final ShardingRule shardingRule) throws SQLException {
-        Map<String, TableMetaData> result = new HashMap<>(shardingRule.getTableRules().size(), 1);
+    private Map<String, TableMetaData> loadDefaultTables(final ShardingRule shardingRule, final Map<String, TableMetaData> loadedTableMetaData) throws SQLException {
         Optional<String> actualDefaultDataSourceName = shardingRule.findActualDefaultDataSourceName();
-        if (actualDefaultDataSourceName.isPresent()) {
-            for (String each : getAllTableNames(actualDefaultDataSourceName.get())) {
-                result.put(each, tableMetaDataLoader.load(each, shardingRule));
+        return actualDefaultDataSourceName.isPresent()
+                ? load(getAllTableNames(actualDefaultDataSourceName.get()), shardingRule, loadedTableMetaData) : Collections.<String, TableMetaData>emptyMap();
+    }
+    
+    private Map<String, TableMetaData> load(final Collection<String> logicTableNames, final ShardingRule shardingRule, final Map<String, TableMetaData> loadedTableMetaData) throws SQLException {
+        Map<String, TableMetaData> result = new HashMap<>(logicTableNames.size(), 1);
+        Collection<String> unloadedLogicTableNames = new LinkedList<>();
+        for (String each : logicTableNames) {
+            if (loadedTableMetaData.containsKey(each)) {
+                result.put(each, loadedTableMetaData.get(each));
+            } else {
+                unloadedLogicTableNames.add(each);
             }
         }
+        if (!unloadedLogicTableNames.isEmpty()) {
+            result.putAll(tableMetaDataLoader.load(unloadedLogicTableNames, shardingRule));
+        }
         return result;
     }
     
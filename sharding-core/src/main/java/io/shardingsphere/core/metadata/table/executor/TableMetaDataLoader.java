@@ -18,6 +18,7 @@
 package io.shardingsphere.core.metadata.table.executor;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import io.shardingsphere.core.exception.ShardingException;
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
 import io.shardingsphere.core.executor.ShardingExecuteGroup;
@@ -36,7 +37,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -67,30 +70,68 @@ public final class TableMetaDataLoader {
      * @throws SQLException SQL exception
      */
     public TableMetaData load(final String logicTableName, final ShardingRule shardingRule) throws SQLException {
-        List<TableMetaData> actualTableMetaDataList = load(shardingRule.getTableRuleByLogicTableName(logicTableName).getDataNodeGroups(), shardingRule.getShardingDataSourceNames());
-        checkUniformed(logicTableName, actualTableMetaDataList);
-        return actualTableMetaDataList.iterator().next();
+        return load(Collections.singletonList(logicTableName), shardingRule).get(logicTableName);
     }
     
-    private List<TableMetaData> load(final Map<String, List<DataNode>> dataNodeGroups, final ShardingDataSourceNames shardingDataSourceNames) throws SQLException {
-        return executeEngine.groupExecute(getDataNodeGroups(dataNodeGroups), new ShardingGroupExecuteCallback<DataNode, TableMetaData>() {
+    /**
+     * Load table meta data for logic tables.
+     * 
+     * <p>Actual tables of all logic tables are grouped by data source and loaded in parallel.</p>
+     *
+     * @param logicTableNames logic table names
+     * @param shardingRule sharding rule
+     * @return table meta data map, key is logic table name
+     * @throws SQLException SQL exception
+     */
+    public Map<String, TableMetaData> load(final Collection<String> logicTableNames, final ShardingRule shardingRule) throws SQLException {
+        final Map<DataNode, String> logicTableNameMap = new HashMap<>();
+        Map<String, List<DataNode>> dataNodeGroups = new LinkedHashMap<>();
+        for (String each : logicTableNames) {
+            for (Entry<String, List<DataNode>> entry : shardingRule.getTableRuleByLogicTableName(each).getDataNodeGroups().entrySet()) {
+                if (!dataNodeGroups.containsKey(entry.getKey())) {
+                    dataNodeGroups.put(entry.getKey(), new LinkedList<DataNode>());
+                }
+                dataNodeGroups.get(entry.getKey()).addAll(entry.getValue());
+                for (DataNode dataNode : entry.getValue()) {
+                    logicTableNameMap.put(dataNode, each);
+                }
+            }
+        }
+        return getLogicTableMetaDataMap(load(dataNodeGroups, shardingRule.getShardingDataSourceNames(), logicTableNameMap));
+    }
+    
+    private List<Entry<String, TableMetaData>> load(final Map<String, List<DataNode>> dataNodeGroups, 
+                                                    final ShardingDataSourceNames shardingDataSourceNames, final Map<DataNode, String> logicTableNameMap) throws SQLException {
+        return executeEngine.groupExecute(getDataNodeGroups(dataNodeGroups), new ShardingGroupExecuteCallback<DataNode, Entry<String, TableMetaData>>() {
             
             @Override
-            public Collection<TableMetaData> execute(final Collection<DataNode> dataNodes, final boolean isTrunkThread) throws SQLException {
+            public Collection<Entry<String, TableMetaData>> execute(final Collection<DataNode> dataNodes, final boolean isTrunkThread) throws SQLException {
                 String dataSourceName = dataNodes.iterator().next().getDataSourceName();
                 DataSourceMetaData dataSourceMetaData = shardingDataSourceMetaData.getActualDataSourceMetaData(dataSourceName);
                 String catalog = null == dataSourceMetaData ? null : dataSourceMetaData.getSchemeName();
-                return load(shardingDataSourceNames.getRawMasterDataSourceName(dataSourceName), catalog, dataNodes);
+                return load(shardingDataSourceNames.getRawMasterDataSourceName(dataSourceName), catalog, dataNodes, logicTableNameMap);
             }
         });
     }
     
-    private Collection<TableMetaData> load(final String dataSourceName, final String catalog, final Collection<DataNode> dataNodes) throws SQLException {
-        Collection<TableMetaData> result = new LinkedList<>();
+    private Collection<Entry<String, TableMetaData>> load(final String dataSourceName, final String catalog, final Collection<DataNode> dataNodes, 
+                                                          final Map<DataNode, String> logicTableNameMap) throws SQLException {
+        Collection<Entry<String, TableMetaData>> result = new LinkedList<>();
         try (Connection connection = connectionManager.getConnection(dataSourceName)) {
             for (DataNode each : dataNodes) {
-                result.add(new TableMetaData(
-                        isTableExist(connection, catalog, each.getTableName()) ? getColumnMetaDataList(connection, catalog, each.getTableName()) : Collections.<ColumnMetaData>emptyList()));
+                result.add(Maps.immutableEntry(logicTableNameMap.get(each), new TableMetaData(getColumnMetaDataList(connection, catalog, each.getTableName()))));
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, TableMetaData> getLogicTableMetaDataMap(final List<Entry<String, TableMetaData>> actualTableMetaDataList) {
+        Map<String, TableMetaData> result = new HashMap<>();
+        for (Entry<String, TableMetaData> entry : actualTableMetaDataList) {
+            if (!result.containsKey(entry.getKey())) {
+                result.put(entry.getKey(), entry.getValue());
+            } else {
+                checkUniformed(entry.getKey(), result.get(entry.getKey()), entry.getValue());
             }
         }
         return result;
@@ -112,22 +153,21 @@ public final class TableMetaDataLoader {
         return result;
     }
     
-    private boolean isTableExist(final Connection connection, final String catalog, final String actualTableName) throws SQLException {
-        try (ResultSet resultSet = connection.getMetaData().getTables(catalog, null, actualTableName, null)) {
-            return resultSet.next();
-        }
-    }
-    
     private List<ColumnMetaData> getColumnMetaDataList(final Connection connection, final String catalog, final String actualTableName) throws SQLException {
         List<ColumnMetaData> result = new LinkedList<>();
-        Collection<String> primaryKeys = getPrimaryKeys(connection, catalog, actualTableName);
+        Map<String, String> columnTypes = new LinkedHashMap<>();
         try (ResultSet resultSet = connection.getMetaData().getColumns(catalog, null, actualTableName, null)) {
             while (resultSet.next()) {
-                String columnName = resultSet.getString("COLUMN_NAME");
-                String columnType = resultSet.getString("TYPE_NAME");
-                result.add(new ColumnMetaData(columnName, columnType, primaryKeys.contains(columnName)));
+                columnTypes.put(resultSet.getString("COLUMN_NAME"), resultSet.getString("TYPE_NAME"));
             }
         }
+        if (columnTypes.isEmpty()) {
+            return result;
+        }
+        Collection<String> primaryKeys = getPrimaryKeys(connection, catalog, actualTableName);
+        for (Entry<String, String> entry : columnTypes.entrySet()) {
+            result.add(new ColumnMetaData(entry.getKey(), entry.getValue(), primaryKeys.contains(entry.getKey())));
+        }
         return result;
     }
     
@@ -141,12 +181,9 @@ public final class TableMetaDataLoader {
         return result;
     }
     
-    private void checkUniformed(final String logicTableName, final List<TableMetaData> actualTableMetaDataList) {
-        final TableMetaData sample = actualTableMetaDataList.iterator().next();
-        for (TableMetaData each : actualTableMetaDataList) {
-            if (!sample.equals(each)) {
-                throw new ShardingException("Cannot get uniformed table structure for `%s`. The different meta data of actual tables are as follows:\n%s\n%s.", logicTableName, sample, each);
-            }
+    private void checkUniformed(final String logicTableName, final TableMetaData sample, final TableMetaData actualTableMetaData) {
+        if (!sample.equals(actualTableMetaData)) {
+            throw new ShardingException("Cannot get uniformed table structure for `%s`. The different meta data of actual tables are as follows:\n%s\n%s.", logicTableName, sample, actualTableMetaData);
         }
     }
 }
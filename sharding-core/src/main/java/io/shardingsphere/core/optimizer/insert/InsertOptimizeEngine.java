@@ -64,14 +64,14 @@ public final class InsertOptimizeEngine implements OptimizeEngine {
         Iterator<Number> generatedKeys = null;
         int count = 0;
         int parametersCount = 0;
+        String logicTableName = insertStatement.getTables().getSingleTableName();
+        Optional<Column> generateKeyColumn = shardingRule.getGenerateKeyColumn(logicTableName);
         for (AndCondition each : andConditions) {
             InsertValue insertValue = insertValues.get(count);
             List<Object> currentParameters = new ArrayList<>(insertValue.getParametersCount() + 1);
             if (insertValue.getParametersCount() > 0) {
                 currentParameters.addAll(parameters.subList(parametersCount, parametersCount += insertValue.getParametersCount()));
             }
-            String logicTableName = insertStatement.getTables().getSingleTableName();
-            Optional<Column> generateKeyColumn = shardingRule.getGenerateKeyColumn(logicTableName);
             InsertShardingCondition insertShardingCondition;
             if (-1 != insertStatement.getGenerateKeyColumnIndex() || !generateKeyColumn.isPresent()) {
                 insertShardingCondition = new InsertShardingCondition(insertValue.getExpression(), currentParameters);
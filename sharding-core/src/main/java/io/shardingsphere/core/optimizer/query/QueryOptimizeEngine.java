@@ -34,7 +34,7 @@ import io.shardingsphere.core.parsing.parser.context.condition.OrCondition;
 import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -109,7 +109,7 @@ public final class QueryOptimizeEngine implements OptimizeEngine {
         if (null == value2) {
             return value1;
         }
-        value1.retainAll(value2);
+        value1.retainAll(new HashSet<>(value2));
         return value1;
     }
     
@@ -118,7 +118,7 @@ public final class QueryOptimizeEngine implements OptimizeEngine {
     }
     
     private List<Comparable<?>> optimize(final List<Comparable<?>> listValue, final Range<Comparable<?>> rangeValue) {
-        List<Comparable<?>> result = new LinkedList<>();
+        List<Comparable<?>> result = new ArrayList<>(listValue.size());
         for (Comparable<?> each : listValue) {
             if (rangeValue.contains(each)) {
                 result.add(each);
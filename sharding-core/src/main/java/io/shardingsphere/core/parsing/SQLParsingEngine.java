@@ -26,6 +26,8 @@ import io.shardingsphere.core.parsing.lexer.LexerEngineFactory;
 import io.shardingsphere.core.parsing.parser.sql.SQLParserFactory;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.rule.ShardingRule;
+import io.shardingsphere.spi.metrics.MetricsStage;
+import io.shardingsphere.spi.metrics.SPIMetricsTracker;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -53,6 +55,21 @@ public final class SQLParsingEngine {
      * @return parsed SQL statement
      */
     public SQLStatement parse(final boolean useCache) {
+        SPIMetricsTracker metricsTracker = SPIMetricsTracker.getInstance();
+        long startNanos = metricsTracker.start();
+        try {
+            SQLStatement result = parse0(useCache);
+            metricsTracker.finish(MetricsStage.PARSE, startNanos, result.getTables().isEmpty() ? null : result.getTables().getSingleTableName(), null, null, true);
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            metricsTracker.finish(MetricsStage.PARSE, startNanos, null, null, null, false);
+            throw ex;
+        }
+    }
+    
+    private SQLStatement parse0(final boolean useCache) {
         Optional<SQLStatement> cachedSQLStatement = getSQLStatementFromCache(useCache);
         if (cachedSQLStatement.isPresent()) {
             return cachedSQLStatement.get();
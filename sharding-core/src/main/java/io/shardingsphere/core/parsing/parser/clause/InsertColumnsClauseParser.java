@@ -123,7 +123,6 @@ public final class InsertColumnsClauseParser implements SQLClauseParser {
      */
     private Collection<Column> parseWithoutColumn(
             final InsertStatement insertStatement, final ShardingTableMetaData shardingTableMetaData, final String tableName, final Optional<Column> generateKeyColumn) {
-        int count = 0;
         /** 获取开始位置 */
         int beginPosition = lexerEngine.getCurrentToken().getEndPosition() - lexerEngine.getCurrentToken().getLiterals().length() - 1;
         /** 增加 ( */
@@ -136,12 +135,14 @@ public final class InsertColumnsClauseParser implements SQLClauseParser {
             /** 从元数据中获取所有列的名字 ,创建column */
             for (String each : shardingTableMetaData.getAllColumnNames(tableName)) {
                 result.add(new Column(each, tableName));
-                /** 判断分布式ID 是否存在 */
-                if (generateKeyColumn.isPresent() && generateKeyColumn.get().getName().equalsIgnoreCase(each)) {
-                    insertStatement.setGenerateKeyColumnIndex(count);
-                }
                 columnsToken.getItems().add(each);
-                count++;
+            }
+            /** 判断分布式ID 是否存在 */
+            if (generateKeyColumn.isPresent()) {
+                Optional<Integer> generateKeyColumnIndex = shardingTableMetaData.findColumnIndex(tableName, generateKeyColumn.get().getName());
+                if (generateKeyColumnIndex.isPresent()) {
+                    insertStatement.setGenerateKeyColumnIndex(generateKeyColumnIndex.get());
+                }
             }
         }
         /** 加入解析的cloumns */
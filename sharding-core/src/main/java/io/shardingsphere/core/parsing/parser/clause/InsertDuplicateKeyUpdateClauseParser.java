@@ -31,6 +31,11 @@ import io.shardingsphere.core.util.SQLUtil;
 
 /**
  * Insert duplicate key update clause parser.
+ * 
+ * <p>
+ * Index column can only be updated with {@code VALUES(index_column)}, so row updated on duplicate key stays in shard routed by the inserted row,
+ * and index table is still maintained by the mapping of inserted values.
+ * </p>
  *
  * @author maxiaoguang
  */
@@ -66,17 +71,29 @@ public abstract class InsertDuplicateKeyUpdateClauseParser implements SQLClauseP
                 throw new SQLParsingException("INSERT INTO .... ON DUPLICATE KEY UPDATE can not support on sharding column, token is '%s', literals is '%s'.",
                         lexerEngine.getCurrentToken().getType(), lexerEngine.getCurrentToken().getLiterals());
             }
+            boolean indexColumn = shardingRule.isIndexColumn(column);
             basicExpressionParser.parse(insertStatement);
             lexerEngine.accept(Symbol.EQ);
             if (lexerEngine.skipIfEqual(DefaultKeyword.VALUES)) {
                 lexerEngine.accept(Symbol.LEFT_PAREN);
+                if (indexColumn && !column.getName().equalsIgnoreCase(SQLUtil.getExactlyValue(lexerEngine.getCurrentToken().getLiterals()))) {
+                    throwUnsupportedIndexColumnException(column);
+                }
                 basicExpressionParser.parse(insertStatement);
                 lexerEngine.accept(Symbol.RIGHT_PAREN);
             } else {
+                if (indexColumn) {
+                    throwUnsupportedIndexColumnException(column);
+                }
                 lexerEngine.nextToken();
             }
         } while (lexerEngine.skipIfEqual(Symbol.COMMA));
     }
     
+    private void throwUnsupportedIndexColumnException(final Column column) {
+        throw new SQLParsingException("INSERT INTO .... ON DUPLICATE KEY UPDATE can only update index column '%s' with VALUES(%s), token is '%s', literals is '%s'.",
+                column.getName(), column.getName(), lexerEngine.getCurrentToken().getType(), lexerEngine.getCurrentToken().getLiterals());
+    }
+    
     protected abstract Keyword[] getCustomizedInsertKeywords();
 }
@@ -99,7 +99,7 @@ public abstract class InsertSetClauseParser implements SQLClauseParser {
             }
             lexerEngine.accept(Symbol.EQ);
             SQLExpression right = basicExpressionParser.parse(insertStatement);
-            if (shardingRule.isShardingColumn(column) && (right instanceof SQLNumberExpression || right instanceof SQLTextExpression || right instanceof SQLPlaceholderExpression)) {
+            if (shardingRule.isConditionColumn(column) && (right instanceof SQLNumberExpression || right instanceof SQLTextExpression || right instanceof SQLPlaceholderExpression)) {
                 insertStatement.getConditions().add(new Condition(column, right), shardingRule);
             }
             count++;
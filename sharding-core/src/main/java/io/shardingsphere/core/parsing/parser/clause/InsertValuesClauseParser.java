@@ -117,7 +117,7 @@ public abstract class InsertValuesClauseParser implements SQLClauseParser {
             for (Column each : insertStatement.getColumns()) {
                 SQLExpression sqlExpression = sqlExpressions.get(count);
                 /** 判断是否是分片键 */
-                if (shardingRule.isShardingColumn(each)) {
+                if (shardingRule.isConditionColumn(each)) {
                     /** 分片键只支持 数字表达式 字符表达式 占位符 */
                     if (!(sqlExpression instanceof SQLNumberExpression || sqlExpression instanceof SQLTextExpression || sqlExpression instanceof SQLPlaceholderExpression)) {
                         throw new SQLParsingException("INSERT INTO can not support complex expression value on sharding column '%s'.", each.getName());
@@ -17,12 +17,15 @@
 
 package io.shardingsphere.core.parsing.parser.clause;
 
+import com.google.common.base.Optional;
 import io.shardingsphere.core.parsing.lexer.LexerEngine;
 import io.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
 import io.shardingsphere.core.parsing.lexer.token.Symbol;
 import io.shardingsphere.core.parsing.parser.clause.expression.BasicExpressionParser;
+import io.shardingsphere.core.parsing.parser.context.condition.Column;
 import io.shardingsphere.core.parsing.parser.dialect.ExpressionParserFactory;
-import io.shardingsphere.core.parsing.parser.sql.dml.DMLStatement;
+import io.shardingsphere.core.parsing.parser.expression.SQLExpression;
+import io.shardingsphere.core.parsing.parser.sql.dml.update.UpdateStatement;
 import io.shardingsphere.core.parsing.parser.token.TableToken;
 import io.shardingsphere.core.util.SQLUtil;
 
@@ -45,26 +48,29 @@ public final class UpdateSetItemsClauseParser implements SQLClauseParser {
     /**
      * Parse set items.
      *
-     * @param updateStatement DML statement
+     * @param updateStatement update statement
      */
-    public void parse(final DMLStatement updateStatement) {
+    public void parse(final UpdateStatement updateStatement) {
         lexerEngine.accept(DefaultKeyword.SET);
         do {
             parseSetItem(updateStatement);
         } while (lexerEngine.skipIfEqual(Symbol.COMMA));
     }
     
-    private void parseSetItem(final DMLStatement updateStatement) {
-        parseSetColumn(updateStatement);
+    private void parseSetItem(final UpdateStatement updateStatement) {
+        Optional<Column> column = parseSetColumn(updateStatement);
         lexerEngine.skipIfEqual(Symbol.EQ, Symbol.COLON_EQ);
-        parseSetValue(updateStatement);
+        SQLExpression value = parseSetValue(updateStatement);
+        if (column.isPresent()) {
+            updateStatement.getAssignments().put(column.get(), value);
+        }
         skipsDoubleColon();
     }
     
-    private void parseSetColumn(final DMLStatement updateStatement) {
+    private Optional<Column> parseSetColumn(final UpdateStatement updateStatement) {
         if (lexerEngine.equalAny(Symbol.LEFT_PAREN)) {
             lexerEngine.skipParentheses(updateStatement);
-            return;
+            return Optional.absent();
         }
         int beginPosition = lexerEngine.getCurrentToken().getEndPosition();
         String literals = lexerEngine.getCurrentToken().getLiterals();
@@ -73,12 +79,14 @@ public final class UpdateSetItemsClauseParser implements SQLClauseParser {
             if (updateStatement.getTables().getSingleTableName().equalsIgnoreCase(SQLUtil.getExactlyValue(literals))) {
                 updateStatement.addSQLToken(new TableToken(beginPosition - literals.length(), 0, literals));
             }
+            literals = lexerEngine.getCurrentToken().getLiterals();
             lexerEngine.nextToken();
         }
+        return Optional.of(new Column(SQLUtil.getExactlyValue(literals), updateStatement.getTables().getSingleTableName()));
     }
     
-    private void parseSetValue(final DMLStatement updateStatement) {
-        basicExpressionParser.parse(updateStatement);
+    private SQLExpression parseSetValue(final UpdateStatement updateStatement) {
+        return basicExpressionParser.parse(updateStatement);
     }
     
     private void skipsDoubleColon() {
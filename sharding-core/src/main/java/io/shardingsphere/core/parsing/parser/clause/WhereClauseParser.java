@@ -245,7 +245,7 @@ public abstract class WhereClauseParser implements SQLClauseParser {
         }
         if (right instanceof SQLNumberExpression || right instanceof SQLTextExpression || right instanceof SQLPlaceholderExpression) {
             Optional<Column> column = find(sqlStatement.getTables(), left);
-            if (column.isPresent() && shardingRule.isShardingColumn(column.get())) {
+            if (column.isPresent() && shardingRule.isConditionColumn(column.get())) {
                 return new Condition(column.get(), right);
             }
         }
@@ -270,7 +270,7 @@ public abstract class WhereClauseParser implements SQLClauseParser {
         }
         if (!hasComplexExpression) {
             Optional<Column> column = find(sqlStatement.getTables(), left);
-            if (column.isPresent() && shardingRule.isShardingColumn(column.get())) {
+            if (column.isPresent() && shardingRule.isConditionColumn(column.get())) {
                 return new Condition(column.get(), rights);
             }
         }
@@ -297,7 +297,7 @@ public abstract class WhereClauseParser implements SQLClauseParser {
         }
         if (!hasComplexExpression) {
             Optional<Column> column = find(sqlStatement.getTables(), left);
-            if (column.isPresent() && shardingRule.isShardingColumn(column.get())) {
+            if (column.isPresent() && shardingRule.isConditionColumn(column.get())) {
                 return new Condition(column.get(), rights.get(0), rights.get(1));
             }
         }
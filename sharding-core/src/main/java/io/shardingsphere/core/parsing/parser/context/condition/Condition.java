@@ -34,8 +34,9 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -125,17 +126,23 @@ public class Condition {
      * @return condition values
      */
     public List<Comparable<?>> getConditionValues(final List<?> parameters) {
-        List<Comparable<?>> result = new LinkedList<>(positionValueMap.values());
+        List<Comparable<?>> result = new ArrayList<>(positionValueMap.size() + positionIndexMap.size());
+        Iterator<Entry<Integer, Comparable<?>>> valueEntries = positionValueMap.entrySet().iterator();
+        Entry<Integer, Comparable<?>> valueEntry = valueEntries.hasNext() ? valueEntries.next() : null;
         for (Entry<Integer, Integer> entry : positionIndexMap.entrySet()) {
+            while (null != valueEntry && valueEntry.getKey() < entry.getKey()) {
+                result.add(valueEntry.getValue());
+                valueEntry = valueEntries.hasNext() ? valueEntries.next() : null;
+            }
             Object parameter = parameters.get(entry.getValue());
             if (!(parameter instanceof Comparable<?>)) {
                 throw new ShardingException("Parameter `%s` should extends Comparable for sharding value.", parameter);
             }
-            if (entry.getKey() < result.size()) {
-                result.add(entry.getKey(), (Comparable<?>) parameter);
-            } else {
-                result.add((Comparable<?>) parameter);
-            }
+            result.add((Comparable<?>) parameter);
+        }
+        while (null != valueEntry) {
+            result.add(valueEntry.getValue());
+            valueEntry = valueEntries.hasNext() ? valueEntries.next() : null;
         }
         return result;
     }
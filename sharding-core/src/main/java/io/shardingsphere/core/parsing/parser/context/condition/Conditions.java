@@ -48,7 +48,7 @@ public final class Conditions {
      */
     public void add(final Condition condition, final ShardingRule shardingRule) {
         // TODO self-join has problem, table name maybe use alias
-        if (shardingRule.isShardingColumn(condition.getColumn())) {
+        if (shardingRule.isConditionColumn(condition.getColumn())) {
             orCondition.add(condition);
         }
     }
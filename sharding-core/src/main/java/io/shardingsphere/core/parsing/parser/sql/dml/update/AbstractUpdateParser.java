@@ -48,7 +48,7 @@ public abstract class AbstractUpdateParser implements SQLParser {
         lexerEngine.nextToken();
         lexerEngine.skipAll(getSkippedKeywordsBetweenUpdateAndTable());
         lexerEngine.unsupportedIfEqual(getUnsupportedKeywordsBetweenUpdateAndTable());
-        DMLStatement result = new DMLStatement();
+        UpdateStatement result = new UpdateStatement();
         updateClauseParserFacade.getTableReferencesClauseParser().parse(result, true);
         updateClauseParserFacade.getUpdateSetItemsClauseParser().parse(result);
         lexerEngine.skipUntil(DefaultKeyword.WHERE);
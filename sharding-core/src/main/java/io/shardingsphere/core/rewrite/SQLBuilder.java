@@ -34,6 +34,7 @@ import io.shardingsphere.core.rule.ShardingRule;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -53,6 +54,8 @@ public final class SQLBuilder {
     
     private StringBuilder currentSegment;
     
+    private Map<DataNode, List<InsertShardingCondition>> insertShardingConditionGroups;
+    
     public SQLBuilder() {
         this(Collections.emptyList());
     }
@@ -95,7 +98,7 @@ public final class SQLBuilder {
      */
     public SQLUnit toSQL(final TableUnit tableUnit, final Map<String, String> logicAndActualTableMap, final ShardingRule shardingRule, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
         StringBuilder result = new StringBuilder();
-        List<Object> insertParameters = new LinkedList<>();
+        List<Object> insertParameters = new ArrayList<>();
         for (Object each : segments) {
             if (!(each instanceof ShardingPlaceholder)) {
                 result.append(each);
@@ -163,27 +166,37 @@ public final class SQLBuilder {
     }
     
     private void appendInsertValuesPlaceholder(final TableUnit tableUnit, final List<Object> parameters, final InsertValuesPlaceholder insertValuesPlaceholder, final StringBuilder stringBuilder) {
-        List<String> expressions = new LinkedList<>();
-        for (ShardingCondition each : insertValuesPlaceholder.getShardingConditions().getShardingConditions()) {
-            processInsertShardingCondition(tableUnit, (InsertShardingCondition) each, expressions, parameters);
+        if (null == insertShardingConditionGroups) {
+            insertShardingConditionGroups = groupInsertShardingConditions(insertValuesPlaceholder);
+        }
+        List<InsertShardingCondition> insertShardingConditions = insertShardingConditionGroups.get(new DataNode(tableUnit.getDataSourceName(), tableUnit.getRoutingTables().iterator().next().getActualTableName()));
+        if (null == insertShardingConditions) {
+            return;
         }
         int count = 0;
-        for (String each : expressions) {
+        for (InsertShardingCondition each : insertShardingConditions) {
             if (0 != count) {
                 stringBuilder.append(", ");
             }
-            stringBuilder.append(each);
+            stringBuilder.append(each.getInsertValueExpression());
+            parameters.addAll(each.getParameters());
             count++;
         }
     }
     
-    private void processInsertShardingCondition(final TableUnit tableUnit, final InsertShardingCondition shardingCondition, final List<String> expressions, final List<Object> parameters) {
-        for (DataNode each : shardingCondition.getDataNodes()) {
-            if (each.getDataSourceName().equals(tableUnit.getDataSourceName()) && each.getTableName().equals(tableUnit.getRoutingTables().iterator().next().getActualTableName())) {
-                expressions.add(shardingCondition.getInsertValueExpression());
-                parameters.addAll(shardingCondition.getParameters());
-                return;
+    private Map<DataNode, List<InsertShardingCondition>> groupInsertShardingConditions(final InsertValuesPlaceholder insertValuesPlaceholder) {
+        Map<DataNode, List<InsertShardingCondition>> result = new HashMap<>();
+        for (ShardingCondition each : insertValuesPlaceholder.getShardingConditions().getShardingConditions()) {
+            InsertShardingCondition insertShardingCondition = (InsertShardingCondition) each;
+            for (DataNode dataNode : insertShardingCondition.getDataNodes()) {
+                List<InsertShardingCondition> insertShardingConditions = result.get(dataNode);
+                if (null == insertShardingConditions) {
+                    insertShardingConditions = new ArrayList<>();
+                    result.put(dataNode, insertShardingConditions);
+                }
+                insertShardingConditions.add(insertShardingCondition);
             }
         }
+        return result;
     }
 }
@@ -24,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
 
 /**
  * SQL route result.
@@ -42,6 +43,8 @@ public final class SQLRouteResult {
     
     private final Collection<RouteUnit> routeUnits = new LinkedHashSet<>();
     
+    private final Collection<SQLUnit> indexTableSQLUnits = new LinkedList<>();
+    
     public SQLRouteResult(final SQLStatement sqlStatement) {
         this(sqlStatement, null);
     }
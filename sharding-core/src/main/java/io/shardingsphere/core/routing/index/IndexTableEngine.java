@@ -0,0 +1,264 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.index;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
+import io.shardingsphere.api.algorithm.sharding.ListShardingValue;
+import io.shardingsphere.api.algorithm.sharding.ShardingValue;
+import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.optimizer.condition.ShardingCondition;
+import io.shardingsphere.core.optimizer.condition.ShardingConditions;
+import io.shardingsphere.core.optimizer.query.AlwaysFalseShardingCondition;
+import io.shardingsphere.core.parsing.parser.context.condition.AndCondition;
+import io.shardingsphere.core.parsing.parser.context.condition.Column;
+import io.shardingsphere.core.parsing.parser.context.condition.Condition;
+import io.shardingsphere.core.parsing.parser.expression.SQLExpression;
+import io.shardingsphere.core.parsing.parser.expression.SQLNumberExpression;
+import io.shardingsphere.core.parsing.parser.expression.SQLPlaceholderExpression;
+import io.shardingsphere.core.parsing.parser.expression.SQLTextExpression;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dml.DMLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
+import io.shardingsphere.core.parsing.parser.sql.dml.update.UpdateStatement;
+import io.shardingsphere.core.routing.SQLUnit;
+import io.shardingsphere.core.routing.router.sharding.GeneratedKey;
+import io.shardingsphere.core.rule.IndexTableRule;
+import io.shardingsphere.core.rule.ShardingRule;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Index table engine.
+ *
+ * <p>
+ * Index table maps values of unique index column to sharding values of logic table.
+ * Lookup narrows sharding conditions which only have values of index column, maintenance keeps index table as superset of mappings in logic table,
+ * so stale mappings only cost extra shards, and any index value without mapping falls back to full routing.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class IndexTableEngine {
+    
+    private final ShardingRule shardingRule;
+    
+    /**
+     * Add sharding values looked up from index tables to sharding conditions which have values of index column but no value of sharding column.
+     * 
+     * <p>Sharding condition is only narrowed if every value of index column has mappings, otherwise it is kept to route fully.</p>
+     *
+     * @param sqlStatement SQL statement
+     * @param shardingConditions sharding conditions
+     * @param indexTableLookup index table lookup
+     */
+    public void lookup(final SQLStatement sqlStatement, final ShardingConditions shardingConditions, final IndexTableLookup indexTableLookup) {
+        if (sqlStatement instanceof InsertStatement) {
+            return;
+        }
+        for (String each : sqlStatement.getTables().getTableNames()) {
+            for (IndexTableRule indexTableRule : shardingRule.findIndexTableRules(each)) {
+                for (ShardingCondition shardingCondition : shardingConditions.getShardingConditions()) {
+                    lookup(shardingCondition, indexTableRule, indexTableLookup);
+                }
+            }
+        }
+    }
+    
+    private void lookup(final ShardingCondition shardingCondition, final IndexTableRule indexTableRule, final IndexTableLookup indexTableLookup) {
+        if (shardingCondition instanceof AlwaysFalseShardingCondition || findShardingValue(shardingCondition, indexTableRule.getLogicTable(), indexTableRule.getShardingColumn()).isPresent()) {
+            return;
+        }
+        Optional<ShardingValue> indexValue = findShardingValue(shardingCondition, indexTableRule.getLogicTable(), indexTableRule.getIndexColumn());
+        if (!indexValue.isPresent() || !(indexValue.get() instanceof ListShardingValue)) {
+            return;
+        }
+        Collection<Comparable<?>> indexValues = getValues(indexValue.get());
+        Map<Comparable<?>, Collection<Comparable<?>>> mappings = indexTableLookup.lookup(indexTableRule, indexValues);
+        Collection<Comparable<?>> shardingValues = new LinkedHashSet<>();
+        for (Comparable<?> each : indexValues) {
+            Collection<Comparable<?>> mappedShardingValues = mappings.get(each);
+            if (null == mappedShardingValues || mappedShardingValues.isEmpty()) {
+                return;
+            }
+            shardingValues.addAll(mappedShardingValues);
+        }
+        shardingCondition.getShardingValues().add(new ListShardingValue<>(indexValue.get().getLogicTableName(), indexTableRule.getShardingColumn(), shardingValues));
+    }
+    
+    /**
+     * Generate logic SQL units to maintain index tables, which should be executed before route units.
+     *
+     * @param sqlStatement SQL statement
+     * @param parameters SQL parameters
+     * @param generatedKey generated key
+     * @param shardingConditions sharding conditions
+     * @return logic SQL units of index tables
+     */
+    public Collection<SQLUnit> maintain(final SQLStatement sqlStatement, final List<Object> parameters, final GeneratedKey generatedKey, final ShardingConditions shardingConditions) {
+        Collection<SQLUnit> result = new LinkedList<>();
+        if (!(sqlStatement instanceof DMLStatement) || !sqlStatement.getTables().isSingleTable()) {
+            return result;
+        }
+        for (IndexTableRule each : shardingRule.findIndexTableRules(sqlStatement.getTables().getSingleTableName())) {
+            Optional<SQLUnit> sqlUnit;
+            if (sqlStatement instanceof InsertStatement) {
+                sqlUnit = maintainForInsert(each, (InsertStatement) sqlStatement, parameters, generatedKey);
+            } else if (sqlStatement instanceof UpdateStatement) {
+                sqlUnit = maintainForUpdate(each, (UpdateStatement) sqlStatement, parameters, shardingConditions);
+            } else {
+                sqlUnit = maintainForDelete(each, shardingConditions);
+            }
+            if (sqlUnit.isPresent()) {
+                result.add(sqlUnit.get());
+            }
+        }
+        return result;
+    }
+    
+    private Optional<SQLUnit> maintainForInsert(final IndexTableRule indexTableRule, final InsertStatement insertStatement, final List<Object> parameters, final GeneratedKey generatedKey) {
+        List<AndCondition> andConditions = insertStatement.getConditions().getOrCondition().getAndConditions();
+        List<Object> indexParameters = new LinkedList<>();
+        int count = 0;
+        for (int i = 0; i < insertStatement.getInsertValues().getInsertValues().size(); i++) {
+            AndCondition andCondition = i < andConditions.size() ? andConditions.get(i) : new AndCondition();
+            Optional<Comparable<?>> indexValue = findConditionValue(andCondition, indexTableRule.getIndexColumn(), parameters);
+            if (!indexValue.isPresent()) {
+                continue;
+            }
+            Optional<Comparable<?>> shardingValue = findConditionValue(andCondition, indexTableRule.getShardingColumn(), parameters);
+            if (!shardingValue.isPresent() && null != generatedKey && generatedKey.getColumn().getName().equalsIgnoreCase(indexTableRule.getShardingColumn())) {
+                shardingValue = Optional.<Comparable<?>>of((Comparable<?>) generatedKey.getGeneratedKeys().get(i));
+            }
+            if (!shardingValue.isPresent()) {
+                throw new ShardingException("Cannot find value of sharding column '%s' to maintain index table '%s'.", indexTableRule.getShardingColumn(), indexTableRule.getIndexTable());
+            }
+            indexParameters.add(indexValue.get());
+            indexParameters.add(shardingValue.get());
+            count++;
+        }
+        if (0 == count) {
+            return Optional.absent();
+        }
+        String sql = String.format("INSERT INTO %s (%s, %s) VALUES %s", indexTableRule.getIndexTable(), indexTableRule.getIndexColumn(), indexTableRule.getShardingColumn(), 
+                Joiner.on(", ").join(Collections.nCopies(count, "(?, ?)")));
+        return Optional.of(new SQLUnit(sql, Collections.singletonList(indexParameters)));
+    }
+    
+    private Optional<SQLUnit> maintainForUpdate(final IndexTableRule indexTableRule, final UpdateStatement updateStatement, final List<Object> parameters, final ShardingConditions shardingConditions) {
+        Optional<SQLExpression> assignment = findAssignment(updateStatement, indexTableRule.getIndexColumn());
+        if (!assignment.isPresent()) {
+            return Optional.absent();
+        }
+        Comparable<?> indexValue = getAssignmentValue(assignment.get(), indexTableRule, parameters);
+        Optional<Collection<Comparable<?>>> shardingValues = findListValues(shardingConditions, indexTableRule.getLogicTable(), indexTableRule.getShardingColumn());
+        if (!shardingValues.isPresent()) {
+            String sql = String.format("DELETE FROM %s WHERE %s = ?", indexTableRule.getIndexTable(), indexTableRule.getIndexColumn());
+            return Optional.of(new SQLUnit(sql, Collections.singletonList(Collections.<Object>singletonList(indexValue))));
+        }
+        List<Object> indexParameters = new ArrayList<>(shardingValues.get().size() * 2);
+        for (Comparable<?> each : shardingValues.get()) {
+            indexParameters.add(indexValue);
+            indexParameters.add(each);
+        }
+        String sql = String.format("INSERT INTO %s (%s, %s) VALUES %s", indexTableRule.getIndexTable(), indexTableRule.getIndexColumn(), indexTableRule.getShardingColumn(), 
+                Joiner.on(", ").join(Collections.nCopies(shardingValues.get().size(), "(?, ?)")));
+        return Optional.of(new SQLUnit(sql, Collections.singletonList(indexParameters)));
+    }
+    
+    private Optional<SQLUnit> maintainForDelete(final IndexTableRule indexTableRule, final ShardingConditions shardingConditions) {
+        Optional<Collection<Comparable<?>>> indexValues = findListValues(shardingConditions, indexTableRule.getLogicTable(), indexTableRule.getIndexColumn());
+        if (!indexValues.isPresent()) {
+            return Optional.absent();
+        }
+        String sql = String.format("DELETE FROM %s WHERE %s IN (%s)", indexTableRule.getIndexTable(), indexTableRule.getIndexColumn(), Joiner.on(", ").join(Collections.nCopies(indexValues.get().size(), "?")));
+        return Optional.of(new SQLUnit(sql, Collections.singletonList((List<Object>) new ArrayList<Object>(indexValues.get()))));
+    }
+    
+    private Optional<SQLExpression> findAssignment(final UpdateStatement updateStatement, final String columnName) {
+        for (Entry<Column, SQLExpression> entry : updateStatement.getAssignments().entrySet()) {
+            if (entry.getKey().getName().equalsIgnoreCase(columnName)) {
+                return Optional.of(entry.getValue());
+            }
+        }
+        return Optional.absent();
+    }
+    
+    private Comparable<?> getAssignmentValue(final SQLExpression sqlExpression, final IndexTableRule indexTableRule, final List<Object> parameters) {
+        if (sqlExpression instanceof SQLPlaceholderExpression) {
+            return (Comparable<?>) parameters.get(((SQLPlaceholderExpression) sqlExpression).getIndex());
+        }
+        if (sqlExpression instanceof SQLNumberExpression) {
+            return (Comparable<?>) ((SQLNumberExpression) sqlExpression).getNumber();
+        }
+        if (sqlExpression instanceof SQLTextExpression) {
+            return ((SQLTextExpression) sqlExpression).getText();
+        }
+        throw new ShardingException("Cannot maintain index table '%s' for complex expression value of index column '%s'.", indexTableRule.getIndexTable(), indexTableRule.getIndexColumn());
+    }
+    
+    private Optional<Comparable<?>> findConditionValue(final AndCondition andCondition, final String columnName, final List<Object> parameters) {
+        for (Condition each : andCondition.getConditions()) {
+            if (each.getColumn().getName().equalsIgnoreCase(columnName)) {
+                List<Comparable<?>> conditionValues = each.getConditionValues(parameters);
+                if (!conditionValues.isEmpty() && null != conditionValues.get(0)) {
+                    return Optional.<Comparable<?>>of(conditionValues.get(0));
+                }
+            }
+        }
+        return Optional.absent();
+    }
+    
+    private Optional<Collection<Comparable<?>>> findListValues(final ShardingConditions shardingConditions, final String logicTableName, final String columnName) {
+        if (shardingConditions.getShardingConditions().isEmpty()) {
+            return Optional.absent();
+        }
+        Collection<Comparable<?>> result = new LinkedHashSet<>();
+        for (ShardingCondition each : shardingConditions.getShardingConditions()) {
+            Optional<ShardingValue> shardingValue = findShardingValue(each, logicTableName, columnName);
+            if (!shardingValue.isPresent() || !(shardingValue.get() instanceof ListShardingValue)) {
+                return Optional.absent();
+            }
+            result.addAll(getValues(shardingValue.get()));
+        }
+        return result.isEmpty() ? Optional.<Collection<Comparable<?>>>absent() : Optional.of(result);
+    }
+    
+    private Optional<ShardingValue> findShardingValue(final ShardingCondition shardingCondition, final String logicTableName, final String columnName) {
+        for (ShardingValue each : shardingCondition.getShardingValues()) {
+            if (each.getLogicTableName().equalsIgnoreCase(logicTableName) && each.getColumnName().equalsIgnoreCase(columnName)) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.absent();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Collection<Comparable<?>> getValues(final ShardingValue listShardingValue) {
+        return ((ListShardingValue<Comparable<?>>) listShardingValue).getValues();
+    }
+}
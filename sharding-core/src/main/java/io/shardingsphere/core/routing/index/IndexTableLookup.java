@@ -0,0 +1,40 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.index;
+
+import io.shardingsphere.core.rule.IndexTableRule;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Index table lookup.
+ *
+ * @author zhangliang
+ */
+public interface IndexTableLookup {
+    
+    /**
+     * Look up sharding values of logic table via index table.
+     *
+     * @param indexTableRule index table rule
+     * @param indexValues values of index column
+     * @return sharding values of logic table mapped by each given value of index column, index value without any mapping is absent
+     */
+    Map<Comparable<?>, Collection<Comparable<?>>> lookup(IndexTableRule indexTableRule, Collection<Comparable<?>> indexValues);
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave;
+
+import io.shardingsphere.api.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithm;
+import io.shardingsphere.api.algorithm.masterslave.StatisticsAwareMasterSlaveLoadBalanceAlgorithm;
+import io.shardingsphere.core.constant.SQLType;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
+import io.shardingsphere.core.hint.HintManagerHolder;
+import io.shardingsphere.core.rule.MasterSlaveRule;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data source selector for master-slave.
+ *
+ * <p>
+ * If replication lag probe configured, query only route to slave data sources within max replication lag, 
+ * and which have replicated all writes before read consistency token. 
+ * Route to master data source if none of slave data sources satisfied.
+ * Read consistency token never overrides master route of thread which has visited master data source.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class MasterSlaveDataSourceSelector {
+    
+    /**
+     * Select data source.
+     *
+     * @param masterSlaveRule master-slave rule
+     * @param sqlType SQL type
+     * @return name of selected data source
+     */
+    static String select(final MasterSlaveRule masterSlaveRule, final SQLType sqlType) {
+        long readConsistencyToken = null == masterSlaveRule.getReplicationLagProbe() ? 0L : HintManagerHolder.getReadConsistencyToken();
+        if (isMasterRoute(sqlType)) {
+            MasterVisitedManager.setMasterVisited();
+            return masterSlaveRule.getMasterDataSourceName();
+        }
+        DataSourceStatisticsRegistry statisticsRegistry = masterSlaveRule.getStatisticsRegistry();
+        List<String> slaveDataSourceNames = statisticsRegistry.getAvailableDataSourceNames(masterSlaveRule.getSlaveDataSourceNames());
+        long minReplicatedUntilMillis = getMinReplicatedUntilMillis(masterSlaveRule, readConsistencyToken);
+        if (0L != minReplicatedUntilMillis) {
+            slaveDataSourceNames = statisticsRegistry.getReplicatedDataSourceNames(slaveDataSourceNames, minReplicatedUntilMillis);
+            if (slaveDataSourceNames.isEmpty()) {
+                return masterSlaveRule.getMasterDataSourceName();
+            }
+        }
+        MasterSlaveLoadBalanceAlgorithm loadBalanceAlgorithm = masterSlaveRule.getLoadBalanceAlgorithm();
+        return loadBalanceAlgorithm instanceof StatisticsAwareMasterSlaveLoadBalanceAlgorithm
+                ? ((StatisticsAwareMasterSlaveLoadBalanceAlgorithm) loadBalanceAlgorithm).getDataSource(statisticsRegistry, masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), slaveDataSourceNames)
+                : loadBalanceAlgorithm.getDataSource(masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), slaveDataSourceNames);
+    }
+    
+    private static boolean isMasterRoute(final SQLType sqlType) {
+        return SQLType.DQL != sqlType || HintManagerHolder.isMasterRouteOnly() || MasterVisitedManager.isMasterVisited();
+    }
+    
+    private static long getMinReplicatedUntilMillis(final MasterSlaveRule masterSlaveRule, final long readConsistencyToken) {
+        if (null == masterSlaveRule.getReplicationLagProbe() || 0L == masterSlaveRule.getMaxReplicationLagMilliseconds()) {
+            return readConsistencyToken;
+        }
+        return Math.max(readConsistencyToken, System.currentTimeMillis() - masterSlaveRule.getMaxReplicationLagMilliseconds());
+    }
+}
@@ -17,14 +17,11 @@
 
 package io.shardingsphere.core.routing.router.masterslave;
 
-import io.shardingsphere.core.constant.SQLType;
-import io.shardingsphere.core.hint.HintManagerHolder;
 import io.shardingsphere.core.parsing.SQLJudgeEngine;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import io.shardingsphere.core.util.SQLLogger;
 import lombok.RequiredArgsConstructor;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -49,23 +46,10 @@ public final class MasterSlaveRouter {
      */
     // TODO for multiple masters may return more than one data source
     public Collection<String> route(final String sql) {
-        Collection<String> result = route(new SQLJudgeEngine(sql).judge().getType());
+        Collection<String> result = Collections.singletonList(MasterSlaveDataSourceSelector.select(masterSlaveRule, new SQLJudgeEngine(sql).judge().getType()));
         if (showSQL) {
             SQLLogger.logSQL(sql, result);
         }
         return result;
     }
-    
-    private Collection<String> route(final SQLType sqlType) {
-        if (isMasterRoute(sqlType)) {
-            MasterVisitedManager.setMasterVisited();
-            return Collections.singletonList(masterSlaveRule.getMasterDataSourceName());
-        }
-        return Collections.singletonList(masterSlaveRule.getLoadBalanceAlgorithm().getDataSource(
-                masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), new ArrayList<>(masterSlaveRule.getSlaveDataSourceNames())));
-    }
-    
-    private boolean isMasterRoute(final SQLType sqlType) {
-        return SQLType.DQL != sqlType || MasterVisitedManager.isMasterVisited() || HintManagerHolder.isMasterRouteOnly();
-    }
 }
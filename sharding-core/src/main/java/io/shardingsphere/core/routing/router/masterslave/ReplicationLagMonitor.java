@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave;
+
+import io.shardingsphere.core.executor.ShardingThreadFactoryBuilder;
+import io.shardingsphere.core.rule.MasterSlaveRule;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replication lag monitor.
+ *
+ * <p>Probe replication lag of slave data sources periodically for master-slave rules which configured replication lag probe.</p>
+ *
+ * @author zhangliang
+ */
+@Slf4j
+public final class ReplicationLagMonitor implements AutoCloseable {
+    
+    private static final long PROBE_INTERVAL_MILLISECONDS = 1000L;
+    
+    private final Map<String, MasterSlaveRule> slaveRules = new LinkedHashMap<>();
+    
+    private final Map<String, DataSource> dataSourceMap;
+    
+    private final ScheduledExecutorService executorService;
+    
+    public ReplicationLagMonitor(final Collection<MasterSlaveRule> masterSlaveRules, final Map<String, DataSource> dataSourceMap) {
+        for (MasterSlaveRule each : masterSlaveRules) {
+            if (null != each.getReplicationLagProbe()) {
+                for (String slaveDataSourceName : each.getSlaveDataSourceNames()) {
+                    slaveRules.put(slaveDataSourceName, each);
+                }
+            }
+        }
+        this.dataSourceMap = dataSourceMap;
+        executorService = slaveRules.isEmpty() ? null : Executors.newSingleThreadScheduledExecutor(ShardingThreadFactoryBuilder.build("ReplicationLagMonitor"));
+        if (null != executorService) {
+            executorService.scheduleWithFixedDelay(new Runnable() {
+                
+                @Override
+                public void run() {
+                    probe();
+                }
+            }, 0L, PROBE_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Probe replication lag of all slave data sources.
+     */
+    public void probe() {
+        for (Map.Entry<String, MasterSlaveRule> entry : slaveRules.entrySet()) {
+            DataSource dataSource = dataSourceMap.get(entry.getKey());
+            if (null != dataSource) {
+                probe(entry.getKey(), dataSource, entry.getValue());
+            }
+        }
+    }
+    
+    private void probe(final String slaveDataSourceName, final DataSource dataSource, final MasterSlaveRule masterSlaveRule) {
+        long probeTimeMillis = System.currentTimeMillis();
+        try (Connection connection = dataSource.getConnection()) {
+            long replicationLagMilliseconds = masterSlaveRule.getReplicationLagProbe().getReplicationLagMilliseconds(connection);
+            if (replicationLagMilliseconds >= 0L) {
+                masterSlaveRule.getStatisticsRegistry().getStatistics(slaveDataSourceName).updateReplicatedUntilMillis(probeTimeMillis - replicationLagMilliseconds);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Probe replication lag of data source '{}' failure: {}", slaveDataSourceName, ex.getMessage());
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (null != executorService) {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -17,14 +17,11 @@
 
 package io.shardingsphere.core.routing.router.masterslave;
 
-import io.shardingsphere.core.constant.SQLType;
-import io.shardingsphere.core.hint.HintManagerHolder;
 import io.shardingsphere.core.routing.RouteUnit;
 import io.shardingsphere.core.routing.SQLRouteResult;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import lombok.RequiredArgsConstructor;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 
@@ -59,19 +56,9 @@ public final class ShardingMasterSlaveRouter {
                 continue;
             }
             toBeRemoved.add(each);
-            if (isMasterRoute(sqlRouteResult.getSqlStatement().getType())) {
-                MasterVisitedManager.setMasterVisited();
-                toBeAdded.add(new RouteUnit(masterSlaveRule.getMasterDataSourceName(), each.getSqlUnit()));
-            } else {
-                toBeAdded.add(new RouteUnit(masterSlaveRule.getLoadBalanceAlgorithm().getDataSource(
-                        masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), new ArrayList<>(masterSlaveRule.getSlaveDataSourceNames())), each.getSqlUnit()));
-            }
+            toBeAdded.add(new RouteUnit(MasterSlaveDataSourceSelector.select(masterSlaveRule, sqlRouteResult.getSqlStatement().getType()), each.getSqlUnit()));
         }
         sqlRouteResult.getRouteUnits().removeAll(toBeRemoved);
         sqlRouteResult.getRouteUnits().addAll(toBeAdded);
     }
-    
-    private boolean isMasterRoute(final SQLType sqlType) {
-        return SQLType.DQL != sqlType || MasterVisitedManager.isMasterVisited() || HintManagerHolder.isMasterRouteOnly();
-    }
 }
@@ -23,8 +23,11 @@ import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.optimizer.OptimizeEngineFactory;
 import io.shardingsphere.core.optimizer.condition.ShardingConditions;
+import io.shardingsphere.core.exception.ShardingException;
 import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.parsing.parser.context.condition.AndCondition;
 import io.shardingsphere.core.parsing.parser.context.condition.Column;
+import io.shardingsphere.core.parsing.parser.context.condition.Condition;
 import io.shardingsphere.core.parsing.parser.context.condition.GeneratedKeyCondition;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowDatabasesStatement;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowTablesStatement;
@@ -39,6 +42,8 @@ import io.shardingsphere.core.rewrite.SQLBuilder;
 import io.shardingsphere.core.rewrite.SQLRewriteEngine;
 import io.shardingsphere.core.routing.RouteUnit;
 import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.core.routing.index.IndexTableEngine;
+import io.shardingsphere.core.routing.index.IndexTableLookup;
 import io.shardingsphere.core.routing.type.RoutingEngine;
 import io.shardingsphere.core.routing.type.RoutingResult;
 import io.shardingsphere.core.routing.type.TableUnit;
@@ -52,6 +57,8 @@ import io.shardingsphere.core.routing.type.unicast.UnicastRoutingEngine;
 import io.shardingsphere.core.rule.ShardingRule;
 import io.shardingsphere.core.rule.TableRule;
 import io.shardingsphere.core.util.SQLLogger;
+import io.shardingsphere.spi.metrics.MetricsStage;
+import io.shardingsphere.spi.metrics.SPIMetricsTracker;
 import io.shardingsphere.spi.parsing.ParsingHook;
 import io.shardingsphere.spi.parsing.SPIParsingHook;
 import lombok.RequiredArgsConstructor;
@@ -78,12 +85,23 @@ public final class ParsingSQLRouter implements ShardingRouter {
     
     private final boolean showSQL;
     
+    private final int maxCartesianRouteUnits;
+    
     private final List<Number> generatedKeys = new LinkedList<>();
     
     private final ShardingDataSourceMetaData shardingDataSourceMetaData;
     
+    private final IndexTableLookup indexTableLookup;
+    
     private final ParsingHook parsingHook = new SPIParsingHook();
     
+    private final SPIMetricsTracker metricsTracker = SPIMetricsTracker.getInstance();
+    
+    public ParsingSQLRouter(final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData, 
+                            final DatabaseType databaseType, final boolean showSQL, final int maxCartesianRouteUnits, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
+        this(shardingRule, shardingTableMetaData, databaseType, showSQL, maxCartesianRouteUnits, shardingDataSourceMetaData, null);
+    }
+    
     @Override
     public SQLStatement parse(final String logicSQL, final boolean useCache) {
         parsingHook.start(logicSQL);
@@ -101,16 +119,23 @@ public final class ParsingSQLRouter implements ShardingRouter {
     
     @Override
     public SQLRouteResult route(final String logicSQL, final List<Object> parameters, final SQLStatement sqlStatement) {
+        long routeStartNanos = metricsTracker.start();
         GeneratedKey generatedKey = null;
         if (sqlStatement instanceof InsertStatement) {
             generatedKey = getGenerateKey(shardingRule, (InsertStatement) sqlStatement, parameters);
         }
         SQLRouteResult result = new SQLRouteResult(sqlStatement, generatedKey);
         ShardingConditions shardingConditions = OptimizeEngineFactory.newInstance(shardingRule, sqlStatement, parameters, generatedKey).optimize();
+        if (!shardingRule.getIndexTableRules().isEmpty()) {
+            routeIndexTables(result, sqlStatement, parameters, generatedKey, shardingConditions);
+        }
         if (null != generatedKey) {
             setGeneratedKeys(result, generatedKey);
         }
         RoutingResult routingResult = route(sqlStatement, shardingConditions);
+        String logicTableName = sqlStatement.getTables().isEmpty() ? null : sqlStatement.getTables().getSingleTableName();
+        metricsTracker.finish(MetricsStage.ROUTE, routeStartNanos, logicTableName, null, null, true);
+        long rewriteStartNanos = metricsTracker.start();
         SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, logicSQL, databaseType, sqlStatement, shardingConditions, parameters);
         boolean isSingleRouting = routingResult.isSingleRouting();
         if (sqlStatement instanceof SelectStatement && null != ((SelectStatement) sqlStatement).getLimit()) {
@@ -120,12 +145,22 @@ public final class ParsingSQLRouter implements ShardingRouter {
         for (TableUnit each : routingResult.getTableUnits().getTableUnits()) {
             result.getRouteUnits().add(new RouteUnit(each.getDataSourceName(), rewriteEngine.generateSQL(each, sqlBuilder, shardingDataSourceMetaData)));
         }
+        metricsTracker.finish(MetricsStage.REWRITE, rewriteStartNanos, logicTableName, null, null, true);
         if (showSQL) {
             SQLLogger.logSQL(logicSQL, sqlStatement, result.getRouteUnits());
         }
         return result;
     }
     
+    private void routeIndexTables(final SQLRouteResult sqlRouteResult, final SQLStatement sqlStatement, final List<Object> parameters, 
+                                  final GeneratedKey generatedKey, final ShardingConditions shardingConditions) {
+        IndexTableEngine indexTableEngine = new IndexTableEngine(shardingRule);
+        sqlRouteResult.getIndexTableSQLUnits().addAll(indexTableEngine.maintain(sqlStatement, parameters, generatedKey, shardingConditions));
+        if (null != indexTableLookup) {
+            indexTableEngine.lookup(sqlStatement, shardingConditions, indexTableLookup);
+        }
+    }
+    
     private RoutingResult route(final SQLStatement sqlStatement, final ShardingConditions shardingConditions) {
         Collection<String> tableNames = sqlStatement.getTables().getTableNames();
         RoutingEngine routingEngine;
@@ -145,15 +180,21 @@ public final class ParsingSQLRouter implements ShardingRouter {
             routingEngine = new UnicastRoutingEngine(shardingRule, tableNames);
         } else if (tableNames.isEmpty()) {
             routingEngine = new DatabaseBroadcastRoutingEngine(shardingRule);
-        } else if (1 == tableNames.size() || shardingRule.isAllBindingTables(tableNames) || shardingRule.isAllInDefaultDataSource(tableNames)) {
-            routingEngine = new StandardRoutingEngine(shardingRule, tableNames.iterator().next(), shardingConditions);
+        } else if (shardingRule.isAllBroadcastTables(tableNames)) {
+            routingEngine = sqlStatement instanceof SelectStatement ? new UnicastRoutingEngine(shardingRule, tableNames) : new DatabaseBroadcastRoutingEngine(shardingRule);
         } else {
-            // TODO config for cartesian set
-            routingEngine = new ComplexRoutingEngine(shardingRule, tableNames, shardingConditions);
+            routingEngine = getShardingRoutingEngine(shardingRule.getNonBroadcastTables(tableNames), shardingConditions);
         }
         return routingEngine.route();
     }
     
+    private RoutingEngine getShardingRoutingEngine(final Collection<String> tableNames, final ShardingConditions shardingConditions) {
+        if (1 == tableNames.size() || shardingRule.isAllBindingTables(tableNames) || shardingRule.isAllInDefaultDataSource(tableNames)) {
+            return new StandardRoutingEngine(shardingRule, tableNames.iterator().next(), shardingConditions);
+        }
+        return new ComplexRoutingEngine(shardingRule, tableNames, shardingConditions, maxCartesianRouteUnits);
+    }
+    
     private GeneratedKey getGenerateKey(final ShardingRule shardingRule, final InsertStatement insertStatement, final List<Object> parameters) {
         GeneratedKey result = null;
         if (-1 != insertStatement.getGenerateKeyColumnIndex()) {
@@ -177,13 +218,29 @@ public final class ParsingSQLRouter implements ShardingRouter {
         Optional<Column> generateKeyColumn = shardingRule.getGenerateKeyColumn(logicTableName);
         if (generateKeyColumn.isPresent()) {
             result = new GeneratedKey(generateKeyColumn.get());
+            Optional<String> geneColumnName = shardingRule.findGeneColumnName(tableRule.get());
+            List<AndCondition> andConditions = insertStatement.getConditions().getOrCondition().getAndConditions();
             for (int i = 0; i < insertStatement.getInsertValues().getInsertValues().size(); i++) {
-                result.getGeneratedKeys().add(shardingRule.generateKey(logicTableName));
+                result.getGeneratedKeys().add(geneColumnName.isPresent()
+                        ? shardingRule.generateKey(logicTableName, getGeneValue(geneColumnName.get(), i < andConditions.size() ? andConditions.get(i) : new AndCondition(), parameters))
+                        : shardingRule.generateKey(logicTableName));
             }
         }
         return result;
     }
     
+    private Comparable<?> getGeneValue(final String geneColumnName, final AndCondition andCondition, final List<Object> parameters) {
+        for (Condition each : andCondition.getConditions()) {
+            if (geneColumnName.equalsIgnoreCase(each.getColumn().getName())) {
+                List<Comparable<?>> conditionValues = each.getConditionValues(parameters);
+                if (!conditionValues.isEmpty()) {
+                    return conditionValues.get(0);
+                }
+            }
+        }
+        throw new ShardingException("Cannot find value of gene column '%s' for generating key.", geneColumnName);
+    }
+    
     private void setGeneratedKeys(final SQLRouteResult sqlRouteResult, final GeneratedKey generatedKey) {
         generatedKeys.addAll(generatedKey.getGeneratedKeys());
         sqlRouteResult.getGeneratedKey().getGeneratedKeys().clear();
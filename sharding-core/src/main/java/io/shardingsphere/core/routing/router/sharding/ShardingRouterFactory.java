@@ -21,6 +21,7 @@ import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.hint.HintManagerHolder;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.routing.index.IndexTableLookup;
 import io.shardingsphere.core.rule.ShardingRule;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -41,12 +42,30 @@ public final class ShardingRouterFactory {
      * @param shardingTableMetaData sharding table meta data
      * @param databaseType database type
      * @param showSQL show SQL or not
+     * @param maxCartesianRouteUnits max route units of cartesian routing
      * @param shardingDataSourceMetaData sharding data source meta data
      * @return sharding router instance
      */
     public static ShardingRouter createSQLRouter(final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData, 
-                                                 final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
+                                                 final DatabaseType databaseType, final boolean showSQL, final int maxCartesianRouteUnits, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
+        return createSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, maxCartesianRouteUnits, shardingDataSourceMetaData, null);
+    }
+    
+    /**
+     * Create sharding router with index table lookup.
+     * 
+     * @param shardingRule sharding rule
+     * @param shardingTableMetaData sharding table meta data
+     * @param databaseType database type
+     * @param showSQL show SQL or not
+     * @param maxCartesianRouteUnits max route units of cartesian routing
+     * @param shardingDataSourceMetaData sharding data source meta data
+     * @param indexTableLookup index table lookup
+     * @return sharding router instance
+     */
+    public static ShardingRouter createSQLRouter(final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData, final DatabaseType databaseType, final boolean showSQL, 
+                                                 final int maxCartesianRouteUnits, final ShardingDataSourceMetaData shardingDataSourceMetaData, final IndexTableLookup indexTableLookup) {
         return HintManagerHolder.isDatabaseShardingOnly() ? new DatabaseHintSQLRouter(shardingRule, showSQL)
-                : new ParsingSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData);
+                : new ParsingSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, maxCartesianRouteUnits, shardingDataSourceMetaData, indexTableLookup);
     }
 }
@@ -21,11 +21,13 @@ import io.shardingsphere.api.config.strategy.ComplexShardingStrategyConfiguratio
 import io.shardingsphere.api.config.strategy.HintShardingStrategyConfiguration;
 import io.shardingsphere.api.config.strategy.InlineShardingStrategyConfiguration;
 import io.shardingsphere.api.config.strategy.ShardingStrategyConfiguration;
+import io.shardingsphere.api.config.strategy.SlotShardingStrategyConfiguration;
 import io.shardingsphere.api.config.strategy.StandardShardingStrategyConfiguration;
 import io.shardingsphere.core.routing.strategy.complex.ComplexShardingStrategy;
 import io.shardingsphere.core.routing.strategy.hint.HintShardingStrategy;
 import io.shardingsphere.core.routing.strategy.inline.InlineShardingStrategy;
 import io.shardingsphere.core.routing.strategy.none.NoneShardingStrategy;
+import io.shardingsphere.core.routing.strategy.slot.SlotShardingStrategy;
 import io.shardingsphere.core.routing.strategy.standard.StandardShardingStrategy;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -51,6 +53,9 @@ public final class ShardingStrategyFactory {
         if (shardingStrategyConfig instanceof InlineShardingStrategyConfiguration) {
             return new InlineShardingStrategy((InlineShardingStrategyConfiguration) shardingStrategyConfig);
         }
+        if (shardingStrategyConfig instanceof SlotShardingStrategyConfiguration) {
+            return new SlotShardingStrategy((SlotShardingStrategyConfiguration) shardingStrategyConfig);
+        }
         if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration) {
             return new ComplexShardingStrategy((ComplexShardingStrategyConfiguration) shardingStrategyConfig);
         }
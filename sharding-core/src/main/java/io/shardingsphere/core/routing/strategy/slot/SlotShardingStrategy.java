@@ -0,0 +1,194 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy.slot;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Splitter;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import com.google.common.hash.Hashing;
+import com.google.common.math.IntMath;
+import com.google.common.math.LongMath;
+import com.google.common.primitives.Longs;
+import com.google.common.primitives.UnsignedLongs;
+import io.shardingsphere.api.algorithm.sharding.ListShardingValue;
+import io.shardingsphere.api.algorithm.sharding.RangeShardingValue;
+import io.shardingsphere.api.algorithm.sharding.ShardingValue;
+import io.shardingsphere.api.config.strategy.SlotShardingStrategyConfiguration;
+import io.shardingsphere.core.exception.ShardingConfigurationException;
+import io.shardingsphere.core.routing.strategy.ShardingStrategy;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.TreeSet;
+
+/**
+ * Slot sharding strategy.
+ * 
+ * <p>
+ * Integral sharding values are mapped to slot by modulo, so short ranges only route to targets of covered slots.
+ * Integral valued big numbers and numeric strings are mapped as the same long value, whatever type the driver binds.
+ * Other sharding values are mapped to slot by murmur3 hash of their string form, and ranges of them route to all targets.
+ * Targets are always restricted to available target names, which are the actual data sources or tables of routed data source.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class SlotShardingStrategy implements ShardingStrategy {
+    
+    private static final String RANGE_DELIMITER = "-";
+    
+    @Getter
+    private final String shardingColumn;
+    
+    private final String[] slotTargets;
+    
+    private final Collection<String> allTargets = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    
+    public SlotShardingStrategy(final SlotShardingStrategyConfiguration slotShardingStrategyConfig) {
+        Preconditions.checkNotNull(slotShardingStrategyConfig.getShardingColumn(), "Sharding column cannot be null.");
+        Preconditions.checkArgument(slotShardingStrategyConfig.getSlotCount() > 0, "Slot count must be positive.");
+        Preconditions.checkNotNull(slotShardingStrategyConfig.getSlots(), "Slots cannot be null.");
+        shardingColumn = slotShardingStrategyConfig.getShardingColumn();
+        slotTargets = new String[slotShardingStrategyConfig.getSlotCount()];
+        for (Entry<String, String> entry : slotShardingStrategyConfig.getSlots().entrySet()) {
+            assignSlots(entry.getKey(), entry.getValue());
+        }
+        for (int i = 0; i < slotTargets.length; i++) {
+            if (null == slotTargets[i]) {
+                throw new ShardingConfigurationException("Slot %s of sharding column '%s' is not assigned to any target.", i, shardingColumn);
+            }
+        }
+        allTargets.addAll(Arrays.asList(slotTargets));
+    }
+    
+    private void assignSlots(final String slotRange, final String target) {
+        List<String> segments = Splitter.on(RANGE_DELIMITER).trimResults().splitToList(slotRange);
+        int beginSlot;
+        int endSlot;
+        try {
+            beginSlot = Integer.parseInt(segments.get(0));
+            endSlot = 1 == segments.size() ? beginSlot : Integer.parseInt(segments.get(1));
+        } catch (final NumberFormatException ex) {
+            throw new ShardingConfigurationException("Invalid format for slots: '%s'", slotRange);
+        }
+        if (segments.size() > 2 || beginSlot < 0 || endSlot >= slotTargets.length || beginSlot > endSlot || null == target) {
+            throw new ShardingConfigurationException("Invalid slots: '%s' -> '%s' for slot count %s.", slotRange, target, slotTargets.length);
+        }
+        Arrays.fill(slotTargets, beginSlot, endSlot + 1, target);
+    }
+    
+    /**
+     * Get targets of all slots.
+     * 
+     * @return targets indexed by slot
+     */
+    public List<String> getSlotTargets() {
+        return Collections.unmodifiableList(Arrays.asList(slotTargets));
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<ShardingValue> shardingValues) {
+        ShardingValue shardingValue = shardingValues.iterator().next();
+        Collection<String> targets = shardingValue instanceof ListShardingValue ? doSharding((ListShardingValue<?>) shardingValue) : doSharding((RangeShardingValue<?>) shardingValue);
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (String each : availableTargetNames) {
+            if (targets.contains(each)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> doSharding(final ListShardingValue<?> shardingValue) {
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (Comparable<?> each : shardingValue.getValues()) {
+            result.add(slotTargets[getSlot(each)]);
+        }
+        return result;
+    }
+    
+    private Collection<String> doSharding(final RangeShardingValue<?> shardingValue) {
+        Range<?> range = shardingValue.getValueRange();
+        if (!range.hasLowerBound() || !range.hasUpperBound()) {
+            return allTargets;
+        }
+        Optional<Long> lowerEndpoint = getIntegralValue(range.lowerEndpoint());
+        Optional<Long> upperEndpoint = getIntegralValue(range.upperEndpoint());
+        if (!lowerEndpoint.isPresent() || !upperEndpoint.isPresent()) {
+            return allTargets;
+        }
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        if (BoundType.OPEN == range.lowerBoundType() && Long.MAX_VALUE == lowerEndpoint.get() || BoundType.OPEN == range.upperBoundType() && Long.MIN_VALUE == upperEndpoint.get()) {
+            return result;
+        }
+        long lower = lowerEndpoint.get() + (BoundType.OPEN == range.lowerBoundType() ? 1 : 0);
+        long upper = upperEndpoint.get() - (BoundType.OPEN == range.upperBoundType() ? 1 : 0);
+        if (lower > upper) {
+            return result;
+        }
+        if (UnsignedLongs.compare(upper - lower, slotTargets.length) >= 0) {
+            return allTargets;
+        }
+        int offsetCount = (int) (upper - lower);
+        for (int i = 0; i <= offsetCount; i++) {
+            result.add(slotTargets[LongMath.mod(lower + i, slotTargets.length)]);
+        }
+        return result;
+    }
+    
+    private int getSlot(final Comparable<?> shardingValue) {
+        Optional<Long> integralValue = shardingValue instanceof String ? Optional.fromNullable(Longs.tryParse((String) shardingValue)) : getIntegralValue(shardingValue);
+        if (integralValue.isPresent()) {
+            return LongMath.mod(integralValue.get(), slotTargets.length);
+        }
+        return IntMath.mod(Hashing.murmur3_32().hashString(shardingValue.toString(), Charsets.UTF_8).asInt(), slotTargets.length);
+    }
+    
+    private Optional<Long> getIntegralValue(final Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return Optional.of(((Number) value).longValue());
+        }
+        if (value instanceof BigInteger) {
+            return ((BigInteger) value).bitLength() < Long.SIZE ? Optional.of(((BigInteger) value).longValue()) : Optional.<Long>absent();
+        }
+        if (value instanceof BigDecimal) {
+            try {
+                return Optional.of(((BigDecimal) value).longValueExact());
+            } catch (final ArithmeticException ex) {
+                return Optional.absent();
+            }
+        }
+        return Optional.absent();
+    }
+    
+    @Override
+    public Collection<String> getShardingColumns() {
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        result.add(shardingColumn);
+        return result;
+    }
+}
@@ -22,15 +22,13 @@ import io.shardingsphere.api.algorithm.sharding.ListShardingValue;
 import io.shardingsphere.api.algorithm.sharding.PreciseShardingValue;
 import io.shardingsphere.api.algorithm.sharding.RangeShardingValue;
 import io.shardingsphere.api.algorithm.sharding.ShardingValue;
+import io.shardingsphere.api.algorithm.sharding.standard.BatchPreciseShardingAlgorithm;
 import io.shardingsphere.api.algorithm.sharding.standard.PreciseShardingAlgorithm;
 import io.shardingsphere.api.algorithm.sharding.standard.RangeShardingAlgorithm;
 import io.shardingsphere.api.config.strategy.StandardShardingStrategyConfiguration;
 import io.shardingsphere.core.routing.strategy.ShardingStrategy;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.TreeSet;
 
 /**
@@ -57,10 +55,11 @@ public final class StandardShardingStrategy implements ShardingStrategy {
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<ShardingValue> shardingValues) {
         ShardingValue shardingValue = shardingValues.iterator().next();
-        Collection<String> shardingResult = shardingValue instanceof ListShardingValue
-                ? doSharding(availableTargetNames, (ListShardingValue) shardingValue) : doSharding(availableTargetNames, (RangeShardingValue) shardingValue);
+        if (shardingValue instanceof ListShardingValue) {
+            return doSharding(availableTargetNames, (ListShardingValue) shardingValue);
+        }
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        result.addAll(shardingResult);
+        result.addAll(doSharding(availableTargetNames, (RangeShardingValue) shardingValue));
         return result;
     }
     
@@ -74,9 +73,13 @@ public final class StandardShardingStrategy implements ShardingStrategy {
     
     @SuppressWarnings("unchecked")
     private Collection<String> doSharding(final Collection<String> availableTargetNames, final ListShardingValue<?> shardingValue) {
-        Collection<String> result = new LinkedList<>();
-        for (PreciseShardingValue<?> each : transferToPreciseShardingValues(shardingValue)) {
-            String target = preciseShardingAlgorithm.doSharding(availableTargetNames, each);
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        if (preciseShardingAlgorithm instanceof BatchPreciseShardingAlgorithm) {
+            result.addAll(((BatchPreciseShardingAlgorithm) preciseShardingAlgorithm).doSharding(availableTargetNames, shardingValue));
+            return result;
+        }
+        for (Comparable<?> each : shardingValue.getValues()) {
+            String target = preciseShardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue(shardingValue.getLogicTableName(), shardingValue.getColumnName(), each));
             if (null != target) {
                 result.add(target);
             }
@@ -84,15 +87,6 @@ public final class StandardShardingStrategy implements ShardingStrategy {
         return result;
     }
     
-    @SuppressWarnings("unchecked")
-    private List<PreciseShardingValue> transferToPreciseShardingValues(final ListShardingValue<?> shardingValue) {
-        List<PreciseShardingValue> result = new ArrayList<>(shardingValue.getValues().size());
-        for (Comparable<?> each : shardingValue.getValues()) {
-            result.add(new PreciseShardingValue(shardingValue.getLogicTableName(), shardingValue.getColumnName(), each));
-        }
-        return result;
-    }
-    
     @Override
     public Collection<String> getShardingColumns() {
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
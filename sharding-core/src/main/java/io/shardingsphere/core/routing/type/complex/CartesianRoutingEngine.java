@@ -21,6 +21,8 @@ import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.shardingsphere.core.exception.ShardingException;
 import io.shardingsphere.core.routing.type.RoutingEngine;
 import io.shardingsphere.core.routing.type.RoutingResult;
 import io.shardingsphere.core.routing.type.RoutingTable;
@@ -32,6 +34,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -48,13 +51,33 @@ public final class CartesianRoutingEngine implements RoutingEngine {
     
     private final Collection<RoutingResult> routingResults;
     
+    private final int maxRouteUnits;
+    
     @Override
     public RoutingResult route() {
-        RoutingResult result = new RoutingResult();
+        Map<String, List<Set<RoutingTable>>> dataSourceRoutingTableGroups = new LinkedHashMap<>();
+        long routeUnitsCount = 0L;
         for (Entry<String, Set<String>> entry : getDataSourceLogicTablesMap().entrySet()) {
             List<Set<String>> actualTableGroups = getActualTableGroups(entry.getKey(), entry.getValue());
             List<Set<RoutingTable>> routingTableGroups = toRoutingTableGroups(entry.getKey(), actualTableGroups);
-            result.getTableUnits().getTableUnits().addAll(getTableUnits(entry.getKey(), Sets.cartesianProduct(routingTableGroups)).getTableUnits());
+            routeUnitsCount += getCartesianProductSize(routingTableGroups);
+            dataSourceRoutingTableGroups.put(entry.getKey(), routingTableGroups);
+        }
+        if (maxRouteUnits > 0 && routeUnitsCount > maxRouteUnits) {
+            throw new ShardingException("Cartesian routing generates %s route units, exceeds max value %s of `%s`, please use binding tables or broadcast tables instead.",
+                    routeUnitsCount, maxRouteUnits, ShardingPropertiesConstant.MAX_CARTESIAN_ROUTE_UNITS.getKey());
+        }
+        RoutingResult result = new RoutingResult();
+        for (Entry<String, List<Set<RoutingTable>>> entry : dataSourceRoutingTableGroups.entrySet()) {
+            result.getTableUnits().getTableUnits().addAll(getTableUnits(entry.getKey(), Sets.cartesianProduct(entry.getValue())).getTableUnits());
+        }
+        return result;
+    }
+    
+    private long getCartesianProductSize(final List<Set<RoutingTable>> routingTableGroups) {
+        long result = 1L;
+        for (Set<RoutingTable> each : routingTableGroups) {
+            result *= each.size();
         }
         return result;
     }
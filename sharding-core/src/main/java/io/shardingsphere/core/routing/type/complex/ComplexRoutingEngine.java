@@ -49,6 +49,8 @@ public final class ComplexRoutingEngine implements RoutingEngine {
     
     private final ShardingConditions shardingConditions;
     
+    private final int maxCartesianRouteUnits;
+    
     @Override
     public RoutingResult route() {
         Collection<RoutingResult> result = new ArrayList<>(logicTables.size());
@@ -77,6 +79,6 @@ public final class ComplexRoutingEngine implements RoutingEngine {
         if (1 == result.size()) {
             return result.iterator().next();
         }
-        return new CartesianRoutingEngine(result).route();
+        return new CartesianRoutingEngine(result, maxCartesianRouteUnits).route();
     }
 }
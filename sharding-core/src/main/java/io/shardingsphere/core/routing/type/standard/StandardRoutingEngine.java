@@ -19,6 +19,7 @@ package io.shardingsphere.core.routing.type.standard;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import io.shardingsphere.api.algorithm.sharding.ListShardingValue;
 import io.shardingsphere.api.algorithm.sharding.ShardingValue;
 import io.shardingsphere.core.hint.HintManagerHolder;
 import io.shardingsphere.core.optimizer.condition.ShardingCondition;
@@ -108,7 +109,9 @@ public final class StandardRoutingEngine implements RoutingEngine {
                         ? getDatabaseShardingValuesFromHint() : getShardingValues(dataBaseShardingStrategy.getShardingColumns(), each);
                 List<ShardingValue> tableShardingValues = isGettingShardingValuesFromHint(tableShardingStrategy)
                         ? getTableShardingValuesFromHint() : getShardingValues(tableShardingStrategy.getShardingColumns(), each);
-                Collection<DataNode> dataNodes = route(tableRule, databaseShardingValues, tableShardingValues);
+                Optional<Collection<DataNode>> geneDataNodes = databaseShardingValues.isEmpty() && tableShardingValues.isEmpty()
+                        ? findGeneDataNodes(tableRule, each) : Optional.<Collection<DataNode>>absent();
+                Collection<DataNode> dataNodes = geneDataNodes.isPresent() ? geneDataNodes.get() : route(tableRule, databaseShardingValues, tableShardingValues);
                 reviseShardingConditions(each, dataNodes);
                 result.addAll(dataNodes);
             }
@@ -148,6 +151,15 @@ public final class StandardRoutingEngine implements RoutingEngine {
         return result;
     }
     
+    private Optional<Collection<DataNode>> findGeneDataNodes(final TableRule tableRule, final ShardingCondition shardingCondition) {
+        for (ShardingValue each : shardingCondition.getShardingValues()) {
+            if (logicTableName.equals(each.getLogicTableName()) && each.getColumnName().equalsIgnoreCase(tableRule.getGenerateKeyColumn()) && each instanceof ListShardingValue) {
+                return shardingRule.findGeneDataNodes(tableRule, ((ListShardingValue<?>) each).getValues());
+            }
+        }
+        return Optional.absent();
+    }
+    
     private Collection<String> routeDataSources(final TableRule tableRule, final List<ShardingValue> databaseShardingValues) {
         Collection<String> availableTargetDatabases = tableRule.getActualDatasourceNames();
         if (databaseShardingValues.isEmpty()) {
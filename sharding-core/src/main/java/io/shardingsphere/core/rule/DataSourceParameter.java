@@ -17,6 +17,7 @@
 
 package io.shardingsphere.core.rule;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -27,6 +28,7 @@ import lombok.Setter;
  */
 @Getter
 @Setter
+@EqualsAndHashCode
 public final class DataSourceParameter {
     
     private String url;
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.rule;
+
+import io.shardingsphere.api.config.IndexTableRuleConfiguration;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Index table rule.
+ * 
+ * @author zhangliang
+ */
+@Getter
+@ToString
+public final class IndexTableRule {
+    
+    private final String logicTable;
+    
+    private final String indexColumn;
+    
+    private final String indexTable;
+    
+    private final String shardingColumn;
+    
+    public IndexTableRule(final IndexTableRuleConfiguration indexTableRuleConfig, final String shardingColumn) {
+        logicTable = indexTableRuleConfig.getLogicTable().toLowerCase();
+        indexColumn = indexTableRuleConfig.getIndexColumn();
+        indexTable = indexTableRuleConfig.getIndexTable().toLowerCase();
+        this.shardingColumn = shardingColumn;
+    }
+}
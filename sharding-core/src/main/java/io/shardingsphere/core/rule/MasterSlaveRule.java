@@ -20,10 +20,14 @@ package io.shardingsphere.core.rule;
 import com.google.common.base.Preconditions;
 import io.shardingsphere.api.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithm;
 import io.shardingsphere.api.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithmType;
+import io.shardingsphere.api.algorithm.masterslave.ReplicationLagProbe;
 import io.shardingsphere.api.config.MasterSlaveRuleConfiguration;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
+import lombok.AccessLevel;
 import lombok.Getter;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Databases and tables master-slave rule configuration.
@@ -38,22 +42,45 @@ public class MasterSlaveRule {
     
     private final String masterDataSourceName;
     
-    private final Collection<String> slaveDataSourceNames;
+    @Getter(AccessLevel.NONE)
+    private final List<String> slaveDataSourceNames;
     
     private final MasterSlaveLoadBalanceAlgorithm loadBalanceAlgorithm;
     
+    private final ReplicationLagProbe replicationLagProbe;
+    
+    private final long maxReplicationLagMilliseconds;
+    
     private final MasterSlaveRuleConfiguration masterSlaveRuleConfiguration;
     
+    private final DataSourceStatisticsRegistry statisticsRegistry;
+    
     public MasterSlaveRule(final MasterSlaveRuleConfiguration config) {
+        this(config, new DataSourceStatisticsRegistry());
+    }
+    
+    public MasterSlaveRule(final MasterSlaveRuleConfiguration config, final DataSourceStatisticsRegistry statisticsRegistry) {
         Preconditions.checkNotNull(config.getName(), "Master-slave rule name cannot be null.");
         Preconditions.checkNotNull(config.getMasterDataSourceName(), "Master data source name cannot be null.");
         Preconditions.checkNotNull(config.getSlaveDataSourceNames(), "Slave data source names cannot be null.");
         Preconditions.checkState(!config.getSlaveDataSourceNames().isEmpty(), "Slave data source names cannot be empty.");
         name = config.getName();
         masterDataSourceName = config.getMasterDataSourceName();
-        slaveDataSourceNames = config.getSlaveDataSourceNames();
+        slaveDataSourceNames = new ArrayList<>(config.getSlaveDataSourceNames());
         loadBalanceAlgorithm = null == config.getLoadBalanceAlgorithm() ? MasterSlaveLoadBalanceAlgorithmType.getDefaultAlgorithmType().getAlgorithm() : config.getLoadBalanceAlgorithm();
+        replicationLagProbe = config.getReplicationLagProbe();
+        maxReplicationLagMilliseconds = config.getMaxReplicationLagMilliseconds();
         masterSlaveRuleConfiguration = config;
+        this.statisticsRegistry = statisticsRegistry;
+    }
+    
+    /**
+     * Get slave data source names.
+     *
+     * @return copy of slave data source names
+     */
+    public List<String> getSlaveDataSourceNames() {
+        return new ArrayList<>(slaveDataSourceNames);
     }
     
     /**
@@ -20,21 +20,31 @@ package io.shardingsphere.core.rule;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import io.shardingsphere.api.algorithm.sharding.ListShardingValue;
+import io.shardingsphere.api.algorithm.sharding.ShardingValue;
+import io.shardingsphere.api.config.IndexTableRuleConfiguration;
 import io.shardingsphere.api.config.MasterSlaveRuleConfiguration;
 import io.shardingsphere.api.config.ShardingRuleConfiguration;
 import io.shardingsphere.api.config.TableRuleConfiguration;
 import io.shardingsphere.core.exception.ShardingConfigurationException;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
 import io.shardingsphere.core.exception.ShardingException;
 import io.shardingsphere.core.keygen.DefaultKeyGenerator;
 import io.shardingsphere.core.keygen.KeyGenerator;
+import io.shardingsphere.core.keygen.ShardGeneKeyGenerator;
 import io.shardingsphere.core.parsing.parser.context.condition.Column;
 import io.shardingsphere.core.routing.strategy.ShardingStrategy;
 import io.shardingsphere.core.routing.strategy.ShardingStrategyFactory;
+import io.shardingsphere.core.routing.strategy.hint.HintShardingStrategy;
 import io.shardingsphere.core.routing.strategy.none.NoneShardingStrategy;
+import io.shardingsphere.core.routing.strategy.slot.SlotShardingStrategy;
 import io.shardingsphere.core.util.StringUtil;
 import lombok.Getter;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.TreeSet;
@@ -57,6 +67,8 @@ public class ShardingRule {
     
     private final Collection<BindingTableRule> bindingTableRules = new LinkedList<>();
     
+    private final Collection<String> broadcastTables = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    
     private final ShardingStrategy defaultDatabaseShardingStrategy;
     
     private final ShardingStrategy defaultTableShardingStrategy;
@@ -65,6 +77,10 @@ public class ShardingRule {
     
     private final Collection<MasterSlaveRule> masterSlaveRules = new LinkedList<>();
     
+    private final Collection<IndexTableRule> indexTableRules = new LinkedList<>();
+    
+    private final DataSourceStatisticsRegistry statisticsRegistry = new DataSourceStatisticsRegistry();
+    
     public ShardingRule(final ShardingRuleConfiguration shardingRuleConfig, final Collection<String> dataSourceNames) {
         Preconditions.checkNotNull(dataSourceNames, "Data sources cannot be null.");
         Preconditions.checkArgument(!dataSourceNames.isEmpty(), "Data sources cannot be empty.");
@@ -80,16 +96,41 @@ public class ShardingRule {
             }
             bindingTableRules.add(new BindingTableRule(tableRulesForBinding));
         }
+        for (String each : shardingRuleConfig.getBroadcastTables()) {
+            Preconditions.checkArgument(!tryFindTableRuleByLogicTable(each).isPresent(), "Broadcast table '%s' cannot be configured as sharding table.", each);
+            broadcastTables.add(each);
+        }
         defaultDatabaseShardingStrategy = null == shardingRuleConfig.getDefaultDatabaseShardingStrategyConfig()
                 ? new NoneShardingStrategy() : ShardingStrategyFactory.newInstance(shardingRuleConfig.getDefaultDatabaseShardingStrategyConfig());
         defaultTableShardingStrategy = null == shardingRuleConfig.getDefaultTableShardingStrategyConfig()
                 ? new NoneShardingStrategy() : ShardingStrategyFactory.newInstance(shardingRuleConfig.getDefaultTableShardingStrategyConfig());
         defaultKeyGenerator = null == shardingRuleConfig.getDefaultKeyGenerator() ? new DefaultKeyGenerator() : shardingRuleConfig.getDefaultKeyGenerator();
         for (MasterSlaveRuleConfiguration each : shardingRuleConfig.getMasterSlaveRuleConfigs()) {
-            masterSlaveRules.add(new MasterSlaveRule(each));
+            masterSlaveRules.add(new MasterSlaveRule(each, statisticsRegistry));
+        }
+        for (TableRule each : tableRules) {
+            checkSlotShardingStrategies(each);
+            checkShardGeneKeyGenerator(each);
+        }
+        for (IndexTableRuleConfiguration each : shardingRuleConfig.getIndexTableRuleConfigs()) {
+            indexTableRules.add(createIndexTableRule(each));
         }
     }
     
+    private IndexTableRule createIndexTableRule(final IndexTableRuleConfiguration indexTableRuleConfig) {
+        Preconditions.checkNotNull(indexTableRuleConfig.getLogicTable(), "Logic table of index table cannot be null.");
+        Preconditions.checkNotNull(indexTableRuleConfig.getIndexColumn(), "Index column cannot be null.");
+        Preconditions.checkNotNull(indexTableRuleConfig.getIndexTable(), "Index table cannot be null.");
+        Optional<TableRule> tableRule = tryFindTableRuleByLogicTable(indexTableRuleConfig.getLogicTable());
+        if (!tableRule.isPresent()) {
+            throw new ShardingConfigurationException("Cannot find table rule with logic table: '%s' for index table: '%s'", indexTableRuleConfig.getLogicTable(), indexTableRuleConfig.getIndexTable());
+        }
+        if (!tryFindTableRuleByLogicTable(indexTableRuleConfig.getIndexTable()).isPresent()) {
+            throw new ShardingConfigurationException("Cannot find table rule with index table: '%s'", indexTableRuleConfig.getIndexTable());
+        }
+        return new IndexTableRule(indexTableRuleConfig, getSingleShardingColumn(tableRule.get(), "Index table"));
+    }
+    
     /**
      * Try to find table rule though logic table name.
      * 通过逻辑表名获取分表规则
@@ -131,6 +172,9 @@ public class ShardingRule {
         if (tableRule.isPresent()) {
             return tableRule.get();
         }
+        if (isBroadcastTable(logicTableName)) {
+            return new TableRule(shardingDataSourceNames.getDataSourceNames(), logicTableName);
+        }
         if (!Strings.isNullOrEmpty(shardingDataSourceNames.getDefaultDataSourceName())) {
             return new TableRule(shardingDataSourceNames.getDefaultDataSourceName(), logicTableName);
         }
@@ -184,6 +228,42 @@ public class ShardingRule {
         return !result.isEmpty() && result.containsAll(logicTables);
     }
     
+    /**
+     * Adjust is broadcast table or not.
+     *
+     * @param logicTableName logic table name
+     * @return is broadcast table or not
+     */
+    public boolean isBroadcastTable(final String logicTableName) {
+        return broadcastTables.contains(logicTableName);
+    }
+    
+    /**
+     * Adjust logic tables is all belong to broadcast tables.
+     *
+     * @param logicTables names of logic tables
+     * @return logic tables is all belong to broadcast tables or not
+     */
+    public boolean isAllBroadcastTables(final Collection<String> logicTables) {
+        return !logicTables.isEmpty() && broadcastTables.containsAll(logicTables);
+    }
+    
+    /**
+     * Get logic tables which are not broadcast tables.
+     *
+     * @param logicTables names of logic tables
+     * @return names of logic tables which are not broadcast tables
+     */
+    public Collection<String> getNonBroadcastTables(final Collection<String> logicTables) {
+        Collection<String> result = new LinkedList<>();
+        for (String each : logicTables) {
+            if (!isBroadcastTable(each)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
     /**
      * Adjust logic tables is all belong to default data source.
      *
@@ -248,6 +328,58 @@ public class ShardingRule {
         return false;
     }
     
+    /**
+     * Judge is condition column or not.
+     * 
+     * <p>Condition columns are sharding columns, index columns of index tables and generate key columns of shard gene key generator, their conditions are used for routing.</p>
+     *
+     * @param column column object
+     * @return is condition column or not
+     */
+    public boolean isConditionColumn(final Column column) {
+        return isShardingColumn(column) || isIndexColumn(column) || isShardGeneKeyColumn(column);
+    }
+    
+    /**
+     * Judge is index column of index table or not.
+     *
+     * @param column column object
+     * @return is index column or not
+     */
+    public boolean isIndexColumn(final Column column) {
+        for (IndexTableRule each : indexTableRules) {
+            if (each.getLogicTable().equalsIgnoreCase(column.getTableName()) && each.getIndexColumn().equalsIgnoreCase(column.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isShardGeneKeyColumn(final Column column) {
+        for (TableRule each : tableRules) {
+            if (each.getLogicTable().equalsIgnoreCase(column.getTableName()) && column.getName().equalsIgnoreCase(each.getGenerateKeyColumn()) && getKeyGenerator(each) instanceof ShardGeneKeyGenerator) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Find index table rules via logic table name.
+     *
+     * @param logicTableName logic table name
+     * @return index table rules
+     */
+    public Collection<IndexTableRule> findIndexTableRules(final String logicTableName) {
+        Collection<IndexTableRule> result = new LinkedList<>();
+        for (IndexTableRule each : indexTableRules) {
+            if (each.getLogicTable().equalsIgnoreCase(logicTableName)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
     /**
      * get generated key's column.
      *
@@ -274,10 +406,169 @@ public class ShardingRule {
         if (!tableRule.isPresent()) {
             throw new ShardingConfigurationException("Cannot find strategy for generate keys.");
         }
-        if (null != tableRule.get().getKeyGenerator()) {
-            return tableRule.get().getKeyGenerator().generateKey();
+        return getKeyGenerator(tableRule.get()).generateKey();
+    }
+    
+    /**
+     * Generate key with shard gene.
+     *
+     * @param logicTableName logic table name
+     * @param geneValue value of gene column
+     * @return generated key
+     */
+    public Number generateKey(final String logicTableName, final Comparable<?> geneValue) {
+        Optional<TableRule> tableRule = tryFindTableRuleByLogicTable(logicTableName);
+        if (!tableRule.isPresent()) {
+            throw new ShardingConfigurationException("Cannot find strategy for generate keys.");
+        }
+        KeyGenerator keyGenerator = getKeyGenerator(tableRule.get());
+        if (!(keyGenerator instanceof ShardGeneKeyGenerator)) {
+            return keyGenerator.generateKey();
+        }
+        return ((ShardGeneKeyGenerator) keyGenerator).generateKey(getGene(tableRule.get(), findGeneColumnName(tableRule.get()).get(), geneValue));
+    }
+    
+    private int getGene(final TableRule tableRule, final String geneColumnName, final Comparable<?> geneValue) {
+        Collection<ShardingValue> shardingValues = Collections.<ShardingValue>singletonList(
+                new ListShardingValue<>(tableRule.getLogicTable(), geneColumnName, Collections.<Comparable<?>>singletonList(geneValue)));
+        Collection<DataNode> dataNodes = new LinkedList<>();
+        for (String each : doGeneSharding(getDatabaseShardingStrategy(tableRule), tableRule.getActualDatasourceNames(), shardingValues)) {
+            for (String tableName : doGeneSharding(getTableShardingStrategy(tableRule), tableRule.getActualTableNames(each), shardingValues)) {
+                dataNodes.add(new DataNode(each, tableName));
+            }
+        }
+        if (1 != dataNodes.size()) {
+            throw new ShardingException("Shard gene needs exactly one data node of table '%s' for value '%s', but data nodes are %s.", tableRule.getLogicTable(), geneValue, dataNodes);
+        }
+        DataNode dataNode = dataNodes.iterator().next();
+        return ShardGeneKeyGenerator.getGene(dataNode.getDataSourceName(), dataNode.getTableName());
+    }
+    
+    private Collection<String> doGeneSharding(final ShardingStrategy shardingStrategy, final Collection<String> availableTargetNames, final Collection<ShardingValue> shardingValues) {
+        return shardingStrategy.getShardingColumns().isEmpty() ? availableTargetNames : shardingStrategy.doSharding(availableTargetNames, shardingValues);
+    }
+    
+    /**
+     * Find gene column of generated key.
+     *
+     * <p>
+     * Gene column is the only sharding column of table which generates key by {@code ShardGeneKeyGenerator}, gene of data node routed by its value is embedded into generated key.
+     * </p>
+     *
+     * @param tableRule table rule
+     * @return gene column name
+     */
+    public Optional<String> findGeneColumnName(final TableRule tableRule) {
+        if (null == tableRule.getGenerateKeyColumn() || !(getKeyGenerator(tableRule) instanceof ShardGeneKeyGenerator)) {
+            return Optional.absent();
+        }
+        return Optional.of(getSingleShardingColumn(tableRule, "Shard gene key generator"));
+    }
+    
+    private void checkSlotShardingStrategies(final TableRule tableRule) {
+        ShardingStrategy databaseShardingStrategy = getDatabaseShardingStrategy(tableRule);
+        ShardingStrategy tableShardingStrategy = getTableShardingStrategy(tableRule);
+        if (databaseShardingStrategy instanceof SlotShardingStrategy) {
+            checkSlotTargets(tableRule, (SlotShardingStrategy) databaseShardingStrategy, tableRule.getActualDatasourceNames());
+        }
+        if (tableShardingStrategy instanceof SlotShardingStrategy) {
+            Collection<String> actualTableNames = new LinkedHashSet<>();
+            for (String each : tableRule.getActualDatasourceNames()) {
+                actualTableNames.addAll(tableRule.getActualTableNames(each));
+            }
+            checkSlotTargets(tableRule, (SlotShardingStrategy) tableShardingStrategy, actualTableNames);
+        }
+        if (databaseShardingStrategy instanceof SlotShardingStrategy && tableShardingStrategy instanceof SlotShardingStrategy) {
+            checkSlotDataNodes(tableRule, (SlotShardingStrategy) databaseShardingStrategy, (SlotShardingStrategy) tableShardingStrategy);
+        }
+    }
+    
+    private void checkSlotTargets(final TableRule tableRule, final SlotShardingStrategy slotShardingStrategy, final Collection<String> actualTargetNames) {
+        Collection<String> availableTargetNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        availableTargetNames.addAll(actualTargetNames);
+        for (String each : slotShardingStrategy.getSlotTargets()) {
+            if (!availableTargetNames.contains(each)) {
+                throw new ShardingConfigurationException("Slot target '%s' of table '%s' is not in actual data nodes.", each, tableRule.getLogicTable());
+            }
+        }
+    }
+    
+    private void checkSlotDataNodes(final TableRule tableRule, final SlotShardingStrategy databaseShardingStrategy, final SlotShardingStrategy tableShardingStrategy) {
+        List<String> dataSourceNames = databaseShardingStrategy.getSlotTargets();
+        List<String> tableNames = tableShardingStrategy.getSlotTargets();
+        if (!databaseShardingStrategy.getShardingColumn().equalsIgnoreCase(tableShardingStrategy.getShardingColumn()) || dataSourceNames.size() != tableNames.size()) {
+            return;
+        }
+        for (int i = 0; i < dataSourceNames.size(); i++) {
+            Collection<String> actualTableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+            actualTableNames.addAll(tableRule.getActualTableNames(dataSourceNames.get(i)));
+            if (!actualTableNames.contains(tableNames.get(i))) {
+                throw new ShardingConfigurationException("Slot %s of table '%s' is assigned to data node '%s.%s', which is not in actual data nodes.", i, tableRule.getLogicTable(), dataSourceNames.get(i), tableNames.get(i));
+            }
+        }
+    }
+    
+    private void checkShardGeneKeyGenerator(final TableRule tableRule) {
+        if (!findGeneColumnName(tableRule).isPresent()) {
+            return;
+        }
+        if (getDatabaseShardingStrategy(tableRule) instanceof HintShardingStrategy || getTableShardingStrategy(tableRule) instanceof HintShardingStrategy) {
+            throw new ShardingConfigurationException("Shard gene key generator of table '%s' does not support hint sharding strategy.", tableRule.getLogicTable());
+        }
+        if (getDatabaseShardingStrategy(tableRule) instanceof SlotShardingStrategy || getTableShardingStrategy(tableRule) instanceof SlotShardingStrategy) {
+            throw new ShardingConfigurationException("Shard gene key generator of table '%s' does not support slot sharding strategy, because slots can move to other data nodes.", tableRule.getLogicTable());
+        }
+    }
+    
+    /**
+     * Find data nodes by shard genes of generated keys.
+     *
+     * <p>All data nodes with same gene of key are found, because different data nodes may have same gene.</p>
+     *
+     * @param tableRule table rule
+     * @param generatedKeys generated keys
+     * @return data nodes, absent if any key has no shard gene or its gene matches no actual data node
+     */
+    public Optional<Collection<DataNode>> findGeneDataNodes(final TableRule tableRule, final Collection<?> generatedKeys) {
+        if (!findGeneColumnName(tableRule).isPresent() || generatedKeys.isEmpty()) {
+            return Optional.absent();
+        }
+        Collection<DataNode> result = new LinkedHashSet<>();
+        for (Object each : generatedKeys) {
+            Optional<Integer> gene = each instanceof Comparable ? ShardGeneKeyGenerator.findGene((Comparable<?>) each) : Optional.<Integer>absent();
+            if (!gene.isPresent()) {
+                return Optional.absent();
+            }
+            Collection<DataNode> dataNodes = findDataNodesByGene(tableRule, gene.get());
+            if (dataNodes.isEmpty()) {
+                return Optional.absent();
+            }
+            result.addAll(dataNodes);
         }
-        return defaultKeyGenerator.generateKey();
+        return Optional.of(result);
+    }
+    
+    private Collection<DataNode> findDataNodesByGene(final TableRule tableRule, final int gene) {
+        Collection<DataNode> result = new LinkedList<>();
+        for (DataNode each : tableRule.getActualDataNodes()) {
+            if (gene == ShardGeneKeyGenerator.getGene(each.getDataSourceName(), each.getTableName())) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private String getSingleShardingColumn(final TableRule tableRule, final String user) {
+        Collection<String> shardingColumns = new HashSet<>(getDatabaseShardingStrategy(tableRule).getShardingColumns());
+        shardingColumns.addAll(getTableShardingStrategy(tableRule).getShardingColumns());
+        if (1 != shardingColumns.size()) {
+            throw new ShardingConfigurationException("%s of table '%s' needs exactly one sharding column, but sharding columns are %s.", user, tableRule.getLogicTable(), shardingColumns);
+        }
+        return shardingColumns.iterator().next();
+    }
+    
+    private KeyGenerator getKeyGenerator(final TableRule tableRule) {
+        return null == tableRule.getKeyGenerator() ? defaultKeyGenerator : tableRule.getKeyGenerator();
     }
     
     /**
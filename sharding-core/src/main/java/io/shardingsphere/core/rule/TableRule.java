@@ -74,6 +74,20 @@ public final class TableRule {
         logicIndex = null;
     }
     
+    public TableRule(final Collection<String> dataSourceNames, final String logicTableName) {
+        logicTable = logicTableName.toLowerCase();
+        actualDataNodes = new LinkedList<>();
+        for (String each : dataSourceNames) {
+            actualDataNodes.add(new DataNode(each, logicTableName));
+        }
+        dataNodeIndexMap = Collections.emptyMap();
+        databaseShardingStrategy = null;
+        tableShardingStrategy = null;
+        generateKeyColumn = null;
+        keyGenerator = null;
+        logicIndex = null;
+    }
+    
     public TableRule(final TableRuleConfiguration tableRuleConfig, final ShardingDataSourceNames shardingDataSourceNames) {
         Preconditions.checkNotNull(tableRuleConfig.getLogicTable(), "Logic table cannot be null.");
         logicTable = tableRuleConfig.getLogicTable().toLowerCase();
@@ -78,4 +78,52 @@ public final class NumberUtil {
         }
         return result;
     }
+    
+    /**
+     * Convert value of a result cell to long value.
+     *
+     * <p>{@code null} is converted to {@code 0}, as same as JDBC.</p>
+     *
+     * @param value value to be converted
+     * @return long value
+     */
+    public static long toLongValue(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1L : 0L;
+        }
+        if (value instanceof String) {
+            return new BigDecimal((String) value).longValue();
+        }
+        throw new ShardingException("Invalid value to transfer: %s", value);
+    }
+    
+    /**
+     * Convert value of a result cell to double value.
+     *
+     * <p>{@code null} is converted to {@code 0}, as same as JDBC.</p>
+     *
+     * @param value value to be converted
+     * @return double value
+     */
+    public static double toDoubleValue(final Object value) {
+        if (null == value) {
+            return 0D;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1D : 0D;
+        }
+        if (value instanceof String) {
+            return Double.parseDouble((String) value);
+        }
+        throw new ShardingException("Invalid value to transfer: %s", value);
+    }
 }
@@ -20,6 +20,7 @@ package io.shardingsphere.core.yaml.masterslave;
 import com.google.common.base.Strings;
 import io.shardingsphere.api.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithm;
 import io.shardingsphere.api.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithmType;
+import io.shardingsphere.api.algorithm.masterslave.ReplicationLagProbe;
 import io.shardingsphere.api.config.MasterSlaveRuleConfiguration;
 import io.shardingsphere.core.exception.ShardingConfigurationException;
 import lombok.Getter;
@@ -53,6 +54,10 @@ public class YamlMasterSlaveRuleConfiguration {
     
     private String loadBalanceAlgorithmClassName;
     
+    private String replicationLagProbeClassName;
+    
+    private long maxReplicationLagMilliseconds;
+    
     private Map<String, Object> configMap = new ConcurrentHashMap<>();
     
     private Properties props = new Properties();
@@ -62,6 +67,8 @@ public class YamlMasterSlaveRuleConfiguration {
         masterDataSourceName = masterSlaveRuleConfiguration.getMasterDataSourceName();
         slaveDataSourceNames = masterSlaveRuleConfiguration.getSlaveDataSourceNames();
         loadBalanceAlgorithmClassName = null == masterSlaveRuleConfiguration.getLoadBalanceAlgorithm() ? null : masterSlaveRuleConfiguration.getLoadBalanceAlgorithm().getClass().getName();
+        replicationLagProbeClassName = null == masterSlaveRuleConfiguration.getReplicationLagProbe() ? null : masterSlaveRuleConfiguration.getReplicationLagProbe().getClass().getName();
+        maxReplicationLagMilliseconds = masterSlaveRuleConfiguration.getMaxReplicationLagMilliseconds();
         this.configMap = configMap;
         this.props = props;
     }
@@ -74,22 +81,24 @@ public class YamlMasterSlaveRuleConfiguration {
     public MasterSlaveRuleConfiguration getMasterSlaveRuleConfiguration() {
         MasterSlaveLoadBalanceAlgorithm loadBalanceAlgorithm = null;
         if (!Strings.isNullOrEmpty(loadBalanceAlgorithmClassName)) {
-            loadBalanceAlgorithm = newInstance(loadBalanceAlgorithmClassName);
+            loadBalanceAlgorithm = newInstance(loadBalanceAlgorithmClassName, MasterSlaveLoadBalanceAlgorithm.class);
         } else if (null != loadBalanceAlgorithmType) {
             loadBalanceAlgorithm = loadBalanceAlgorithmType.getAlgorithm();
         }
-        return new MasterSlaveRuleConfiguration(name, masterDataSourceName, slaveDataSourceNames, loadBalanceAlgorithm);
+        ReplicationLagProbe replicationLagProbe = Strings.isNullOrEmpty(replicationLagProbeClassName) ? null : newInstance(replicationLagProbeClassName, ReplicationLagProbe.class);
+        return new MasterSlaveRuleConfiguration(name, masterDataSourceName, slaveDataSourceNames, loadBalanceAlgorithm, replicationLagProbe, maxReplicationLagMilliseconds);
     }
     
-    private MasterSlaveLoadBalanceAlgorithm newInstance(final String masterSlaveLoadBalanceAlgorithmClassName) {
+    @SuppressWarnings("unchecked")
+    private <T> T newInstance(final String className, final Class<T> superClass) {
         try {
-            Class<?> result = Class.forName(masterSlaveLoadBalanceAlgorithmClassName);
-            if (!MasterSlaveLoadBalanceAlgorithm.class.isAssignableFrom(result)) {
-                throw new ShardingConfigurationException("Class %s should be implement %s", masterSlaveLoadBalanceAlgorithmClassName, MasterSlaveLoadBalanceAlgorithm.class.getName());
+            Class<?> result = Class.forName(className);
+            if (!superClass.isAssignableFrom(result)) {
+                throw new ShardingConfigurationException("Class %s should be implement %s", className, superClass.getName());
             }
-            return (MasterSlaveLoadBalanceAlgorithm) result.newInstance();
+            return (T) result.newInstance();
         } catch (final ReflectiveOperationException ex) {
-            throw new ShardingConfigurationException("Class %s should have public privilege and no argument constructor", masterSlaveLoadBalanceAlgorithmClassName);
+            throw new ShardingConfigurationException("Class %s should have public privilege and no argument constructor", className);
         }
     }
 }
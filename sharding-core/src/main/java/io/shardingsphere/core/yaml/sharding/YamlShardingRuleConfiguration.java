@@ -17,6 +17,7 @@
 
 package io.shardingsphere.core.yaml.sharding;
 
+import io.shardingsphere.api.config.IndexTableRuleConfiguration;
 import io.shardingsphere.api.config.MasterSlaveRuleConfiguration;
 import io.shardingsphere.api.config.ShardingRuleConfiguration;
 import io.shardingsphere.api.config.TableRuleConfiguration;
@@ -53,6 +54,10 @@ public class YamlShardingRuleConfiguration {
     
     private List<String> bindingTables = new ArrayList<>();
     
+    private List<String> broadcastTables = new ArrayList<>();
+    
+    private List<IndexTableRuleConfiguration> indexTables = new ArrayList<>();
+    
     private YamlShardingStrategyConfiguration defaultDatabaseStrategy;
     
     private YamlShardingStrategyConfiguration defaultTableStrategy;
@@ -71,6 +76,8 @@ public class YamlShardingRuleConfiguration {
             tables.put(each.getLogicTable(), new YamlTableRuleConfiguration(each));
         }
         bindingTables.addAll(shardingRuleConfiguration.getBindingTableGroups());
+        broadcastTables.addAll(shardingRuleConfiguration.getBroadcastTables());
+        indexTables.addAll(shardingRuleConfiguration.getIndexTableRuleConfigs());
         defaultDatabaseStrategy = new YamlShardingStrategyConfiguration(shardingRuleConfiguration.getDefaultDatabaseShardingStrategyConfig());
         defaultTableStrategy = new YamlShardingStrategyConfiguration(shardingRuleConfiguration.getDefaultTableShardingStrategyConfig());
         defaultKeyGeneratorClassName = null == shardingRuleConfiguration.getDefaultKeyGenerator() ? null : shardingRuleConfiguration.getDefaultKeyGenerator().getClass().getName();
@@ -95,6 +102,8 @@ public class YamlShardingRuleConfiguration {
             result.getTableRuleConfigs().add(tableRuleConfig.build());
         }
         result.getBindingTableGroups().addAll(bindingTables);
+        result.getBroadcastTables().addAll(broadcastTables);
+        result.getIndexTableRuleConfigs().addAll(indexTables);
         if (null != defaultDatabaseStrategy) {
             result.setDefaultDatabaseShardingStrategyConfig(defaultDatabaseStrategy.build());
         }
@@ -27,17 +27,23 @@ import io.shardingsphere.api.config.strategy.HintShardingStrategyConfiguration;
 import io.shardingsphere.api.config.strategy.InlineShardingStrategyConfiguration;
 import io.shardingsphere.api.config.strategy.NoneShardingStrategyConfiguration;
 import io.shardingsphere.api.config.strategy.ShardingStrategyConfiguration;
+import io.shardingsphere.api.config.strategy.SlotShardingStrategyConfiguration;
 import io.shardingsphere.api.config.strategy.StandardShardingStrategyConfiguration;
 import io.shardingsphere.core.routing.strategy.ShardingAlgorithmFactory;
 import io.shardingsphere.core.yaml.sharding.strategy.YamlComplexShardingStrategyConfiguration;
 import io.shardingsphere.core.yaml.sharding.strategy.YamlHintShardingStrategyConfiguration;
 import io.shardingsphere.core.yaml.sharding.strategy.YamlInlineShardingStrategyConfiguration;
 import io.shardingsphere.core.yaml.sharding.strategy.YamlNoneShardingStrategyConfiguration;
+import io.shardingsphere.core.yaml.sharding.strategy.YamlSlotShardingStrategyConfiguration;
 import io.shardingsphere.core.yaml.sharding.strategy.YamlStandardShardingStrategyConfiguration;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
 /**
  * Configuration for yaml sharding strategy.
  *
@@ -57,6 +63,8 @@ public class YamlShardingStrategyConfiguration {
     
     private YamlInlineShardingStrategyConfiguration inline;
     
+    private YamlSlotShardingStrategyConfiguration slot;
+    
     private YamlNoneShardingStrategyConfiguration none;
     
     public YamlShardingStrategyConfiguration(final ShardingStrategyConfiguration shardingStrategyConfiguration) {
@@ -84,6 +92,13 @@ public class YamlShardingStrategyConfiguration {
             inline.setShardingColumn(config.getShardingColumn());
             inline.setAlgorithmExpression(config.getAlgorithmExpression());
         }
+        if (shardingStrategyConfiguration instanceof SlotShardingStrategyConfiguration) {
+            slot = new YamlSlotShardingStrategyConfiguration();
+            SlotShardingStrategyConfiguration config = (SlotShardingStrategyConfiguration) shardingStrategyConfiguration;
+            slot.setShardingColumn(config.getShardingColumn());
+            slot.setSlotCount(config.getSlotCount());
+            slot.getSlots().putAll(config.getSlots());
+        }
     }
     
     /**
@@ -114,6 +129,10 @@ public class YamlShardingStrategyConfiguration {
             shardingStrategyConfigCount++;
             result = new InlineShardingStrategyConfiguration(inline.getShardingColumn(), inline.getAlgorithmExpression());
         }
+        if (null != slot) {
+            shardingStrategyConfigCount++;
+            result = new SlotShardingStrategyConfiguration(slot.getShardingColumn(), slot.getSlotCount(), getSlots());
+        }
         if (null != hint) {
             shardingStrategyConfigCount++;
             result = new HintShardingStrategyConfiguration(ShardingAlgorithmFactory.newInstance(hint.getAlgorithmClassName(), HintShardingAlgorithm.class));
@@ -125,4 +144,12 @@ public class YamlShardingStrategyConfiguration {
         Preconditions.checkArgument(shardingStrategyConfigCount <= 1, "Only allowed 0 or 1 sharding strategy configuration.");
         return result;
     }
+    
+    private Map<String, String> getSlots() {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (Entry<?, ?> entry : ((Map<?, ?>) slot.getSlots()).entrySet()) {
+            result.put(String.valueOf(entry.getKey()), String.valueOf(entry.getValue()));
+        }
+        return result;
+    }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.spi.metrics;
+
+import io.shardingsphere.core.constant.ConnectionMode;
+
+/**
+ * Metrics tracker.
+ * 
+ * <p>Metrics tracker is shared by all threads, implementation should be thread safe and cheap enough to be called for every SQL.</p>
+ *
+ * @author zhangliang
+ */
+public interface MetricsTracker {
+    
+    /**
+     * Record latency of SQL processing stage.
+     *
+     * @param stage stage of SQL processing
+     * @param logicTableName logic table name, null if not related to logic table
+     * @param dataSourceName data source name, null if not related to data source
+     * @param connectionMode connection mode, null if not related to connection
+     * @param latencyNanos latency in nanoseconds
+     * @param success stage finished success or not
+     */
+    void record(MetricsStage stage, String logicTableName, String dataSourceName, ConnectionMode connectionMode, long latencyNanos, boolean success);
+}
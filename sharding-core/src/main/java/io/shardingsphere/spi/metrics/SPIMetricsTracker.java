@@ -0,0 +1,89 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.spi.metrics;
+
+import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.spi.NewInstanceServiceLoader;
+
+import java.util.Collection;
+
+/**
+ * Metrics tracker for SPI.
+ * 
+ * <p>Clock is not read if none of metrics tracker present.</p>
+ *
+ * @author zhangliang
+ */
+public final class SPIMetricsTracker implements MetricsTracker {
+    
+    private static final SPIMetricsTracker INSTANCE = new SPIMetricsTracker();
+    
+    private final Collection<MetricsTracker> metricsTrackers = NewInstanceServiceLoader.load(MetricsTracker.class).newServiceInstances();
+    
+    private final boolean enabled = !metricsTrackers.isEmpty();
+    
+    /**
+     * Get instance of metrics tracker for SPI.
+     *
+     * @return instance of metrics tracker for SPI
+     */
+    public static SPIMetricsTracker getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Start to track latency.
+     *
+     * @return start time in nanoseconds, {@code 0} if none of metrics tracker present
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+    
+    /**
+     * Finish to track latency.
+     *
+     * @param stage stage of SQL processing
+     * @param startNanos start time in nanoseconds
+     * @param logicTableName logic table name, null if not related to logic table
+     * @param dataSourceName data source name, null if not related to data source
+     * @param connectionMode connection mode, null if not related to connection
+     * @param success stage finished success or not
+     */
+    public void finish(final MetricsStage stage, final long startNanos, final String logicTableName, final String dataSourceName, final ConnectionMode connectionMode, final boolean success) {
+        if (enabled) {
+            record(stage, logicTableName, dataSourceName, connectionMode, System.nanoTime() - startNanos, success);
+        }
+    }
+    
+    /**
+     * Judge whether any metrics tracker present.
+     *
+     * @return any metrics tracker present or not
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    @Override
+    public void record(final MetricsStage stage, final String logicTableName, final String dataSourceName, final ConnectionMode connectionMode, final long latencyNanos, final boolean success) {
+        for (MetricsTracker each : metricsTrackers) {
+            each.record(stage, logicTableName, dataSourceName, connectionMode, latencyNanos, success);
+        }
+    }
+}
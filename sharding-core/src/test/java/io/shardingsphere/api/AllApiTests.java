@@ -18,8 +18,12 @@
 package io.shardingsphere.api;
 
 import io.shardingsphere.api.algorithm.common.ShardingStrategyTest;
+import io.shardingsphere.api.algorithm.masterslave.LatencyAwareMasterSlaveLoadBalanceAlgorithmTest;
+import io.shardingsphere.api.algorithm.masterslave.LeastOutstandingRequestsMasterSlaveLoadBalanceAlgorithmTest;
+import io.shardingsphere.api.algorithm.masterslave.MySQLReplicationLagProbeTest;
 import io.shardingsphere.api.algorithm.masterslave.RandomMasterSlaveLoadBalanceAlgorithmTest;
 import io.shardingsphere.api.algorithm.masterslave.RoundRobinMasterSlaveLoadBalanceAlgorithmTest;
+import io.shardingsphere.api.algorithm.masterslave.WeightedMasterSlaveLoadBalanceAlgorithmTest;
 import io.shardingsphere.api.algorithm.sharding.DatabaseShardingStrategyTest;
 import io.shardingsphere.api.algorithm.table.TableShardingStrategyTest;
 import org.junit.runner.RunWith;
@@ -33,6 +37,10 @@ import org.junit.runners.Suite.SuiteClasses;
         TableShardingStrategyTest.class, 
         RoundRobinMasterSlaveLoadBalanceAlgorithmTest.class, 
         RandomMasterSlaveLoadBalanceAlgorithmTest.class, 
+        LeastOutstandingRequestsMasterSlaveLoadBalanceAlgorithmTest.class, 
+        LatencyAwareMasterSlaveLoadBalanceAlgorithmTest.class, 
+        WeightedMasterSlaveLoadBalanceAlgorithmTest.class, 
+        MySQLReplicationLagProbeTest.class, 
         HintManagerTest.class
     })
 public final class AllApiTests {
@@ -19,24 +19,35 @@ package io.shardingsphere.api.algorithm.common;
 
 import com.google.common.collect.Range;
 import com.google.common.collect.Sets;
+import io.shardingsphere.api.algorithm.fixture.TestBatchPreciseShardingAlgorithm;
 import io.shardingsphere.api.algorithm.fixture.TestComplexKeysShardingAlgorithm;
 import io.shardingsphere.api.algorithm.fixture.TestPreciseShardingAlgorithm;
 import io.shardingsphere.api.algorithm.fixture.TestRangeShardingAlgorithm;
+import io.shardingsphere.api.algorithm.sharding.ListShardingValue;
 import io.shardingsphere.api.algorithm.sharding.PreciseShardingValue;
 import io.shardingsphere.api.algorithm.sharding.RangeShardingValue;
 import io.shardingsphere.api.algorithm.sharding.ShardingValue;
 import io.shardingsphere.api.config.strategy.ComplexShardingStrategyConfiguration;
+import io.shardingsphere.api.config.strategy.SlotShardingStrategyConfiguration;
 import io.shardingsphere.api.config.strategy.StandardShardingStrategyConfiguration;
+import io.shardingsphere.core.exception.ShardingConfigurationException;
 import io.shardingsphere.core.routing.strategy.complex.ComplexShardingStrategy;
 import io.shardingsphere.core.routing.strategy.none.NoneShardingStrategy;
+import io.shardingsphere.core.routing.strategy.slot.SlotShardingStrategy;
 import io.shardingsphere.core.routing.strategy.standard.StandardShardingStrategy;
 import org.junit.Test;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ShardingStrategyTest {
     
@@ -48,6 +59,27 @@ public final class ShardingStrategyTest {
         assertThat(strategy.doSharding(targets, Collections.<ShardingValue>emptySet()), is(targets));
     }
     
+    @Test
+    public void assertDoShardingForEqualSingleKey() {
+        StandardShardingStrategy strategy = new StandardShardingStrategy(new StandardShardingStrategyConfiguration("column", new TestPreciseShardingAlgorithm()));
+        assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new ListShardingValue<>("logicTable", "column", Arrays.asList("1", "1", "3")))), 
+                is((Collection<String>) Sets.newHashSet("1", "3")));
+    }
+    
+    @Test
+    public void assertDoShardingForInSingleKeyAfterAllTargetsHit() {
+        StandardShardingStrategy strategy = new StandardShardingStrategy(new StandardShardingStrategyConfiguration("column", new TestPreciseShardingAlgorithm()));
+        assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new ListShardingValue<>("logicTable", "column", Arrays.asList("1", "2", "3", "4")))), 
+                is((Collection<String>) Sets.newHashSet("1", "2", "3", "4")));
+    }
+    
+    @Test
+    public void assertDoShardingForInSingleKeyWithBatchAlgorithm() {
+        StandardShardingStrategy strategy = new StandardShardingStrategy(new StandardShardingStrategyConfiguration("column", new TestBatchPreciseShardingAlgorithm()));
+        assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new ListShardingValue<>("logicTable", "column", Arrays.asList("1", "2", "2")))), 
+                is((Collection<String>) Sets.newHashSet("1", "2")));
+    }
+    
     @Test
     public void assertDoShardingForBetweenSingleKey() {
         StandardShardingStrategy strategy = new StandardShardingStrategy(new StandardShardingStrategyConfiguration("column", new TestPreciseShardingAlgorithm(), new TestRangeShardingAlgorithm()));
@@ -61,4 +93,95 @@ public final class ShardingStrategyTest {
         assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new PreciseShardingValue<>("logicTable", "column", "1"))), 
                 is((Collection<String>) Sets.newHashSet("1", "2", "3")));
     }
+    
+    @Test
+    public void assertDoShardingForEqualSingleKeyWithSlot() {
+        SlotShardingStrategy strategy = new SlotShardingStrategy(new SlotShardingStrategyConfiguration("column", 4, createSlots()));
+        assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new ListShardingValue<>("logicTable", "column", Arrays.asList(4, 5L)))), 
+                is((Collection<String>) Sets.newHashSet("1", "3")));
+    }
+    
+    @Test
+    public void assertDoShardingForTextKeyWithSlot() {
+        SlotShardingStrategy strategy = new SlotShardingStrategy(new SlotShardingStrategyConfiguration("column", 4, createSlots()));
+        Collection<String> actual = strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new ListShardingValue<>("logicTable", "column", Collections.singleton("foo"))));
+        assertThat(actual.size(), is(1));
+        assertTrue(targets.contains(actual.iterator().next()));
+    }
+    
+    @Test
+    public void assertDoShardingForIntegralValuedKeysOfDifferentTypesWithSlot() {
+        SlotShardingStrategy strategy = new SlotShardingStrategy(new SlotShardingStrategyConfiguration("column", 4, createSlots()));
+        for (Comparable<?> each : Arrays.<Comparable<?>>asList(5, 5L, new BigDecimal("5"), new BigDecimal("5.00"), BigInteger.valueOf(5L), "5")) {
+            assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new ListShardingValue<>("logicTable", "column", Collections.singleton(each)))),
+                    is((Collection<String>) Sets.newHashSet("3")));
+        }
+    }
+    
+    @Test
+    public void assertDoShardingForNonIntegralKeysWithSlot() {
+        SlotShardingStrategy strategy = new SlotShardingStrategy(new SlotShardingStrategyConfiguration("column", 4, createSlots()));
+        for (Comparable<?> each : Arrays.<Comparable<?>>asList(new BigDecimal("5.5"), BigInteger.ONE.shiftLeft(64), "5a")) {
+            Collection<String> expected = strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new ListShardingValue<>("logicTable", "column", Collections.singleton(each.toString()))));
+            assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new ListShardingValue<>("logicTable", "column", Collections.singleton(each)))), is(expected));
+        }
+    }
+    
+    @Test
+    public void assertDoShardingForBetweenBigDecimalKeyWithSlot() {
+        SlotShardingStrategy strategy = new SlotShardingStrategy(new SlotShardingStrategyConfiguration("column", 4, createSlots()));
+        assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new RangeShardingValue<>("logicTable", "column", Range.openClosed(new BigDecimal("5"), new BigDecimal("7"))))),
+                is((Collection<String>) Sets.newHashSet("2", "3")));
+        assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new RangeShardingValue<>("logicTable", "column", Range.closed(new BigDecimal("5.5"), new BigDecimal("6"))))),
+                is((Collection<String>) Sets.newHashSet("1", "2", "3")));
+    }
+    
+    @Test
+    public void assertDoShardingForBetweenSingleKeyWithSlot() {
+        SlotShardingStrategy strategy = new SlotShardingStrategy(new SlotShardingStrategyConfiguration("column", 4, createSlots()));
+        assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new RangeShardingValue<>("logicTable", "column", Range.openClosed(5, 7)))), 
+                is((Collection<String>) Sets.newHashSet("2", "3")));
+        assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new RangeShardingValue<>("logicTable", "column", Range.closed(0, 100)))), 
+                is((Collection<String>) Sets.newHashSet("1", "2", "3")));
+        assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new RangeShardingValue<>("logicTable", "column", Range.atLeast(1)))), 
+                is((Collection<String>) Sets.newHashSet("1", "2", "3")));
+    }
+    
+    @Test
+    public void assertDoShardingForUnavailableTargetsWithSlot() {
+        SlotShardingStrategy strategy = new SlotShardingStrategy(new SlotShardingStrategyConfiguration("column", 4, createSlots()));
+        Collection<String> availableTargetNames = Sets.newHashSet("1", "2");
+        assertThat(strategy.doSharding(availableTargetNames, Collections.<ShardingValue>singletonList(new RangeShardingValue<>("logicTable", "column", Range.closed(0, 100)))), 
+                is((Collection<String>) Sets.newHashSet("1", "2")));
+        assertTrue(strategy.doSharding(availableTargetNames, Collections.<ShardingValue>singletonList(new ListShardingValue<>("logicTable", "column", Collections.singleton(3)))).isEmpty());
+    }
+    
+    @Test
+    public void assertDoShardingForBetweenSingleKeyNearLongBoundsWithSlot() {
+        SlotShardingStrategy strategy = new SlotShardingStrategy(new SlotShardingStrategyConfiguration("column", 4, createSlots()));
+        assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new RangeShardingValue<>("logicTable", "column", Range.closed(Long.MAX_VALUE - 1, Long.MAX_VALUE)))),
+                is((Collection<String>) Sets.newHashSet("2", "3")));
+        assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new RangeShardingValue<>("logicTable", "column", Range.closed(Long.MIN_VALUE, Long.MIN_VALUE + 1)))),
+                is((Collection<String>) Sets.newHashSet("1", "3")));
+        assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new RangeShardingValue<>("logicTable", "column", Range.closed(Long.MIN_VALUE, Long.MAX_VALUE)))),
+                is((Collection<String>) Sets.newHashSet("1", "2", "3")));
+        assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new RangeShardingValue<>("logicTable", "column", Range.closed(-1L, Long.MAX_VALUE)))),
+                is((Collection<String>) Sets.newHashSet("1", "2", "3")));
+        assertTrue(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new RangeShardingValue<>("logicTable", "column", Range.openClosed(Long.MAX_VALUE, Long.MAX_VALUE)))).isEmpty());
+        assertTrue(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new RangeShardingValue<>("logicTable", "column", Range.closedOpen(Long.MIN_VALUE, Long.MIN_VALUE)))).isEmpty());
+    }
+    
+    @Test(expected = ShardingConfigurationException.class)
+    public void assertSlotShardingStrategyWithUnassignedSlot() {
+        new SlotShardingStrategy(new SlotShardingStrategyConfiguration("column", 5, createSlots()));
+    }
+    
+    private Map<String, String> createSlots() {
+        Map<String, String> result = new LinkedHashMap<>();
+        result.put("0-1", "1");
+        result.put("2", "2");
+        result.put("3", "3");
+        result.put("1", "3");
+        return result;
+    }
 }
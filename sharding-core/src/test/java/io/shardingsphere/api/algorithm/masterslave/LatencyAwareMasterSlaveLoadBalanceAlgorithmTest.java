@@ -0,0 +1,54 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.api.algorithm.masterslave;
+
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class LatencyAwareMasterSlaveLoadBalanceAlgorithmTest {
+    
+    private final LatencyAwareMasterSlaveLoadBalanceAlgorithm latencyAwareMasterSlaveLoadBalanceAlgorithm = new LatencyAwareMasterSlaveLoadBalanceAlgorithm();
+    
+    @Test
+    public void assertGetDataSource() {
+        String masterDataSourceName = "test_ds_master";
+        String slaveDataSourceName1 = "test_ds_latency_slave_1";
+        String slaveDataSourceName2 = "test_ds_latency_slave_2";
+        List<String> slaveDataSourceNames = Arrays.asList(slaveDataSourceName1, slaveDataSourceName2);
+        DataSourceStatisticsRegistry statisticsRegistry = new DataSourceStatisticsRegistry();
+        statisticsRegistry.getStatistics(slaveDataSourceName1).start();
+        statisticsRegistry.getStatistics(slaveDataSourceName1).finishSuccess(1000L);
+        statisticsRegistry.getStatistics(slaveDataSourceName2).start();
+        statisticsRegistry.getStatistics(slaveDataSourceName2).finishSuccess(10L);
+        assertThat(latencyAwareMasterSlaveLoadBalanceAlgorithm.getDataSource(statisticsRegistry, "ds", masterDataSourceName, slaveDataSourceNames), is(slaveDataSourceName2));
+        assertThat(latencyAwareMasterSlaveLoadBalanceAlgorithm.getDataSource(statisticsRegistry, "ds", masterDataSourceName, slaveDataSourceNames), is(slaveDataSourceName2));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithoutStatistics() {
+        List<String> slaveDataSourceNames = Arrays.asList("test_ds_slave_1", "test_ds_slave_2");
+        assertThat(latencyAwareMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames), is("test_ds_slave_1"));
+        assertThat(latencyAwareMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames), is("test_ds_slave_2"));
+    }
+}
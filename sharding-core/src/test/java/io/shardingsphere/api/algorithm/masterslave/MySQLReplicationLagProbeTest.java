@@ -0,0 +1,61 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.api.algorithm.masterslave;
+
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MySQLReplicationLagProbeTest {
+    
+    @Test
+    public void assertGetReplicationLagMillisecondsWithZeroSecondsBehindMaster() throws SQLException {
+        assertThat(new MySQLReplicationLagProbe().getReplicationLagMilliseconds(mockConnection(true, 0L, false)), is(1000L));
+    }
+    
+    @Test
+    public void assertGetReplicationLagMillisecondsWithSecondsBehindMaster() throws SQLException {
+        assertThat(new MySQLReplicationLagProbe().getReplicationLagMilliseconds(mockConnection(true, 3L, false)), is(4000L));
+    }
+    
+    @Test
+    public void assertGetReplicationLagMillisecondsWithoutReplication() throws SQLException {
+        assertThat(new MySQLReplicationLagProbe().getReplicationLagMilliseconds(mockConnection(true, 0L, true)), is(-1L));
+        assertThat(new MySQLReplicationLagProbe().getReplicationLagMilliseconds(mockConnection(false, 0L, false)), is(-1L));
+    }
+    
+    private Connection mockConnection(final boolean hasSlaveStatus, final long secondsBehindMaster, final boolean isNull) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(hasSlaveStatus);
+        when(resultSet.getLong("Seconds_Behind_Master")).thenReturn(secondsBehindMaster);
+        when(resultSet.wasNull()).thenReturn(isNull);
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery("SHOW SLAVE STATUS")).thenReturn(resultSet);
+        Connection result = mock(Connection.class);
+        when(result.createStatement()).thenReturn(statement);
+        return result;
+    }
+}
@@ -17,12 +17,24 @@
 
 package io.shardingsphere.core.executor;
 
+import io.shardingsphere.core.executor.sql.execute.SQLExecuteTemplateTest;
+import io.shardingsphere.core.executor.sql.execute.result.OffHeapQueryResultTest;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistryTest;
+import io.shardingsphere.core.executor.sql.prepare.ConnectionPlannerTest;
+import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareTemplateTest;
 import io.shardingsphere.core.executor.threadlocal.ExecutorExceptionHandlerTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses(ExecutorExceptionHandlerTest.class)
+@SuiteClasses({
+        ExecutorExceptionHandlerTest.class, 
+        DataSourceStatisticsRegistryTest.class, 
+        ConnectionPlannerTest.class, 
+        SQLExecutePrepareTemplateTest.class, 
+        OffHeapQueryResultTest.class, 
+        SQLExecuteTemplateTest.class
+    })
 public final class AllExecutorTests {
 }
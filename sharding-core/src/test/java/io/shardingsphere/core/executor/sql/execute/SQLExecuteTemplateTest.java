@@ -0,0 +1,157 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute;
+
+import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.SQLType;
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import io.shardingsphere.core.executor.ShardingExecuteGroup;
+import io.shardingsphere.core.executor.StatementExecuteUnit;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SQLExecuteTemplateTest {
+    
+    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(2);
+    
+    @After
+    public void tearDown() {
+        executeEngine.close();
+    }
+    
+    @Test
+    public void assertExecuteGroupWithQueryTimeoutPropagated() throws SQLException {
+        Statement statement = createStatement();
+        List<String> actual = new SQLExecuteTemplate(executeEngine, 10).executeGroup(createExecuteGroups(statement), new MockSQLExecuteCallback(null, 0L));
+        assertThat(actual, is(Collections.singletonList("SELECT 1")));
+        verify(statement).setQueryTimeout(10);
+        verify(statement).setQueryTimeout(0);
+    }
+    
+    @Test
+    public void assertExecuteGroupWithFailureCancelAllStatements() throws SQLException {
+        Statement failureStatement = createStatement();
+        Statement otherStatement = createStatement();
+        try {
+            new SQLExecuteTemplate(executeEngine).executeGroup(createExecuteGroups(otherStatement, failureStatement), new MockSQLExecuteCallback(failureStatement, 0L));
+            fail("Expected SQLException.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("Execute failure."));
+        }
+        verify(failureStatement, timeout(1000L)).cancel();
+        verify(otherStatement, timeout(1000L)).cancel();
+    }
+    
+    @Test
+    public void assertExecuteGroupWithDeadlineExpiredCancelAllStatements() throws SQLException {
+        Statement slowStatement = createStatement();
+        Statement otherStatement = createStatement();
+        try {
+            new SQLExecuteTemplate(executeEngine, 1).executeGroup(createExecuteGroups(otherStatement, slowStatement), new MockSQLExecuteCallback(slowStatement, 5000L));
+            fail("Expected SQLTimeoutException.");
+        } catch (final SQLTimeoutException ignored) {
+        }
+        verify(slowStatement, timeout(1000L)).cancel();
+        verify(otherStatement, timeout(1000L)).cancel();
+    }
+    
+    @Test
+    public void assertExecuteGroupWithRuntimeExceptionFinishStatistics() throws SQLException {
+        DataSourceStatisticsRegistry statisticsRegistry = new DataSourceStatisticsRegistry();
+        try {
+            new SQLExecuteTemplate(executeEngine, 0, statisticsRegistry).executeGroup(createExecuteGroups(createStatement()), new SQLExecuteCallback<String>(DatabaseType.H2, SQLType.DQL, true) {
+                
+                @Override
+                protected String executeSQL(final StatementExecuteUnit statementExecuteUnit) {
+                    throw new IllegalStateException("Execute failure.");
+                }
+            });
+            fail("Expected IllegalStateException.");
+        } catch (final IllegalStateException ex) {
+            assertThat(ex.getMessage(), is("Execute failure."));
+        }
+        assertThat(statisticsRegistry.getStatistics("ds_0").getInFlightCount(), is(0));
+    }
+    
+    private Statement createStatement() throws SQLException {
+        Statement result = mock(Statement.class);
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(result.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getURL()).thenReturn("jdbc:h2:mem:ds_0;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
+        return result;
+    }
+    
+    private Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> createExecuteGroups(final Statement... statements) {
+        ShardingExecuteGroup<?>[] result = new ShardingExecuteGroup<?>[statements.length];
+        for (int i = 0; i < statements.length; i++) {
+            RouteUnit routeUnit = new RouteUnit("ds_" + i, new SQLUnit("SELECT 1", Collections.<List<Object>>emptyList()));
+            result[i] = new ShardingExecuteGroup<>(Collections.singletonList(new StatementExecuteUnit(routeUnit, statements[i], ConnectionMode.MEMORY_STRICTLY)));
+        }
+        return (Collection) Arrays.asList(result);
+    }
+    
+    private static final class MockSQLExecuteCallback extends SQLExecuteCallback<String> {
+        
+        private final Statement failureStatement;
+        
+        private final long sleepMilliseconds;
+        
+        MockSQLExecuteCallback(final Statement failureStatement, final long sleepMilliseconds) {
+            super(DatabaseType.H2, SQLType.DQL, true);
+            this.failureStatement = failureStatement;
+            this.sleepMilliseconds = sleepMilliseconds;
+        }
+        
+        @Override
+        protected String executeSQL(final StatementExecuteUnit statementExecuteUnit) throws SQLException {
+            if (statementExecuteUnit.getStatement() != failureStatement) {
+                return statementExecuteUnit.getRouteUnit().getSqlUnit().getSql();
+            }
+            try {
+                Thread.sleep(sleepMilliseconds);
+            } catch (final InterruptedException ex) {
+                throw new SQLException("Execute interrupted.", ex);
+            }
+            throw new SQLException("Execute failure.");
+        }
+    }
+}
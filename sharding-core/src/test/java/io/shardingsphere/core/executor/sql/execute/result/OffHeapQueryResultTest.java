@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OffHeapQueryResultTest {
+    
+    @Test
+    public void assertNextAndGetValue() throws SQLException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        OffHeapQueryResult actual = new OffHeapQueryResult(getResultSet());
+        assertThat(actual.getColumnCount(), is(4));
+        assertThat(actual.getColumnLabel(1), is("order_id"));
+        assertTrue(actual.next());
+        assertThat((Long) actual.getValue(1, Object.class), is(1L));
+        assertThat((String) actual.getValue("status", Object.class), is("init"));
+        assertThat((BigDecimal) actual.getValue(3, Object.class), is(new BigDecimal("10.25")));
+        assertThat((Timestamp) actual.getValue(4, Object.class), is(timestamp));
+        assertFalse(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getLong(1), is(2L));
+        assertThat(actual.getValue(2, Object.class), nullValue());
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithEmptyResultSet() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("order_id");
+        assertFalse(new OffHeapQueryResult(resultSet).next());
+    }
+    
+    @Test
+    public void assertNextAfterClose() throws SQLException {
+        OffHeapQueryResult actual = new OffHeapQueryResult(getResultSet());
+        assertTrue(actual.next());
+        actual.close();
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertIsSupported() throws SQLException {
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+        assertTrue(OffHeapQueryResult.isSupported(resultSetMetaData));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithLargeObject() throws SQLException {
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.BLOB);
+        assertFalse(OffHeapQueryResult.isSupported(resultSetMetaData));
+    }
+    
+    private ResultSet getResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(4);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("order_id");
+        when(resultSetMetaData.getColumnLabel(2)).thenReturn("status");
+        when(resultSetMetaData.getColumnLabel(3)).thenReturn("amount");
+        when(resultSetMetaData.getColumnLabel(4)).thenReturn("create_time");
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        when(result.next()).thenReturn(true, true, false);
+        when(result.getObject(1)).thenReturn(1L, 2L);
+        when(result.getObject(2)).thenReturn("init", null);
+        when(result.getObject(3)).thenReturn(new BigDecimal("10.25"), new BigDecimal("0"));
+        when(result.getObject(4)).thenReturn(timestamp, timestamp);
+        return result;
+    }
+}
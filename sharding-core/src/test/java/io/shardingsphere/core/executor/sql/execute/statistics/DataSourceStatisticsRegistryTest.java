@@ -0,0 +1,128 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.statistics;
+
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTimeoutException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DataSourceStatisticsRegistryTest {
+    
+    private final DataSourceStatisticsRegistry registry = new DataSourceStatisticsRegistry();
+    
+    @Test
+    public void assertGetStatistics() {
+        assertThat(registry.getStatistics("test_ds_statistics"), sameInstance(registry.getStatistics("test_ds_statistics")));
+    }
+    
+    @Test
+    public void assertGetStatisticsOfDifferentRegistries() {
+        assertThat(registry.getStatistics("test_ds_statistics"), not(sameInstance(new DataSourceStatisticsRegistry().getStatistics("test_ds_statistics"))));
+    }
+    
+    @Test
+    public void assertCollectStatisticsByHook() {
+        DataSourceStatisticsSQLExecutionHook hook = new DataSourceStatisticsSQLExecutionHook();
+        hook.start(createRouteUnit("test_ds_hook"), null, true, createDataMap());
+        DataSourceStatistics statistics = registry.getStatistics("test_ds_hook");
+        assertThat(statistics.getInFlightCount(), is(1));
+        hook.finishSuccess();
+        assertThat(statistics.getInFlightCount(), is(0));
+        assertTrue(statistics.getLatencyNanos() > 0D);
+    }
+    
+    @Test
+    public void assertHookWithoutStatisticsRegistry() {
+        DataSourceStatisticsSQLExecutionHook hook = new DataSourceStatisticsSQLExecutionHook();
+        hook.start(createRouteUnit("test_ds_hook"), null, true, null);
+        hook.finishSuccess();
+        hook.start(createRouteUnit("test_ds_hook"), null, true, Collections.<String, Object>emptyMap());
+        hook.finishFailure(new SQLException());
+        assertThat(registry.getStatistics("test_ds_hook").getInFlightCount(), is(0));
+    }
+    
+    @Test
+    public void assertEjectAfterConsecutiveConnectionFailures() {
+        for (int i = 0; i < 3; i++) {
+            DataSourceStatisticsSQLExecutionHook hook = new DataSourceStatisticsSQLExecutionHook();
+            hook.start(createRouteUnit("test_ds_ejected"), null, true, createDataMap());
+            hook.finishFailure(new SQLNonTransientConnectionException());
+        }
+        assertFalse(registry.getStatistics("test_ds_ejected").isAvailable());
+        List<String> dataSourceNames = Arrays.asList("test_ds_available", "test_ds_ejected");
+        assertThat(registry.getAvailableDataSourceNames(dataSourceNames), is(Collections.singletonList("test_ds_available")));
+        assertThat(registry.getAvailableDataSourceNames(Collections.singletonList("test_ds_ejected")), is(Collections.singletonList("test_ds_ejected")));
+    }
+    
+    @Test
+    public void assertNotEjectForNonConnectionFailures() {
+        for (int i = 0; i < 3; i++) {
+            DataSourceStatisticsSQLExecutionHook hook = new DataSourceStatisticsSQLExecutionHook();
+            hook.start(createRouteUnit("test_ds_syntax_error"), null, true, createDataMap());
+            hook.finishFailure(new SQLException("syntax error", "42000"));
+        }
+        assertTrue(registry.getStatistics("test_ds_syntax_error").isAvailable());
+    }
+    
+    @Test
+    public void assertNotEjectForTimeoutFailures() {
+        for (int i = 0; i < 3; i++) {
+            DataSourceStatisticsSQLExecutionHook hook = new DataSourceStatisticsSQLExecutionHook();
+            hook.start(createRouteUnit("test_ds_timeout"), null, true, createDataMap());
+            hook.finishFailure(new SQLTimeoutException());
+        }
+        assertTrue(registry.getStatistics("test_ds_timeout").isAvailable());
+    }
+    
+    @Test
+    public void assertNotCollectStatisticsWithoutRegistry() {
+        DataSourceStatisticsSQLExecutionHook hook = new DataSourceStatisticsSQLExecutionHook();
+        hook.start(createRouteUnit("test_ds_without_registry"), null, true, Collections.<String, Object>emptyMap());
+        hook.finishSuccess();
+        assertThat(registry.getStatistics("test_ds_without_registry").getLatencyNanos(), is(0D));
+    }
+    
+    @Test
+    public void assertGetAvailableDataSourceNamesWithoutEjected() {
+        List<String> dataSourceNames = Arrays.asList("test_ds_0", "test_ds_1");
+        assertThat(registry.getAvailableDataSourceNames(dataSourceNames), sameInstance(dataSourceNames));
+    }
+    
+    private Map<String, Object> createDataMap() {
+        return Collections.<String, Object>singletonMap(DataSourceStatisticsSQLExecutionHook.STATISTICS_REGISTRY, registry);
+    }
+    
+    private RouteUnit createRouteUnit(final String dataSourceName) {
+        return new RouteUnit(dataSourceName, new SQLUnit("SELECT 1", Collections.<List<Object>>emptyList()));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.prepare;
+
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatistics;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ConnectionPlannerTest {
+    
+    private final DataSourceStatisticsRegistry statisticsRegistry = new DataSourceStatisticsRegistry();
+    
+    private final ConnectionPlanner connectionPlanner = new ConnectionPlanner(5, statisticsRegistry, 0D);
+    
+    @Test
+    public void assertGetConnectionSizeWithoutMaxPoolSize() {
+        assertThat(connectionPlanner.getConnectionSize("test_ds", 10, 0), is(5));
+        assertThat(connectionPlanner.getConnectionSize("test_ds", 3, 0), is(3));
+    }
+    
+    @Test
+    public void assertGetConnectionSizeWithAvailableConnectionsOfPool() {
+        statisticsRegistry.getStatistics("test_ds").setMaxPoolSize(2);
+        assertThat(connectionPlanner.getConnectionSize("test_ds", 5, 0), is(2));
+    }
+    
+    @Test
+    public void assertGetConnectionSizeWithConnectionsHeldByStreamingResults() {
+        DataSourceStatistics statistics = statisticsRegistry.getStatistics("test_ds");
+        statistics.setMaxPoolSize(4);
+        statistics.acquireConnection();
+        statistics.acquireConnection();
+        statistics.acquireConnection();
+        assertThat(connectionPlanner.getConnectionSize("test_ds", 5, 0), is(1));
+        statistics.releaseConnection();
+        statistics.releaseConnection();
+        assertThat(connectionPlanner.getConnectionSize("test_ds", 5, 0), is(3));
+    }
+    
+    @Test
+    public void assertGetConnectionSizeWithExhaustedPool() {
+        DataSourceStatistics statistics = statisticsRegistry.getStatistics("test_ds");
+        statistics.setMaxPoolSize(1);
+        statistics.acquireConnection();
+        statistics.acquireConnection();
+        assertThat(connectionPlanner.getConnectionSize("test_ds", 5, 0), is(1));
+    }
+    
+    @Test
+    public void assertGetConnectionSizeWithCachedConnections() {
+        DataSourceStatistics statistics = statisticsRegistry.getStatistics("test_ds");
+        statistics.setMaxPoolSize(4);
+        statistics.acquireConnection();
+        statistics.acquireConnection();
+        statistics.acquireConnection();
+        assertThat(connectionPlanner.getConnectionSize("test_ds", 5, 3), is(4));
+        statistics.acquireConnection();
+        assertThat(connectionPlanner.getConnectionSize("test_ds", 5, 4), is(4));
+        assertThat(connectionPlanner.getConnectionSize("test_ds", 3, 4), is(3));
+    }
+    
+    @Test
+    public void assertGetConnectionSizeWhileMemoryTight() {
+        statisticsRegistry.getStatistics("test_ds").setMaxPoolSize(2);
+        assertThat(new ConnectionPlanner(5, statisticsRegistry, 1.1D).getConnectionSize("test_ds", 5, 0), is(5));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.prepare;
+
+import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.core.executor.ShardingExecuteGroup;
+import io.shardingsphere.core.executor.StatementExecuteUnit;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import lombok.RequiredArgsConstructor;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+public final class SQLExecutePrepareTemplateTest {
+    
+    private final DataSourceStatisticsRegistry statisticsRegistry = new DataSourceStatisticsRegistry();
+    
+    @Test
+    public void assertGetExecuteUnitGroupsWithMemoryStrictly() throws SQLException {
+        Collection<ShardingExecuteGroup<StatementExecuteUnit>> actual = new SQLExecutePrepareTemplate(3, statisticsRegistry).getExecuteUnitGroups(createRouteUnits("test_ds_memory_strictly", 2), new MockPrepareCallback(false));
+        assertThat(actual.size(), is(2));
+        for (ShardingExecuteGroup<StatementExecuteUnit> each : actual) {
+            assertThat(each.getInputs().size(), is(1));
+            assertThat(each.getInputs().get(0).getConnectionMode(), is(ConnectionMode.MEMORY_STRICTLY));
+        }
+        assertThat(statisticsRegistry.getStatistics("test_ds_memory_strictly").getStreamingUnitCount(), is(2L));
+    }
+    
+    @Test
+    public void assertGetExecuteUnitGroupsWithConnectionStrictly() throws SQLException {
+        Collection<ShardingExecuteGroup<StatementExecuteUnit>> actual = new SQLExecutePrepareTemplate(3, statisticsRegistry).getExecuteUnitGroups(createRouteUnits("test_ds_connection_strictly", 10), new MockPrepareCallback(false));
+        assertThat(actual.size(), is(3));
+        Iterator<ShardingExecuteGroup<StatementExecuteUnit>> iterator = actual.iterator();
+        assertThat(iterator.next().getInputs().size(), is(4));
+        assertThat(iterator.next().getInputs().size(), is(3));
+        ShardingExecuteGroup<StatementExecuteUnit> lastGroup = iterator.next();
+        assertThat(lastGroup.getInputs().size(), is(3));
+        assertThat(lastGroup.getInputs().get(0).getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+        assertThat(statisticsRegistry.getStatistics("test_ds_connection_strictly").getBufferedUnitCount(), is(10L));
+    }
+    
+    @Test
+    public void assertEjectAfterConsecutiveConnectionAcquisitionFailures() {
+        for (int i = 0; i < 3; i++) {
+            try {
+                new SQLExecutePrepareTemplate(3, statisticsRegistry).getExecuteUnitGroups(createRouteUnits("test_ds_unreachable", 1), new MockPrepareCallback(true));
+                fail("Expected SQLException");
+            } catch (final SQLException ignored) {
+            }
+        }
+        assertFalse(statisticsRegistry.getStatistics("test_ds_unreachable").isAvailable());
+    }
+    
+    private Collection<RouteUnit> createRouteUnits(final String dataSourceName, final int size) {
+        Collection<RouteUnit> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(new RouteUnit(dataSourceName, new SQLUnit("SELECT * FROM t_order_" + i, Collections.<List<Object>>emptyList())));
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class MockPrepareCallback implements SQLExecutePrepareCallback {
+        
+        private final boolean connectionFailed;
+        
+        @Override
+        public List<Connection> getConnections(final ConnectionMode connectionMode, final String dataSourceName, final int connectionSize) throws SQLException {
+            if (connectionFailed) {
+                throw new SQLTransientConnectionException("Connection is not available");
+            }
+            List<Connection> result = new ArrayList<>(connectionSize);
+            for (int i = 0; i < connectionSize; i++) {
+                result.add(mock(Connection.class));
+            }
+            return result;
+        }
+        
+        @Override
+        public int getCachedConnectionSize(final String dataSourceName) {
+            return 0;
+        }
+        
+        @Override
+        public StatementExecuteUnit createStatementExecuteUnit(final Connection connection, final RouteUnit routeUnit, final ConnectionMode connectionMode) {
+            return new StatementExecuteUnit(routeUnit, mock(Statement.class), connectionMode);
+        }
+    }
+}
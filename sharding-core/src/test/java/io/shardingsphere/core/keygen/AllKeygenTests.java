@@ -24,6 +24,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
         DefaultKeyGeneratorTest.class, 
+        ShardGeneKeyGeneratorTest.class, 
         KeyGeneratorFactoryTest.class
     })
 public final class AllKeygenTests {
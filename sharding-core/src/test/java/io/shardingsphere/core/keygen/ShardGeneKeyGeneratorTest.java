@@ -0,0 +1,76 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.keygen;
+
+import io.shardingsphere.core.exception.ShardingException;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardGeneKeyGeneratorTest {
+    
+    @Test
+    public void assertGenerateKey() {
+        ShardGeneKeyGenerator keyGenerator = new ShardGeneKeyGenerator();
+        Set<Number> generatedKeys = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            long actual = keyGenerator.generateKey(i % 3 + 1).longValue();
+            assertThat(ShardGeneKeyGenerator.findGene(actual).get(), is(i % 3 + 1));
+            generatedKeys.add(actual);
+        }
+        assertThat(generatedKeys.size(), is(1000));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithoutShardGene() {
+        assertFalse(ShardGeneKeyGenerator.findGene(new ShardGeneKeyGenerator().generateKey().longValue()).isPresent());
+    }
+    
+    @Test
+    public void assertFindGene() {
+        assertThat(ShardGeneKeyGenerator.findGene(130L).get(), is(2));
+        assertThat(ShardGeneKeyGenerator.findGene(130).get(), is(2));
+        assertFalse(ShardGeneKeyGenerator.findGene(127L).isPresent());
+        assertFalse(ShardGeneKeyGenerator.findGene(128L).isPresent());
+        assertFalse(ShardGeneKeyGenerator.findGene(-1L).isPresent());
+        assertFalse(ShardGeneKeyGenerator.findGene("130").isPresent());
+    }
+    
+    @Test
+    public void assertGetGene() {
+        int actual = ShardGeneKeyGenerator.getGene("ds_0", "t_order_0");
+        assertThat(ShardGeneKeyGenerator.getGene("DS_0", "T_ORDER_0"), is(actual));
+        assertTrue(actual >= 1 && actual < ShardGeneKeyGenerator.NO_GENE);
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertGenerateKeyWithTooLargeGene() {
+        new ShardGeneKeyGenerator().generateKey(64);
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertGenerateKeyWithZeroGene() {
+        new ShardGeneKeyGenerator().generateKey(0);
+    }
+}
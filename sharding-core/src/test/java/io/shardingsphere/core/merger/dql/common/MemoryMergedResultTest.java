@@ -26,6 +26,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.InputStream;
 import java.io.Reader;
+import java.math.BigDecimal;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.SQLException;
@@ -39,6 +40,7 @@ import java.util.Map;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -63,6 +65,25 @@ public final class MemoryMergedResultTest {
         assertThat(memoryMergedResult.getValue(1, Object.class).toString(), is("1"));
     }
     
+    @Test
+    public void assertGetIntWithColumnIndex() {
+        when(memoryResultSetRow.getCell(1)).thenReturn(1L);
+        assertThat(memoryMergedResult.getInt(1), is(1));
+        assertFalse(memoryMergedResult.wasNull());
+    }
+    
+    @Test
+    public void assertGetLongWithColumnIndexForNull() {
+        assertThat(memoryMergedResult.getLong(1), is(0L));
+        assertTrue(memoryMergedResult.wasNull());
+    }
+    
+    @Test
+    public void assertGetDoubleWithColumnIndex() {
+        when(memoryResultSetRow.getCell(1)).thenReturn(new BigDecimal("1.5"));
+        assertThat(memoryMergedResult.getDouble(1), is(1.5D));
+    }
+    
     @Test(expected = SQLFeatureNotSupportedException.class)
     public void assertGetValueWithColumnIndexForBlob() throws SQLException {
         memoryMergedResult.getValue(1, Blob.class);
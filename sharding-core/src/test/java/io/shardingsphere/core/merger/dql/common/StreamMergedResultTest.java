@@ -104,6 +104,24 @@ public final class StreamMergedResultTest {
         assertThat((long) streamMergedResult.getValue(1, long.class), is(1L));
     }
     
+    @Test
+    public void assertGetIntWithColumnIndex() throws SQLException {
+        when(resultSet.getInt(1)).thenReturn(1);
+        assertThat(streamMergedResult.getInt(1), is(1));
+    }
+    
+    @Test
+    public void assertGetLongWithColumnIndex() throws SQLException {
+        when(resultSet.getLong(1)).thenReturn(1L);
+        assertThat(streamMergedResult.getLong(1), is(1L));
+    }
+    
+    @Test
+    public void assertGetDoubleWithColumnIndex() throws SQLException {
+        when(resultSet.getDouble(1)).thenReturn(1D);
+        assertThat(streamMergedResult.getDouble(1), is(1D));
+    }
+    
     @Test
     public void assertGetValueWithColumnIndexWithFloat() throws SQLException {
         when(resultSet.getFloat(1)).thenReturn(1F);
@@ -42,6 +42,7 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -192,4 +193,29 @@ public final class GroupByStreamMergedResultTest {
         assertThat((BigDecimal) actual.getValue(6, Object.class), is(new BigDecimal(40)));
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertWasNullForPrimitiveGetters() throws SQLException {
+        mergeEngine = new DQLMergeEngine(queryResults, selectStatement);
+        when(resultSets.get(0).next()).thenReturn(true, false);
+        when(resultSets.get(0).getObject(1)).thenReturn(20);
+        when(resultSets.get(0).getObject(2)).thenReturn(0);
+        when(resultSets.get(0).getObject(3)).thenReturn(2);
+        when(resultSets.get(0).getObject(5)).thenReturn(2);
+        when(resultSets.get(0).getObject(6)).thenReturn(20);
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat(actual.getInt(4), is(0));
+        assertTrue(actual.wasNull());
+        assertThat(actual.getLong(3), is(2L));
+        assertFalse(actual.wasNull());
+        assertThat(actual.getDouble(4), is(0D));
+        assertTrue(actual.wasNull());
+        assertThat(actual.getInt(3), is(2));
+        assertFalse(actual.wasNull());
+        assertNull(actual.getValue(4, Object.class));
+        assertTrue(actual.wasNull());
+        assertThat(actual.getDouble(3), is(2D));
+        assertFalse(actual.wasNull());
+    }
 }
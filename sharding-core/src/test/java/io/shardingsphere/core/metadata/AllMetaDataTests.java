@@ -24,6 +24,9 @@ import io.shardingsphere.core.metadata.datasource.dialect.MySQLDataSourceMetaDat
 import io.shardingsphere.core.metadata.datasource.dialect.OracleDataSourceMetaDataTest;
 import io.shardingsphere.core.metadata.datasource.dialect.PostgreSQLDataSourceMetaDataTest;
 import io.shardingsphere.core.metadata.datasource.dialect.SQLServerDataSourceMetaDataTest;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaDataTest;
+import io.shardingsphere.core.metadata.table.TableMetaDataTest;
+import io.shardingsphere.core.metadata.table.executor.TableMetaDataLoaderTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -36,7 +39,10 @@ import org.junit.runners.Suite.SuiteClasses;
         PostgreSQLDataSourceMetaDataTest.class,
         SQLServerDataSourceMetaDataTest.class,
         DataSourceMetaDataFactoryTest.class,
-        ShardingDataSourceMetaDataTest.class
+        ShardingDataSourceMetaDataTest.class, 
+        TableMetaDataTest.class, 
+        ShardingTableMetaDataTest.class, 
+        TableMetaDataLoaderTest.class
     })
 public final class AllMetaDataTests {
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metadata.table;
+
+import com.google.common.collect.Lists;
+import io.shardingsphere.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.api.config.TableRuleConfiguration;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingTableMetaDataTest {
+    
+    private ShardingTableMetaData shardingTableMetaData;
+    
+    private ShardingRule originalShardingRule;
+    
+    @Before
+    public void setUp() {
+        Map<String, TableMetaData> tableMetaDataMap = new HashMap<>(3, 1);
+        tableMetaDataMap.put("t_order", new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", "int", true))));
+        tableMetaDataMap.put("t_order_item", new TableMetaData(Collections.singletonList(new ColumnMetaData("item_id", "int", true))));
+        tableMetaDataMap.put("t_config", new TableMetaData(Collections.singletonList(new ColumnMetaData("config_id", "int", true))));
+        shardingTableMetaData = new ShardingTableMetaData(tableMetaDataMap);
+        originalShardingRule = createShardingRule("ds_${0..1}.t_order_item_${0..1}");
+    }
+    
+    private ShardingRule createShardingRule(final String orderItemActualDataNodes) {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}"));
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_order_item", orderItemActualDataNodes));
+        shardingRuleConfig.setDefaultDataSourceName("ds_0");
+        return new ShardingRule(shardingRuleConfig, Lists.newArrayList("ds_0", "ds_1", "ds_2"));
+    }
+    
+    private TableRuleConfiguration createTableRuleConfiguration(final String logicTableName, final String actualDataNodes) {
+        TableRuleConfiguration result = new TableRuleConfiguration();
+        result.setLogicTable(logicTableName);
+        result.setActualDataNodes(actualDataNodes);
+        return result;
+    }
+    
+    @Test
+    public void assertContainsColumn() {
+        assertTrue(shardingTableMetaData.containsColumn("t_order", "ORDER_ID"));
+        assertFalse(shardingTableMetaData.containsColumn("t_order", "item_id"));
+        assertFalse(shardingTableMetaData.containsColumn("t_user", "order_id"));
+    }
+    
+    @Test
+    public void assertFindColumnIndex() {
+        assertThat(shardingTableMetaData.findColumnIndex("t_order", "Order_Id").get(), is(0));
+        assertFalse(shardingTableMetaData.findColumnIndex("t_order", "item_id").isPresent());
+        assertFalse(shardingTableMetaData.findColumnIndex("t_user", "order_id").isPresent());
+    }
+    
+    @Test
+    public void assertPutWithoutChangingReusableSnapshot() {
+        Map<String, TableMetaData> actual = shardingTableMetaData.getReusableTableMetaData(originalShardingRule, originalShardingRule, Collections.<String>emptyList());
+        shardingTableMetaData.put("t_user", new TableMetaData(Collections.singletonList(new ColumnMetaData("user_id", "int", true))));
+        assertTrue(shardingTableMetaData.containsColumn("t_user", "user_id"));
+        assertThat(actual.size(), is(3));
+        assertFalse(actual.containsKey("t_user"));
+    }
+    
+    @Test
+    public void assertGetReusableTableMetaDataWithUnchangedRule() {
+        Map<String, TableMetaData> actual = shardingTableMetaData.getReusableTableMetaData(originalShardingRule, createShardingRule("ds_${0..1}.t_order_item_${0..1}"), Collections.<String>emptyList());
+        assertThat(actual.size(), is(3));
+    }
+    
+    @Test
+    public void assertGetReusableTableMetaDataWithChangedTableRule() {
+        Map<String, TableMetaData> actual = shardingTableMetaData.getReusableTableMetaData(originalShardingRule, createShardingRule("ds_${0..2}.t_order_item_${0..1}"), Collections.<String>emptyList());
+        assertThat(actual.size(), is(2));
+        assertFalse(actual.containsKey("t_order_item"));
+    }
+    
+    @Test
+    public void assertGetReusableTableMetaDataWithChangedDataSource() {
+        Map<String, TableMetaData> actual = shardingTableMetaData.getReusableTableMetaData(originalShardingRule, originalShardingRule, Collections.singletonList("ds_0"));
+        assertTrue(actual.isEmpty());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metadata.table;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TableMetaDataTest {
+    
+    private final TableMetaData tableMetaData = new TableMetaData(Arrays.asList(new ColumnMetaData("Order_Id", "int", true), new ColumnMetaData("user_id", "int", false)));
+    
+    @Test
+    public void assertGetAllColumnNames() {
+        assertThat(tableMetaData.getAllColumnNames(), is((Object) Arrays.asList("order_id", "user_id")));
+    }
+    
+    @Test
+    public void assertContainsColumn() {
+        assertTrue(tableMetaData.containsColumn("ORDER_ID"));
+        assertFalse(tableMetaData.containsColumn("status"));
+    }
+    
+    @Test
+    public void assertFindColumnIndex() {
+        assertThat(tableMetaData.findColumnIndex("order_id").get(), is(0));
+        assertThat(tableMetaData.findColumnIndex("USER_ID").get(), is(1));
+        assertFalse(tableMetaData.findColumnIndex("status").isPresent());
+    }
+    
+    @Test
+    public void assertIsPrimaryKey() {
+        assertTrue(tableMetaData.isPrimaryKey("order_id"));
+        assertFalse(tableMetaData.isPrimaryKey("user_id"));
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void assertColumnMetaDataIsImmutable() {
+        tableMetaData.getColumnMetaData().clear();
+    }
+}
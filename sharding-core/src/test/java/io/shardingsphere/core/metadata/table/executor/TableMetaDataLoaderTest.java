@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metadata.table.executor;
+
+import com.google.common.collect.Lists;
+import io.shardingsphere.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.api.config.TableRuleConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.metadata.table.ColumnMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TableMetaDataLoaderTest {
+    
+    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(2);
+    
+    private ShardingRule shardingRule;
+    
+    private TableMetaDataLoader tableMetaDataLoader;
+    
+    @Before
+    public void setUp() throws SQLException {
+        Map<String, String> dataSourceURLs = new LinkedHashMap<>(2, 1);
+        for (String each : Arrays.asList("ds_0", "ds_1")) {
+            dataSourceURLs.put(each, getURL(each));
+            try (Connection connection = DriverManager.getConnection(getURL(each));
+                 Statement statement = connection.createStatement()) {
+                for (int i = 0; i < 2; i++) {
+                    statement.execute(String.format("CREATE TABLE IF NOT EXISTS t_order_%s (order_id INT PRIMARY KEY, user_id INT)", i));
+                    statement.execute(String.format("CREATE TABLE IF NOT EXISTS t_order_item_%s (item_id INT PRIMARY KEY, order_id INT)", i));
+                }
+            }
+        }
+        shardingRule = createShardingRule();
+        tableMetaDataLoader = new TableMetaDataLoader(new ShardingDataSourceMetaData(dataSourceURLs, shardingRule, DatabaseType.H2), executeEngine, new TableMetaDataConnectionManager() {
+            
+            @Override
+            public Connection getConnection(final String dataSourceName) throws SQLException {
+                return DriverManager.getConnection(getURL(dataSourceName));
+            }
+        }, 2);
+    }
+    
+    @After
+    public void tearDown() {
+        executeEngine.close();
+    }
+    
+    private String getURL(final String dataSourceName) {
+        return String.format("jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", dataSourceName);
+    }
+    
+    private ShardingRule createShardingRule() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}"));
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_order_item", "ds_${0..1}.t_order_item_${0..1}"));
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_mixed", "ds_0.t_order_0,ds_1.t_order_item_0"));
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_absent", "ds_${0..1}.t_absent"));
+        return new ShardingRule(shardingRuleConfig, Lists.newArrayList("ds_0", "ds_1"));
+    }
+    
+    private TableRuleConfiguration createTableRuleConfiguration(final String logicTableName, final String actualDataNodes) {
+        TableRuleConfiguration result = new TableRuleConfiguration();
+        result.setLogicTable(logicTableName);
+        result.setActualDataNodes(actualDataNodes);
+        return result;
+    }
+    
+    @Test
+    public void assertLoadWithLogicTableNames() throws SQLException {
+        Map<String, TableMetaData> actual = tableMetaDataLoader.load(Arrays.asList("t_order", "t_order_item"), shardingRule);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("t_order"), is(new TableMetaData(Arrays.asList(new ColumnMetaData("order_id", "integer", true), new ColumnMetaData("user_id", "integer", false)))));
+        assertThat(actual.get("t_order_item"), is(new TableMetaData(Arrays.asList(new ColumnMetaData("item_id", "integer", true), new ColumnMetaData("order_id", "integer", false)))));
+    }
+    
+    @Test
+    public void assertLoadWithAbsentActualTables() throws SQLException {
+        assertTrue(tableMetaDataLoader.load("t_absent", shardingRule).getColumnMetaData().isEmpty());
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertLoadWithDifferentActualTables() throws SQLException {
+        tableMetaDataLoader.load(Collections.singletonList("t_mixed"), shardingRule);
+    }
+}
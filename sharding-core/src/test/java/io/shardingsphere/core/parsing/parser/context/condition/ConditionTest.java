@@ -22,6 +22,7 @@ import io.shardingsphere.api.algorithm.sharding.RangeShardingValue;
 import io.shardingsphere.api.algorithm.sharding.ShardingValue;
 import io.shardingsphere.core.parsing.parser.expression.SQLExpression;
 import io.shardingsphere.core.parsing.parser.expression.SQLNumberExpression;
+import io.shardingsphere.core.parsing.parser.expression.SQLPlaceholderExpression;
 import org.junit.Test;
 
 import java.util.Arrays;
@@ -48,4 +49,11 @@ public final class ConditionTest {
         assertThat((Integer) ((RangeShardingValue) shardingValue).getValueRange().lowerEndpoint(), is(1));
         assertThat((Integer) ((RangeShardingValue) shardingValue).getValueRange().upperEndpoint(), is(2));
     }
+    
+    @Test
+    public void assertGetConditionValuesWithPlaceholders() {
+        Condition condition = new Condition(new Column("test", "test"), Arrays.<SQLExpression>asList(
+                new SQLPlaceholderExpression(0), new SQLNumberExpression(2), new SQLPlaceholderExpression(1), new SQLNumberExpression(4)));
+        assertThat(condition.getConditionValues(Arrays.<Object>asList(1, 3)), is(Arrays.<Comparable<?>>asList(1, 2, 3, 4)));
+    }
 }
@@ -42,6 +42,7 @@ import io.shardingsphere.core.parsing.parser.token.OrderByToken;
 import io.shardingsphere.core.parsing.parser.token.RowCountToken;
 import io.shardingsphere.core.parsing.parser.token.SchemaToken;
 import io.shardingsphere.core.parsing.parser.token.TableToken;
+import io.shardingsphere.core.routing.SQLUnit;
 import io.shardingsphere.core.routing.type.RoutingTable;
 import io.shardingsphere.core.routing.type.TableUnit;
 import io.shardingsphere.core.rule.DataNode;
@@ -174,6 +175,34 @@ public final class SQLRewriteEngineTest {
         assertThat(rewriteEngine.rewrite(true).toSQL(tableUnit, tableTokens, null, shardingDataSourceMetaData).getSql(), is("INSERT INTO table_1 (name, age, id) VALUES (?, ?, ?)"));
     }
     
+    @Test
+    public void assertRewriteForMultipleInsertValuesGroupedByDataNode() {
+        List<Object> parameters = Arrays.<Object>asList("x", 1, "y", 2, "z", 3);
+        insertStatement.setParametersIndex(6);
+        insertStatement.setInsertValuesListLastPosition(61);
+        insertStatement.addSQLToken(new TableToken(12, 0, "table_x"));
+        insertStatement.addSQLToken(new InsertValuesToken(39, "table_x"));
+        InsertShardingCondition shardingCondition1 = new InsertShardingCondition("(?, ?)", Arrays.<Object>asList("x", 1));
+        shardingCondition1.getDataNodes().add(new DataNode("db0.table_1"));
+        InsertShardingCondition shardingCondition2 = new InsertShardingCondition("(?, ?)", Arrays.<Object>asList("y", 2));
+        shardingCondition2.getDataNodes().add(new DataNode("db0.table_2"));
+        InsertShardingCondition shardingCondition3 = new InsertShardingCondition("(?, ?)", Arrays.<Object>asList("z", 3));
+        shardingCondition3.getDataNodes().add(new DataNode("db0.table_1"));
+        TableUnit tableUnit1 = new TableUnit("db0");
+        tableUnit1.getRoutingTables().add(new RoutingTable("table_x", "table_1"));
+        TableUnit tableUnit2 = new TableUnit("db0");
+        tableUnit2.getRoutingTables().add(new RoutingTable("table_x", "table_2"));
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, "INSERT INTO table_x (name, age) VALUES (?, ?), (?, ?), (?, ?)", DatabaseType.MySQL, insertStatement, 
+                new ShardingConditions(Arrays.<ShardingCondition>asList(shardingCondition1, shardingCondition2, shardingCondition3)), parameters);
+        SQLBuilder sqlBuilder = rewriteEngine.rewrite(true);
+        SQLUnit actual1 = sqlBuilder.toSQL(tableUnit1, Collections.singletonMap("table_x", "table_1"), null, shardingDataSourceMetaData);
+        assertThat(actual1.getSql(), is("INSERT INTO table_1 (name, age) VALUES (?, ?), (?, ?)"));
+        assertThat(actual1.getParameterSets().get(0), is(Arrays.<Object>asList("x", 1, "z", 3)));
+        SQLUnit actual2 = sqlBuilder.toSQL(tableUnit2, Collections.singletonMap("table_x", "table_2"), null, shardingDataSourceMetaData);
+        assertThat(actual2.getSql(), is("INSERT INTO table_2 (name, age) VALUES (?, ?)"));
+        assertThat(actual2.getParameterSets().get(0), is(Arrays.<Object>asList("y", 2)));
+    }
+    
     @Test
     public void assertRewriteForAutoGeneratedKeyColumnWithoutColumnsWithParameter() {
         List<Object> parameters = new ArrayList<>();
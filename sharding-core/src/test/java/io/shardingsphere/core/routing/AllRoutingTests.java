@@ -17,9 +17,12 @@
 
 package io.shardingsphere.core.routing;
 
+import io.shardingsphere.core.routing.index.IndexTableEngineTest;
 import io.shardingsphere.core.routing.router.DatabaseHintSQLRouterTest;
+import io.shardingsphere.core.routing.router.masterslave.MasterSlaveRouterTest;
 import io.shardingsphere.core.routing.type.broadcast.DatabaseBroadcastRoutingEngineTest;
 import io.shardingsphere.core.routing.type.broadcast.TableBroadcastRoutingEngineTest;
+import io.shardingsphere.core.routing.type.complex.ComplexRoutingEngineTest;
 import io.shardingsphere.core.routing.type.defaultdb.DefaultDatabaseRoutingEngineTest;
 import io.shardingsphere.core.routing.type.hint.DatabaseHintRoutingEngineTest;
 import io.shardingsphere.core.routing.type.ignore.IgnoreRoutingEngineTest;
@@ -32,12 +35,15 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({
         DatabaseTest.class,
         DatabaseHintSQLRouterTest.class,
+        MasterSlaveRouterTest.class,
         DatabaseBroadcastRoutingEngineTest.class,
         TableBroadcastRoutingEngineTest.class,
         DefaultDatabaseRoutingEngineTest.class,
         DatabaseHintRoutingEngineTest.class,
         IgnoreRoutingEngineTest.class,
-        StandardRoutingEngineTest.class
+        StandardRoutingEngineTest.class,
+        ComplexRoutingEngineTest.class,
+        IndexTableEngineTest.class
 })
 public final class AllRoutingTests {
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.index;
+
+import io.shardingsphere.api.config.IndexTableRuleConfiguration;
+import io.shardingsphere.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.api.config.TableRuleConfiguration;
+import io.shardingsphere.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.parsing.parser.exception.SQLParsingException;
+import io.shardingsphere.core.routing.PreparedStatementRoutingEngine;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.core.routing.SQLUnit;
+import io.shardingsphere.core.routing.StatementRoutingEngine;
+import io.shardingsphere.core.rule.IndexTableRule;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class IndexTableEngineTest {
+    
+    private final Map<Comparable<?>, Collection<Comparable<?>>> lookupResult = new HashMap<>();
+    
+    private final List<Collection<Comparable<?>>> lookupIndexValues = new LinkedList<>();
+    
+    private ShardingRule shardingRule;
+    
+    private IndexTableLookup indexTableLookup;
+    
+    @Before
+    public void setUp() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration orderTableRuleConfig = new TableRuleConfiguration();
+        orderTableRuleConfig.setLogicTable("t_order");
+        orderTableRuleConfig.setActualDataNodes("ds_${0..1}.t_order_${0..1}");
+        orderTableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        orderTableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "t_order_${user_id.intdiv(2) % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(orderTableRuleConfig);
+        TableRuleConfiguration indexTableRuleConfig = new TableRuleConfiguration();
+        indexTableRuleConfig.setLogicTable("t_order_index");
+        indexTableRuleConfig.setActualDataNodes("ds_0.t_order_index");
+        shardingRuleConfig.getTableRuleConfigs().add(indexTableRuleConfig);
+        IndexTableRuleConfiguration indexTableConfig = new IndexTableRuleConfiguration();
+        indexTableConfig.setLogicTable("t_order");
+        indexTableConfig.setIndexColumn("user_name");
+        indexTableConfig.setIndexTable("t_order_index");
+        shardingRuleConfig.getIndexTableRuleConfigs().add(indexTableConfig);
+        shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        indexTableLookup = new IndexTableLookup() {
+            
+            @Override
+            public Map<Comparable<?>, Collection<Comparable<?>>> lookup(final IndexTableRule indexTableRule, final Collection<Comparable<?>> indexValues) {
+                lookupIndexValues.add(indexValues);
+                return lookupResult;
+            }
+        };
+    }
+    
+    @Test
+    public void assertLookupWithIndexValue() {
+        lookupResult.put("foo", Collections.<Comparable<?>>singletonList(3));
+        SQLRouteResult actual = route("SELECT * FROM t_order WHERE user_name = 'foo'");
+        assertThat(lookupIndexValues.size(), is(1));
+        assertThat(lookupIndexValues.get(0).iterator().next(), is((Comparable) "foo"));
+        assertThat(actual.getRouteUnits().size(), is(1));
+        assertThat(actual.getRouteUnits().iterator().next().getDataSourceName(), is("ds_1"));
+        assertThat(actual.getRouteUnits().iterator().next().getSqlUnit().getSql(), is("SELECT * FROM t_order_1 WHERE user_name = 'foo'"));
+        assertTrue(actual.getIndexTableSQLUnits().isEmpty());
+    }
+    
+    @Test
+    public void assertLookupWithoutIndexEntry() {
+        assertThat(route("SELECT * FROM t_order WHERE user_name = 'foo'").getRouteUnits().size(), is(4));
+        assertThat(lookupIndexValues.size(), is(1));
+    }
+    
+    @Test
+    public void assertLookupWithMultipleIndexValues() {
+        lookupResult.put("foo", Collections.<Comparable<?>>singletonList(3));
+        lookupResult.put("bar", Collections.<Comparable<?>>singletonList(1));
+        SQLRouteResult actual = route("SELECT * FROM t_order WHERE user_name IN ('foo', 'bar')");
+        assertThat(actual.getRouteUnits().size(), is(2));
+        for (RouteUnit each : actual.getRouteUnits()) {
+            assertThat(each.getDataSourceName(), is("ds_1"));
+        }
+    }
+    
+    @Test
+    public void assertLookupWithPartialIndexEntries() {
+        lookupResult.put("foo", Collections.<Comparable<?>>singletonList(3));
+        assertThat(route("SELECT * FROM t_order WHERE user_name IN ('foo', 'bar')").getRouteUnits().size(), is(4));
+        assertThat(lookupIndexValues.size(), is(1));
+    }
+    
+    @Test
+    public void assertLookupWithShardingValue() {
+        lookupResult.put("foo", Collections.<Comparable<?>>singletonList(3));
+        assertThat(route("SELECT * FROM t_order WHERE user_name = 'foo' AND user_id = 0").getRouteUnits().iterator().next().getDataSourceName(), is("ds_0"));
+        assertTrue(lookupIndexValues.isEmpty());
+    }
+    
+    @Test
+    public void assertMaintainForInsert() {
+        SQLRouteResult actual = new PreparedStatementRoutingEngine("INSERT INTO t_order (user_id, user_name, status) VALUES (?, ?, ?)", shardingRule, 
+                createShardingTableMetaData(), DatabaseType.MySQL, false, 0, null, indexTableLookup).route(Arrays.<Object>asList(3, "foo", "init"));
+        assertThat(actual.getRouteUnits().size(), is(1));
+        assertIndexTableSQLUnit(actual, "INSERT INTO t_order_index (user_name, user_id) VALUES (?, ?)", "foo", 3);
+    }
+    
+    @Test
+    public void assertMaintainForInsertWithoutIndexValue() {
+        assertTrue(route("INSERT INTO t_order (user_id, status) VALUES (3, 'init')").getIndexTableSQLUnits().isEmpty());
+    }
+    
+    @Test
+    public void assertMaintainForInsertOnDuplicateKeyUpdateIndexColumn() {
+        SQLRouteResult actual = route("INSERT INTO t_order (user_id, user_name) VALUES (3, 'foo') ON DUPLICATE KEY UPDATE user_name = VALUES(user_name)");
+        assertIndexTableSQLUnit(actual, "INSERT INTO t_order_index (user_name, user_id) VALUES (?, ?)", "foo", 3);
+    }
+    
+    @Test(expected = SQLParsingException.class)
+    public void assertInsertOnDuplicateKeyUpdateIndexColumnWithOtherValue() {
+        route("INSERT INTO t_order (user_id, user_name) VALUES (3, 'foo') ON DUPLICATE KEY UPDATE user_name = 'bar'");
+    }
+    
+    @Test
+    public void assertMaintainForUpdateWithShardingValue() {
+        SQLRouteResult actual = new PreparedStatementRoutingEngine("UPDATE t_order SET user_name = ? WHERE user_id = ?", shardingRule, 
+                createShardingTableMetaData(), DatabaseType.MySQL, false, 0, null, indexTableLookup).route(Arrays.<Object>asList("bar", 3));
+        assertIndexTableSQLUnit(actual, "INSERT INTO t_order_index (user_name, user_id) VALUES (?, ?)", "bar", 3);
+    }
+    
+    @Test
+    public void assertMaintainForUpdateWithoutShardingValue() {
+        assertIndexTableSQLUnit(route("UPDATE t_order SET user_name = 'bar' WHERE status = 'init'"), "DELETE FROM t_order_index WHERE user_name = ?", "bar");
+    }
+    
+    @Test
+    public void assertMaintainForUpdateWithoutIndexColumn() {
+        assertTrue(route("UPDATE t_order SET status = 'init' WHERE user_id = 3").getIndexTableSQLUnits().isEmpty());
+    }
+    
+    @Test
+    public void assertMaintainForDelete() {
+        assertIndexTableSQLUnit(route("DELETE FROM t_order WHERE user_name IN ('foo', 'bar')"), "DELETE FROM t_order_index WHERE user_name IN (?, ?)", "foo", "bar");
+    }
+    
+    @Test
+    public void assertMaintainForDeleteWithoutIndexValue() {
+        assertTrue(route("DELETE FROM t_order WHERE user_id = 3").getIndexTableSQLUnits().isEmpty());
+    }
+    
+    private SQLRouteResult route(final String sql) {
+        return new StatementRoutingEngine(shardingRule, createShardingTableMetaData(), DatabaseType.MySQL, false, 0, null, indexTableLookup).route(sql);
+    }
+    
+    private ShardingTableMetaData createShardingTableMetaData() {
+        return new ShardingTableMetaData(new HashMap<String, TableMetaData>());
+    }
+    
+    private void assertIndexTableSQLUnit(final SQLRouteResult actual, final String expectedSQL, final Object... expectedParameters) {
+        assertThat(actual.getIndexTableSQLUnits().size(), is(1));
+        SQLUnit sqlUnit = actual.getIndexTableSQLUnits().iterator().next();
+        assertThat(sqlUnit.getSql(), is(expectedSQL));
+        assertThat(sqlUnit.getParameterSets(), is(Collections.singletonList(Arrays.asList(expectedParameters))));
+    }
+}
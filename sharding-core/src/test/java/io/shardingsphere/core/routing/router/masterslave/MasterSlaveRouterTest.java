@@ -0,0 +1,108 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave;
+
+import io.shardingsphere.api.HintManager;
+import io.shardingsphere.api.algorithm.masterslave.MySQLReplicationLagProbe;
+import io.shardingsphere.api.algorithm.masterslave.RoundRobinMasterSlaveLoadBalanceAlgorithm;
+import io.shardingsphere.api.config.MasterSlaveRuleConfiguration;
+import io.shardingsphere.core.hint.HintManagerHolder;
+import io.shardingsphere.core.rule.MasterSlaveRule;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class MasterSlaveRouterTest {
+    
+    private static final String QUERY_SQL = "SELECT * FROM t_order";
+    
+    private static final String UPDATE_SQL = "UPDATE t_order SET status = 'finished'";
+    
+    @After
+    public void tearDown() {
+        MasterVisitedManager.clear();
+        HintManagerHolder.clear();
+    }
+    
+    @Test
+    public void assertRouteWithoutReplicationLagProbe() {
+        MasterSlaveRouter masterSlaveRouter = new MasterSlaveRouter(createMasterSlaveRule("test_ds_no_probe_slave", false, 0L), false);
+        assertThat(new ArrayList<>(masterSlaveRouter.route(QUERY_SQL)), is(Collections.singletonList("test_ds_no_probe_slave")));
+        assertThat(new ArrayList<>(masterSlaveRouter.route(UPDATE_SQL)), is(Collections.singletonList("test_ds_master")));
+        assertThat(new ArrayList<>(masterSlaveRouter.route(QUERY_SQL)), is(Collections.singletonList("test_ds_master")));
+    }
+    
+    @Test
+    public void assertRouteToMasterIfSlaveExceedMaxReplicationLag() {
+        MasterSlaveRule masterSlaveRule = createMasterSlaveRule("test_ds_lagging_slave", true, 1000L);
+        masterSlaveRule.getStatisticsRegistry().getStatistics("test_ds_lagging_slave").updateReplicatedUntilMillis(System.currentTimeMillis() - 60000L);
+        MasterSlaveRouter masterSlaveRouter = new MasterSlaveRouter(masterSlaveRule, false);
+        assertThat(new ArrayList<>(masterSlaveRouter.route(QUERY_SQL)), is(Collections.singletonList("test_ds_master")));
+    }
+    
+    @Test
+    public void assertRouteToSlaveIfSlaveWithinMaxReplicationLag() {
+        MasterSlaveRule masterSlaveRule = createMasterSlaveRule("test_ds_caught_up_slave", true, 60000L);
+        masterSlaveRule.getStatisticsRegistry().getStatistics("test_ds_caught_up_slave").updateReplicatedUntilMillis(System.currentTimeMillis());
+        MasterSlaveRouter masterSlaveRouter = new MasterSlaveRouter(masterSlaveRule, false);
+        assertThat(new ArrayList<>(masterSlaveRouter.route(QUERY_SQL)), is(Collections.singletonList("test_ds_caught_up_slave")));
+    }
+    
+    @Test
+    public void assertRouteWithReadConsistencyToken() {
+        long lastWriteTimestampMillis = System.currentTimeMillis();
+        MasterSlaveRule masterSlaveRule = createMasterSlaveRule("test_ds_token_slave", true, 0L);
+        MasterSlaveRouter masterSlaveRouter = new MasterSlaveRouter(masterSlaveRule, false);
+        HintManager.getInstance().setReadConsistencyToken(lastWriteTimestampMillis);
+        masterSlaveRule.getStatisticsRegistry().getStatistics("test_ds_token_slave").updateReplicatedUntilMillis(lastWriteTimestampMillis - 1000L);
+        assertThat(new ArrayList<>(masterSlaveRouter.route(QUERY_SQL)), is(Collections.singletonList("test_ds_master")));
+        masterSlaveRule.getStatisticsRegistry().getStatistics("test_ds_token_slave").updateReplicatedUntilMillis(lastWriteTimestampMillis);
+        assertThat(new ArrayList<>(masterSlaveRouter.route(QUERY_SQL)), is(Collections.singletonList("test_ds_token_slave")));
+    }
+    
+    @Test
+    public void assertRouteToMasterAfterWriteWithReadConsistencyToken() {
+        long lastWriteTimestampMillis = System.currentTimeMillis();
+        MasterSlaveRule masterSlaveRule = createMasterSlaveRule("test_ds_written_slave", true, 0L);
+        MasterSlaveRouter masterSlaveRouter = new MasterSlaveRouter(masterSlaveRule, false);
+        assertThat(new ArrayList<>(masterSlaveRouter.route(UPDATE_SQL)), is(Collections.singletonList("test_ds_master")));
+        HintManager.getInstance().setReadConsistencyToken(lastWriteTimestampMillis);
+        masterSlaveRule.getStatisticsRegistry().getStatistics("test_ds_written_slave").updateReplicatedUntilMillis(lastWriteTimestampMillis);
+        assertThat(new ArrayList<>(masterSlaveRouter.route(QUERY_SQL)), is(Collections.singletonList("test_ds_master")));
+    }
+    
+    @Test
+    public void assertRouteWithStatisticsOfOwnRule() {
+        MasterSlaveRule laggingMasterSlaveRule = createMasterSlaveRule("test_ds_shared_name_slave", true, 1000L);
+        MasterSlaveRule caughtUpMasterSlaveRule = createMasterSlaveRule("test_ds_shared_name_slave", true, 1000L);
+        laggingMasterSlaveRule.getStatisticsRegistry().getStatistics("test_ds_shared_name_slave").updateReplicatedUntilMillis(System.currentTimeMillis() - 60000L);
+        caughtUpMasterSlaveRule.getStatisticsRegistry().getStatistics("test_ds_shared_name_slave").updateReplicatedUntilMillis(System.currentTimeMillis());
+        assertThat(new ArrayList<>(new MasterSlaveRouter(laggingMasterSlaveRule, false).route(QUERY_SQL)), is(Collections.singletonList("test_ds_master")));
+        assertThat(new ArrayList<>(new MasterSlaveRouter(caughtUpMasterSlaveRule, false).route(QUERY_SQL)), is(Collections.singletonList("test_ds_shared_name_slave")));
+    }
+    
+    private MasterSlaveRule createMasterSlaveRule(final String slaveDataSourceName, final boolean withReplicationLagProbe, final long maxReplicationLagMilliseconds) {
+        return new MasterSlaveRule(new MasterSlaveRuleConfiguration("test_ds", "test_ds_master", Collections.singletonList(slaveDataSourceName), 
+                new RoundRobinMasterSlaveLoadBalanceAlgorithm(), withReplicationLagProbe ? new MySQLReplicationLagProbe() : null, maxReplicationLagMilliseconds));
+    }
+}
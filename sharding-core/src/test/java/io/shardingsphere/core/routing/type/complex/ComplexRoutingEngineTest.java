@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.type.complex;
+
+import io.shardingsphere.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.api.config.TableRuleConfiguration;
+import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.optimizer.condition.ShardingCondition;
+import io.shardingsphere.core.optimizer.condition.ShardingConditions;
+import io.shardingsphere.core.routing.type.RoutingResult;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ComplexRoutingEngineTest {
+    
+    private ShardingRule shardingRule;
+    
+    @Before
+    public void setUp() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfig("t_order"));
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfig("t_user"));
+        shardingRuleConfig.getBroadcastTables().add("t_config");
+        shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+    }
+    
+    private TableRuleConfiguration createTableRuleConfig(final String logicTableName) {
+        TableRuleConfiguration result = new TableRuleConfiguration();
+        result.setLogicTable(logicTableName);
+        result.setActualDataNodes(String.format("ds_${0..1}.%s_${0..1}", logicTableName));
+        return result;
+    }
+    
+    @Test
+    public void assertRouteWithCartesian() {
+        RoutingResult actual = new ComplexRoutingEngine(shardingRule, Arrays.asList("t_order", "t_user"), createEmptyShardingConditions(), 0).route();
+        assertThat(actual.getTableUnits().getTableUnits().size(), is(8));
+        assertThat(actual.getTableUnits().getTableUnits().get(0).getRoutingTables().size(), is(2));
+    }
+    
+    @Test
+    public void assertRouteWithinMaxCartesianRouteUnits() {
+        RoutingResult actual = new ComplexRoutingEngine(shardingRule, Arrays.asList("t_order", "t_user"), createEmptyShardingConditions(), 8).route();
+        assertThat(actual.getTableUnits().getTableUnits().size(), is(8));
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertRouteExceedMaxCartesianRouteUnits() {
+        new ComplexRoutingEngine(shardingRule, Arrays.asList("t_order", "t_user"), createEmptyShardingConditions(), 4).route();
+    }
+    
+    private ShardingConditions createEmptyShardingConditions() {
+        return new ShardingConditions(Collections.<ShardingCondition>emptyList());
+    }
+}
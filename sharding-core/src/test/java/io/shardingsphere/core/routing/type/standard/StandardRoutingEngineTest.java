@@ -17,11 +17,16 @@
 
 package io.shardingsphere.core.routing.type.standard;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Range;
 import io.shardingsphere.api.algorithm.sharding.ListShardingValue;
+import io.shardingsphere.api.algorithm.sharding.RangeShardingValue;
 import io.shardingsphere.api.algorithm.sharding.ShardingValue;
 import io.shardingsphere.api.config.ShardingRuleConfiguration;
 import io.shardingsphere.api.config.TableRuleConfiguration;
 import io.shardingsphere.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.api.config.strategy.SlotShardingStrategyConfiguration;
+import io.shardingsphere.core.keygen.ShardGeneKeyGenerator;
 import io.shardingsphere.core.optimizer.condition.ShardingCondition;
 import io.shardingsphere.core.optimizer.condition.ShardingConditions;
 import io.shardingsphere.core.routing.type.RoutingResult;
@@ -72,4 +77,57 @@ public final class StandardRoutingEngineTest {
         assertThat(routingResult.getTableUnits().getTableUnits().get(0).getRoutingTables().get(0).getActualTableName(), is("t_order_1"));
         assertThat(routingResult.getTableUnits().getTableUnits().get(0).getRoutingTables().get(0).getLogicTableName(), is("t_order"));
     }
+    
+    @Test
+    public void assertRouteByShardGeneKey() {
+        ShardingRule shardingRule = createShardGeneShardingRule();
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getShardingValues().add(new ListShardingValue<>("t_order", "order_id", Collections.singleton(shardingRule.generateKey("t_order", 7L).longValue())));
+        RoutingResult routingResult = new StandardRoutingEngine(shardingRule, "t_order", new ShardingConditions(Collections.singletonList(shardingCondition))).route();
+        assertThat(routingResult.getTableUnits().getTableUnits().size(), is(1));
+        assertThat(routingResult.getTableUnits().getTableUnits().get(0).getDataSourceName(), is("ds_1"));
+        assertThat(routingResult.getTableUnits().getTableUnits().get(0).getRoutingTables().get(0).getActualTableName(), is("t_order_0"));
+    }
+    
+    @Test
+    public void assertRouteByKeyWithoutShardGene() {
+        ShardingRule shardingRule = createShardGeneShardingRule();
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getShardingValues().add(new ListShardingValue<>("t_order", "order_id", Collections.singleton(shardingRule.generateKey("t_order").longValue())));
+        RoutingResult routingResult = new StandardRoutingEngine(shardingRule, "t_order", new ShardingConditions(Collections.singletonList(shardingCondition))).route();
+        assertThat(routingResult.getTableUnits().getTableUnits().size(), is(6));
+    }
+    
+    @Test
+    public void assertRouteWithSlotDatabaseAndTableShardingStrategies() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("t_order");
+        tableRuleConfig.setActualDataNodes("ds_0.t_order_${0..1},ds_1.t_order_${2..3}");
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new SlotShardingStrategyConfiguration("order_id", 4, ImmutableMap.of("0-1", "ds_0", "2-3", "ds_1")));
+        tableRuleConfig.setTableShardingStrategyConfig(new SlotShardingStrategyConfiguration("order_id", 4, ImmutableMap.of("0", "t_order_0", "1", "t_order_1", "2", "t_order_2", "3", "t_order_3")));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getShardingValues().add(new RangeShardingValue<>("t_order", "order_id", Range.closed(1L, 2L)));
+        RoutingResult routingResult = new StandardRoutingEngine(shardingRule, "t_order", new ShardingConditions(Collections.singletonList(shardingCondition))).route();
+        assertThat(routingResult.getTableUnits().getTableUnits().size(), is(2));
+        assertThat(routingResult.getTableUnits().getTableUnits().get(0).getDataSourceName(), is("ds_0"));
+        assertThat(routingResult.getTableUnits().getTableUnits().get(0).getRoutingTables().get(0).getActualTableName(), is("t_order_1"));
+        assertThat(routingResult.getTableUnits().getTableUnits().get(1).getDataSourceName(), is("ds_1"));
+        assertThat(routingResult.getTableUnits().getTableUnits().get(1).getRoutingTables().get(0).getActualTableName(), is("t_order_2"));
+    }
+    
+    private ShardingRule createShardGeneShardingRule() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("t_order");
+        tableRuleConfig.setActualDataNodes("ds_${0..1}.t_order_${0..2}");
+        tableRuleConfig.setKeyGeneratorColumnName("order_id");
+        tableRuleConfig.setKeyGenerator(new ShardGeneKeyGenerator());
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        shardingRuleConfig.setDefaultDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        shardingRuleConfig.setDefaultTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "t_order_${user_id.intdiv(2) % 3}"));
+        return new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+    }
 }
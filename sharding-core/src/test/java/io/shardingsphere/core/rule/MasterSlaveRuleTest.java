@@ -22,6 +22,9 @@ import org.junit.Test;
 
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
 public final class MasterSlaveRuleTest {
     
     @Test(expected = NullPointerException.class)
@@ -41,4 +44,11 @@ public final class MasterSlaveRuleTest {
         MasterSlaveRuleConfiguration masterSlaveRuleConfig = new MasterSlaveRuleConfiguration("master_slave", "master0", Collections.singletonList("slave0"), null);
         new MasterSlaveRule(masterSlaveRuleConfig);
     }
+    
+    @Test
+    public void assertGetSlaveDataSourceNamesWithCopy() {
+        MasterSlaveRule masterSlaveRule = new MasterSlaveRule(new MasterSlaveRuleConfiguration("master_slave", "master0", Collections.singletonList("slave0"), null));
+        masterSlaveRule.getSlaveDataSourceNames().clear();
+        assertThat(masterSlaveRule.getSlaveDataSourceNames(), is(Collections.singletonList("slave0")));
+    }
 }
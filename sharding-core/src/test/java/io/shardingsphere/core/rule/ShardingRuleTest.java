@@ -17,13 +17,20 @@
 
 package io.shardingsphere.core.rule;
 
+import com.google.common.collect.ImmutableMap;
 import io.shardingsphere.api.algorithm.fixture.TestPreciseShardingAlgorithm;
+import io.shardingsphere.api.config.IndexTableRuleConfiguration;
 import io.shardingsphere.api.config.ShardingRuleConfiguration;
 import io.shardingsphere.api.config.TableRuleConfiguration;
+import io.shardingsphere.api.config.strategy.HintShardingStrategyConfiguration;
+import io.shardingsphere.api.config.strategy.InlineShardingStrategyConfiguration;
 import io.shardingsphere.api.config.strategy.NoneShardingStrategyConfiguration;
 import io.shardingsphere.api.config.strategy.ShardingStrategyConfiguration;
+import io.shardingsphere.api.config.strategy.SlotShardingStrategyConfiguration;
 import io.shardingsphere.api.config.strategy.StandardShardingStrategyConfiguration;
 import io.shardingsphere.core.exception.ShardingConfigurationException;
+import io.shardingsphere.core.fixture.OrderDatabaseHintShardingAlgorithm;
+import io.shardingsphere.core.keygen.ShardGeneKeyGenerator;
 import io.shardingsphere.core.keygen.fixture.IncrementKeyGenerator;
 import io.shardingsphere.core.parsing.parser.context.condition.Column;
 import io.shardingsphere.core.routing.strategy.none.NoneShardingStrategy;
@@ -233,6 +240,36 @@ public final class ShardingRuleTest {
         assertFalse(createShardingRule().isAllBindingTables(Collections.singletonList("new_Table")));
     }
     
+    @Test
+    public void assertIsAllBroadcastTables() {
+        ShardingRule actual = createShardingRuleWithBroadcastTable();
+        assertTrue(actual.isBroadcastTable("T_CONFIG"));
+        assertTrue(actual.isAllBroadcastTables(Collections.singletonList("t_config")));
+        assertFalse(actual.isAllBroadcastTables(Arrays.asList("t_config", "logic_table")));
+        assertFalse(actual.isAllBroadcastTables(Collections.<String>emptyList()));
+    }
+    
+    @Test
+    public void assertGetNonBroadcastTables() {
+        assertThat(createShardingRuleWithBroadcastTable().getNonBroadcastTables(Arrays.asList("t_config", "logic_table")), is((Collection<String>) Collections.singletonList("logic_table")));
+    }
+    
+    @Test
+    public void assertGetTableRuleByBroadcastTable() {
+        TableRule actual = createShardingRuleWithBroadcastTable().getTableRuleByLogicTableName("t_config");
+        assertThat(actual.getActualDataNodes().size(), is(2));
+        assertThat(actual.getActualDataNodes().get(0), is(new DataNode("ds0", "t_config")));
+        assertThat(actual.getActualDataNodes().get(1), is(new DataNode("ds1", "t_config")));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertBroadcastTableConfiguredAsShardingTable() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfig());
+        shardingRuleConfig.getBroadcastTables().add("logic_table");
+        new ShardingRule(shardingRuleConfig, createDataSourceNames());
+    }
+    
     @Test
     public void assertIsShardingColumnForDefaultDatabaseShardingStrategy() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
@@ -263,6 +300,15 @@ public final class ShardingRuleTest {
         assertTrue(new ShardingRule(shardingRuleConfig, createDataSourceNames()).isShardingColumn(new Column("column", "logic_Table")));
     }
     
+    @Test
+    public void assertIsConditionColumnForShardGeneKeyColumn() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfigWithShardGeneKeyGenerator());
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSourceNames());
+        assertTrue(actual.isConditionColumn(new Column("id", "logic_Table")));
+        assertFalse(actual.isShardingColumn(new Column("id", "logic_Table")));
+    }
+    
     @Test
     public void assertIsNotShardingColumn() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
@@ -341,6 +387,133 @@ public final class ShardingRuleTest {
     
     }
     
+    @Test
+    public void assertGenerateKeyWithShardGeneKeyGenerator() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfigWithShardGeneKeyGenerator());
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSourceNames());
+        assertThat(ShardGeneKeyGenerator.findGene(actual.generateKey("logic_table", 7L).longValue()).get(), is(ShardGeneKeyGenerator.getGene("ds1", "table_1")));
+        assertThat(actual.findGeneDataNodes(actual.getTableRuleByLogicTableName("logic_table"), Collections.singletonList(actual.generateKey("logic_table", 7L))).get(),
+                is((Collection<DataNode>) Collections.singleton(new DataNode("ds1", "table_1"))));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithoutShardGene() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfigWithShardGeneKeyGenerator());
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSourceNames());
+        assertFalse(actual.findGeneDataNodes(actual.getTableRuleByLogicTableName("logic_table"), Collections.singletonList(actual.generateKey("logic_table"))).isPresent());
+    }
+    
+    @Test(expected = ShardingConfigurationException.class)
+    public void assertShardGeneKeyGeneratorWithHintShardingStrategy() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = createTableRuleConfigWithShardGeneKeyGenerator();
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new HintShardingStrategyConfiguration(new OrderDatabaseHintShardingAlgorithm()));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        new ShardingRule(shardingRuleConfig, createDataSourceNames());
+    }
+    
+    @Test
+    public void assertFindGeneDataNodesAfterDataNodesChanged() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfigWithShardGeneKeyGenerator());
+        Number generatedKey = new ShardingRule(shardingRuleConfig, createDataSourceNames()).generateKey("logic_table", 7L);
+        TableRuleConfiguration changedTableRuleConfig = createTableRuleConfigWithShardGeneKeyGenerator();
+        changedTableRuleConfig.setActualDataNodes("ds${0..1}.table_${0..3}");
+        ShardingRuleConfiguration changedShardingRuleConfig = new ShardingRuleConfiguration();
+        changedShardingRuleConfig.getTableRuleConfigs().add(changedTableRuleConfig);
+        ShardingRule actual = new ShardingRule(changedShardingRuleConfig, createDataSourceNames());
+        assertThat(actual.findGeneDataNodes(actual.getTableRuleByLogicTableName("logic_table"), Collections.singletonList(generatedKey)).get(),
+                is((Collection<DataNode>) Collections.singleton(new DataNode("ds1", "table_1"))));
+    }
+    
+    @Test
+    public void assertFindGeneDataNodesWithUnknownGene() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfigWithShardGeneKeyGenerator());
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSourceNames());
+        assertFalse(actual.findGeneDataNodes(actual.getTableRuleByLogicTableName("logic_table"), Collections.singletonList(1L)).isPresent());
+        assertFalse(actual.findGeneDataNodes(actual.getTableRuleByLogicTableName("logic_table"), Collections.singletonList(64L)).isPresent());
+    }
+    
+    @Test(expected = ShardingConfigurationException.class)
+    public void assertSlotShardingStrategyWithUnknownTarget() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = createTableRuleConfig();
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new SlotShardingStrategyConfiguration("column", 2, ImmutableMap.of("0", "ds0", "1", "ds2")));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        new ShardingRule(shardingRuleConfig, createDataSourceNames());
+    }
+    
+    @Test(expected = ShardingConfigurationException.class)
+    public void assertSlotShardingStrategiesWithSlotOutOfDataNodes() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("LOGIC_TABLE");
+        tableRuleConfig.setActualDataNodes("ds0.table_${0..1},ds1.table_${2..3}");
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new SlotShardingStrategyConfiguration("column", 4, ImmutableMap.of("0-1", "ds0", "2-3", "ds1")));
+        tableRuleConfig.setTableShardingStrategyConfig(new SlotShardingStrategyConfiguration("column", 4, ImmutableMap.of("0", "table_0", "1", "table_2", "2", "table_1", "3", "table_3")));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        new ShardingRule(shardingRuleConfig, createDataSourceNames());
+    }
+    
+    @Test(expected = ShardingConfigurationException.class)
+    public void assertShardGeneKeyGeneratorWithSlotShardingStrategy() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = createTableRuleConfigWithShardGeneKeyGenerator();
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new SlotShardingStrategyConfiguration("column", 2, ImmutableMap.of("0", "ds0", "1", "ds1")));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        new ShardingRule(shardingRuleConfig, createDataSourceNames());
+    }
+    
+    @Test
+    public void assertFindGeneColumnName() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfigWithShardGeneKeyGenerator());
+        shardingRuleConfig.getTableRuleConfigs().add(createSubTableRuleConfig());
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSourceNames());
+        assertThat(actual.findGeneColumnName(actual.getTableRuleByLogicTableName("logic_table")).get(), is("column"));
+        assertFalse(actual.findGeneColumnName(actual.getTableRuleByLogicTableName("sub_logic_table")).isPresent());
+    }
+    
+    @Test(expected = ShardingConfigurationException.class)
+    public void assertShardGeneKeyGeneratorWithoutShardingColumn() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = createTableRuleConfig();
+        tableRuleConfig.setKeyGeneratorColumnName("id");
+        tableRuleConfig.setKeyGenerator(new ShardGeneKeyGenerator());
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        new ShardingRule(shardingRuleConfig, createDataSourceNames());
+    }
+    
+    @Test
+    public void assertFindIndexTableRules() {
+        ShardingRule actual = createShardingRuleWithIndexTable();
+        assertThat(actual.findIndexTableRules("LOGIC_TABLE").size(), is(1));
+        IndexTableRule indexTableRule = actual.findIndexTableRules("logic_table").iterator().next();
+        assertThat(indexTableRule.getIndexTable(), is("sub_logic_table"));
+        assertThat(indexTableRule.getIndexColumn(), is("user_name"));
+        assertThat(indexTableRule.getShardingColumn(), is("column"));
+        assertTrue(actual.findIndexTableRules("sub_logic_table").isEmpty());
+    }
+    
+    @Test
+    public void assertIsConditionColumnForIndexColumn() {
+        ShardingRule actual = createShardingRuleWithIndexTable();
+        assertTrue(actual.isIndexColumn(new Column("USER_NAME", "logic_table")));
+        assertTrue(actual.isConditionColumn(new Column("USER_NAME", "logic_table")));
+        assertFalse(actual.isShardingColumn(new Column("USER_NAME", "logic_table")));
+    }
+    
+    @Test(expected = ShardingConfigurationException.class)
+    public void assertIndexTableWithoutTableRule() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfigWithAllStrategies());
+        shardingRuleConfig.getIndexTableRuleConfigs().add(createIndexTableRuleConfig());
+        new ShardingRule(shardingRuleConfig, createDataSourceNames());
+    }
+    
     @Test
     public void assertGetLogicTableNameSuccess() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
@@ -400,6 +573,29 @@ public final class ShardingRuleTest {
         return new ShardingRule(shardingRuleConfig, createDataSourceNames());
     }
     
+    private ShardingRule createShardingRuleWithBroadcastTable() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfig());
+        shardingRuleConfig.getBroadcastTables().add("t_config");
+        return new ShardingRule(shardingRuleConfig, createDataSourceNames());
+    }
+    
+    private ShardingRule createShardingRuleWithIndexTable() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfigWithAllStrategies());
+        shardingRuleConfig.getTableRuleConfigs().add(createSubTableRuleConfig());
+        shardingRuleConfig.getIndexTableRuleConfigs().add(createIndexTableRuleConfig());
+        return new ShardingRule(shardingRuleConfig, createDataSourceNames());
+    }
+    
+    private IndexTableRuleConfiguration createIndexTableRuleConfig() {
+        IndexTableRuleConfiguration result = new IndexTableRuleConfiguration();
+        result.setLogicTable("LOGIC_TABLE");
+        result.setIndexColumn("user_name");
+        result.setIndexTable("SUB_LOGIC_TABLE");
+        return result;
+    }
+    
     private Collection<String> createDataSourceNames() {
         return Arrays.asList("ds0", "ds1");
     }
@@ -458,4 +654,15 @@ public final class ShardingRuleTest {
         result.setTableShardingStrategyConfig(new StandardShardingStrategyConfiguration("column", new TestPreciseShardingAlgorithm()));
         return result;
     }
+    
+    private TableRuleConfiguration createTableRuleConfigWithShardGeneKeyGenerator() {
+        TableRuleConfiguration result = new TableRuleConfiguration();
+        result.setLogicTable("LOGIC_TABLE");
+        result.setActualDataNodes("ds${0..1}.table_${0..2}");
+        result.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("column", "ds${column % 2}"));
+        result.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("column", "table_${column % 3}"));
+        result.setKeyGeneratorColumnName("id");
+        result.setKeyGenerator(new ShardGeneKeyGenerator());
+        return result;
+    }
 }
@@ -20,6 +20,7 @@ package io.shardingsphere.core.util;
 import io.shardingsphere.core.exception.ShardingException;
 import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -93,4 +94,26 @@ public final class NumberUtilTest {
         assertThat(NumberUtil.getExactlyNumber(String.valueOf(Long.MIN_VALUE + 1), 10), is((Number) (Long.MIN_VALUE + 1)));
         assertThat(NumberUtil.getExactlyNumber(String.valueOf(Long.MAX_VALUE - 1), 10), is((Number) (Long.MAX_VALUE - 1)));
     }
+    
+    @Test
+    public void assertToLongValue() {
+        assertThat(NumberUtil.toLongValue(null), is(0L));
+        assertThat(NumberUtil.toLongValue(10), is(10L));
+        assertThat(NumberUtil.toLongValue(new BigDecimal("10.5")), is(10L));
+        assertThat(NumberUtil.toLongValue(true), is(1L));
+        assertThat(NumberUtil.toLongValue("10"), is(10L));
+    }
+    
+    @Test
+    public void assertToDoubleValue() {
+        assertThat(NumberUtil.toDoubleValue(null), is(0D));
+        assertThat(NumberUtil.toDoubleValue(10), is(10D));
+        assertThat(NumberUtil.toDoubleValue(new BigDecimal("10.5")), is(10.5D));
+        assertThat(NumberUtil.toDoubleValue("10.5"), is(10.5D));
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertToLongValueForInvalidValue() {
+        NumberUtil.toLongValue(new Object());
+    }
 }
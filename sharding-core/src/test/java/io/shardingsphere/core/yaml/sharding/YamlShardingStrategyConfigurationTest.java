@@ -21,6 +21,7 @@ import io.shardingsphere.api.config.strategy.ComplexShardingStrategyConfiguratio
 import io.shardingsphere.api.config.strategy.HintShardingStrategyConfiguration;
 import io.shardingsphere.api.config.strategy.InlineShardingStrategyConfiguration;
 import io.shardingsphere.api.config.strategy.NoneShardingStrategyConfiguration;
+import io.shardingsphere.api.config.strategy.SlotShardingStrategyConfiguration;
 import io.shardingsphere.api.config.strategy.StandardShardingStrategyConfiguration;
 import io.shardingsphere.core.fixture.ComplexOrderShardingAlgorithm;
 import io.shardingsphere.core.fixture.OrderDatabaseHintShardingAlgorithm;
@@ -30,9 +31,12 @@ import io.shardingsphere.core.yaml.sharding.strategy.YamlComplexShardingStrategy
 import io.shardingsphere.core.yaml.sharding.strategy.YamlHintShardingStrategyConfiguration;
 import io.shardingsphere.core.yaml.sharding.strategy.YamlInlineShardingStrategyConfiguration;
 import io.shardingsphere.core.yaml.sharding.strategy.YamlNoneShardingStrategyConfiguration;
+import io.shardingsphere.core.yaml.sharding.strategy.YamlSlotShardingStrategyConfiguration;
 import io.shardingsphere.core.yaml.sharding.strategy.YamlStandardShardingStrategyConfiguration;
 import org.junit.Test;
 
+import java.util.Map;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
@@ -117,6 +121,30 @@ public final class YamlShardingStrategyConfigurationTest {
         assertThat(actual.getAlgorithmExpression(), is("t_order_${order_id % 2}"));
     }
     
+    @Test
+    public void assertBuildWithSlot() {
+        assertSlotShardingStrategyConfig((SlotShardingStrategyConfiguration) createSlotShardingStrategyConfig().build());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private YamlShardingStrategyConfiguration createSlotShardingStrategyConfig() {
+        YamlSlotShardingStrategyConfiguration slotShardingStrategyConfig = new YamlSlotShardingStrategyConfiguration();
+        slotShardingStrategyConfig.setShardingColumn("order_id");
+        slotShardingStrategyConfig.setSlotCount(1024);
+        slotShardingStrategyConfig.getSlots().put("0-511", "ds_0");
+        ((Map) slotShardingStrategyConfig.getSlots()).put(512, "ds_1");
+        YamlShardingStrategyConfiguration result = new YamlShardingStrategyConfiguration();
+        result.setSlot(slotShardingStrategyConfig);
+        return result;
+    }
+    
+    private void assertSlotShardingStrategyConfig(final SlotShardingStrategyConfiguration actual) {
+        assertThat(actual.getShardingColumn(), is("order_id"));
+        assertThat(actual.getSlotCount(), is(1024));
+        assertThat(actual.getSlots().get("0-511"), is("ds_0"));
+        assertThat(actual.getSlots().get("512"), is("ds_1"));
+    }
+    
     @Test
     public void assertBuildWithNone() {
         assertNoneShardingStrategyConfig((NoneShardingStrategyConfiguration) createNoneShardingStrategyConfig().build());
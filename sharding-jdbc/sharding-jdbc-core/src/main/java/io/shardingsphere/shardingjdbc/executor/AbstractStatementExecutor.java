@@ -19,6 +19,7 @@ package io.shardingsphere.shardingjdbc.executor;
 
 import com.google.common.base.Function;
 import com.google.common.collect.Lists;
+import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
@@ -28,7 +29,12 @@ import io.shardingsphere.core.executor.ShardingExecuteGroup;
 import io.shardingsphere.core.executor.StatementExecuteUnit;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteCallback;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteTemplate;
+import io.shardingsphere.core.executor.sql.execute.result.MemoryQueryResult;
+import io.shardingsphere.core.executor.sql.execute.result.OffHeapQueryResult;
+import io.shardingsphere.core.executor.sql.execute.result.StreamQueryResult;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
 import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareTemplate;
+import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import io.shardingsphere.shardingjdbc.transaction.TransactionTypeHolder;
 import lombok.AccessLevel;
@@ -69,6 +75,8 @@ public class AbstractStatementExecutor {
     
     private final SQLExecuteTemplate sqlExecuteTemplate;
     
+    private final boolean offHeapQueryResultEnabled;
+    
     private final Collection<Connection> connections = new LinkedList<>();
     
     @Getter
@@ -82,6 +90,8 @@ public class AbstractStatementExecutor {
     
     private final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups = new LinkedList<>();
     
+    private final Collection<OffHeapQueryResult> offHeapQueryResults = new CopyOnWriteArrayList<>();
+    
     @Getter(AccessLevel.PROTECTED)
     @Setter
     private SQLType sqlType;
@@ -94,9 +104,12 @@ public class AbstractStatementExecutor {
         this.connection = shardingConnection;
         int maxConnectionsSizePerQuery = connection.getShardingContext().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
         ShardingExecuteEngine executeEngine = connection.getShardingContext().getExecuteEngine();
+        DataSourceStatisticsRegistry statisticsRegistry = connection.getShardingContext().getShardingRule().getStatisticsRegistry();
         sqlExecutePrepareTemplate = TransactionType.XA == TransactionTypeHolder.get()
-                ? new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery) : new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery, executeEngine);
-        sqlExecuteTemplate = new SQLExecuteTemplate(executeEngine);
+                ? new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery, statisticsRegistry) : new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery, executeEngine, statisticsRegistry);
+        sqlExecuteTemplate = new SQLExecuteTemplate(
+                executeEngine, connection.getShardingContext().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.QUERY_TIMEOUT_SECONDS), statisticsRegistry);
+        offHeapQueryResultEnabled = connection.getShardingContext().getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.OFF_HEAP_QUERY_RESULT_ENABLED);
     }
     
     protected final void cacheStatements() {
@@ -118,6 +131,18 @@ public class AbstractStatementExecutor {
         }
     }
     
+    protected final QueryResult createQueryResult(final ResultSet resultSet, final ConnectionMode connectionMode) throws SQLException {
+        if (ConnectionMode.MEMORY_STRICTLY == connectionMode) {
+            return new StreamQueryResult(resultSet);
+        }
+        if (!offHeapQueryResultEnabled || !OffHeapQueryResult.isSupported(resultSet.getMetaData())) {
+            return new MemoryQueryResult(resultSet);
+        }
+        OffHeapQueryResult result = new OffHeapQueryResult(resultSet);
+        offHeapQueryResults.add(result);
+        return result;
+    }
+    
     @SuppressWarnings("unchecked")
     protected final <T> List<T> executeCallback(final SQLExecuteCallback<T> executeCallback) throws SQLException {
         return sqlExecuteTemplate.executeGroup((Collection) executeGroups, executeCallback);
@@ -129,6 +154,7 @@ public class AbstractStatementExecutor {
      * @throws SQLException sql exception
      */
     public void clear() throws SQLException {
+        closeOffHeapQueryResults();
         clearStatements();
         statements.clear();
         parameterSets.clear();
@@ -137,9 +163,29 @@ public class AbstractStatementExecutor {
         executeGroups.clear();
     }
     
+    /**
+     * Close off-heap query results to release their off-heap chunks and temp files.
+     */
+    public void closeOffHeapQueryResults() {
+        for (OffHeapQueryResult each : offHeapQueryResults) {
+            each.close();
+        }
+        offHeapQueryResults.clear();
+    }
+    
     private void clearStatements() throws SQLException {
         for (Statement each : getStatements()) {
-            each.close();
+            closeStatement(each);
         }
     }
+    
+    /**
+     * Close statement.
+     *
+     * @param statement statement to be closed
+     * @throws SQLException SQL exception
+     */
+    public void closeStatement(final Statement statement) throws SQLException {
+        statement.close();
+    }
 }
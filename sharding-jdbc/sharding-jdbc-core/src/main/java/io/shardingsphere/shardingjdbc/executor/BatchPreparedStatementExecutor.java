@@ -18,9 +18,6 @@
 package io.shardingsphere.shardingjdbc.executor;
 
 import com.google.common.base.Function;
-import com.google.common.base.Optional;
-import com.google.common.base.Predicate;
-import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.constant.DatabaseType;
@@ -41,8 +38,13 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 
 /**
@@ -54,7 +56,9 @@ import java.util.Map.Entry;
  */
 public final class BatchPreparedStatementExecutor extends AbstractStatementExecutor {
     
-    private final Collection<BatchRouteUnit> routeUnits = new LinkedList<>();
+    private final Map<RouteUnit, BatchRouteUnit> routeUnits = new LinkedHashMap<>();
+    
+    private final Map<Statement, BatchRouteUnit> statementRouteUnits = new IdentityHashMap<>();
     
     @Getter
     private final boolean returnGeneratedKeys;
@@ -73,23 +77,27 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
      * @throws SQLException SQL exception
      */
     public void init() throws SQLException {
-        getExecuteGroups().addAll(obtainExecuteGroups(routeUnits));
+        getExecuteGroups().addAll(obtainExecuteGroups(routeUnits.keySet()));
+        for (ShardingExecuteGroup<StatementExecuteUnit> each : getExecuteGroups()) {
+            for (StatementExecuteUnit statementExecuteUnit : each.getInputs()) {
+                statementRouteUnits.put(statementExecuteUnit.getStatement(), routeUnits.get(statementExecuteUnit.getRouteUnit()));
+            }
+        }
     }
     
-    private Collection<ShardingExecuteGroup<StatementExecuteUnit>> obtainExecuteGroups(final Collection<BatchRouteUnit> routeUnits) throws SQLException {
-        return getSqlExecutePrepareTemplate().getExecuteUnitGroups(Lists.transform(new ArrayList<>(routeUnits), new Function<BatchRouteUnit, RouteUnit>() {
-    
-            @Override
-            public RouteUnit apply(final BatchRouteUnit input) {
-                return input.getRouteUnit();
-            }
-        }), new SQLExecutePrepareCallback() {
+    private Collection<ShardingExecuteGroup<StatementExecuteUnit>> obtainExecuteGroups(final Collection<RouteUnit> routeUnits) throws SQLException {
+        return getSqlExecutePrepareTemplate().getExecuteUnitGroups(new ArrayList<>(routeUnits), new SQLExecutePrepareCallback() {
             
             @Override
             public List<Connection> getConnections(final ConnectionMode connectionMode, final String dataSourceName, final int connectionSize) throws SQLException {
                 return BatchPreparedStatementExecutor.super.getConnection().getConnections(connectionMode, dataSourceName, connectionSize);
             }
             
+            @Override
+            public int getCachedConnectionSize(final String dataSourceName) {
+                return BatchPreparedStatementExecutor.super.getConnection().getCachedConnectionSize(dataSourceName);
+            }
+            
             @Override
             public StatementExecuteUnit createStatementExecuteUnit(final Connection connection, final RouteUnit routeUnit, final ConnectionMode connectionMode) throws SQLException {
                 return new StatementExecuteUnit(routeUnit, createPreparedStatement(connection, routeUnit.getSqlUnit().getSql()), connectionMode);
@@ -110,44 +118,17 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
      */
     public void addBatchForRouteUnits(final SQLRouteResult routeResult) {
         setSqlType(routeResult.getSqlStatement().getType());
-        handleOldRouteUnits(createBatchRouteUnits(routeResult.getRouteUnits()));
-        handleNewRouteUnits(createBatchRouteUnits(routeResult.getRouteUnits()));
-        batchCount++;
-    }
-    
-    private Collection<BatchRouteUnit> createBatchRouteUnits(final Collection<RouteUnit> routeUnits) {
-        Collection<BatchRouteUnit> result = new LinkedList<>();
-        for (RouteUnit each : routeUnits) {
-            result.add(new BatchRouteUnit(each));
-        }
-        return result;
-    }
-    
-    private void handleOldRouteUnits(final Collection<BatchRouteUnit> newRouteUnits) {
-        for (final BatchRouteUnit each : newRouteUnits) {
-            Optional<BatchRouteUnit> batchRouteUnitOptional = Iterators.tryFind(routeUnits.iterator(), new Predicate<BatchRouteUnit>() {
-                @Override
-                public boolean apply(final BatchRouteUnit input) {
-                    return input.equals(each);
-                }
-            });
-            if (batchRouteUnitOptional.isPresent()) {
-                reviseBatchRouteUnit(batchRouteUnitOptional.get(), each);
+        for (RouteUnit each : routeResult.getRouteUnits()) {
+            BatchRouteUnit batchRouteUnit = routeUnits.get(each);
+            if (null == batchRouteUnit) {
+                batchRouteUnit = new BatchRouteUnit(each);
+                routeUnits.put(each, batchRouteUnit);
+            } else {
+                batchRouteUnit.getRouteUnit().getSqlUnit().getParameterSets().add(each.getSqlUnit().getParameterSets().get(0));
             }
+            batchRouteUnit.mapAddBatchCount(batchCount);
         }
-    }
-    
-    private void reviseBatchRouteUnit(final BatchRouteUnit oldBatchRouteUnit, final BatchRouteUnit newBatchRouteUnit) {
-        oldBatchRouteUnit.getRouteUnit().getSqlUnit().getParameterSets().add(newBatchRouteUnit.getRouteUnit().getSqlUnit().getParameterSets().get(0));
-        oldBatchRouteUnit.mapAddBatchCount(batchCount);
-    }
-    
-    private void handleNewRouteUnits(final Collection<BatchRouteUnit> newRouteUnits) {
-        newRouteUnits.removeAll(routeUnits);
-        for (BatchRouteUnit each : newRouteUnits) {
-            each.mapAddBatchCount(batchCount);
-        }
-        routeUnits.addAll(newRouteUnits);
+        batchCount++;
     }
     
     /**
@@ -170,17 +151,19 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
     
     private int[] accumulate(final List<int[]> results) {
         int[] result = new int[batchCount];
-        int count = 0;
-        for (BatchRouteUnit each : routeUnits) {
-            for (Entry<Integer, Integer> entry : each.getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
-                int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
-                if (DatabaseType.Oracle == getDatabaseType()) {
-                    result[entry.getKey()] = value;
-                } else {
-                    result[entry.getKey()] += value;
+        Iterator<int[]> resultsIterator = results.iterator();
+        for (ShardingExecuteGroup<StatementExecuteUnit> each : getExecuteGroups()) {
+            for (StatementExecuteUnit statementExecuteUnit : each.getInputs()) {
+                int[] updateCounts = resultsIterator.hasNext() ? resultsIterator.next() : null;
+                for (Entry<Integer, Integer> entry : statementRouteUnits.get(statementExecuteUnit.getStatement()).getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+                    int value = null == updateCounts ? 0 : updateCounts[entry.getValue()];
+                    if (DatabaseType.Oracle == getDatabaseType()) {
+                        result[entry.getKey()] = value;
+                    } else {
+                        result[entry.getKey()] += value;
+                    }
                 }
             }
-            count++;
         }
         return result;
     }
@@ -212,21 +195,8 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
      * @return parameter sets
      */
     public List<List<Object>> getParameterSet(final Statement statement) {
-        Optional<StatementExecuteUnit> target;
-        List<List<Object>> result = new LinkedList<>();
-        for (ShardingExecuteGroup<StatementExecuteUnit> each : getExecuteGroups()) {
-            target = Iterators.tryFind(each.getInputs().iterator(), new Predicate<StatementExecuteUnit>() {
-                @Override
-                public boolean apply(final StatementExecuteUnit input) {
-                    return input.getStatement().equals(statement);
-                }
-            });
-            if (target.isPresent()) {
-                result.addAll(target.get().getRouteUnit().getSqlUnit().getParameterSets());
-                break;
-            }
-        }
-        return result;
+        BatchRouteUnit batchRouteUnit = statementRouteUnits.get(statement);
+        return null == batchRouteUnit ? Collections.<List<Object>>emptyList() : batchRouteUnit.getRouteUnit().getSqlUnit().getParameterSets();
     }
     
     @Override
@@ -234,6 +204,7 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
         super.clear();
         batchCount = 0;
         routeUnits.clear();
+        statementRouteUnits.clear();
     }
 }
 
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingjdbc.executor;
+
+import com.google.common.base.Joiner;
+import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.routing.SQLUnit;
+import io.shardingsphere.core.routing.index.IndexTableLookup;
+import io.shardingsphere.core.rule.IndexTableRule;
+import io.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index table executor.
+ *
+ * <p>
+ * Index tables are ordinary sharding tables, so they are looked up and maintained through sharding connection and join its transaction.
+ * Looked up rows are mapped back to requested index values by their string form, index value of unmatched row is treated as unresolved.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class IndexTableExecutor implements IndexTableLookup {
+    
+    private final ShardingConnection connection;
+    
+    @Override
+    public Map<Comparable<?>, Collection<Comparable<?>>> lookup(final IndexTableRule indexTableRule, final Collection<Comparable<?>> indexValues) {
+        String sql = String.format("SELECT %s, %s FROM %s WHERE %s IN (%s)", indexTableRule.getIndexColumn(), indexTableRule.getShardingColumn(), 
+                indexTableRule.getIndexTable(), indexTableRule.getIndexColumn(), Joiner.on(", ").join(Collections.nCopies(indexValues.size(), "?")));
+        Map<String, Comparable<?>> requestedIndexValues = new HashMap<>(indexValues.size(), 1);
+        for (Comparable<?> each : indexValues) {
+            requestedIndexValues.put(String.valueOf(each), each);
+        }
+        Map<Comparable<?>, Collection<Comparable<?>>> result = new HashMap<>(indexValues.size(), 1);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            int index = 1;
+            for (Comparable<?> each : indexValues) {
+                preparedStatement.setObject(index++, each);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    Comparable<?> indexValue = requestedIndexValues.get(String.valueOf(resultSet.getObject(1)));
+                    if (null == indexValue) {
+                        continue;
+                    }
+                    if (!result.containsKey(indexValue)) {
+                        result.put(indexValue, new LinkedHashSet<Comparable<?>>());
+                    }
+                    result.get(indexValue).add((Comparable<?>) resultSet.getObject(2));
+                }
+            }
+        } catch (final SQLException ex) {
+            throw new ShardingException(ex);
+        }
+        return result;
+    }
+    
+    /**
+     * Execute SQL units which maintain index tables.
+     *
+     * @param indexTableSQLUnits SQL units of index tables
+     */
+    public void maintain(final Collection<SQLUnit> indexTableSQLUnits) {
+        for (SQLUnit each : indexTableSQLUnits) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(each.getSql())) {
+                for (List<Object> parameters : each.getParameterSets()) {
+                    for (int i = 0; i < parameters.size(); i++) {
+                        preparedStatement.setObject(i + 1, parameters.get(i));
+                    }
+                    preparedStatement.executeUpdate();
+                }
+            } catch (final SQLException ex) {
+                throw new ShardingException(ex);
+            }
+        }
+    }
+}
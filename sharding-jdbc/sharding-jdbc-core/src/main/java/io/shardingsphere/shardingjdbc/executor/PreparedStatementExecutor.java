@@ -21,13 +21,12 @@ import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.executor.ShardingExecuteGroup;
 import io.shardingsphere.core.executor.StatementExecuteUnit;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteCallback;
-import io.shardingsphere.core.executor.sql.execute.result.MemoryQueryResult;
-import io.shardingsphere.core.executor.sql.execute.result.StreamQueryResult;
 import io.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorExceptionHandler;
 import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareCallback;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.routing.RouteUnit;
 import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.shardingjdbc.jdbc.core.connection.PreparedStatementCacheKey;
 import io.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import lombok.Getter;
 
@@ -78,17 +77,26 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
                 return PreparedStatementExecutor.super.getConnection().getConnections(connectionMode, dataSourceName, connectionSize);
             }
             
+            @Override
+            public int getCachedConnectionSize(final String dataSourceName) {
+                return PreparedStatementExecutor.super.getConnection().getCachedConnectionSize(dataSourceName);
+            }
+            
             @Override
             public StatementExecuteUnit createStatementExecuteUnit(final Connection connection, final RouteUnit routeUnit, final ConnectionMode connectionMode) throws SQLException {
-                return new StatementExecuteUnit(routeUnit, createPreparedStatement(connection, routeUnit.getSqlUnit().getSql()), connectionMode);
+                return new StatementExecuteUnit(routeUnit, createPreparedStatement(connection, routeUnit), connectionMode);
             }
         });
     }
     
-    @SuppressWarnings("MagicConstant")
-    private PreparedStatement createPreparedStatement(final Connection connection, final String sql) throws SQLException {
-        return returnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
-                : connection.prepareStatement(sql, getResultSetType(), getResultSetConcurrency(), getResultSetHoldability());
+    private PreparedStatement createPreparedStatement(final Connection connection, final RouteUnit routeUnit) throws SQLException {
+        return getConnection().getPreparedStatementCache().borrow(new PreparedStatementCacheKey(
+                routeUnit.getDataSourceName(), connection, routeUnit.getSqlUnit().getSql(), getResultSetType(), getResultSetConcurrency(), getResultSetHoldability(), returnGeneratedKeys));
+    }
+    
+    @Override
+    public void closeStatement(final Statement statement) throws SQLException {
+        getConnection().getPreparedStatementCache().giveBack(statement);
     }
     
     /**
@@ -113,7 +121,7 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
         PreparedStatement preparedStatement = (PreparedStatement) statementExecuteUnit.getStatement();
         ResultSet resultSet = preparedStatement.executeQuery();
         getResultSets().add(resultSet);
-        return ConnectionMode.MEMORY_STRICTLY == statementExecuteUnit.getConnectionMode() ? new StreamQueryResult(resultSet) : new MemoryQueryResult(resultSet);
+        return createQueryResult(resultSet, statementExecuteUnit.getConnectionMode());
     }
     
     /**
@@ -21,8 +21,6 @@ import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.executor.ShardingExecuteGroup;
 import io.shardingsphere.core.executor.StatementExecuteUnit;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteCallback;
-import io.shardingsphere.core.executor.sql.execute.result.MemoryQueryResult;
-import io.shardingsphere.core.executor.sql.execute.result.StreamQueryResult;
 import io.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorExceptionHandler;
 import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareCallback;
 import io.shardingsphere.core.merger.QueryResult;
@@ -71,6 +69,11 @@ public final class StatementExecutor extends AbstractStatementExecutor {
             public List<Connection> getConnections(final ConnectionMode connectionMode, final String dataSourceName, final int connectionSize) throws SQLException {
                 return StatementExecutor.super.getConnection().getConnections(connectionMode, dataSourceName, connectionSize);
             }
+            
+            @Override
+            public int getCachedConnectionSize(final String dataSourceName) {
+                return StatementExecutor.super.getConnection().getCachedConnectionSize(dataSourceName);
+            }
     
             @SuppressWarnings("MagicConstant")
             @Override
@@ -101,7 +104,7 @@ public final class StatementExecutor extends AbstractStatementExecutor {
     private QueryResult getQueryResult(final StatementExecuteUnit statementExecuteUnit) throws SQLException {
         ResultSet resultSet = statementExecuteUnit.getStatement().executeQuery(statementExecuteUnit.getRouteUnit().getSqlUnit().getSql());
         getResultSets().add(resultSet);
-        return ConnectionMode.MEMORY_STRICTLY == statementExecuteUnit.getConnectionMode() ? new StreamQueryResult(resultSet) : new MemoryQueryResult(resultSet);
+        return createQueryResult(resultSet, statementExecuteUnit.getConnectionMode());
     }
     
     /**
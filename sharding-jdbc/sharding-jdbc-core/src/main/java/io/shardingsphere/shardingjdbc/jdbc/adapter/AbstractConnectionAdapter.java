@@ -18,14 +18,15 @@
 package io.shardingsphere.shardingjdbc.jdbc.adapter;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
 import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.constant.transaction.TransactionOperationType;
 import io.shardingsphere.core.constant.transaction.TransactionType;
 import io.shardingsphere.core.event.transaction.ShardingTransactionEvent;
 import io.shardingsphere.core.event.transaction.base.SagaTransactionEvent;
 import io.shardingsphere.core.event.transaction.xa.XATransactionEvent;
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatistics;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
 import io.shardingsphere.core.hint.HintManagerHolder;
 import io.shardingsphere.core.routing.router.masterslave.MasterVisitedManager;
 import io.shardingsphere.shardingjdbc.jdbc.adapter.executor.ForceExecuteCallback;
@@ -46,9 +47,11 @@ import java.sql.SQLWarning;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Adapter for {@code Connection}.
@@ -60,7 +63,13 @@ import java.util.Map.Entry;
 @Getter
 public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOperationConnection {
     
-    private final Multimap<String, Connection> cachedConnections = HashMultimap.create();
+    private final ConcurrentMap<String, List<Connection>> cachedConnections = new ConcurrentHashMap<>();
+    
+    private final ConcurrentMap<Connection, ConnectionReservation> reservedConnections = new ConcurrentHashMap<>();
+    
+    private final ConcurrentMap<String, Object> dataSourceLocks = new ConcurrentHashMap<>();
+    
+    private final ConcurrentMap<Connection, DataSourceStatistics> heldConnectionStatistics = new ConcurrentHashMap<>();
     
     private boolean autoCommit = true;
     
@@ -70,9 +79,11 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     private int transactionIsolation = TRANSACTION_READ_UNCOMMITTED;
     
-    private final ForceExecuteTemplate<Connection> forceExecuteTemplate = new ForceExecuteTemplate<>();
+    private boolean autoCommitModified;
     
-    private final ForceExecuteTemplate<Entry<String, Connection>> forceExecuteTemplateForClose = new ForceExecuteTemplate<>();
+    private boolean readOnlyModified;
+    
+    private boolean transactionIsolationModified;
     
     private final RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
     
@@ -112,44 +123,69 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     public final List<Connection> getConnections(final ConnectionMode connectionMode, final String dataSourceName, final int connectionSize) throws SQLException {
         DataSource dataSource = getDataSourceMap().get(dataSourceName);
         Preconditions.checkState(null != dataSource, "Missing the data source name: '%s'", dataSourceName);
-        Collection<Connection> connections;
-        synchronized (cachedConnections) {
-            connections = cachedConnections.get(dataSourceName);
-        }
-        List<Connection> result;
-        if (connections.size() >= connectionSize) {
-            result = new ArrayList<>(connections).subList(0, connectionSize);
-        } else if (!connections.isEmpty()) {
-            result = new ArrayList<>(connectionSize);
-            result.addAll(connections);
-            List<Connection> newConnections = createConnections(connectionMode, dataSource, connectionSize - connections.size());
-            result.addAll(newConnections);
-            synchronized (cachedConnections) {
-                cachedConnections.putAll(dataSourceName, newConnections);
+        synchronized (getDataSourceLock(dataSourceName)) {
+            List<Connection> connections = cachedConnections.get(dataSourceName);
+            if (null == connections) {
+                connections = Collections.emptyList();
+            }
+            if (connections.size() >= connectionSize) {
+                return connections.subList(0, connectionSize);
             }
-        } else {
-            result = new ArrayList<>(createConnections(connectionMode, dataSource, connectionSize));
-            synchronized (cachedConnections) {
-                cachedConnections.putAll(dataSourceName, result);
+            List<Connection> createdConnections = createConnections(dataSource, connectionSize - connections.size());
+            DataSourceStatistics statistics = getStatisticsRegistry().getStatistics(dataSourceName);
+            for (Connection each : createdConnections) {
+                statistics.acquireConnection();
+                heldConnectionStatistics.put(each, statistics);
             }
+            List<Connection> result = new ArrayList<>(connectionSize);
+            result.addAll(connections);
+            result.addAll(createdConnections);
+            cachedConnections.put(dataSourceName, result);
+            return result;
         }
-        return result;
     }
     
-    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
-    private List<Connection> createConnections(final ConnectionMode connectionMode, final DataSource dataSource, final int connectionSize) throws SQLException {
-        if (1 == connectionSize) {
+    /**
+     * Get size of cached database connections, which are reused without acquiring from pool.
+     *
+     * @param dataSourceName data source name
+     * @return size of cached database connections
+     */
+    public final int getCachedConnectionSize(final String dataSourceName) {
+        List<Connection> connections = cachedConnections.get(dataSourceName);
+        return null == connections ? 0 : connections.size();
+    }
+    
+    private Object getDataSourceLock(final String dataSourceName) {
+        Object result = new Object();
+        Object existedLock = dataSourceLocks.putIfAbsent(dataSourceName, result);
+        return null == existedLock ? result : existedLock;
+    }
+    
+    private List<Connection> createConnections(final DataSource dataSource, final int connectionSize) throws SQLException {
+        ConnectionReservation reservation = ConnectionReservation.getInstance(dataSource);
+        if (1 == connectionSize && !reservation.isHeldUntilClosed()) {
             return Collections.singletonList(createConnection(dataSource));
         }
-        if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
-            return createConnections(dataSource, connectionSize);
-        }
-        synchronized (dataSource) {
-            return createConnections(dataSource, connectionSize);
+        int permits = reservation.reserve(connectionSize);
+        boolean created = false;
+        try {
+            List<Connection> result = acquireConnections(dataSource, connectionSize);
+            created = true;
+            if (reservation.isHeldUntilClosed()) {
+                for (int i = 0; i < permits; i++) {
+                    reservedConnections.put(result.get(i), reservation);
+                }
+            }
+            return result;
+        } finally {
+            if (!created || !reservation.isHeldUntilClosed()) {
+                reservation.release(permits);
+            }
         }
     }
     
-    private List<Connection> createConnections(final DataSource dataSource, final int connectionSize) throws SQLException {
+    private List<Connection> acquireConnections(final DataSource dataSource, final int connectionSize) throws SQLException {
         List<Connection> result = new ArrayList<>(connectionSize);
         for (int i = 0; i < connectionSize; i++) {
             result.add(createConnection(dataSource));
@@ -159,14 +195,79 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     private Connection createConnection(final DataSource dataSource) throws SQLException {
         Connection result = dataSource.getConnection();
-        replayMethodsInvocation(result);
+        replayConnectionState(result);
+        return result;
+    }
+    
+    private void replayConnectionState(final Connection connection) throws SQLException {
+        if (readOnlyModified) {
+            connection.setReadOnly(readOnly);
+        }
+        if (transactionIsolationModified) {
+            connection.setTransactionIsolation(transactionIsolation);
+        }
+        if (autoCommitModified) {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+    
+    private Collection<Connection> getAllCachedConnections() {
+        Collection<Connection> result = new LinkedList<>();
+        for (List<Connection> each : cachedConnections.values()) {
+            result.addAll(each);
+        }
         return result;
     }
     
     protected abstract Map<String, DataSource> getDataSourceMap();
     
+    protected abstract DataSourceStatisticsRegistry getStatisticsRegistry();
+    
+    /**
+     * Get execute engine to force execute on physical connections, statements and result sets in parallel.
+     *
+     * @return execute engine, {@code null} means force execute serially
+     */
+    protected ShardingExecuteEngine getForceExecuteEngine() {
+        return null;
+    }
+    
+    static ShardingExecuteEngine findForceExecuteEngine(final Connection connection) {
+        return connection instanceof AbstractConnectionAdapter ? ((AbstractConnectionAdapter) connection).getForceExecuteEngine() : null;
+    }
+    
+    /**
+     * Invalidate resources cached for physical connection which is going to be removed or closed.
+     *
+     * @param connection physical connection
+     */
+    protected void invalidateCachedResources(final Connection connection) {
+    }
+    
+    /**
+     * Release resources held by this connection after physical connections closed.
+     */
+    protected void releaseResources() {
+    }
+    
+    private ForceExecuteTemplate<Connection> createForceExecuteTemplate() {
+        return new ForceExecuteTemplate<>(getForceExecuteEngine());
+    }
+    
     protected final void removeCache(final Connection connection) {
-        cachedConnections.values().remove(connection);
+        for (String each : cachedConnections.keySet()) {
+            synchronized (getDataSourceLock(each)) {
+                List<Connection> cached = cachedConnections.get(each);
+                if (cached.contains(connection)) {
+                    List<Connection> connections = new ArrayList<>(cached);
+                    connections.remove(connection);
+                    cachedConnections.put(each, connections);
+                    invalidateCachedResources(connection);
+                    releaseHeldConnection(connection);
+                    return;
+                }
+            }
+        }
     }
     
     @Override
@@ -178,8 +279,8 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     public final void setAutoCommit(final boolean autoCommit) throws SQLException {
         this.autoCommit = autoCommit;
         if (TransactionType.LOCAL == transactionType) {
-            recordMethodInvocation(Connection.class, "setAutoCommit", new Class[]{boolean.class}, new Object[]{autoCommit});
-            forceExecuteTemplate.execute(cachedConnections.values(), new ForceExecuteCallback<Connection>() {
+            autoCommitModified = true;
+            createForceExecuteTemplate().execute(getAllCachedConnections(), new ForceExecuteCallback<Connection>() {
                 
                 @Override
                 public void execute(final Connection connection) throws SQLException {
@@ -196,7 +297,7 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     @Override
     public final void commit() throws SQLException {
         if (TransactionType.LOCAL == transactionType) {
-            forceExecuteTemplate.execute(cachedConnections.values(), new ForceExecuteCallback<Connection>() {
+            createForceExecuteTemplate().execute(getAllCachedConnections(), new ForceExecuteCallback<Connection>() {
                 
                 @Override
                 public void execute(final Connection connection) throws SQLException {
@@ -213,7 +314,7 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     @Override
     public final void rollback() throws SQLException {
         if (TransactionType.LOCAL == transactionType) {
-            forceExecuteTemplate.execute(cachedConnections.values(), new ForceExecuteCallback<Connection>() {
+            createForceExecuteTemplate().execute(getAllCachedConnections(), new ForceExecuteCallback<Connection>() {
                 
                 @Override
                 public void execute(final Connection connection) throws SQLException {
@@ -236,17 +337,35 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
         HintManagerHolder.clear();
         MasterVisitedManager.clear();
         TransactionTypeHolder.clear();
-        int connectionSize = cachedConnections.size();
+        Collection<Connection> connections = getAllCachedConnections();
+        for (Connection each : connections) {
+            invalidateCachedResources(each);
+        }
         try {
-            forceExecuteTemplateForClose.execute(cachedConnections.entries(), new ForceExecuteCallback<Map.Entry<String, Connection>>() {
+            createForceExecuteTemplate().execute(connections, new ForceExecuteCallback<Connection>() {
         
                 @Override
-                public void execute(final Entry<String, Connection> cachedConnections) throws SQLException {
-                    cachedConnections.getValue().close();
+                public void execute(final Connection connection) throws SQLException {
+                    connection.close();
                 }
             });
         } finally {
-            rootInvokeHook.finish(connectionSize);
+            for (Connection each : connections) {
+                releaseHeldConnection(each);
+            }
+            releaseResources();
+            rootInvokeHook.finish(connections.size());
+        }
+    }
+    
+    private void releaseHeldConnection(final Connection connection) {
+        DataSourceStatistics statistics = heldConnectionStatistics.remove(connection);
+        if (null != statistics) {
+            statistics.releaseConnection();
+        }
+        ConnectionReservation reservation = reservedConnections.remove(connection);
+        if (null != reservation) {
+            reservation.release(1);
         }
     }
     
@@ -263,8 +382,8 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     @Override
     public final void setReadOnly(final boolean readOnly) throws SQLException {
         this.readOnly = readOnly;
-        recordMethodInvocation(Connection.class, "setReadOnly", new Class[]{boolean.class}, new Object[]{readOnly});
-        forceExecuteTemplate.execute(cachedConnections.values(), new ForceExecuteCallback<Connection>() {
+        readOnlyModified = true;
+        createForceExecuteTemplate().execute(getAllCachedConnections(), new ForceExecuteCallback<Connection>() {
             
             @Override
             public void execute(final Connection connection) throws SQLException {
@@ -275,17 +394,19 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     @Override
     public final int getTransactionIsolation() throws SQLException {
-        if (cachedConnections.values().isEmpty()) {
-            return transactionIsolation;
+        for (List<Connection> each : cachedConnections.values()) {
+            if (!each.isEmpty()) {
+                return each.get(0).getTransactionIsolation();
+            }
         }
-        return cachedConnections.values().iterator().next().getTransactionIsolation();
+        return transactionIsolation;
     }
     
     @Override
     public final void setTransactionIsolation(final int level) throws SQLException {
         transactionIsolation = level;
-        recordMethodInvocation(Connection.class, "setTransactionIsolation", new Class[]{int.class}, new Object[]{level});
-        forceExecuteTemplate.execute(cachedConnections.values(), new ForceExecuteCallback<Connection>() {
+        transactionIsolationModified = true;
+        createForceExecuteTemplate().execute(getAllCachedConnections(), new ForceExecuteCallback<Connection>() {
             
             @Override
             public void execute(final Connection connection) throws SQLException {
@@ -20,7 +20,9 @@ package io.shardingsphere.shardingjdbc.jdbc.adapter;
 import com.google.common.base.Preconditions;
 import io.shardingsphere.core.bootstrap.ShardingBootstrap;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
 import io.shardingsphere.shardingjdbc.jdbc.unsupported.AbstractUnsupportedOperationDataSource;
+import io.shardingsphere.shardingjdbc.util.DataSourceUtil;
 import io.shardingsphere.spi.transaction.xa.DataSourceMapConverter;
 import io.shardingsphere.spi.transaction.xa.SPIDataSourceMapConverter;
 import lombok.Getter;
@@ -32,6 +34,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.logging.Logger;
 
 /**
@@ -65,6 +68,12 @@ public abstract class AbstractDataSourceAdapter extends AbstractUnsupportedOpera
         xaDataSourceMap = dataSourceMapConverter.convert(dataSourceMap, databaseType);
     }
     
+    protected final void registerMaxPoolSize(final DataSourceStatisticsRegistry statisticsRegistry) {
+        for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
+            statisticsRegistry.getStatistics(entry.getKey()).setMaxPoolSize(DataSourceUtil.getMaxPoolSize(entry.getValue()));
+        }
+    }
+    
     protected final DatabaseType getDatabaseType(final Collection<DataSource> dataSources) throws SQLException {
         DatabaseType result = null;
         for (DataSource each : dataSources) {
@@ -112,10 +121,7 @@ public abstract class AbstractDataSourceAdapter extends AbstractUnsupportedOpera
     
     private void closeDataSource(final Map<String, DataSource> dataSourceMap) {
         for (DataSource each : dataSourceMap.values()) {
-            try {
-                each.getClass().getDeclaredMethod("close").invoke(each);
-            } catch (final ReflectiveOperationException ignored) {
-            }
+            DataSourceUtil.close(each);
         }
     }
 }
@@ -69,7 +69,7 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     @Override
     public final void close() throws SQLException {
         closed = true;
-        forceExecuteTemplate.execute(resultSets, new ForceExecuteCallback<ResultSet>() {
+        new ForceExecuteTemplate<ResultSet>(AbstractConnectionAdapter.findForceExecuteEngine(statement.getConnection())).execute(resultSets, new ForceExecuteCallback<ResultSet>() {
             
             @Override
             public void execute(final ResultSet resultSet) throws SQLException {
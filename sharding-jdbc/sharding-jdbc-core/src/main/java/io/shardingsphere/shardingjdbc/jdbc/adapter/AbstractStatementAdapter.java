@@ -51,18 +51,26 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     public final void close() throws SQLException {
         closed = true;
         try {
-            forceExecuteTemplate.execute((Collection) getRoutedStatements(), new ForceExecuteCallback<Statement>() {
+            new ForceExecuteTemplate<Statement>(AbstractConnectionAdapter.findForceExecuteEngine(getConnection())).execute((Collection) getRoutedStatements(), new ForceExecuteCallback<Statement>() {
         
                 @Override
                 public void execute(final Statement statement) throws SQLException {
-                    statement.close();
+                    closeRoutedStatement(statement);
                 }
             });
         } finally {
             getRoutedStatements().clear();
+            closeQueryResults();
         }
     }
     
+    protected void closeRoutedStatement(final Statement statement) throws SQLException {
+        statement.close();
+    }
+    
+    protected void closeQueryResults() {
+    }
+    
     @Override
     public final boolean isClosed() {
         return closed;
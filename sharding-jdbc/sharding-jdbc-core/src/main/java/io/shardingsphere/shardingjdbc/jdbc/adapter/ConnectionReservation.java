@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingjdbc.jdbc.adapter;
+
+import com.google.common.collect.MapMaker;
+import io.shardingsphere.shardingjdbc.util.DataSourceUtil;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection reservation for acquiring multiple connections from same data source.
+ *
+ * <p>
+ * Threads acquiring part of connections and waiting for the rest may deadlock when connection pool exhausted. 
+ * Acquirers reserve permits for all connections at once before acquiring from pool, and hold them until connections closed. 
+ * Every permit is held by one of the acquired connections, and released after the connection closed or removed.
+ * If max pool size of data source is unknown, only one permit exists and it is released after connections acquired, 
+ * and single connection is acquired without reservation.
+ * Acquirers wait for permits no longer than connection timeout of data source, or 30 seconds if it is unknown.
+ * </p>
+ *
+ * @author zhangliang
+ */
+final class ConnectionReservation {
+    
+    private static final ConcurrentMap<DataSource, ConnectionReservation> RESERVATIONS = new MapMaker().weakKeys().makeMap();
+    
+    private static final long DEFAULT_TIMEOUT_MILLISECONDS = 30000L;
+    
+    private final int maxPoolSize;
+    
+    private final long timeoutMilliseconds;
+    
+    private final Semaphore semaphore;
+    
+    private ConnectionReservation(final int maxPoolSize, final long timeoutMilliseconds) {
+        this.maxPoolSize = maxPoolSize;
+        this.timeoutMilliseconds = 0L == timeoutMilliseconds ? DEFAULT_TIMEOUT_MILLISECONDS : timeoutMilliseconds;
+        semaphore = new Semaphore(0 == maxPoolSize ? 1 : maxPoolSize, true);
+    }
+    
+    /**
+     * Get connection reservation of data source.
+     *
+     * @param dataSource data source
+     * @return connection reservation
+     */
+    static ConnectionReservation getInstance(final DataSource dataSource) {
+        ConnectionReservation result = RESERVATIONS.get(dataSource);
+        if (null != result) {
+            return result;
+        }
+        RESERVATIONS.putIfAbsent(dataSource, new ConnectionReservation(DataSourceUtil.getMaxPoolSize(dataSource), DataSourceUtil.getConnectionTimeoutMilliseconds(dataSource)));
+        return RESERVATIONS.get(dataSource);
+    }
+    
+    /**
+     * Reserve permits for connections.
+     *
+     * @param connectionSize size of connections to be acquired
+     * @return reserved permits
+     * @throws SQLException SQL exception if interrupted or timeout
+     */
+    int reserve(final int connectionSize) throws SQLException {
+        int result = 0 == maxPoolSize ? 1 : Math.min(connectionSize, maxPoolSize);
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(result, timeoutMilliseconds, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+        if (!acquired) {
+            throw new SQLException(String.format("Cannot reserve %d connections within %d milliseconds.", result, timeoutMilliseconds));
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether permits should be held until connections closed.
+     *
+     * @return permits should be held until connections closed or not
+     */
+    boolean isHeldUntilClosed() {
+        return 0 != maxPoolSize;
+    }
+    
+    /**
+     * Release permits.
+     *
+     * @param permits permits to be released
+     */
+    void release(final int permits) {
+        semaphore.release(permits);
+    }
+}
@@ -17,19 +17,42 @@
 
 package io.shardingsphere.shardingjdbc.jdbc.adapter.executor;
 
+import com.google.common.collect.Sets;
+import io.shardingsphere.core.executor.ShardingExecuteCallback;
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import lombok.RequiredArgsConstructor;
+
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Force execute template.
+ * 
+ * <p>
+ * All targets are executed even if some of them failed, exceptions are thrown together after all targets are executed.
+ * Targets are executed in parallel on execute engine if it is present, otherwise executed serially.
+ * If execute engine rejects part of targets, only targets which are not claimed by submitted tasks are executed serially,
+ * and all claimed targets are waited to be finished, so every target is executed exactly once.
+ * </p>
  *
  * @author zhangliang
  * 
  * @param <T> type of targets to be executed
  */
+@RequiredArgsConstructor
 public final class ForceExecuteTemplate<T> {
     
+    private final ShardingExecuteEngine executeEngine;
+    
+    public ForceExecuteTemplate() {
+        this(null);
+    }
+    
     /**
      * Force execute.
      * 
@@ -38,15 +61,70 @@ public final class ForceExecuteTemplate<T> {
      * @throws SQLException throw SQL exception after all targets are executed
      */
     public void execute(final Collection<T> targets, final ForceExecuteCallback<T> callback) throws SQLException {
-        Collection<SQLException> exceptions = new LinkedList<>();
+        if (null == executeEngine || targets.size() < 2) {
+            throwSQLExceptionIfNecessary(serialExecute(targets, callback));
+            return;
+        }
+        Collection<SQLException> exceptions = Collections.synchronizedList(new LinkedList<SQLException>());
+        Set<T> claimedTargets = Collections.synchronizedSet(Sets.<T>newIdentityHashSet());
+        Set<T> distinctTargets = Sets.newIdentityHashSet();
+        distinctTargets.addAll(targets);
+        CountDownLatch finishedLatch = new CountDownLatch(distinctTargets.size());
+        try {
+            parallelExecute(targets, callback, claimedTargets, finishedLatch, exceptions);
+        } catch (final RejectedExecutionException ignored) {
+            for (T each : targets) {
+                executeIfUnclaimed(each, callback, claimedTargets, finishedLatch, exceptions);
+            }
+            awaitFinished(finishedLatch);
+        }
+        throwSQLExceptionIfNecessary(exceptions);
+    }
+    
+    private Collection<SQLException> serialExecute(final Collection<T> targets, final ForceExecuteCallback<T> callback) {
+        Collection<SQLException> result = new LinkedList<>();
         for (T each : targets) {
             try {
                 callback.execute(each);
             } catch (final SQLException ex) {
-                exceptions.add(ex);
+                result.add(ex);
             }
         }
-        throwSQLExceptionIfNecessary(exceptions);
+        return result;
+    }
+    
+    private void parallelExecute(final Collection<T> targets, final ForceExecuteCallback<T> callback, 
+                                 final Set<T> claimedTargets, final CountDownLatch finishedLatch, final Collection<SQLException> exceptions) throws SQLException {
+        executeEngine.execute(targets, new ShardingExecuteCallback<T, Void>() {
+            
+            @Override
+            public Void execute(final T input, final boolean isTrunkThread) {
+                executeIfUnclaimed(input, callback, claimedTargets, finishedLatch, exceptions);
+                return null;
+            }
+        });
+    }
+    
+    private void executeIfUnclaimed(final T target, final ForceExecuteCallback<T> callback, 
+                                    final Set<T> claimedTargets, final CountDownLatch finishedLatch, final Collection<SQLException> exceptions) {
+        if (!claimedTargets.add(target)) {
+            return;
+        }
+        try {
+            callback.execute(target);
+        } catch (final SQLException ex) {
+            exceptions.add(ex);
+        } finally {
+            finishedLatch.countDown();
+        }
+    }
+    
+    private void awaitFinished(final CountDownLatch finishedLatch) {
+        try {
+            finishedLatch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
     }
     
     private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
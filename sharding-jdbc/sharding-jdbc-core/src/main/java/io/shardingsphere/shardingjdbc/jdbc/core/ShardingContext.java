@@ -17,6 +17,7 @@
 
 package io.shardingsphere.shardingjdbc.jdbc.core;
 
+import com.google.common.base.Preconditions;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.properties.ShardingProperties;
 import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
@@ -24,15 +25,22 @@ import io.shardingsphere.core.executor.ShardingExecuteEngine;
 import io.shardingsphere.core.metadata.ShardingMetaData;
 import io.shardingsphere.core.rule.ShardingRule;
 import io.shardingsphere.shardingjdbc.jdbc.metadata.JDBCTableMetaDataConnectionManager;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Sharding runtime context.
@@ -53,21 +61,55 @@ public final class ShardingContext implements AutoCloseable {
     
     private final ShardingMetaData metaData;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, String> dataSourceURLs;
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger referenceCount = new AtomicInteger(1);
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean closed = new AtomicBoolean();
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<Runnable> closedCallbacks = new CopyOnWriteArrayList<>();
+    
     public ShardingContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule,
                            final DatabaseType databaseType, final Properties props) throws SQLException {
+        this(dataSourceMap, shardingRule, databaseType, props, null, Collections.<String>emptyList());
+    }
+    
+    public ShardingContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final DatabaseType databaseType, final Properties props,
+                           final ShardingContext originalShardingContext, final Collection<String> changedDataSourceNames) throws SQLException {
         this.shardingRule = shardingRule;
         this.databaseType = databaseType;
         shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
+        executeEngine = createExecuteEngine(originalShardingContext);
+        dataSourceURLs = getDataSourceURLs(dataSourceMap, null == originalShardingContext ? Collections.<String, String>emptyMap() : getReusableDataSourceURLs(originalShardingContext, changedDataSourceNames));
+        Map<String, TableMetaData> reusableTableMetaData = null == originalShardingContext ? Collections.<String, TableMetaData>emptyMap()
+                : originalShardingContext.getMetaData().getTable().getReusableTableMetaData(originalShardingContext.getShardingRule(), shardingRule, changedDataSourceNames);
+        metaData = new ShardingMetaData(dataSourceURLs, shardingRule, databaseType, executeEngine, new JDBCTableMetaDataConnectionManager(dataSourceMap),
+                shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY), reusableTableMetaData);
+    }
+    
+    private ShardingExecuteEngine createExecuteEngine(final ShardingContext originalShardingContext) {
         int executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
-        executeEngine = new ShardingExecuteEngine(executorSize);
-        metaData = new ShardingMetaData(
-                getDataSourceURLs(dataSourceMap), shardingRule, databaseType, executeEngine, new JDBCTableMetaDataConnectionManager(dataSourceMap), shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY));
+        if (null == originalShardingContext || executorSize != originalShardingContext.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_SIZE)) {
+            return new ShardingExecuteEngine(executorSize);
+        }
+        originalShardingContext.getExecuteEngine().retain();
+        return originalShardingContext.getExecuteEngine();
+    }
+    
+    private Map<String, String> getReusableDataSourceURLs(final ShardingContext originalShardingContext, final Collection<String> changedDataSourceNames) {
+        Map<String, String> result = new LinkedHashMap<>(originalShardingContext.dataSourceURLs);
+        result.keySet().removeAll(changedDataSourceNames);
+        return result;
     }
     
-    private Map<String, String> getDataSourceURLs(final Map<String, DataSource> dataSourceMap) throws SQLException {
+    private Map<String, String> getDataSourceURLs(final Map<String, DataSource> dataSourceMap, final Map<String, String> reusableDataSourceURLs) throws SQLException {
         Map<String, String> result = new LinkedHashMap<>(dataSourceMap.size(), 1);
         for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
-            result.put(entry.getKey(), getDataSourceURL(entry.getValue()));
+            result.put(entry.getKey(), reusableDataSourceURLs.containsKey(entry.getKey()) ? reusableDataSourceURLs.get(entry.getKey()) : getDataSourceURL(entry.getValue()));
         }
         return result;
     }
@@ -78,8 +120,46 @@ public final class ShardingContext implements AutoCloseable {
         }
     }
     
+    /**
+     * Retain sharding context for connection which executes on it.
+     */
+    public void retain() {
+        int count;
+        do {
+            count = referenceCount.get();
+            Preconditions.checkState(0 < count, "Sharding context has been closed.");
+        } while (!referenceCount.compareAndSet(count, count + 1));
+    }
+    
+    /**
+     * Release sharding context retained by connection.
+     * 
+     * <p>Execute engine is closed and closed callbacks are invoked after sharding context is closed and all connections on it are released.</p>
+     */
+    public void release() {
+        if (0 != referenceCount.decrementAndGet()) {
+            return;
+        }
+        executeEngine.close();
+        for (Runnable each : closedCallbacks) {
+            each.run();
+        }
+    }
+    
+    /**
+     * Close sharding context after all connections on it are released.
+     *
+     * @param closedCallback callback to be invoked after sharding context closed
+     */
+    public void close(final Runnable closedCallback) {
+        closedCallbacks.add(closedCallback);
+        close();
+    }
+    
     @Override
     public void close() {
-        executeEngine.close();
+        if (closed.compareAndSet(false, true)) {
+            release();
+        }
     }
 }
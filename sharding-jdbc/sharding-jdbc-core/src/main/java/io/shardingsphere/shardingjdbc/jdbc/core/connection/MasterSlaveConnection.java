@@ -18,6 +18,7 @@
 package io.shardingsphere.shardingjdbc.jdbc.core.connection;
 
 import io.shardingsphere.core.constant.transaction.TransactionType;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
 import io.shardingsphere.shardingjdbc.jdbc.adapter.AbstractConnectionAdapter;
 import io.shardingsphere.shardingjdbc.jdbc.core.datasource.MasterSlaveDataSource;
 import io.shardingsphere.shardingjdbc.jdbc.core.statement.MasterSlavePreparedStatement;
@@ -54,6 +55,11 @@ public final class MasterSlaveConnection extends AbstractConnectionAdapter {
         this.dataSourceMap = dataSourceMap;
     }
     
+    @Override
+    protected DataSourceStatisticsRegistry getStatisticsRegistry() {
+        return masterSlaveDataSource.getMasterSlaveRule().getStatisticsRegistry();
+    }
+    
     @Override
     public DatabaseMetaData getMetaData() throws SQLException {
         return getConnection(masterSlaveDataSource.getMasterSlaveRule().getMasterDataSourceName()).getMetaData();
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingjdbc.jdbc.core.connection;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * LRU cache of physical prepared statements for one sharding connection.
+ * 
+ * <p>
+ * A cached statement is borrowed exclusively by one execution and given back when the execution is cleared or closed,
+ * so physical statements with same SQL on same connection are never shared at the same time.
+ * Settings of given back statement are restored to the values of the statement when created by driver,
+ * because borrowing logic statement only replays settings it has changed.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class PreparedStatementCache {
+    
+    private final int maxSize;
+    
+    private final Map<PreparedStatementCacheKey, PreparedStatement> cachedStatements = new LinkedHashMap<>(16, 0.75f, true);
+    
+    private final Map<Statement, PreparedStatementCacheKey> borrowedStatements = new IdentityHashMap<>();
+    
+    private final Map<Statement, StatementSettings> createdSettings = new IdentityHashMap<>();
+    
+    /**
+     * Borrow physical prepared statement, create new one if absent in cache.
+     *
+     * @param key cache key
+     * @return physical prepared statement
+     * @throws SQLException SQL exception
+     */
+    public PreparedStatement borrow(final PreparedStatementCacheKey key) throws SQLException {
+        if (0 >= maxSize) {
+            return key.createPreparedStatement();
+        }
+        PreparedStatement result;
+        synchronized (this) {
+            result = cachedStatements.remove(key);
+        }
+        if (null == result || result.isClosed()) {
+            result = key.createPreparedStatement();
+            StatementSettings settings = new StatementSettings(result.getMaxRows(), result.getFetchSize(), result.getMaxFieldSize(), result.getQueryTimeout());
+            synchronized (this) {
+                createdSettings.put(result, settings);
+            }
+        }
+        synchronized (this) {
+            borrowedStatements.put(result, key);
+        }
+        return result;
+    }
+    
+    /**
+     * Give back physical statement to cache, or close it if cannot be cached.
+     *
+     * @param statement physical statement
+     * @throws SQLException SQL exception
+     */
+    public void giveBack(final Statement statement) throws SQLException {
+        PreparedStatementCacheKey key;
+        StatementSettings settings;
+        synchronized (this) {
+            key = borrowedStatements.remove(statement);
+            settings = createdSettings.get(statement);
+        }
+        if (null == key || null == settings || !reset((PreparedStatement) statement, settings)) {
+            synchronized (this) {
+                createdSettings.remove(statement);
+            }
+            statement.close();
+            return;
+        }
+        Collection<PreparedStatement> evictedStatements = new LinkedList<>();
+        synchronized (this) {
+            PreparedStatement replaced = cachedStatements.put(key, (PreparedStatement) statement);
+            if (null != replaced) {
+                evictedStatements.add(replaced);
+            }
+            Iterator<PreparedStatement> iterator = cachedStatements.values().iterator();
+            while (cachedStatements.size() > maxSize) {
+                evictedStatements.add(iterator.next());
+                iterator.remove();
+            }
+        }
+        close(evictedStatements);
+    }
+    
+    private boolean reset(final PreparedStatement statement, final StatementSettings settings) {
+        try {
+            if (statement.isClosed()) {
+                return false;
+            }
+            ResultSet resultSet = statement.getResultSet();
+            if (null != resultSet) {
+                resultSet.close();
+            }
+            statement.clearParameters();
+            settings.restore(statement);
+            return true;
+        } catch (final SQLException ex) {
+            return false;
+        }
+    }
+    
+    /**
+     * Invalidate cached statements of physical connection.
+     *
+     * @param connection physical connection
+     */
+    public void invalidate(final Connection connection) {
+        Collection<PreparedStatement> invalidStatements = new LinkedList<>();
+        synchronized (this) {
+            Iterator<Entry<PreparedStatementCacheKey, PreparedStatement>> iterator = cachedStatements.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Entry<PreparedStatementCacheKey, PreparedStatement> entry = iterator.next();
+                if (entry.getKey().getConnection() == connection) {
+                    invalidStatements.add(entry.getValue());
+                    iterator.remove();
+                }
+            }
+            Iterator<PreparedStatementCacheKey> borrowedKeys = borrowedStatements.values().iterator();
+            while (borrowedKeys.hasNext()) {
+                if (borrowedKeys.next().getConnection() == connection) {
+                    borrowedKeys.remove();
+                }
+            }
+        }
+        close(invalidStatements);
+    }
+    
+    /**
+     * Get size of cached statements.
+     *
+     * @return size of cached statements
+     */
+    public synchronized int size() {
+        return cachedStatements.size();
+    }
+    
+    private void close(final Collection<PreparedStatement> statements) {
+        synchronized (this) {
+            for (PreparedStatement each : statements) {
+                createdSettings.remove(each);
+            }
+        }
+        for (PreparedStatement each : statements) {
+            try {
+                each.close();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class StatementSettings {
+        
+        private final int maxRows;
+        
+        private final int fetchSize;
+        
+        private final int maxFieldSize;
+        
+        private final int queryTimeout;
+        
+        private void restore(final Statement statement) throws SQLException {
+            if (maxRows != statement.getMaxRows()) {
+                statement.setMaxRows(maxRows);
+            }
+            if (fetchSize != statement.getFetchSize()) {
+                statement.setFetchSize(fetchSize);
+            }
+            if (maxFieldSize != statement.getMaxFieldSize()) {
+                statement.setMaxFieldSize(maxFieldSize);
+            }
+            if (queryTimeout != statement.getQueryTimeout()) {
+                statement.setQueryTimeout(queryTimeout);
+            }
+            statement.setEscapeProcessing(true);
+        }
+    }
+}
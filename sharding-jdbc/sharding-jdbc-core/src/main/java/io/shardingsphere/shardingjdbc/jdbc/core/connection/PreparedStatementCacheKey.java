@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingjdbc.jdbc.core.connection;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Key of cached physical prepared statement.
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Getter
+@EqualsAndHashCode
+public final class PreparedStatementCacheKey {
+    
+    private final String dataSourceName;
+    
+    private final Connection connection;
+    
+    private final String sql;
+    
+    private final int resultSetType;
+    
+    private final int resultSetConcurrency;
+    
+    private final int resultSetHoldability;
+    
+    private final boolean returnGeneratedKeys;
+    
+    /**
+     * Create physical prepared statement.
+     *
+     * @return physical prepared statement
+     * @throws SQLException SQL exception
+     */
+    @SuppressWarnings("MagicConstant")
+    public PreparedStatement createPreparedStatement() throws SQLException {
+        return returnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+                : connection.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+    }
+}
@@ -17,7 +17,10 @@
 
 package io.shardingsphere.shardingjdbc.jdbc.core.connection;
 
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.constant.transaction.TransactionType;
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import io.shardingsphere.shardingjdbc.jdbc.adapter.AbstractConnectionAdapter;
 import io.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
@@ -49,14 +52,39 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
     
     private final ShardingContext shardingContext;
     
+    private final PreparedStatementCache preparedStatementCache;
+    
     public ShardingConnection(final Map<String, DataSource> dataSourceMap, final ShardingContext shardingContext) {
         this(dataSourceMap, shardingContext, TransactionType.LOCAL);
     }
     
     public ShardingConnection(final Map<String, DataSource> dataSourceMap, final ShardingContext shardingContext, final TransactionType transactionType) {
         super(transactionType);
+        shardingContext.retain();
         this.dataSourceMap = dataSourceMap;
         this.shardingContext = shardingContext;
+        preparedStatementCache = new PreparedStatementCache(shardingContext.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PREPARED_STATEMENT_CACHE_SIZE));
+    }
+    
+    @Override
+    protected ShardingExecuteEngine getForceExecuteEngine() {
+        return TransactionType.LOCAL == getTransactionType() && shardingContext.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.PARALLEL_FORCE_EXECUTE_ENABLED)
+                ? shardingContext.getExecuteEngine() : null;
+    }
+    
+    @Override
+    protected DataSourceStatisticsRegistry getStatisticsRegistry() {
+        return shardingContext.getShardingRule().getStatisticsRegistry();
+    }
+    
+    @Override
+    protected void invalidateCachedResources(final Connection connection) {
+        preparedStatementCache.invalidate(connection);
+    }
+    
+    @Override
+    protected void releaseResources() {
+        shardingContext.release();
     }
     
     /**
@@ -21,15 +21,18 @@ import io.shardingsphere.api.ConfigMapContext;
 import io.shardingsphere.api.config.MasterSlaveRuleConfiguration;
 import io.shardingsphere.core.constant.properties.ShardingProperties;
 import io.shardingsphere.core.constant.transaction.TransactionType;
+import io.shardingsphere.core.routing.router.masterslave.ReplicationLagMonitor;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import io.shardingsphere.shardingjdbc.jdbc.adapter.AbstractDataSourceAdapter;
 import io.shardingsphere.shardingjdbc.jdbc.core.connection.MasterSlaveConnection;
 import io.shardingsphere.shardingjdbc.transaction.TransactionTypeHolder;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
 
@@ -48,6 +51,9 @@ public class MasterSlaveDataSource extends AbstractDataSourceAdapter {
     
     private final ShardingProperties shardingProperties;
     
+    @Getter(AccessLevel.NONE)
+    private final ReplicationLagMonitor replicationLagMonitor;
+    
     public MasterSlaveDataSource(final Map<String, DataSource> dataSourceMap, final MasterSlaveRuleConfiguration masterSlaveRuleConfig,
                                  final Map<String, Object> configMap, final Properties props) throws SQLException {
         super(dataSourceMap);
@@ -56,6 +62,8 @@ public class MasterSlaveDataSource extends AbstractDataSourceAdapter {
         }
         this.masterSlaveRule = new MasterSlaveRule(masterSlaveRuleConfig);
         shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
+        replicationLagMonitor = new ReplicationLagMonitor(Collections.singletonList(this.masterSlaveRule), dataSourceMap);
+        registerMaxPoolSize(this.masterSlaveRule.getStatisticsRegistry());
     }
     
     public MasterSlaveDataSource(final Map<String, DataSource> dataSourceMap, final MasterSlaveRule masterSlaveRule,
@@ -66,6 +74,8 @@ public class MasterSlaveDataSource extends AbstractDataSourceAdapter {
         }
         this.masterSlaveRule = masterSlaveRule;
         shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
+        replicationLagMonitor = new ReplicationLagMonitor(Collections.singletonList(this.masterSlaveRule), dataSourceMap);
+        registerMaxPoolSize(this.masterSlaveRule.getStatisticsRegistry());
     }
     
     @Override
@@ -79,4 +89,10 @@ public class MasterSlaveDataSource extends AbstractDataSourceAdapter {
         }
         return new MasterSlaveConnection(this, getDataSourceMap());
     }
+    
+    @Override
+    public final void close() {
+        super.close();
+        replicationLagMonitor.close();
+    }
 }
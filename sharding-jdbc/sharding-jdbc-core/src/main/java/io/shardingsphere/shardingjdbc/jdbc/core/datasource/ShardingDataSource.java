@@ -20,16 +20,21 @@ package io.shardingsphere.shardingjdbc.jdbc.core.datasource;
 import com.google.common.base.Preconditions;
 import io.shardingsphere.api.ConfigMapContext;
 import io.shardingsphere.core.constant.transaction.TransactionType;
+import io.shardingsphere.core.routing.router.masterslave.ReplicationLagMonitor;
 import io.shardingsphere.core.rule.ShardingRule;
 import io.shardingsphere.shardingjdbc.jdbc.adapter.AbstractDataSourceAdapter;
 import io.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
 import io.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import io.shardingsphere.shardingjdbc.transaction.TransactionTypeHolder;
+import io.shardingsphere.shardingjdbc.util.DataSourceUtil;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
@@ -47,17 +52,27 @@ public class ShardingDataSource extends AbstractDataSourceAdapter {
     
     private final ShardingContext shardingContext;
     
+    @Getter(AccessLevel.NONE)
+    private final ReplicationLagMonitor replicationLagMonitor;
+    
     public ShardingDataSource(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule) throws SQLException {
         this(dataSourceMap, shardingRule, new ConcurrentHashMap<String, Object>(), new Properties());
     }
     
     public ShardingDataSource(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final Map<String, Object> configMap, final Properties props) throws SQLException {
+        this(dataSourceMap, shardingRule, configMap, props, null, Collections.<String>emptyList());
+    }
+    
+    public ShardingDataSource(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final Map<String, Object> configMap, final Properties props,
+                              final ShardingContext originalShardingContext, final Collection<String> changedDataSourceNames) throws SQLException {
         super(dataSourceMap);
         checkDataSourceType(dataSourceMap);
         if (!configMap.isEmpty()) {
             ConfigMapContext.getInstance().getConfigMap().putAll(configMap);
         }
-        shardingContext = new ShardingContext(getDataSourceMap(), shardingRule, getDatabaseType(), props);
+        shardingContext = new ShardingContext(getDataSourceMap(), shardingRule, getDatabaseType(), props, originalShardingContext, changedDataSourceNames);
+        replicationLagMonitor = new ReplicationLagMonitor(shardingRule.getMasterSlaveRules(), dataSourceMap);
+        registerMaxPoolSize(shardingRule.getStatisticsRegistry());
     }
     
     private void checkDataSourceType(final Map<String, DataSource> dataSourceMap) {
@@ -82,5 +97,36 @@ public class ShardingDataSource extends AbstractDataSourceAdapter {
     public final void close() {
         super.close();
         shardingContext.close();
+        replicationLagMonitor.close();
+    }
+    
+    /**
+     * Close data sources after all connections on sharding context are closed.
+     * 
+     * <p>
+     * Used to retire renewed sharding data source, data sources reused by the new one are kept open.
+     * XA data sources are always closed, because they are created again by the new one.
+     * </p>
+     *
+     * @param dataSourceNames names of data sources to be closed
+     */
+    public final void close(final Collection<String> dataSourceNames) {
+        shardingContext.close(new Runnable() {
+            
+            @Override
+            public void run() {
+                replicationLagMonitor.close();
+                for (String each : dataSourceNames) {
+                    if (getDataSourceMap().containsKey(each)) {
+                        DataSourceUtil.close(getDataSourceMap().get(each));
+                    }
+                }
+                if (null != getXaDataSourceMap()) {
+                    for (DataSource each : getXaDataSourceMap().values()) {
+                        DataSourceUtil.close(each);
+                    }
+                }
+            }
+        });
     }
 }
@@ -37,6 +37,7 @@ import io.shardingsphere.core.routing.PreparedStatementRoutingEngine;
 import io.shardingsphere.core.routing.SQLRouteResult;
 import io.shardingsphere.core.routing.router.sharding.GeneratedKey;
 import io.shardingsphere.shardingjdbc.executor.BatchPreparedStatementExecutor;
+import io.shardingsphere.shardingjdbc.executor.IndexTableExecutor;
 import io.shardingsphere.shardingjdbc.executor.PreparedStatementExecutor;
 import io.shardingsphere.shardingjdbc.jdbc.adapter.AbstractShardingPreparedStatementAdapter;
 import io.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
@@ -69,6 +70,8 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     private final PreparedStatementRoutingEngine routingEngine;
     
+    private final IndexTableExecutor indexTableExecutor;
+    
     private final PreparedStatementExecutor preparedStatementExecutor;
     
     private final BatchPreparedStatementExecutor batchPreparedStatementExecutor;
@@ -96,9 +99,11 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     private ShardingPreparedStatement(
             final ShardingConnection connection, final String sql, final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability, final boolean returnGeneratedKeys) {
         this.connection = connection;
+        indexTableExecutor = new IndexTableExecutor(connection);
         ShardingContext shardingContext = connection.getShardingContext();
         routingEngine = new PreparedStatementRoutingEngine(sql, shardingContext.getShardingRule(), 
-                shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW), shardingContext.getMetaData().getDataSource());
+                shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW),
+                shardingContext.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CARTESIAN_ROUTE_UNITS), shardingContext.getMetaData().getDataSource(), indexTableExecutor);
         preparedStatementExecutor = new PreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection);
         batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection);
     }
@@ -239,6 +244,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     private void sqlRoute() {
         routeResult = routingEngine.route(new ArrayList<>(getParameters()));
+        indexTableExecutor.maintain(routeResult.getIndexTableSQLUnits());
     }
     
     @Override
@@ -290,6 +296,16 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         return preparedStatementExecutor.getResultSetHoldability();
     }
     
+    @Override
+    protected void closeRoutedStatement(final Statement statement) throws SQLException {
+        preparedStatementExecutor.closeStatement(statement);
+    }
+    
+    @Override
+    protected void closeQueryResults() {
+        preparedStatementExecutor.closeOffHeapQueryResults();
+    }
+    
     @Override
     public Collection<PreparedStatement> getRoutedStatements() {
         return Collections2.transform(preparedStatementExecutor.getStatements(), new Function<Statement, PreparedStatement>() {
@@ -34,6 +34,7 @@ import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingsphere.core.routing.SQLRouteResult;
 import io.shardingsphere.core.routing.StatementRoutingEngine;
 import io.shardingsphere.core.routing.router.sharding.GeneratedKey;
+import io.shardingsphere.shardingjdbc.executor.IndexTableExecutor;
 import io.shardingsphere.shardingjdbc.executor.StatementExecutor;
 import io.shardingsphere.shardingjdbc.jdbc.adapter.AbstractStatementAdapter;
 import io.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
@@ -250,8 +251,11 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     
     private void sqlRoute(final String sql) {
         ShardingContext shardingContext = connection.getShardingContext();
+        IndexTableExecutor indexTableExecutor = new IndexTableExecutor(connection);
         routeResult = new StatementRoutingEngine(shardingContext.getShardingRule(),
-            shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW), shardingContext.getMetaData().getDataSource()).route(sql);
+            shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW),
+            shardingContext.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CARTESIAN_ROUTE_UNITS), shardingContext.getMetaData().getDataSource(), indexTableExecutor).route(sql);
+        indexTableExecutor.maintain(routeResult.getIndexTableSQLUnits());
     }
     
     // TODO refresh table meta data by SQL parse result
@@ -301,6 +305,11 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         return statementExecutor.getStatements();
     }
     
+    @Override
+    protected void closeQueryResults() {
+        statementExecutor.closeOffHeapQueryResults();
+    }
+    
     @Override
     public ResultSet getGeneratedKeys() throws SQLException {
         Optional<GeneratedKey> generatedKey = getGeneratedKey();
@@ -24,6 +24,7 @@ import lombok.NoArgsConstructor;
 
 import javax.sql.DataSource;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -38,6 +39,10 @@ public final class DataSourceUtil {
     
     private static final String SET_METHOD_PREFIX = "set";
     
+    private static final Collection<String> MAX_POOL_SIZE_GETTERS = Arrays.asList("getMaximumPoolSize", "getMaxTotal", "getMaxActive");
+    
+    private static final Collection<String> CONNECTION_TIMEOUT_GETTERS = Arrays.asList("getConnectionTimeout", "getMaxWaitMillis", "getMaxWait");
+    
     private static Collection<Class<?>> generalClassType;
     
     static {
@@ -60,6 +65,60 @@ public final class DataSourceUtil {
         return result;
     }
     
+    /**
+     * Close data source.
+     *
+     * @param dataSource data source to be closed
+     */
+    public static void close(final DataSource dataSource) {
+        try {
+            dataSource.getClass().getDeclaredMethod("close").invoke(dataSource);
+        } catch (final ReflectiveOperationException ignored) {
+        }
+    }
+    
+    /**
+     * Get max pool size of data source.
+     *
+     * <p>Support HikariCP, DBCP, Druid and Tomcat JDBC pool.</p>
+     *
+     * @param dataSource data source
+     * @return max pool size, {@code 0} if unknown or unlimited
+     */
+    public static int getMaxPoolSize(final DataSource dataSource) {
+        for (String each : MAX_POOL_SIZE_GETTERS) {
+            try {
+                Object result = dataSource.getClass().getMethod(each).invoke(dataSource);
+                if (result instanceof Integer) {
+                    return Math.max((Integer) result, 0);
+                }
+            } catch (final ReflectiveOperationException ignored) {
+            }
+        }
+        return 0;
+    }
+    
+    /**
+     * Get timeout milliseconds of acquiring connection from data source.
+     *
+     * <p>Support HikariCP, DBCP, Druid and Tomcat JDBC pool.</p>
+     *
+     * @param dataSource data source
+     * @return connection timeout milliseconds, {@code 0} if unknown or unlimited
+     */
+    public static long getConnectionTimeoutMilliseconds(final DataSource dataSource) {
+        for (String each : CONNECTION_TIMEOUT_GETTERS) {
+            try {
+                Object result = dataSource.getClass().getMethod(each).invoke(dataSource);
+                if (result instanceof Integer || result instanceof Long) {
+                    return Math.max(((Number) result).longValue(), 0L);
+                }
+            } catch (final ReflectiveOperationException ignored) {
+            }
+        }
+        return 0L;
+    }
+    
     private static String getSetterMethodName(final String propertyName) {
         if (propertyName.contains("-")) {
             return CaseFormat.LOWER_HYPHEN.to(CaseFormat.LOWER_CAMEL, SET_METHOD_PREFIX + "-" + propertyName);
@@ -81,6 +81,8 @@ public final class ShardingDataSourceFactoryTest {
         when(statement.getConnection()).thenReturn(connection);
         when(statement.getConnection().getMetaData().getTables(
                 ArgumentMatchers.<String>any(), ArgumentMatchers.<String>any(), ArgumentMatchers.<String>any(), ArgumentMatchers.<String[]>any())).thenReturn(resultSet);
+        when(statement.getConnection().getMetaData().getColumns(
+                ArgumentMatchers.<String>any(), ArgumentMatchers.<String>any(), ArgumentMatchers.<String>any(), ArgumentMatchers.<String>any())).thenReturn(resultSet);
         when(resultSet.next()).thenReturn(false);
         Map<String, DataSource> result = new HashMap<>(1);
         when(statement.getConnection().getMetaData().getURL()).thenReturn("jdbc:h2:mem:demo_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL");
@@ -17,12 +17,14 @@
 
 package io.shardingsphere.shardingjdbc.executor;
 
+import io.shardingsphere.api.config.ShardingRuleConfiguration;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.properties.ShardingProperties;
 import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.event.ShardingEventBusInstance;
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
 import io.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorExceptionHandler;
+import io.shardingsphere.core.rule.ShardingRule;
 import io.shardingsphere.shardingjdbc.executor.fixture.EventCaller;
 import io.shardingsphere.shardingjdbc.executor.fixture.ExecutorTestUtil;
 import io.shardingsphere.shardingjdbc.executor.fixture.TestDMLExecutionEventListener;
@@ -86,6 +88,7 @@ public abstract class AbstractBaseExecutorTest {
         Map<String, DataSource> dataSourceSourceMap = new LinkedHashMap<>();
         dataSourceSourceMap.put("ds_0", dataSource);
         dataSourceSourceMap.put("ds_1", dataSource);
+        when(shardingContext.getShardingRule()).thenReturn(new ShardingRule(new ShardingRuleConfiguration(), dataSourceSourceMap.keySet()));
         connection = new ShardingConnection(dataSourceSourceMap, shardingContext);
     }
     
@@ -23,7 +23,9 @@ import io.shardingsphere.core.event.ShardingEventType;
 import io.shardingsphere.core.executor.ShardingExecuteGroup;
 import io.shardingsphere.core.executor.StatementExecuteUnit;
 import io.shardingsphere.core.routing.BatchRouteUnit;
+import io.shardingsphere.core.parsing.parser.sql.dml.DMLStatement;
 import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLRouteResult;
 import io.shardingsphere.core.routing.SQLUnit;
 import lombok.SneakyThrows;
 import org.junit.Test;
@@ -33,11 +35,15 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -148,6 +154,40 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(getEventCaller(), times(2)).verifyException(exp);
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertAddBatchForRouteUnits() {
+        actual.addBatchForRouteUnits(createSQLRouteResult("ds_0", 1));
+        actual.addBatchForRouteUnits(createSQLRouteResult("ds_1", 2));
+        actual.addBatchForRouteUnits(createSQLRouteResult("ds_0", 3));
+        Map<RouteUnit, BatchRouteUnit> routeUnits = (Map<RouteUnit, BatchRouteUnit>) getField("routeUnits");
+        assertThat(routeUnits.size(), is(2));
+        Iterator<BatchRouteUnit> iterator = routeUnits.values().iterator();
+        BatchRouteUnit first = iterator.next();
+        assertThat(first.getRouteUnit().getDataSourceName(), is("ds_0"));
+        assertThat(first.getRouteUnit().getSqlUnit().getParameterSets(), is(Arrays.asList(Collections.<Object>singletonList(1), Collections.<Object>singletonList(3))));
+        assertThat(first.getJdbcAndActualAddBatchCallTimesMap().get(0), is(0));
+        assertThat(first.getJdbcAndActualAddBatchCallTimesMap().get(2), is(1));
+        BatchRouteUnit second = iterator.next();
+        assertThat(second.getRouteUnit().getDataSourceName(), is("ds_1"));
+        assertThat(second.getJdbcAndActualAddBatchCallTimesMap().get(1), is(0));
+    }
+    
+    private SQLRouteResult createSQLRouteResult(final String dataSourceName, final Object parameter) {
+        SQLRouteResult result = new SQLRouteResult(new DMLStatement());
+        List<List<Object>> parameterSets = new LinkedList<>();
+        parameterSets.add(Collections.singletonList(parameter));
+        result.getRouteUnits().add(new RouteUnit(dataSourceName, new SQLUnit(SQL, parameterSets)));
+        return result;
+    }
+    
+    @SneakyThrows
+    private Object getField(final String fieldName) {
+        Field field = BatchPreparedStatementExecutor.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(actual);
+    }
+    
     @SneakyThrows
     private void setSQLType(final SQLType sqlType) {
         Field field = BatchPreparedStatementExecutor.class.getSuperclass().getDeclaredField("sqlType");
@@ -159,7 +199,7 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups = new LinkedList<>();
         List<StatementExecuteUnit> preparedStatementExecuteUnits = new LinkedList<>();
         executeGroups.add(new ShardingExecuteGroup<>(preparedStatementExecuteUnits));
-        Collection<BatchRouteUnit> routeUnits = new LinkedList<>();
+        Map<Statement, BatchRouteUnit> statementRouteUnits = new IdentityHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             List<List<Object>> parameterSets = new LinkedList<>();
             parameterSets.add(Collections.singletonList((Object) 1));
@@ -167,20 +207,20 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
             BatchRouteUnit batchRouteUnit = new BatchRouteUnit(routeUnit);
             batchRouteUnit.mapAddBatchCount(0);
             batchRouteUnit.mapAddBatchCount(1);
-            routeUnits.add(batchRouteUnit);
+            statementRouteUnits.put(each, batchRouteUnit);
             preparedStatementExecuteUnits.add(new StatementExecuteUnit(routeUnit, each, ConnectionMode.MEMORY_STRICTLY));
         }
-        setFields(executeGroups, routeUnits);
+        setFields(executeGroups, statementRouteUnits);
     }
     
     @SneakyThrows
-    private void setFields(final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups, final Collection<BatchRouteUnit> routeUnits) {
+    private void setFields(final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups, final Map<Statement, BatchRouteUnit> statementRouteUnits) {
         Field field = BatchPreparedStatementExecutor.class.getSuperclass().getDeclaredField("executeGroups");
         field.setAccessible(true);
         field.set(actual, executeGroups);
-        field = BatchPreparedStatementExecutor.class.getDeclaredField("routeUnits");
+        field = BatchPreparedStatementExecutor.class.getDeclaredField("statementRouteUnits");
         field.setAccessible(true);
-        field.set(actual, routeUnits);
+        field.set(actual, statementRouteUnits);
         field = BatchPreparedStatementExecutor.class.getDeclaredField("batchCount");
         field.setAccessible(true);
         field.set(actual, 2);
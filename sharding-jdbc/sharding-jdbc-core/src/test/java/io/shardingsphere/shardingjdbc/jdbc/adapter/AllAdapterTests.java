@@ -17,6 +17,7 @@
 
 package io.shardingsphere.shardingjdbc.jdbc.adapter;
 
+import io.shardingsphere.shardingjdbc.jdbc.adapter.executor.ForceExecuteTemplateTest;
 import io.shardingsphere.shardingjdbc.jdbc.adapter.invocation.JdbcMethodInvocationTest;
 import io.shardingsphere.shardingjdbc.jdbc.adapter.invocation.SetParameterMethodInvocationTest;
 import org.junit.runner.RunWith;
@@ -32,7 +33,9 @@ import org.junit.runners.Suite.SuiteClasses;
         ResultSetAdapterTest.class,
         ResultSetGetterAdapterTest.class,
         JdbcMethodInvocationTest.class,
-        SetParameterMethodInvocationTest.class
+        SetParameterMethodInvocationTest.class,
+        ForceExecuteTemplateTest.class,
+        ConnectionReservationTest.class
     })
 public final class AllAdapterTests {
 }
@@ -17,7 +17,6 @@
 
 package io.shardingsphere.shardingjdbc.jdbc.adapter;
 
-import com.google.common.collect.Multimap;
 import io.shardingsphere.shardingjdbc.common.base.AbstractShardingJDBCDatabaseAndTableTest;
 import io.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import io.shardingsphere.shardingjdbc.jdbc.util.JDBCTestSQL;
@@ -28,6 +27,10 @@ import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
@@ -50,9 +53,9 @@ public final class ConnectionAdapterTest extends AbstractShardingJDBCDatabaseAnd
     
     private void assertAutoCommit(final ShardingConnection actual, final boolean autoCommit) throws SQLException {
         assertThat(actual.getAutoCommit(), is(autoCommit));
-        Multimap<String, Connection> cachedConnections = getCachedConnections(actual);
+        Collection<Connection> cachedConnections = getCachedConnections(actual);
         assertThat(cachedConnections.size(), is(2));
-        for (Connection each : cachedConnections.values()) {
+        for (Connection each : cachedConnections) {
             assertThat(each.getAutoCommit(), is(autoCommit));
         }
     }
@@ -89,9 +92,9 @@ public final class ConnectionAdapterTest extends AbstractShardingJDBCDatabaseAnd
     
     private void assertClose(final ShardingConnection actual, final boolean closed) throws SQLException {
         assertThat(actual.isClosed(), is(closed));
-        Multimap<String, Connection> cachedConnections = getCachedConnections(actual);
+        Collection<Connection> cachedConnections = getCachedConnections(actual);
         assertThat(cachedConnections.size(), is(2));
-        for (Connection each : cachedConnections.values()) {
+        for (Connection each : cachedConnections) {
             assertThat(each.isClosed(), is(closed));
         }
     }
@@ -110,9 +113,9 @@ public final class ConnectionAdapterTest extends AbstractShardingJDBCDatabaseAnd
     
     private void assertReadOnly(final ShardingConnection actual, final boolean readOnly) throws SQLException {
         assertThat(actual.isReadOnly(), is(readOnly));
-        Multimap<String, Connection> cachedConnections = getCachedConnections(actual);
+        Collection<Connection> cachedConnections = getCachedConnections(actual);
         assertThat(cachedConnections.size(), is(2));
-        for (Connection each : cachedConnections.values()) {
+        for (Connection each : cachedConnections) {
             assertThat(each.isReadOnly(), is(readOnly));
         }
     }
@@ -139,9 +142,9 @@ public final class ConnectionAdapterTest extends AbstractShardingJDBCDatabaseAnd
     
     private void assertTransactionIsolation(final ShardingConnection actual, final int transactionIsolation) throws SQLException {
         assertThat(actual.getTransactionIsolation(), is(transactionIsolation));
-        Multimap<String, Connection> cachedConnections = getCachedConnections(actual);
+        Collection<Connection> cachedConnections = getCachedConnections(actual);
         assertThat(cachedConnections.size(), is(2));
-        for (Connection each : cachedConnections.values()) {
+        for (Connection each : cachedConnections) {
             assertThat(each.getTransactionIsolation(), is(transactionIsolation));
         }
     }
@@ -177,9 +180,13 @@ public final class ConnectionAdapterTest extends AbstractShardingJDBCDatabaseAnd
     
     @SuppressWarnings("unchecked")
     @SneakyThrows
-    private Multimap<String, Connection> getCachedConnections(final AbstractConnectionAdapter connectionAdapter) {
+    private Collection<Connection> getCachedConnections(final AbstractConnectionAdapter connectionAdapter) {
         Field field = AbstractConnectionAdapter.class.getDeclaredField("cachedConnections");
         field.setAccessible(true);
-        return (Multimap<String, Connection>) field.get(connectionAdapter);
+        Collection<Connection> result = new LinkedList<>();
+        for (List<Connection> each : ((Map<String, List<Connection>>) field.get(connectionAdapter)).values()) {
+            result.addAll(each);
+        }
+        return result;
     }
 }
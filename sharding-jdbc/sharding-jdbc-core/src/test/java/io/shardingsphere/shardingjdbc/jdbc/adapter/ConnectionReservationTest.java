@@ -0,0 +1,52 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingjdbc.jdbc.adapter;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ConnectionReservationTest {
+    
+    @Test
+    public void assertReserveAndRelease() throws SQLException {
+        ConnectionReservation actual = ConnectionReservation.getInstance(createDataSource());
+        assertThat(actual.reserve(3), is(2));
+        actual.release(2);
+        assertThat(actual.reserve(1), is(1));
+        actual.release(1);
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertReserveTimeout() throws SQLException {
+        ConnectionReservation actual = ConnectionReservation.getInstance(createDataSource());
+        actual.reserve(2);
+        actual.reserve(1);
+    }
+    
+    private HikariDataSource createDataSource() {
+        HikariDataSource result = new HikariDataSource();
+        result.setMaximumPoolSize(2);
+        result.setConnectionTimeout(250L);
+        return result;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingjdbc.jdbc.adapter.executor;
+
+import io.shardingsphere.core.executor.ShardingExecuteCallback;
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ForceExecuteTemplateTest {
+    
+    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(4);
+    
+    @After
+    public void tearDown() {
+        executeEngine.close();
+    }
+    
+    @Test
+    public void assertSerialExecute() throws SQLException {
+        RecordingCallback callback = new RecordingCallback();
+        new ForceExecuteTemplate<String>().execute(Arrays.asList("ds_0", "ds_1", "ds_2"), callback);
+        assertThat(callback.executedTargets.size(), is(3));
+        assertThat(callback.executedThreads, is(Collections.singleton(Thread.currentThread())));
+    }
+    
+    @Test
+    public void assertSerialExecuteWithException() {
+        RecordingCallback callback = new RecordingCallback("ds_1");
+        try {
+            new ForceExecuteTemplate<String>().execute(Arrays.asList("ds_0", "ds_1", "ds_2"), callback);
+            fail("Expected SQLException");
+        } catch (final SQLException ex) {
+            assertThat(ex.getNextException().getMessage(), is("ds_1"));
+        }
+        assertThat(callback.executedTargets.size(), is(3));
+    }
+    
+    @Test
+    public void assertParallelExecute() throws SQLException {
+        final CountDownLatch latch = new CountDownLatch(3);
+        new ForceExecuteTemplate<String>(executeEngine).execute(Arrays.asList("ds_0", "ds_1", "ds_2"), new ForceExecuteCallback<String>() {
+            
+            @Override
+            public void execute(final String target) throws SQLException {
+                latch.countDown();
+                try {
+                    if (!latch.await(5, TimeUnit.SECONDS)) {
+                        throw new SQLException("Targets are not executed in parallel");
+                    }
+                } catch (final InterruptedException ex) {
+                    throw new SQLException(ex);
+                }
+            }
+        });
+        assertThat(latch.getCount(), is(0L));
+    }
+    
+    @Test
+    public void assertParallelExecuteWithExceptions() {
+        RecordingCallback callback = new RecordingCallback("ds_0", "ds_2");
+        try {
+            new ForceExecuteTemplate<String>(executeEngine).execute(Arrays.asList("ds_0", "ds_1", "ds_2"), callback);
+            fail("Expected SQLException");
+        } catch (final SQLException ex) {
+            assertThat(ex.getNextException().getMessage(), is("ds_0"));
+            assertThat(ex.getNextException().getNextException().getMessage(), is("ds_2"));
+        }
+        assertThat(callback.executedTargets.size(), is(3));
+    }
+    
+    @Test
+    public void assertParallelExecuteFallbackToSerialIfRejected() throws SQLException {
+        ShardingExecuteEngine rejectedExecuteEngine = mock(ShardingExecuteEngine.class);
+        when(rejectedExecuteEngine.execute(ArgumentMatchers.<Collection<String>>any(), ArgumentMatchers.<ShardingExecuteCallback<String, Void>>any())).thenThrow(RejectedExecutionException.class);
+        RecordingCallback callback = new RecordingCallback();
+        new ForceExecuteTemplate<String>(rejectedExecuteEngine).execute(Arrays.asList("ds_0", "ds_1"), callback);
+        assertThat(callback.executedTargets.size(), is(2));
+        assertTrue(callback.executedThreads.contains(Thread.currentThread()));
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertParallelExecuteOnlyUnclaimedTargetsIfPartiallyRejected() throws SQLException {
+        ShardingExecuteEngine rejectedExecuteEngine = mock(ShardingExecuteEngine.class);
+        when(rejectedExecuteEngine.execute(ArgumentMatchers.<Collection<String>>any(), ArgumentMatchers.<ShardingExecuteCallback<String, Void>>any())).thenAnswer(new Answer<List<Void>>() {
+            
+            @Override
+            public List<Void> answer(final InvocationOnMock invocation) throws SQLException {
+                Collection<String> inputs = invocation.getArgument(0);
+                ShardingExecuteCallback<String, Void> callback = invocation.getArgument(1);
+                callback.execute(inputs.iterator().next(), false);
+                throw new RejectedExecutionException();
+            }
+        });
+        CountingCallback callback = new CountingCallback();
+        new ForceExecuteTemplate<String>(rejectedExecuteEngine).execute(Arrays.asList("ds_0", "ds_1", "ds_2"), callback);
+        assertThat(callback.executedTimes.size(), is(3));
+        for (AtomicInteger each : callback.executedTimes.values()) {
+            assertThat(each.get(), is(1));
+        }
+    }
+    
+    private static final class CountingCallback implements ForceExecuteCallback<String> {
+        
+        private final ConcurrentMap<String, AtomicInteger> executedTimes = new ConcurrentHashMap<>();
+        
+        @Override
+        public void execute(final String target) {
+            executedTimes.putIfAbsent(target, new AtomicInteger());
+            executedTimes.get(target).incrementAndGet();
+        }
+    }
+    
+    private static final class RecordingCallback implements ForceExecuteCallback<String> {
+        
+        private final Collection<String> failureTargets;
+        
+        private final Set<String> executedTargets = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        
+        private final Set<Thread> executedThreads = Collections.newSetFromMap(new ConcurrentHashMap<Thread, Boolean>());
+        
+        RecordingCallback(final String... failureTargets) {
+            this.failureTargets = Arrays.asList(failureTargets);
+        }
+        
+        @Override
+        public void execute(final String target) throws SQLException {
+            executedTargets.add(target);
+            executedThreads.add(Thread.currentThread());
+            if (failureTargets.contains(target)) {
+                throw new SQLException(target);
+            }
+        }
+    }
+}
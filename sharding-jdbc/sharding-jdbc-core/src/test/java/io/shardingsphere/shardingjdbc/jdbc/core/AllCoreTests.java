@@ -17,6 +17,7 @@
 
 package io.shardingsphere.shardingjdbc.jdbc.core;
 
+import io.shardingsphere.shardingjdbc.jdbc.core.connection.PreparedStatementCacheTest;
 import io.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnectionTest;
 import io.shardingsphere.shardingjdbc.jdbc.core.datasource.MasterSlaveDataSourceTest;
 import io.shardingsphere.shardingjdbc.jdbc.core.datasource.ShardingDataSourceTest;
@@ -35,6 +36,7 @@ import org.junit.runners.Suite.SuiteClasses;
         ShardingDataSourceTest.class, 
         MasterSlaveDataSourceTest.class, 
         ShardingConnectionTest.class, 
+        PreparedStatementCacheTest.class, 
         ShardingStatementTest.class, 
         ShardingPreparedStatementTest.class, 
         ShardingResultSetTest.class,
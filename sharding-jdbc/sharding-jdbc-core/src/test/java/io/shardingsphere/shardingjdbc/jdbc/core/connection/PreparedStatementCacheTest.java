@@ -0,0 +1,145 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingjdbc.jdbc.core.connection;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PreparedStatementCacheTest {
+    
+    private Connection connection;
+    
+    @Before
+    public void setUp() throws SQLException {
+        connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt(), anyInt())).thenAnswer(new Answer<PreparedStatement>() {
+            
+            @Override
+            public PreparedStatement answer(final InvocationOnMock invocation) {
+                return mock(PreparedStatement.class);
+            }
+        });
+    }
+    
+    @Test
+    public void assertBorrowWithoutCache() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(0);
+        PreparedStatement actual = cache.borrow(createKey("SELECT 1"));
+        cache.giveBack(actual);
+        verify(actual).close();
+        assertThat(cache.size(), is(0));
+    }
+    
+    @Test
+    public void assertBorrowCachedStatement() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement expected = cache.borrow(createKey("SELECT 1"));
+        ResultSet resultSet = mock(ResultSet.class);
+        when(expected.getResultSet()).thenReturn(resultSet);
+        cache.giveBack(expected);
+        verify(expected, never()).close();
+        verify(expected).clearParameters();
+        verify(resultSet).close();
+        assertThat(cache.borrow(createKey("SELECT 1")), sameInstance(expected));
+        assertThat(cache.size(), is(0));
+    }
+    
+    @Test
+    public void assertBorrowSameSQLConcurrently() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement first = cache.borrow(createKey("SELECT 1"));
+        assertThat(cache.borrow(createKey("SELECT 1")), not(sameInstance(first)));
+    }
+    
+    @Test
+    public void assertEvictLeastRecentlyUsed() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(1);
+        PreparedStatement first = cache.borrow(createKey("SELECT 1"));
+        PreparedStatement second = cache.borrow(createKey("SELECT 2"));
+        cache.giveBack(first);
+        cache.giveBack(second);
+        verify(first).close();
+        verify(second, never()).close();
+        assertThat(cache.size(), is(1));
+    }
+    
+    @Test
+    public void assertInvalidate() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement actual = cache.borrow(createKey("SELECT 1"));
+        cache.giveBack(actual);
+        cache.invalidate(connection);
+        verify(actual).close();
+        assertThat(cache.size(), is(0));
+    }
+    
+    @Test
+    public void assertBorrowAfterOtherStatementChangedSettings() throws SQLException {
+        try (Connection h2Connection = DriverManager.getConnection("jdbc:h2:mem:prepared_statement_cache;DB_CLOSE_DELAY=-1")) {
+            PreparedStatementCache cache = new PreparedStatementCache(2);
+            PreparedStatement first = cache.borrow(createKey(h2Connection, "SELECT X FROM SYSTEM_RANGE(1, 3)"));
+            int defaultFetchSize = first.getFetchSize();
+            assertThat(defaultFetchSize, not(1));
+            first.setFetchSize(1);
+            first.setMaxRows(1);
+            first.setMaxFieldSize(8);
+            first.setQueryTimeout(5);
+            cache.giveBack(first);
+            PreparedStatement second = cache.borrow(createKey(h2Connection, "SELECT X FROM SYSTEM_RANGE(1, 3)"));
+            assertThat(second, sameInstance(first));
+            assertThat(second.getMaxRows(), is(0));
+            assertThat(second.getFetchSize(), is(defaultFetchSize));
+            assertThat(second.getMaxFieldSize(), is(0));
+            assertThat(second.getQueryTimeout(), is(0));
+            int rowCount = 0;
+            try (ResultSet resultSet = second.executeQuery()) {
+                while (resultSet.next()) {
+                    rowCount++;
+                }
+            }
+            assertThat(rowCount, is(3));
+        }
+    }
+    
+    private PreparedStatementCacheKey createKey(final String sql) {
+        return createKey(connection, sql);
+    }
+    
+    private PreparedStatementCacheKey createKey(final Connection connection, final String sql) {
+        return new PreparedStatementCacheKey("ds_0", connection, sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT, false);
+    }
+}
@@ -17,13 +17,19 @@
 
 package io.shardingsphere.shardingjdbc.jdbc.core.connection;
 
+import com.zaxxer.hikari.HikariDataSource;
 import io.shardingsphere.api.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithmType;
 import io.shardingsphere.api.config.MasterSlaveRuleConfiguration;
 import io.shardingsphere.api.config.ShardingRuleConfiguration;
 import io.shardingsphere.api.config.TableRuleConfiguration;
+import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.properties.ShardingProperties;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.constant.transaction.TransactionType;
 import io.shardingsphere.core.event.transaction.ShardingTransactionEvent;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatistics;
+import io.shardingsphere.core.rule.ShardingRule;
 import io.shardingsphere.shardingjdbc.fixture.TestDataSource;
 import io.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
 import io.shardingsphere.shardingjdbc.jdbc.core.datasource.FixedBaseShardingTransactionHandler;
@@ -37,9 +43,12 @@ import org.junit.Test;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
@@ -47,7 +56,11 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class ShardingConnectionTest {
@@ -79,12 +92,14 @@ public final class ShardingConnectionTest {
     public void setUp() {
         shardingContext = mock(ShardingContext.class);
         when(shardingContext.getDatabaseType()).thenReturn(DatabaseType.H2);
+        when(shardingContext.getShardingProperties()).thenReturn(new ShardingProperties(new Properties()));
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
         TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
         tableRuleConfig.setLogicTable("test");
         shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
         dataSourceMap = new HashMap<>(1, 1);
         dataSourceMap.put(DS_NAME, masterSlaveDataSource);
+        when(shardingContext.getShardingRule()).thenReturn(new ShardingRule(shardingRuleConfig, dataSourceMap.keySet()));
         connection = new ShardingConnection(dataSourceMap, shardingContext);
     }
     
@@ -116,6 +131,115 @@ public final class ShardingConnectionTest {
         assertNotSame(conn, connection.getConnection(DS_NAME));
     }
     
+    @Test
+    public void assertHoldConnectionsUntilReleaseOrClose() throws SQLException {
+        DataSourceStatistics statistics = shardingContext.getShardingRule().getStatisticsRegistry().getStatistics(DS_NAME);
+        Connection conn = connection.getConnection(DS_NAME);
+        assertThat(statistics.getHeldConnectionCount(), is(1));
+        connection.release(conn);
+        assertThat(statistics.getHeldConnectionCount(), is(0));
+        connection.getConnection(DS_NAME);
+        assertThat(statistics.getHeldConnectionCount(), is(1));
+        connection.close();
+        assertThat(statistics.getHeldConnectionCount(), is(0));
+    }
+    
+    @Test
+    public void assertReleaseReservedConnections() throws SQLException {
+        HikariDataSource dataSource = createPooledDataSource();
+        try {
+            connection = new ShardingConnection(Collections.<String, DataSource>singletonMap("pool_ds", dataSource), shardingContext);
+            List<Connection> connections = connection.getConnections(ConnectionMode.MEMORY_STRICTLY, "pool_ds", 2);
+            connection.release(connections.get(0));
+            connection.release(connections.get(1));
+            ShardingConnection otherConnection = new ShardingConnection(Collections.<String, DataSource>singletonMap("pool_ds", dataSource), shardingContext);
+            try {
+                assertThat(otherConnection.getConnections(ConnectionMode.MEMORY_STRICTLY, "pool_ds", 2).size(), is(2));
+            } finally {
+                otherConnection.close();
+            }
+        } finally {
+            dataSource.close();
+        }
+    }
+    
+    @Test
+    public void assertReserveSingleConnection() throws SQLException {
+        HikariDataSource dataSource = createPooledDataSource();
+        try {
+            connection = new ShardingConnection(Collections.<String, DataSource>singletonMap("pool_ds", dataSource), shardingContext);
+            connection.getConnection("pool_ds");
+            ShardingConnection otherConnection = new ShardingConnection(Collections.<String, DataSource>singletonMap("pool_ds", dataSource), shardingContext);
+            try {
+                otherConnection.getConnections(ConnectionMode.MEMORY_STRICTLY, "pool_ds", 2);
+                fail("Expected SQLException");
+            } catch (final SQLException ex) {
+                assertThat(ex.getMessage(), is("Cannot reserve 2 connections within 250 milliseconds."));
+            } finally {
+                otherConnection.close();
+            }
+        } finally {
+            connection.close();
+            dataSource.close();
+        }
+    }
+    
+    private HikariDataSource createPooledDataSource() {
+        HikariDataSource result = new HikariDataSource();
+        result.setJdbcUrl("jdbc:h2:mem:pool_ds;DB_CLOSE_DELAY=-1");
+        result.setDriverClassName(org.h2.Driver.class.getName());
+        result.setUsername("sa");
+        result.setMaximumPoolSize(2);
+        result.setConnectionTimeout(250L);
+        return result;
+    }
+    
+    @Test
+    public void assertRetainAndReleaseShardingContext() throws SQLException {
+        verify(shardingContext).retain();
+        connection.close();
+        verify(shardingContext).release();
+    }
+    
+    @Test
+    public void assertReleaseInvalidatesCachedStatements() throws SQLException {
+        Connection physicalConnection = createConnectionWithCachedStatement();
+        PreparedStatement statement = borrowAndGiveBack(physicalConnection);
+        connection.release(physicalConnection);
+        verify(statement).close();
+        assertThat(connection.getPreparedStatementCache().size(), is(0));
+    }
+    
+    @Test
+    public void assertCloseInvalidatesCachedStatements() throws SQLException {
+        Connection physicalConnection = createConnectionWithCachedStatement();
+        PreparedStatement statement = borrowAndGiveBack(physicalConnection);
+        connection.close();
+        verify(statement).close();
+        assertThat(connection.getPreparedStatementCache().size(), is(0));
+    }
+    
+    private Connection createConnectionWithCachedStatement() throws SQLException {
+        Connection result = mock(Connection.class);
+        when(result.prepareStatement(anyString(), anyInt(), anyInt(), anyInt())).thenReturn(mock(PreparedStatement.class));
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(result);
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.PREPARED_STATEMENT_CACHE_SIZE.getKey(), "1");
+        when(shardingContext.getShardingProperties()).thenReturn(new ShardingProperties(props));
+        connection = new ShardingConnection(Collections.singletonMap("mock_ds", dataSource), shardingContext);
+        assertThat(connection.getConnection("mock_ds"), is(result));
+        return result;
+    }
+    
+    private PreparedStatement borrowAndGiveBack(final Connection physicalConnection) throws SQLException {
+        PreparedStatement result = connection.getPreparedStatementCache().borrow(new PreparedStatementCacheKey(
+                "mock_ds", physicalConnection, "SELECT 1", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT, false));
+        connection.getPreparedStatementCache().giveBack(result);
+        assertThat(connection.getPreparedStatementCache().size(), is(1));
+        return result;
+    }
+    
     @Test
     public void assertXATransactionOperation() throws SQLException {
         connection = new ShardingConnection(dataSourceMap, shardingContext, TransactionType.XA);
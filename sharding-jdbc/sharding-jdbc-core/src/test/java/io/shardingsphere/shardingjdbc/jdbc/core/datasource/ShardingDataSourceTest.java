@@ -18,6 +18,7 @@
 package io.shardingsphere.shardingjdbc.jdbc.core.datasource;
 
 import com.google.common.base.Joiner;
+import com.zaxxer.hikari.HikariDataSource;
 import io.shardingsphere.api.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithmType;
 import io.shardingsphere.api.config.MasterSlaveRuleConfiguration;
 import io.shardingsphere.api.config.ShardingRuleConfiguration;
@@ -48,6 +49,7 @@ import java.util.Properties;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -140,6 +142,8 @@ public final class ShardingDataSourceTest {
         when(statement.executeQuery(ArgumentMatchers.<String>any())).thenReturn(resultSet);
         when(statement.getConnection().getMetaData().getTables(ArgumentMatchers.<String>any(), ArgumentMatchers.<String>any(),
                 ArgumentMatchers.<String>any(), ArgumentMatchers.<String[]>any())).thenReturn(resultSet);
+        when(statement.getConnection().getMetaData().getColumns(ArgumentMatchers.<String>any(), ArgumentMatchers.<String>any(),
+                ArgumentMatchers.<String>any(), ArgumentMatchers.<String>any())).thenReturn(resultSet);
         if ("MySQL".equals(dataBaseProductName)) {
             when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:mysql://localhost:3306/test");
         } else if ("H2".equals(dataBaseProductName)) {
@@ -188,6 +192,17 @@ public final class ShardingDataSourceTest {
         assertThat(shardingConnection.getShardingTransactionHandler() == null, is(true));
     }
     
+    @Test
+    public void assertCloseRetiredXaDataSources() throws SQLException {
+        DataSource dataSource = mockDataSource("MySQL");
+        Map<String, DataSource> dataSourceMap = new HashMap<>(1, 1);
+        dataSourceMap.put("ds", dataSource);
+        ShardingDataSource shardingDataSource = createShardingDataSource(dataSourceMap);
+        HikariDataSource xaDataSource = (HikariDataSource) shardingDataSource.getXaDataSourceMap().get("ds");
+        shardingDataSource.close(Collections.<String>emptyList());
+        assertTrue(xaDataSource.isClosed());
+    }
+    
     private ShardingDataSource createShardingDataSource(final Map<String, DataSource> dataSourceMap) throws SQLException {
         return new ShardingDataSource(dataSourceMap, new ShardingRule(createShardingRuleConfig(dataSourceMap), dataSourceMap.keySet()));
     }
@@ -21,11 +21,13 @@ import com.zaxxer.hikari.HikariDataSource;
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.junit.Test;
 
+import javax.sql.DataSource;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
 
 public final class DataSourceUtilTest {
     
@@ -61,6 +63,58 @@ public final class DataSourceUtilTest {
         assertThat(actual.getUsername(), is("sa"));
     }
     
+    @Test
+    public void assertGetMaxPoolSizeForHikariCP() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(20);
+        assertThat(DataSourceUtil.getMaxPoolSize(dataSource), is(20));
+    }
+    
+    @Test
+    public void assertGetMaxPoolSizeForDBCP() {
+        BasicDataSource dataSource = new BasicDataSource();
+        dataSource.setMaxTotal(10);
+        assertThat(DataSourceUtil.getMaxPoolSize(dataSource), is(10));
+    }
+    
+    @Test
+    public void assertGetMaxPoolSizeForUnlimitedDBCP() {
+        BasicDataSource dataSource = new BasicDataSource();
+        dataSource.setMaxTotal(-1);
+        assertThat(DataSourceUtil.getMaxPoolSize(dataSource), is(0));
+    }
+    
+    @Test
+    public void assertGetMaxPoolSizeForUnknownDataSource() {
+        assertThat(DataSourceUtil.getMaxPoolSize(mock(DataSource.class)), is(0));
+    }
+    
+    @Test
+    public void assertGetConnectionTimeoutMillisecondsForHikariCP() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setConnectionTimeout(5000L);
+        assertThat(DataSourceUtil.getConnectionTimeoutMilliseconds(dataSource), is(5000L));
+    }
+    
+    @Test
+    public void assertGetConnectionTimeoutMillisecondsForDBCP() {
+        BasicDataSource dataSource = new BasicDataSource();
+        dataSource.setMaxWaitMillis(3000L);
+        assertThat(DataSourceUtil.getConnectionTimeoutMilliseconds(dataSource), is(3000L));
+    }
+    
+    @Test
+    public void assertGetConnectionTimeoutMillisecondsForUnlimitedDBCP() {
+        BasicDataSource dataSource = new BasicDataSource();
+        dataSource.setMaxWaitMillis(-1L);
+        assertThat(DataSourceUtil.getConnectionTimeoutMilliseconds(dataSource), is(0L));
+    }
+    
+    @Test
+    public void assertGetConnectionTimeoutMillisecondsForUnknownDataSource() {
+        assertThat(DataSourceUtil.getConnectionTimeoutMilliseconds(mock(DataSource.class)), is(0L));
+    }
+    
     private Map<String, Object> getDataSourcePoolProperties(final String driverClassName, final String url, final String username) {
         Map<String, Object> result = new HashMap<>(3, 1);
         result.put(driverClassName, org.h2.Driver.class.getName());
@@ -78,7 +78,8 @@ public class OrchestrationMasterSlaveDataSource extends AbstractOrchestrationDat
         MasterSlaveRule masterSlaveRule = dataSource.getMasterSlaveRule();
         Map<String, RuleConfiguration> result = new HashMap<>();
         result.put(ShardingConstant.LOGIC_SCHEMA_NAME, new MasterSlaveRuleConfiguration(
-                masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), masterSlaveRule.getSlaveDataSourceNames(), masterSlaveRule.getLoadBalanceAlgorithm()));
+                masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), masterSlaveRule.getSlaveDataSourceNames(), masterSlaveRule.getLoadBalanceAlgorithm(),
+                masterSlaveRule.getReplicationLagProbe(), masterSlaveRule.getMaxReplicationLagMilliseconds()));
         return result;
     }
     
@@ -22,6 +22,7 @@ import com.google.common.eventbus.Subscribe;
 import io.shardingsphere.api.ConfigMapContext;
 import io.shardingsphere.api.config.RuleConfiguration;
 import io.shardingsphere.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.core.config.DataSourceConfiguration;
 import io.shardingsphere.core.constant.ShardingConstant;
 import io.shardingsphere.core.rule.ShardingRule;
 import io.shardingsphere.orchestration.config.OrchestrationConfiguration;
@@ -36,11 +37,18 @@ import io.shardingsphere.shardingjdbc.orchestration.internal.circuit.datasource.
 import io.shardingsphere.shardingjdbc.orchestration.internal.util.DataSourceConverter;
 import lombok.SneakyThrows;
 
+import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Orchestration sharding datasource.
@@ -49,7 +57,9 @@ import java.util.Map;
  */
 public class OrchestrationShardingDataSource extends AbstractOrchestrationDataSource {
     
-    private ShardingDataSource dataSource;
+    private volatile ShardingDataSource dataSource;
+    
+    private final ReadWriteLock renewLock = new ReentrantReadWriteLock();
     
     public OrchestrationShardingDataSource(final OrchestrationConfiguration orchestrationConfig) throws SQLException {
         super(new OrchestrationFacade(orchestrationConfig, Collections.singletonList(ShardingConstant.LOGIC_SCHEMA_NAME)));
@@ -78,7 +88,15 @@ public class OrchestrationShardingDataSource extends AbstractOrchestrationDataSo
     
     @Override
     public final Connection getConnection() {
-        return isCircuitBreak() ? new CircuitBreakerDataSource().getConnection() : dataSource.getConnection();
+        if (isCircuitBreak()) {
+            return new CircuitBreakerDataSource().getConnection();
+        }
+        renewLock.readLock().lock();
+        try {
+            return dataSource.getConnection();
+        } finally {
+            renewLock.readLock().unlock();
+        }
     }
     
     @Override
@@ -95,8 +113,8 @@ public class OrchestrationShardingDataSource extends AbstractOrchestrationDataSo
     @Subscribe
     @SneakyThrows
     public final void renew(final ShardingRuleChangedEvent shardingEvent) {
-        dataSource = new ShardingDataSource(dataSource.getDataSourceMap(), new ShardingRule(shardingEvent.getShardingRuleConfiguration(),
-                dataSource.getDataSourceMap().keySet()), ConfigMapContext.getInstance().getConfigMap(), dataSource.getShardingContext().getShardingProperties().getProps());
+        renew(dataSource.getDataSourceMap(), new ShardingRule(shardingEvent.getShardingRuleConfiguration(), dataSource.getDataSourceMap().keySet()),
+                dataSource.getShardingContext().getShardingProperties().getProps(), Collections.<String>emptyList());
     }
     
     /**
@@ -107,9 +125,24 @@ public class OrchestrationShardingDataSource extends AbstractOrchestrationDataSo
     @Subscribe
     @SneakyThrows
     public final void renew(final DataSourceChangedEvent dataSourceEvent) {
-        dataSource.close();
-        dataSource = new ShardingDataSource(DataSourceConverter.getDataSourceMap(dataSourceEvent.getDataSourceConfigurations()), dataSource.getShardingContext().getShardingRule(),
-                ConfigMapContext.getInstance().getConfigMap(), dataSource.getShardingContext().getShardingProperties().getProps());
+        Map<String, DataSource> originalDataSourceMap = dataSource.getDataSourceMap();
+        Collection<String> changedDataSourceNames = getChangedDataSourceNames(originalDataSourceMap, dataSourceEvent.getDataSourceConfigurations());
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(dataSourceEvent.getDataSourceConfigurations().size(), 1);
+        for (Entry<String, DataSourceConfiguration> entry : dataSourceEvent.getDataSourceConfigurations().entrySet()) {
+            dataSourceMap.put(entry.getKey(), changedDataSourceNames.contains(entry.getKey()) ? entry.getValue().createDataSource() : originalDataSourceMap.get(entry.getKey()));
+        }
+        renew(dataSourceMap, dataSource.getShardingContext().getShardingRule(), dataSource.getShardingContext().getShardingProperties().getProps(), changedDataSourceNames);
+    }
+    
+    private Collection<String> getChangedDataSourceNames(final Map<String, DataSource> originalDataSourceMap, final Map<String, DataSourceConfiguration> dataSourceConfigurations) {
+        Collection<String> result = new HashSet<>(originalDataSourceMap.keySet());
+        result.addAll(dataSourceConfigurations.keySet());
+        for (Entry<String, DataSource> entry : originalDataSourceMap.entrySet()) {
+            if (DataSourceConfiguration.getDataSourceConfiguration(entry.getValue()).equals(dataSourceConfigurations.get(entry.getKey()))) {
+                result.remove(entry.getKey());
+            }
+        }
+        return result;
     }
     
     /**
@@ -120,7 +153,19 @@ public class OrchestrationShardingDataSource extends AbstractOrchestrationDataSo
     @SneakyThrows
     @Subscribe
     public void renew(final PropertiesChangedEvent propertiesEvent) {
-        dataSource = new ShardingDataSource(dataSource.getDataSourceMap(),
-                dataSource.getShardingContext().getShardingRule(), ConfigMapContext.getInstance().getConfigMap(), propertiesEvent.getProps());
+        renew(dataSource.getDataSourceMap(), dataSource.getShardingContext().getShardingRule(), propertiesEvent.getProps(), Collections.<String>emptyList());
+    }
+    
+    private synchronized void renew(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final Properties props, final Collection<String> changedDataSourceNames) throws SQLException {
+        ShardingDataSource originalDataSource = dataSource;
+        ShardingDataSource renewedDataSource = new ShardingDataSource(
+                dataSourceMap, shardingRule, ConfigMapContext.getInstance().getConfigMap(), props, originalDataSource.getShardingContext(), changedDataSourceNames);
+        renewLock.writeLock().lock();
+        try {
+            dataSource = renewedDataSource;
+        } finally {
+            renewLock.writeLock().unlock();
+        }
+        originalDataSource.close(changedDataSourceNames);
     }
 }
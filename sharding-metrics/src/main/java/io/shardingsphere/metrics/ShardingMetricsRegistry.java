@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.metrics;
+
+import com.google.common.base.Strings;
+import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.spi.metrics.MetricsStage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of metrics for SQL processing stages.
+ *
+ * @author zhangliang
+ */
+public final class ShardingMetricsRegistry {
+    
+    private static final ShardingMetricsRegistry INSTANCE = new ShardingMetricsRegistry();
+    
+    private final ConcurrentMap<StageMetricsKey, StageMetrics> stageMetricsMap = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of sharding metrics registry.
+     *
+     * @return instance of sharding metrics registry
+     */
+    public static ShardingMetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Record latency of SQL processing stage.
+     *
+     * @param stage stage of SQL processing
+     * @param logicTableName logic table name, null if not related to logic table
+     * @param dataSourceName data source name, null if not related to data source
+     * @param connectionMode connection mode, null if not related to connection
+     * @param latencyNanos latency in nanoseconds
+     * @param success stage finished success or not
+     */
+    public void record(final MetricsStage stage, final String logicTableName, final String dataSourceName, final ConnectionMode connectionMode, final long latencyNanos, final boolean success) {
+        getStageMetrics(stage, logicTableName, dataSourceName, connectionMode).record(latencyNanos, success);
+    }
+    
+    private StageMetrics getStageMetrics(final MetricsStage stage, final String logicTableName, final String dataSourceName, final ConnectionMode connectionMode) {
+        StageMetricsKey key = new StageMetricsKey(stage, logicTableName, dataSourceName, connectionMode);
+        StageMetrics result = stageMetricsMap.get(key);
+        if (null != result) {
+            return result;
+        }
+        stageMetricsMap.putIfAbsent(key, new StageMetrics(stage, logicTableName, dataSourceName, connectionMode));
+        return stageMetricsMap.get(key);
+    }
+    
+    /**
+     * Get all stage metrics.
+     *
+     * @return all stage metrics ordered by stage, logic table name, data source name and connection mode
+     */
+    public List<StageMetrics> getAllStageMetrics() {
+        List<StageMetrics> result = new ArrayList<>(stageMetricsMap.values());
+        Collections.sort(result, new Comparator<StageMetrics>() {
+            
+            @Override
+            public int compare(final StageMetrics o1, final StageMetrics o2) {
+                int result = o1.getStage().compareTo(o2.getStage());
+                if (0 == result) {
+                    result = Strings.nullToEmpty(o1.getLogicTableName()).compareTo(Strings.nullToEmpty(o2.getLogicTableName()));
+                }
+                if (0 == result) {
+                    result = Strings.nullToEmpty(o1.getDataSourceName()).compareTo(Strings.nullToEmpty(o2.getDataSourceName()));
+                }
+                if (0 == result) {
+                    result = getOrdinal(o1.getConnectionMode()) - getOrdinal(o2.getConnectionMode());
+                }
+                return result;
+            }
+        });
+        return result;
+    }
+    
+    private int getOrdinal(final ConnectionMode connectionMode) {
+        return null == connectionMode ? -1 : connectionMode.ordinal();
+    }
+    
+    /**
+     * Clear all stage metrics.
+     */
+    public void clear() {
+        stageMetricsMap.clear();
+    }
+}
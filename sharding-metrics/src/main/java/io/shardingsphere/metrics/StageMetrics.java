@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.metrics;
+
+import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.metrics.histogram.LatencyHistogram;
+import io.shardingsphere.spi.metrics.MetricsStage;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of SQL processing stage.
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Getter
+public final class StageMetrics {
+    
+    private final MetricsStage stage;
+    
+    private final String logicTableName;
+    
+    private final String dataSourceName;
+    
+    private final ConnectionMode connectionMode;
+    
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong failureCount = new AtomicLong();
+    
+    /**
+     * Record latency of stage.
+     *
+     * @param latencyNanos latency in nanoseconds
+     * @param success stage finished success or not
+     */
+    public void record(final long latencyNanos, final boolean success) {
+        latencyHistogram.record(latencyNanos);
+        if (!success) {
+            failureCount.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Get count of failures.
+     *
+     * @return count of failures
+     */
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+}
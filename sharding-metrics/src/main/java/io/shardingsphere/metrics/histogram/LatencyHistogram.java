@@ -0,0 +1,144 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.metrics.histogram;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock free histogram of latency.
+ *
+ * <p>
+ * Latency is recorded into log-linear buckets like HDR histogram: 
+ * each power of two range is split into 32 linear sub buckets, so relative error of percentile is less than 1/32.
+ * Latency longer than about 18 minutes is recorded as 18 minutes.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class LatencyHistogram {
+    
+    private static final int SUB_BUCKET_BITS = 5;
+    
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    
+    private static final int MAX_MAGNITUDE = 40;
+    
+    private static final long MAX_TRACKABLE_NANOS = (1L << MAX_MAGNITUDE) - 1L;
+    
+    private static final int BUCKET_COUNT = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS;
+    
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    
+    private final AtomicLong count = new AtomicLong();
+    
+    private final AtomicLong totalNanos = new AtomicLong();
+    
+    private final AtomicLong maxNanos = new AtomicLong();
+    
+    /**
+     * Record latency.
+     *
+     * @param latencyNanos latency in nanoseconds
+     */
+    public void record(final long latencyNanos) {
+        long value = Math.min(Math.max(latencyNanos, 0L), MAX_TRACKABLE_NANOS);
+        bucketCounts.incrementAndGet(getBucketIndex(value));
+        count.incrementAndGet();
+        totalNanos.addAndGet(value);
+        long currentMaxNanos = maxNanos.get();
+        while (value > currentMaxNanos && !maxNanos.compareAndSet(currentMaxNanos, value)) {
+            currentMaxNanos = maxNanos.get();
+        }
+    }
+    
+    private int getBucketIndex(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+    
+    private long getBucketHighestNanos(final int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = (bucketIndex >>> SUB_BUCKET_BITS) - 1;
+        return ((long) (SUB_BUCKET_COUNT + (bucketIndex & (SUB_BUCKET_COUNT - 1))) << shift) + (1L << shift) - 1L;
+    }
+    
+    /**
+     * Get count of recorded latencies.
+     *
+     * @return count of recorded latencies
+     */
+    public long getCount() {
+        return count.get();
+    }
+    
+    /**
+     * Get total of recorded latencies.
+     *
+     * @return total of recorded latencies in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos.get();
+    }
+    
+    /**
+     * Get max of recorded latencies.
+     *
+     * @return max of recorded latencies in nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+    
+    /**
+     * Get mean of recorded latencies.
+     *
+     * @return mean of recorded latencies in nanoseconds, {@code 0} if nothing recorded
+     */
+    public long getMeanNanos() {
+        long currentCount = count.get();
+        return 0L == currentCount ? 0L : totalNanos.get() / currentCount;
+    }
+    
+    /**
+     * Get latency at percentile.
+     *
+     * @param percentile percentile between {@code 0} and {@code 100}
+     * @return highest latency of bucket which percentile falls in, {@code 0} if nothing recorded
+     */
+    public long getNanosAtPercentile(final double percentile) {
+        long currentCount = count.get();
+        if (0L == currentCount) {
+            return 0L;
+        }
+        long targetCount = Math.max(1L, (long) Math.ceil(percentile / 100D * currentCount));
+        long accumulatedCount = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            accumulatedCount += bucketCounts.get(i);
+            if (accumulatedCount >= targetCount) {
+                return Math.min(getBucketHighestNanos(i), maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+}
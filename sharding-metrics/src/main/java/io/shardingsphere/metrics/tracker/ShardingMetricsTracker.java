@@ -0,0 +1,36 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.metrics.tracker;
+
+import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.metrics.ShardingMetricsRegistry;
+import io.shardingsphere.spi.metrics.MetricsStage;
+import io.shardingsphere.spi.metrics.MetricsTracker;
+
+/**
+ * Metrics tracker which records latencies into histograms of sharding metrics registry.
+ *
+ * @author zhangliang
+ */
+public final class ShardingMetricsTracker implements MetricsTracker {
+    
+    @Override
+    public void record(final MetricsStage stage, final String logicTableName, final String dataSourceName, final ConnectionMode connectionMode, final long latencyNanos, final boolean success) {
+        ShardingMetricsRegistry.getInstance().record(stage, logicTableName, dataSourceName, connectionMode, latencyNanos, success);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.metrics;
+
+import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.spi.metrics.MetricsStage;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public final class ShardingMetricsRegistryTest {
+    
+    @After
+    public void tearDown() {
+        ShardingMetricsRegistry.getInstance().clear();
+    }
+    
+    @Test
+    public void assertRecordWithSameTags() {
+        ShardingMetricsRegistry.getInstance().record(MetricsStage.EXECUTE, null, "ds_0", ConnectionMode.MEMORY_STRICTLY, 100L, true);
+        ShardingMetricsRegistry.getInstance().record(MetricsStage.EXECUTE, null, "ds_0", ConnectionMode.MEMORY_STRICTLY, 300L, false);
+        List<StageMetrics> actual = ShardingMetricsRegistry.getInstance().getAllStageMetrics();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getStage(), is(MetricsStage.EXECUTE));
+        assertThat(actual.get(0).getLogicTableName(), nullValue());
+        assertThat(actual.get(0).getDataSourceName(), is("ds_0"));
+        assertThat(actual.get(0).getConnectionMode(), is(ConnectionMode.MEMORY_STRICTLY));
+        assertThat(actual.get(0).getLatencyHistogram().getCount(), is(2L));
+        assertThat(actual.get(0).getLatencyHistogram().getMeanNanos(), is(200L));
+        assertThat(actual.get(0).getFailureCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetAllStageMetricsInOrder() {
+        ShardingMetricsRegistry.getInstance().record(MetricsStage.MERGE, "t_order", null, null, 100L, true);
+        ShardingMetricsRegistry.getInstance().record(MetricsStage.EXECUTE, null, "ds_1", ConnectionMode.CONNECTION_STRICTLY, 100L, true);
+        ShardingMetricsRegistry.getInstance().record(MetricsStage.EXECUTE, null, "ds_1", ConnectionMode.MEMORY_STRICTLY, 100L, true);
+        ShardingMetricsRegistry.getInstance().record(MetricsStage.EXECUTE, null, "ds_0", ConnectionMode.CONNECTION_STRICTLY, 100L, true);
+        ShardingMetricsRegistry.getInstance().record(MetricsStage.PARSE, "t_order_item", null, null, 100L, true);
+        ShardingMetricsRegistry.getInstance().record(MetricsStage.PARSE, null, null, null, 100L, false);
+        List<StageMetrics> actual = ShardingMetricsRegistry.getInstance().getAllStageMetrics();
+        assertThat(actual.size(), is(6));
+        assertThat(actual.get(0).getLogicTableName(), nullValue());
+        assertThat(actual.get(1).getLogicTableName(), is("t_order_item"));
+        assertThat(actual.get(2).getDataSourceName(), is("ds_0"));
+        assertThat(actual.get(3).getConnectionMode(), is(ConnectionMode.MEMORY_STRICTLY));
+        assertThat(actual.get(4).getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+        assertThat(actual.get(5).getStage(), is(MetricsStage.MERGE));
+    }
+}
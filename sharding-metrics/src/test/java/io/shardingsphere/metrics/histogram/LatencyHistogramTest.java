@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.metrics.histogram;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+public final class LatencyHistogramTest {
+    
+    @Test
+    public void assertGetWhenNothingRecorded() {
+        LatencyHistogram actual = new LatencyHistogram();
+        assertThat(actual.getCount(), is(0L));
+        assertThat(actual.getMeanNanos(), is(0L));
+        assertThat(actual.getNanosAtPercentile(99D), is(0L));
+    }
+    
+    @Test
+    public void assertRecordSmallLatencies() {
+        LatencyHistogram actual = new LatencyHistogram();
+        for (long i = 0L; i < 32L; i++) {
+            actual.record(i);
+        }
+        assertThat(actual.getCount(), is(32L));
+        assertThat(actual.getNanosAtPercentile(50D), is(15L));
+        assertThat(actual.getNanosAtPercentile(100D), is(31L));
+    }
+    
+    @Test
+    public void assertRecordLatencies() {
+        LatencyHistogram actual = new LatencyHistogram();
+        for (long i = 1L; i <= 100000L; i++) {
+            actual.record(i * 1000L);
+        }
+        assertThat(actual.getCount(), is(100000L));
+        assertThat(actual.getTotalNanos(), is(5000050000000L));
+        assertThat(actual.getMeanNanos(), is(50000500L));
+        assertThat(actual.getMaxNanos(), is(100000000L));
+        assertThat(actual.getNanosAtPercentile(50D), allOf(greaterThanOrEqualTo(50000000L), lessThanOrEqualTo(50000000L + 50000000L / 32L)));
+        assertThat(actual.getNanosAtPercentile(99D), allOf(greaterThanOrEqualTo(99000000L), lessThanOrEqualTo(99000000L + 99000000L / 32L)));
+        assertThat(actual.getNanosAtPercentile(100D), is(100000000L));
+    }
+    
+    @Test
+    public void assertRecordOutOfRangeLatencies() {
+        LatencyHistogram actual = new LatencyHistogram();
+        actual.record(-1L);
+        actual.record(Long.MAX_VALUE);
+        assertThat(actual.getCount(), is(2L));
+        assertThat(actual.getNanosAtPercentile(50D), is(0L));
+        assertThat(actual.getMaxNanos(), is((1L << 40) - 1L));
+        assertThat(actual.getNanosAtPercentile(100D), is((1L << 40) - 1L));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.metrics.tracker;
+
+import io.shardingsphere.metrics.ShardingMetricsRegistry;
+import io.shardingsphere.metrics.StageMetrics;
+import io.shardingsphere.spi.metrics.MetricsStage;
+import io.shardingsphere.spi.metrics.SPIMetricsTracker;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingMetricsTrackerTest {
+    
+    @After
+    public void tearDown() {
+        ShardingMetricsRegistry.getInstance().clear();
+    }
+    
+    @Test
+    public void assertRecordBySPI() {
+        SPIMetricsTracker metricsTracker = SPIMetricsTracker.getInstance();
+        assertTrue(metricsTracker.isEnabled());
+        metricsTracker.finish(MetricsStage.ROUTE, metricsTracker.start(), "t_order", null, null, true);
+        List<StageMetrics> actual = ShardingMetricsRegistry.getInstance().getAllStageMetrics();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getStage(), is(MetricsStage.ROUTE));
+        assertThat(actual.get(0).getLogicTableName(), is("t_order"));
+        assertThat(actual.get(0).getLatencyHistogram().getCount(), is(1L));
+    }
+}
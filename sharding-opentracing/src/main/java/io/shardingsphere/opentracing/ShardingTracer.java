@@ -24,8 +24,15 @@ import io.shardingsphere.core.exception.ShardingException;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Sharding tracer object container.
+ * 
+ * <p>
+ * Head-based sampling is supported, sampler rate is from {@code 0} to {@code 1} and default is {@code 1}.
+ * Logical statements which are children of caller's active span are always sampled to follow caller's tracing decision.
+ * </p>
  *
  * @author gaohongtao
  * @author wangkai
@@ -35,6 +42,10 @@ public final class ShardingTracer {
     
     private static final String OPENTRACING_TRACER_CLASS_NAME = "io.shardingsphere.opentracing.tracer.class";
     
+    private static final String OPENTRACING_SAMPLER_RATE = "io.shardingsphere.opentracing.sampler.rate";
+    
+    private static volatile double samplerRate = 1D;
+    
     /**
      * Initialize sharding tracer.
      */
@@ -54,6 +65,19 @@ public final class ShardingTracer {
      * @param tracer opentracing tracer
      */
     public static void init(final Tracer tracer) {
+        String samplerRate = System.getProperty(OPENTRACING_SAMPLER_RATE);
+        init(tracer, null == samplerRate ? 1D : Double.parseDouble(samplerRate));
+    }
+    
+    /**
+     * Initialize sharding tracer.
+     * 
+     * @param tracer opentracing tracer
+     * @param samplerRate rate of logical statements to be sampled, from {@code 0} to {@code 1}
+     */
+    public static void init(final Tracer tracer, final double samplerRate) {
+        Preconditions.checkArgument(samplerRate >= 0D && samplerRate <= 1D, "Sampler rate of opentracing should be between 0 and 1, but was %s", samplerRate);
+        ShardingTracer.samplerRate = samplerRate;
         if (!GlobalTracer.isRegistered()) {
             GlobalTracer.register(tracer);
         }
@@ -67,4 +91,13 @@ public final class ShardingTracer {
     public static Tracer get() {
         return GlobalTracer.get();
     }
+    
+    /**
+     * Decide whether to sample logical statement.
+     *
+     * @return logical statement is sampled or not
+     */
+    public static boolean sample() {
+        return samplerRate >= 1D || null != get().activeSpan() || (samplerRate > 0D && ThreadLocalRandom.current().nextDouble() < samplerRate);
+    }
 }
@@ -17,8 +17,10 @@
 
 package io.shardingsphere.opentracing.hook;
 
+import io.opentracing.NoopSpan;
 import io.opentracing.Span;
 import io.opentracing.tag.Tags;
+import io.shardingsphere.core.executor.ShardingExecuteDataMap;
 import io.shardingsphere.spi.parsing.ParsingHook;
 import io.shardingsphere.opentracing.ShardingTracer;
 import io.shardingsphere.opentracing.constant.ShardingTags;
@@ -36,6 +38,10 @@ public final class OpenTracingParsingHook implements ParsingHook {
     
     @Override
     public void start(final String sql) {
+        if (!OpenTracingRootInvokeHook.isSampled(ShardingExecuteDataMap.getDataMap())) {
+            span = NoopSpan.INSTANCE;
+            return;
+        }
         span = ShardingTracer.get().buildSpan(OPERATION_NAME)
                 .withTag(Tags.COMPONENT.getKey(), ShardingTags.COMPONENT_NAME)
                 .withTag(Tags.SPAN_KIND.getKey(), Tags.SPAN_KIND_CLIENT)
@@ -24,8 +24,12 @@ import io.shardingsphere.spi.root.RootInvokeHook;
 import io.shardingsphere.opentracing.ShardingTracer;
 import io.shardingsphere.opentracing.constant.ShardingTags;
 
+import java.util.Map;
+
 /**
  * Open tracing root invoke hook.
+ * 
+ * <p>Sampling is decided once by root invoke, and shared with parsing and SQL execution hooks by sharding execute data map.</p>
  *
  * @author zhangliang
  */
@@ -33,18 +37,36 @@ public final class OpenTracingRootInvokeHook implements RootInvokeHook {
     
     public static final String ACTIVE_SPAN_CONTINUATION = "ACTIVE_SPAN_CONTINUATION";
     
+    public static final String SAMPLED = "SAMPLED";
+    
     private static final String OPERATION_NAME = "/" + ShardingTags.COMPONENT_NAME + "/rootInvoke/";
     
     private ActiveSpan activeSpan;
     
     @Override
     public void start() {
+        Map<String, Object> shardingExecuteDataMap = ShardingExecuteDataMap.getDataMap();
+        boolean sampled = ShardingTracer.sample();
+        shardingExecuteDataMap.put(SAMPLED, sampled);
+        if (!sampled) {
+            shardingExecuteDataMap.remove(ACTIVE_SPAN_CONTINUATION);
+            return;
+        }
         activeSpan = ShardingTracer.get().buildSpan(OPERATION_NAME).withTag(Tags.COMPONENT.getKey(), ShardingTags.COMPONENT_NAME).startActive();
-        ShardingExecuteDataMap.getDataMap().put(ACTIVE_SPAN_CONTINUATION, activeSpan.capture());
+        shardingExecuteDataMap.put(ACTIVE_SPAN_CONTINUATION, activeSpan.capture());
     }
     
     @Override
     public void finish(final int connectionCount) {
-        activeSpan.setTag(ShardingTags.CONNECTION_COUNT.getKey(), connectionCount).deactivate();
+        ShardingExecuteDataMap.getDataMap().remove(SAMPLED);
+        ShardingExecuteDataMap.getDataMap().remove(ACTIVE_SPAN_CONTINUATION);
+        if (null != activeSpan) {
+            activeSpan.setTag(ShardingTags.CONNECTION_COUNT.getKey(), connectionCount).deactivate();
+        }
+    }
+    
+    static boolean isSampled(final Map<String, Object> shardingExecuteDataMap) {
+        Object result = shardingExecuteDataMap.get(SAMPLED);
+        return null == result ? ShardingTracer.sample() : (Boolean) result;
     }
 }
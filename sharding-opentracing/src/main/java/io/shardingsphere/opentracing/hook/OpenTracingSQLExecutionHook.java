@@ -17,22 +17,24 @@
 
 package io.shardingsphere.opentracing.hook;
 
-import com.google.common.base.Joiner;
 import io.opentracing.ActiveSpan;
+import io.opentracing.NoopSpan;
 import io.opentracing.Span;
 import io.opentracing.tag.Tags;
+import io.shardingsphere.core.executor.ShardingExecuteDataMap;
 import io.shardingsphere.core.metadata.datasource.DataSourceMetaData;
 import io.shardingsphere.core.routing.RouteUnit;
 import io.shardingsphere.opentracing.ShardingTracer;
 import io.shardingsphere.opentracing.constant.ShardingTags;
 import io.shardingsphere.spi.executor.SQLExecutionHook;
 
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Open tracing SQL execution hook.
+ * 
+ * <p>No-op span is used for unsampled logical statement, SQL and bind variables are not converted to tags for it.</p>
  *
  * @author zhangliang
  */
@@ -46,8 +48,13 @@ public final class OpenTracingSQLExecutionHook implements SQLExecutionHook {
     
     @Override
     public void start(final RouteUnit routeUnit, final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
-        if (!isTrunkThread) {
-            activeSpan = ((ActiveSpan.Continuation) shardingExecuteDataMap.get(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION)).activate();
+        Map<String, Object> dataMap = isTrunkThread ? ShardingExecuteDataMap.getDataMap() : shardingExecuteDataMap;
+        if (!OpenTracingRootInvokeHook.isSampled(dataMap)) {
+            span = NoopSpan.INSTANCE;
+            return;
+        }
+        if (!isTrunkThread && dataMap.containsKey(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION)) {
+            activeSpan = ((ActiveSpan.Continuation) dataMap.get(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION)).activate();
         }
         span = ShardingTracer.get().buildSpan(OPERATION_NAME)
                 .withTag(Tags.COMPONENT.getKey(), ShardingTags.COMPONENT_NAME)
@@ -58,19 +65,27 @@ public final class OpenTracingSQLExecutionHook implements SQLExecutionHook {
                 .withTag(Tags.DB_INSTANCE.getKey(), routeUnit.getDataSourceName())
                 .withTag(Tags.DB_STATEMENT.getKey(), routeUnit.getSqlUnit().getSql())
                 .withTag(ShardingTags.DB_BIND_VARIABLES.getKey(), toString(routeUnit.getSqlUnit().getParameterSets())).startManual();
-        
     }
     
     private String toString(final List<List<Object>> parameterSets) {
-        return parameterSets.isEmpty() ? "" : Joiner.on(", ").join(toStringList(parameterSets));
-    }
-    
-    private List<String> toStringList(final List<List<Object>> parameterSets) {
-        List<String> result = new LinkedList<>();
+        if (parameterSets.isEmpty()) {
+            return "";
+        }
+        StringBuilder result = new StringBuilder();
         for (List<Object> each : parameterSets) {
-            result.add(String.format("[%s]", Joiner.on(", ").join(each)));
+            if (0 != result.length()) {
+                result.append(", ");
+            }
+            result.append('[');
+            for (int i = 0; i < each.size(); i++) {
+                if (0 != i) {
+                    result.append(", ");
+                }
+                result.append(each.get(i));
+            }
+            result.append(']');
         }
-        return result;
+        return result.toString();
     }
     
     @Override
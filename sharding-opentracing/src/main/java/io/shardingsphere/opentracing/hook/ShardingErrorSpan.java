@@ -17,6 +17,7 @@
 
 package io.shardingsphere.opentracing.hook;
 
+import io.opentracing.NoopSpan;
 import io.opentracing.Span;
 import io.opentracing.tag.Tags;
 import io.shardingsphere.opentracing.constant.ShardingErrorLogTags;
@@ -41,6 +42,9 @@ public final class ShardingErrorSpan {
      * @param cause failure cause of span
      */
     public static void setError(final Span span, final Exception cause) {
+        if (span instanceof NoopSpan) {
+            return;
+        }
         span.setTag(Tags.ERROR.getKey(), true).log(System.currentTimeMillis(), getReason(cause));
     }
     
@@ -32,6 +32,7 @@ import java.lang.reflect.Field;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -73,6 +74,19 @@ public final class ShardingTracerTest {
         ShardingTracer.init();
     }
     
+    @Test
+    public void assertSample() {
+        ShardingTracer.init(mock(Tracer.class), 0D);
+        assertFalse(ShardingTracer.sample());
+        ShardingTracer.init(mock(Tracer.class), 1D);
+        assertTrue(ShardingTracer.sample());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitWithInvalidSamplerRate() {
+        ShardingTracer.init(mock(Tracer.class), 1.5D);
+    }
+    
     @SneakyThrows
     private static void clearGlobalTracer() {
         Field tracerField = GlobalTracer.class.getDeclaredField("tracer");
@@ -66,6 +66,10 @@ public abstract class BaseOpenTracingHookTest {
         return finishedSpans.get(0);
     }
     
+    protected final void assertNoSpan() {
+        assertTrue(TRACER.finishedSpans().isEmpty());
+    }
+    
     protected final void assertSpanError(final Class<? extends Throwable> expectedException, final String expectedErrorMessage) {
         final MockSpan actual = getActualSpan();
         assertTrue((Boolean) actual.tags().get(Tags.ERROR.getKey()));
@@ -20,6 +20,7 @@ package io.shardingsphere.opentracing.hook;
 import io.opentracing.mock.MockSpan;
 import io.opentracing.tag.Tags;
 import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.executor.ShardingExecuteDataMap;
 import io.shardingsphere.spi.parsing.ParsingHook;
 import io.shardingsphere.spi.parsing.SPIParsingHook;
 import io.shardingsphere.opentracing.constant.ShardingTags;
@@ -59,4 +60,16 @@ public final class OpenTracingParsingHookTest extends BaseOpenTracingHookTest {
         assertThat(actualTags.get(Tags.DB_STATEMENT.getKey()), CoreMatchers.<Object>is("SELECT * FROM XXX;"));
         assertSpanError(ShardingException.class, "parse SQL error");
     }
+    
+    @Test
+    public void assertExecuteWhenNotSampled() {
+        ShardingExecuteDataMap.getDataMap().put(OpenTracingRootInvokeHook.SAMPLED, false);
+        try {
+            parsingHook.start("SELECT * FROM XXX;");
+            parsingHook.finishSuccess();
+            assertNoSpan();
+        } finally {
+            ShardingExecuteDataMap.getDataMap().remove(OpenTracingRootInvokeHook.SAMPLED);
+        }
+    }
 }
@@ -17,12 +17,16 @@
 
 package io.shardingsphere.opentracing.hook;
 
+import io.opentracing.Tracer;
 import io.shardingsphere.core.executor.ShardingExecuteDataMap;
+import io.shardingsphere.opentracing.ShardingTracer;
 import io.shardingsphere.spi.root.RootInvokeHook;
 import io.shardingsphere.spi.root.SPIRootInvokeHook;
 import org.junit.Test;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
 
 public final class OpenTracingRootInvokeHookTest extends BaseOpenTracingHookTest {
     
@@ -33,5 +37,21 @@ public final class OpenTracingRootInvokeHookTest extends BaseOpenTracingHookTest
         rootInvokeHook.start();
         assertTrue(ShardingExecuteDataMap.getDataMap().containsKey(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION));
         rootInvokeHook.finish(1);
+        assertFalse(ShardingExecuteDataMap.getDataMap().containsKey(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION));
+        assertFalse(ShardingExecuteDataMap.getDataMap().containsKey(OpenTracingRootInvokeHook.SAMPLED));
+    }
+    
+    @Test
+    public void assertRootInvokeWhenNotSampled() {
+        ShardingTracer.init(mock(Tracer.class), 0D);
+        try {
+            rootInvokeHook.start();
+            assertFalse((Boolean) ShardingExecuteDataMap.getDataMap().get(OpenTracingRootInvokeHook.SAMPLED));
+            assertFalse(ShardingExecuteDataMap.getDataMap().containsKey(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION));
+            rootInvokeHook.finish(1);
+            assertNoSpan();
+        } finally {
+            ShardingTracer.init(mock(Tracer.class), 1D);
+        }
     }
 }
@@ -67,6 +67,7 @@ public final class OpenTracingSQLExecutionHookTest extends BaseOpenTracingHookTe
     @After
     public void tearDown() {
         ShardingExecuteDataMap.getDataMap().remove(OpenTracingRootInvokeHook.ACTIVE_SPAN_CONTINUATION);
+        ShardingExecuteDataMap.getDataMap().remove(OpenTracingRootInvokeHook.SAMPLED);
     }
     
     @Test
@@ -134,6 +135,26 @@ public final class OpenTracingSQLExecutionHookTest extends BaseOpenTracingHookTe
         verify(activeSpan, times(0)).deactivate();
     }
     
+    @Test
+    public void assertExecuteWithMultipleParameterSets() {
+        DataSourceMetaData dataSourceMetaData = mock(DataSourceMetaData.class);
+        sqlExecutionHook.start(createRouteUnit("success_ds", "INSERT INTO success_tbl VALUES (?, ?);", 
+                Arrays.<List<Object>>asList(Arrays.<Object>asList("1", 2), Arrays.<Object>asList(null, 3))), dataSourceMetaData, true, null);
+        sqlExecutionHook.finishSuccess();
+        assertThat(getActualSpan().tags().get(ShardingTags.DB_BIND_VARIABLES.getKey()), CoreMatchers.<Object>is("[1, 2], [null, 3]"));
+    }
+    
+    @Test
+    public void assertExecuteWhenNotSampled() {
+        ShardingExecuteDataMap.getDataMap().put(OpenTracingRootInvokeHook.SAMPLED, false);
+        RouteUnit routeUnit = mock(RouteUnit.class);
+        sqlExecutionHook.start(routeUnit, mock(DataSourceMetaData.class), false, ShardingExecuteDataMap.getDataMap());
+        sqlExecutionHook.finishFailure(new RuntimeException("SQL execution error"));
+        assertNoSpan();
+        verify(routeUnit, times(0)).getSqlUnit();
+        verify(activeSpan, times(0)).deactivate();
+    }
+    
     private RouteUnit createRouteUnit(final String dataSourceName, final String sql, final List<List<Object>> parameterSets) {
         SQLUnit sqlUnit = new SQLUnit(sql, parameterSets);
         return new RouteUnit(dataSourceName, sqlUnit);
@@ -20,6 +20,7 @@ package io.shardingsphere.orchestration.internal.config.listener;
 import io.shardingsphere.api.ConfigMapContext;
 import io.shardingsphere.orchestration.internal.config.node.ConfigurationNode;
 import io.shardingsphere.orchestration.internal.config.service.ConfigurationService;
+import io.shardingsphere.orchestration.internal.listener.CoalescingEventListener;
 import io.shardingsphere.orchestration.internal.listener.OrchestrationListener;
 import io.shardingsphere.orchestration.reg.api.RegistryCenter;
 import io.shardingsphere.orchestration.reg.listener.DataChangedEvent;
@@ -47,7 +48,7 @@ public final class ConfigMapOrchestrationListener implements OrchestrationListen
     
     @Override
     public void watch() {
-        regCenter.watch(configNode.getConfigMapPath(), new EventListener() {
+        regCenter.watch(configNode.getConfigMapPath(), new CoalescingEventListener(new EventListener() {
             
             @Override
             public void onChange(final DataChangedEvent event) {
@@ -56,6 +57,6 @@ public final class ConfigMapOrchestrationListener implements OrchestrationListen
                     ConfigMapContext.getInstance().getConfigMap().putAll(configService.loadConfigMap());
                 }
             }
-        });
+        }));
     }
 }
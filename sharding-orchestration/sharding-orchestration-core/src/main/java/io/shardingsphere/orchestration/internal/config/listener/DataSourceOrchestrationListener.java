@@ -20,6 +20,7 @@ package io.shardingsphere.orchestration.internal.config.listener;
 import io.shardingsphere.core.event.ShardingEventBusInstance;
 import io.shardingsphere.orchestration.internal.config.node.ConfigurationNode;
 import io.shardingsphere.orchestration.internal.config.event.DataSourceChangedEvent;
+import io.shardingsphere.orchestration.internal.listener.CoalescingEventListener;
 import io.shardingsphere.orchestration.internal.listener.OrchestrationListener;
 import io.shardingsphere.orchestration.internal.state.service.DataSourceService;
 import io.shardingsphere.orchestration.reg.api.RegistryCenter;
@@ -50,7 +51,7 @@ public final class DataSourceOrchestrationListener implements OrchestrationListe
     
     @Override
     public void watch() {
-        regCenter.watch(configNode.getDataSourcePath(shardingSchemaName), new EventListener() {
+        regCenter.watch(configNode.getDataSourcePath(shardingSchemaName), new CoalescingEventListener(new EventListener() {
             
             @Override
             public void onChange(final DataChangedEvent event) {
@@ -58,6 +59,6 @@ public final class DataSourceOrchestrationListener implements OrchestrationListe
                     ShardingEventBusInstance.getInstance().post(new DataSourceChangedEvent(shardingSchemaName, dataSourceService.getAvailableDataSourceConfigurations(shardingSchemaName)));
                 }
             }
-        });
+        }));
     }
 }
@@ -21,6 +21,7 @@ import io.shardingsphere.core.event.ShardingEventBusInstance;
 import io.shardingsphere.orchestration.internal.config.node.ConfigurationNode;
 import io.shardingsphere.orchestration.internal.config.service.ConfigurationService;
 import io.shardingsphere.orchestration.internal.config.event.PropertiesChangedEvent;
+import io.shardingsphere.orchestration.internal.listener.CoalescingEventListener;
 import io.shardingsphere.orchestration.internal.listener.OrchestrationListener;
 import io.shardingsphere.orchestration.reg.api.RegistryCenter;
 import io.shardingsphere.orchestration.reg.listener.DataChangedEvent;
@@ -47,7 +48,7 @@ public final class PropertiesOrchestrationListener implements OrchestrationListe
     
     @Override
     public void watch() {
-        regCenter.watch(configNode.getPropsPath(), new EventListener() {
+        regCenter.watch(configNode.getPropsPath(), new CoalescingEventListener(new EventListener() {
             
             @Override
             public void onChange(final DataChangedEvent event) {
@@ -55,6 +56,6 @@ public final class PropertiesOrchestrationListener implements OrchestrationListe
                     ShardingEventBusInstance.getInstance().post(new PropertiesChangedEvent(configService.loadProperties()));
                 }
             }
-        });
+        }));
     }
 }
@@ -22,6 +22,7 @@ import io.shardingsphere.orchestration.internal.config.node.ConfigurationNode;
 import io.shardingsphere.orchestration.internal.config.service.ConfigurationService;
 import io.shardingsphere.orchestration.internal.config.event.MasterSlaveRuleChangedEvent;
 import io.shardingsphere.orchestration.internal.config.event.ShardingRuleChangedEvent;
+import io.shardingsphere.orchestration.internal.listener.CoalescingEventListener;
 import io.shardingsphere.orchestration.internal.listener.OrchestrationListener;
 import io.shardingsphere.orchestration.internal.state.service.DataSourceService;
 import io.shardingsphere.orchestration.reg.api.RegistryCenter;
@@ -56,7 +57,7 @@ public final class RuleOrchestrationListener implements OrchestrationListener {
     
     @Override
     public void watch() {
-        regCenter.watch(configNode.getRulePath(shardingSchemaName), new EventListener() {
+        regCenter.watch(configNode.getRulePath(shardingSchemaName), new CoalescingEventListener(new EventListener() {
             
             @Override
             public void onChange(final DataChangedEvent event) {
@@ -72,6 +73,6 @@ public final class RuleOrchestrationListener implements OrchestrationListener {
             private ShardingRuleChangedEvent getShardingConfigurationChangedEvent() {
                 return new ShardingRuleChangedEvent(shardingSchemaName, dataSourceService.getAvailableShardingRuleConfiguration(shardingSchemaName));
             }
-        });
+        }));
     }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.orchestration.internal.listener;
+
+import io.shardingsphere.core.executor.ShardingThreadFactoryBuilder;
+import io.shardingsphere.orchestration.reg.listener.DataChangedEvent;
+import io.shardingsphere.orchestration.reg.listener.EventListener;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Event listener which coalesces a burst of data changed events into one notification.
+ *
+ * <p>
+ * Only for listeners which reload whole state from registry center on change.
+ * Events are coalesced per event type, the last event of each type in the burst is delivered.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class CoalescingEventListener implements EventListener {
+    
+    private static final long DEFAULT_DELAY_MILLISECONDS = 100L;
+    
+    private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(ShardingThreadFactoryBuilder.build("Orchestration-Event-Coalescer"));
+    
+    private final EventListener delegate;
+    
+    private final long delayMilliseconds;
+    
+    private final Map<DataChangedEvent.Type, DataChangedEvent> pendingEvents = new ConcurrentHashMap<>();
+    
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    
+    public CoalescingEventListener(final EventListener delegate) {
+        this(delegate, DEFAULT_DELAY_MILLISECONDS);
+    }
+    
+    @Override
+    public void onChange(final DataChangedEvent event) {
+        if (DataChangedEvent.Type.IGNORED == event.getEventType()) {
+            return;
+        }
+        pendingEvents.put(event.getEventType(), event);
+        if (!scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        EXECUTOR.schedule(new Runnable() {
+            
+            @Override
+            public void run() {
+                scheduled.set(false);
+                for (DataChangedEvent.Type each : DataChangedEvent.Type.values()) {
+                    DataChangedEvent lastEvent = pendingEvents.remove(each);
+                    if (null != lastEvent) {
+                        delegate.onChange(lastEvent);
+                    }
+                }
+            }
+        }, delayMilliseconds, TimeUnit.MILLISECONDS);
+    }
+}
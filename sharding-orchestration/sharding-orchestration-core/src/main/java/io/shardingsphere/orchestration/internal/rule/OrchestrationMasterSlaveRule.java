@@ -20,11 +20,14 @@ package io.shardingsphere.orchestration.internal.rule;
 import com.google.common.eventbus.Subscribe;
 import io.shardingsphere.api.config.MasterSlaveRuleConfiguration;
 import io.shardingsphere.core.constant.ShardingConstant;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import io.shardingsphere.orchestration.internal.state.event.DisabledStateEventBusEvent;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 
 /**
  * Orchestration master slave rule.
@@ -39,14 +42,21 @@ public final class OrchestrationMasterSlaveRule extends MasterSlaveRule {
         super(config);
     }
     
+    public OrchestrationMasterSlaveRule(final MasterSlaveRuleConfiguration config, final DataSourceStatisticsRegistry statisticsRegistry) {
+        super(config, statisticsRegistry);
+    }
+    
     /**
      * Get slave data source names.
      *
      * @return available slave data source name
      */
     @Override
-    public Collection<String> getSlaveDataSourceNames() {
-        Collection<String> result = new LinkedList<>(super.getSlaveDataSourceNames());
+    public List<String> getSlaveDataSourceNames() {
+        if (disabledDataSourceNames.isEmpty()) {
+            return super.getSlaveDataSourceNames();
+        }
+        List<String> result = new ArrayList<>(super.getSlaveDataSourceNames());
         for (String each : disabledDataSourceNames) {
             result.remove(each);
         }
@@ -43,7 +43,7 @@ public final class OrchestrationShardingRule extends ShardingRule {
     
     private void initMasterSlaveRules(final ShardingRuleConfiguration shardingRuleConfig) {
         for (MasterSlaveRuleConfiguration each : shardingRuleConfig.getMasterSlaveRuleConfigs()) {
-            masterSlaveRules.add(new OrchestrationMasterSlaveRule(each));
+            masterSlaveRules.add(new OrchestrationMasterSlaveRule(each, getStatisticsRegistry()));
         }
     }
     
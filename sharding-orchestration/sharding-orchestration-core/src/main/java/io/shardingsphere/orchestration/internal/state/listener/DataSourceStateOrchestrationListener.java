@@ -19,6 +19,7 @@ package io.shardingsphere.orchestration.internal.state.listener;
 
 import io.shardingsphere.core.event.ShardingEventBusInstance;
 import io.shardingsphere.orchestration.internal.state.event.DisabledStateEventBusEvent;
+import io.shardingsphere.orchestration.internal.listener.CoalescingEventListener;
 import io.shardingsphere.orchestration.internal.listener.OrchestrationListener;
 import io.shardingsphere.orchestration.internal.state.node.StateNode;
 import io.shardingsphere.orchestration.internal.state.service.DataSourceService;
@@ -48,7 +49,7 @@ public final class DataSourceStateOrchestrationListener implements Orchestration
     
     @Override
     public void watch() {
-        regCenter.watch(stateNode.getDataSourcesNodeFullPath(), new EventListener() {
+        regCenter.watch(stateNode.getDataSourcesNodeFullPath(), new CoalescingEventListener(new EventListener() {
             
             @Override
             public void onChange(final DataChangedEvent event) {
@@ -56,6 +57,6 @@ public final class DataSourceStateOrchestrationListener implements Orchestration
                     ShardingEventBusInstance.getInstance().post(new DisabledStateEventBusEvent(dataSourceService.getDisabledSlaveDataSourceNames()));
                 }
             }
-        });
+        }));
     }
 }
@@ -32,6 +32,7 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Data source service.
@@ -120,12 +121,11 @@ public final class DataSourceService {
     
     private Map<String, Collection<String>> getDisabledDataSourceNames() {
         Map<String, Collection<String>> result = new LinkedHashMap<>();
-        String dataSourcesNodePath = stateNode.getDataSourcesNodeFullPath();
-        Collection<String> schemaDataSources = regCenter.getChildrenKeys(dataSourcesNodePath);
-        for (String each : schemaDataSources) {
-            if (!StateNodeStatus.DISABLED.toString().equalsIgnoreCase(regCenter.get(dataSourcesNodePath + "/" + each))) {
+        for (Entry<String, String> entry : regCenter.getChildrenData(stateNode.getDataSourcesNodeFullPath()).entrySet()) {
+            if (!StateNodeStatus.DISABLED.toString().equalsIgnoreCase(entry.getValue())) {
                 continue;
             }
+            String each = entry.getKey();
             String schemaName;
             String dataSourceName;
             if (each.contains(".")) {
@@ -18,6 +18,7 @@
 package io.shardingsphere.orchestration.internal;
 
 import io.shardingsphere.orchestration.internal.config.AllConfigTests;
+import io.shardingsphere.orchestration.internal.listener.CoalescingEventListenerTest;
 import io.shardingsphere.orchestration.internal.yaml.AllYamlTests;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -26,7 +27,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
         AllYamlTests.class,
-        AllConfigTests.class
+        AllConfigTests.class,
+        CoalescingEventListenerTest.class
 })
 public final class AllInternalTests {
 }
@@ -295,7 +295,7 @@ public final class ConfigurationServiceTest {
     
     @Test
     public void assertLoadDataSources() {
-        when(regCenter.getDirectly("/test/config/schema/sharding_db/datasource")).thenReturn(DATA_SOURCE_YAML);
+        when(regCenter.get("/test/config/schema/sharding_db/datasource")).thenReturn(DATA_SOURCE_YAML);
         ConfigurationService configurationService = new ConfigurationService("test", regCenter);
         Map<String, DataSourceConfiguration> actual = configurationService.loadDataSourceConfigurations("sharding_db");
         assertThat(actual.size(), is(2));
@@ -312,21 +312,21 @@ public final class ConfigurationServiceTest {
     
     @Test
     public void assertIsShardingRule() {
-        when(regCenter.getDirectly("/test/config/schema/sharding_db/rule")).thenReturn(SHARDING_RULE_YAML);
+        when(regCenter.get("/test/config/schema/sharding_db/rule")).thenReturn(SHARDING_RULE_YAML);
         ConfigurationService configurationService = new ConfigurationService("test", regCenter);
         assertTrue(configurationService.isShardingRule("sharding_db"));
     }
     
     @Test
     public void assertIsNotShardingRule() {
-        when(regCenter.getDirectly("/test/config/schema/sharding_db/rule")).thenReturn(MASTER_SLAVE_RULE_YAML);
+        when(regCenter.get("/test/config/schema/sharding_db/rule")).thenReturn(MASTER_SLAVE_RULE_YAML);
         ConfigurationService configurationService = new ConfigurationService("test", regCenter);
         assertFalse(configurationService.isShardingRule("sharding_db"));
     }
     
     @Test
     public void assertLoadShardingRuleConfiguration() {
-        when(regCenter.getDirectly("/test/config/schema/sharding_db/rule")).thenReturn(SHARDING_RULE_YAML);
+        when(regCenter.get("/test/config/schema/sharding_db/rule")).thenReturn(SHARDING_RULE_YAML);
         ConfigurationService configurationService = new ConfigurationService("test", regCenter);
         ShardingRuleConfiguration actual = configurationService.loadShardingRuleConfiguration("sharding_db");
         assertThat(actual.getTableRuleConfigs().size(), is(1));
@@ -335,7 +335,7 @@ public final class ConfigurationServiceTest {
     
     @Test
     public void assertLoadMasterSlaveRuleConfiguration() {
-        when(regCenter.getDirectly("/test/config/schema/sharding_db/rule")).thenReturn(MASTER_SLAVE_RULE_YAML);
+        when(regCenter.get("/test/config/schema/sharding_db/rule")).thenReturn(MASTER_SLAVE_RULE_YAML);
         ConfigurationService configurationService = new ConfigurationService("test", regCenter);
         MasterSlaveRuleConfiguration actual = configurationService.loadMasterSlaveRuleConfiguration("sharding_db");
         assertThat(actual.getName(), is("ms_ds"));
@@ -343,7 +343,7 @@ public final class ConfigurationServiceTest {
     
     @Test
     public void assertLoadAuthentication() {
-        when(regCenter.getDirectly("/test/config/authentication")).thenReturn(AUTHENTICATION_YAML);
+        when(regCenter.get("/test/config/authentication")).thenReturn(AUTHENTICATION_YAML);
         ConfigurationService configurationService = new ConfigurationService("test", regCenter);
         Authentication actual = configurationService.loadAuthentication();
         assertThat(actual.getUsername(), is("root"));
@@ -352,7 +352,7 @@ public final class ConfigurationServiceTest {
     
     @Test
     public void assertLoadConfigMap() {
-        when(regCenter.getDirectly("/test/config/configmap")).thenReturn(CONFIG_MAP_YAML);
+        when(regCenter.get("/test/config/configmap")).thenReturn(CONFIG_MAP_YAML);
         ConfigurationService configurationService = new ConfigurationService("test", regCenter);
         Map<String, Object> actual = configurationService.loadConfigMap();
         assertTrue(actual.isEmpty());
@@ -360,7 +360,7 @@ public final class ConfigurationServiceTest {
     
     @Test
     public void assertLoadProperties() {
-        when(regCenter.getDirectly("/test/config/props")).thenReturn(PROPS_YAML);
+        when(regCenter.get("/test/config/props")).thenReturn(PROPS_YAML);
         ConfigurationService configurationService = new ConfigurationService("test", regCenter);
         Properties actual = configurationService.loadProperties();
         assertThat(actual.get(ShardingPropertiesConstant.SQL_SHOW.getKey()), CoreMatchers.<Object>is(Boolean.FALSE));
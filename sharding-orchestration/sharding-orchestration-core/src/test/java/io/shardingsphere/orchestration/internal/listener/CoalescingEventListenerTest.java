@@ -0,0 +1,106 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.orchestration.internal.listener;
+
+import io.shardingsphere.orchestration.reg.listener.DataChangedEvent;
+import io.shardingsphere.orchestration.reg.listener.EventListener;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CoalescingEventListenerTest {
+    
+    private static final long DELAY_MILLISECONDS = 50L;
+    
+    @Test
+    public void assertDeliverLastEventOfBurst() throws InterruptedException {
+        RecordingEventListener delegate = new RecordingEventListener(1);
+        CoalescingEventListener actual = new CoalescingEventListener(delegate, DELAY_MILLISECONDS);
+        actual.onChange(new DataChangedEvent(DataChangedEvent.Type.UPDATED, "/test/key", "value0"));
+        actual.onChange(new DataChangedEvent(DataChangedEvent.Type.UPDATED, "/test/key", "value1"));
+        assertTrue(delegate.await());
+        Thread.sleep(DELAY_MILLISECONDS * 2);
+        assertThat(delegate.events.size(), is(1));
+        assertThat(delegate.events.get(0).getValue(), is("value1"));
+    }
+    
+    @Test
+    public void assertDeliverLastEventOfEachTypeOfBurst() throws InterruptedException {
+        RecordingEventListener delegate = new RecordingEventListener(2);
+        CoalescingEventListener actual = new CoalescingEventListener(delegate, DELAY_MILLISECONDS);
+        actual.onChange(new DataChangedEvent(DataChangedEvent.Type.UPDATED, "/test/key0", "value0"));
+        actual.onChange(new DataChangedEvent(DataChangedEvent.Type.DELETED, "/test/key1", null));
+        assertTrue(delegate.await());
+        Thread.sleep(DELAY_MILLISECONDS * 2);
+        assertThat(delegate.events.size(), is(2));
+        assertThat(delegate.events.get(0).getEventType(), is(DataChangedEvent.Type.UPDATED));
+        assertThat(delegate.events.get(0).getKey(), is("/test/key0"));
+        assertThat(delegate.events.get(1).getEventType(), is(DataChangedEvent.Type.DELETED));
+        assertThat(delegate.events.get(1).getKey(), is("/test/key1"));
+    }
+    
+    @Test
+    public void assertDeliverEventsOfNextBurst() throws InterruptedException {
+        RecordingEventListener delegate = new RecordingEventListener(1);
+        CoalescingEventListener actual = new CoalescingEventListener(delegate, DELAY_MILLISECONDS);
+        actual.onChange(new DataChangedEvent(DataChangedEvent.Type.UPDATED, "/test/key", "value0"));
+        assertTrue(delegate.await());
+        delegate.latch = new CountDownLatch(1);
+        actual.onChange(new DataChangedEvent(DataChangedEvent.Type.UPDATED, "/test/key", "value1"));
+        assertTrue(delegate.await());
+        assertThat(delegate.events.size(), is(2));
+        assertThat(delegate.events.get(1).getValue(), is("value1"));
+    }
+    
+    @Test
+    public void assertNotDeliverIgnoredEvent() throws InterruptedException {
+        RecordingEventListener delegate = new RecordingEventListener(1);
+        CoalescingEventListener actual = new CoalescingEventListener(delegate, DELAY_MILLISECONDS);
+        actual.onChange(new DataChangedEvent(DataChangedEvent.Type.IGNORED, "/test/key", "value"));
+        Thread.sleep(DELAY_MILLISECONDS * 2);
+        assertTrue(delegate.events.isEmpty());
+    }
+    
+    private static final class RecordingEventListener implements EventListener {
+        
+        private final List<DataChangedEvent> events = new CopyOnWriteArrayList<>();
+        
+        private volatile CountDownLatch latch;
+        
+        RecordingEventListener(final int expectedEventCount) {
+            latch = new CountDownLatch(expectedEventCount);
+        }
+        
+        @Override
+        public void onChange(final DataChangedEvent event) {
+            events.add(event);
+            latch.countDown();
+        }
+        
+        boolean await() throws InterruptedException {
+            return latch.await(5L, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -20,6 +20,7 @@ package io.shardingsphere.orchestration.reg.api;
 import io.shardingsphere.orchestration.reg.listener.EventListener;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Registry center.
@@ -71,6 +72,16 @@ public interface RegistryCenter extends AutoCloseable {
      */
     List<String> getChildrenKeys(String key);
     
+    /**
+     * Get node's sub-nodes data in one read.
+     * 
+     * <p>Maybe use cache if existed.</p>
+     *
+     * @param key key of data
+     * @return sub-nodes data map, key is sub-node name, value is sub-node data
+     */
+    Map<String, String> getChildrenData(String key);
+    
     /**
      * Persist data.
      * 
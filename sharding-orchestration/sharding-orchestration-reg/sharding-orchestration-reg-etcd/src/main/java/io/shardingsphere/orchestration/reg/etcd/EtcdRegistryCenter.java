@@ -46,7 +46,9 @@ import mvccpb.Kv.KeyValue;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -125,6 +127,26 @@ public final class EtcdRegistryCenter implements RegistryCenter {
         return result.isPresent() ? result.get() : Collections.<String>emptyList();
     }
     
+    @Override
+    public Map<String, String> getChildrenData(final String key) {
+        String path = key + "/";
+        final RangeRequest request = RangeRequest.newBuilder().setKey(ByteString.copyFromUtf8(path)).setRangeEnd(getRangeEnd(path)).build();
+        Optional<Map<String, String>> result = etcdRetryEngine.execute(new Callable<Map<String, String>>() {
+            
+            @Override
+            public Map<String, String> call() throws InterruptedException, ExecutionException, TimeoutException {
+                RangeResponse response = kvStub.range(request).get(config.getOperationTimeoutMilliseconds(), TimeUnit.MILLISECONDS);
+                Map<String, String> result = new LinkedHashMap<>(response.getKvsCount(), 1);
+                for (KeyValue each : response.getKvsList()) {
+                    String childFullPath = each.getKey().toStringUtf8();
+                    result.put(childFullPath.substring(childFullPath.lastIndexOf("/") + 1), each.getValue().toStringUtf8());
+                }
+                return result;
+            }
+        });
+        return result.isPresent() ? result.get() : Collections.<String, String>emptyMap();
+    }
+    
     @Override
     public void persist(final String key, final String value) {
         final PutRequest request = PutRequest.newBuilder().setPrevKv(true).setKey(ByteString.copyFromUtf8(key)).setValue(ByteString.copyFromUtf8(value)).build();
@@ -38,12 +38,14 @@ import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
 
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -53,7 +55,9 @@ import java.util.concurrent.TimeUnit;
  */
 public final class CuratorZookeeperRegistryCenter implements RegistryCenter {
     
-    private final Map<String, TreeCache> caches = new HashMap<>();
+    private final Map<String, TreeCache> caches = new ConcurrentHashMap<>();
+    
+    private final Map<String, TreeCache> initializedCaches = new ConcurrentHashMap<>();
     
     private CuratorFramework client;
     
@@ -118,12 +122,13 @@ public final class CuratorZookeeperRegistryCenter implements RegistryCenter {
     }
     
     private TreeCache findTreeCache(final String key) {
-        for (Entry<String, TreeCache> entry : caches.entrySet()) {
-            if (key.startsWith(entry.getKey())) {
-                return entry.getValue();
-            }
+        TreeCache result = initializedCaches.get(key + "/");
+        int index = key.lastIndexOf('/');
+        while (null == result && index >= 0) {
+            result = initializedCaches.get(key.substring(0, index + 1));
+            index = key.lastIndexOf('/', index - 1);
         }
-        return null;
+        return result;
     }
     
     @Override
@@ -140,6 +145,11 @@ public final class CuratorZookeeperRegistryCenter implements RegistryCenter {
     
     @Override
     public boolean isExisted(final String key) {
+        TreeCache cache = findTreeCache(key);
+        return null != cache && null != cache.getCurrentData(key) || isExistedDirectly(key);
+    }
+    
+    private boolean isExistedDirectly(final String key) {
         try {
             return null != client.checkExists().forPath(key);
             // CHECKSTYLE:OFF
@@ -152,28 +162,55 @@ public final class CuratorZookeeperRegistryCenter implements RegistryCenter {
     
     @Override
     public List<String> getChildrenKeys(final String key) {
+        Map<String, ChildData> childrenInCache = findCurrentChildren(key);
+        List<String> result = null == childrenInCache ? getChildrenKeysDirectly(key) : new ArrayList<>(childrenInCache.keySet());
+        Collections.sort(result, new Comparator<String>() {
+            
+            @Override
+            public int compare(final String o1, final String o2) {
+                return o2.compareTo(o1);
+            }
+        });
+        return result;
+    }
+    
+    private Map<String, ChildData> findCurrentChildren(final String key) {
+        TreeCache cache = findTreeCache(key);
+        return null == cache ? null : cache.getCurrentChildren(key);
+    }
+    
+    private List<String> getChildrenKeysDirectly(final String key) {
         try {
-            List<String> result = client.getChildren().forPath(key);
-            Collections.sort(result, new Comparator<String>() {
-                
-                @Override
-                public int compare(final String o1, final String o2) {
-                    return o2.compareTo(o1);
-                }
-            });
-            return result;
+            return client.getChildren().forPath(key);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
             CuratorZookeeperExceptionHandler.handleException(ex);
-            return Collections.emptyList();
+            return new ArrayList<>();
+        }
+    }
+    
+    @Override
+    public Map<String, String> getChildrenData(final String key) {
+        Map<String, ChildData> childrenInCache = findCurrentChildren(key);
+        if (null == childrenInCache) {
+            Map<String, String> result = new LinkedHashMap<>();
+            for (String each : getChildrenKeysDirectly(key)) {
+                result.put(each, getDirectly(key + "/" + each));
+            }
+            return result;
         }
+        Map<String, String> result = new LinkedHashMap<>(childrenInCache.size(), 1);
+        for (Entry<String, ChildData> entry : childrenInCache.entrySet()) {
+            result.put(entry.getKey(), null == entry.getValue().getData() ? null : new String(entry.getValue().getData(), Charsets.UTF_8));
+        }
+        return result;
     }
     
     @Override
     public void persist(final String key, final String value) {
         try {
-            if (!isExisted(key)) {
+            if (!isExistedDirectly(key)) {
                 client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(key, value.getBytes(Charsets.UTF_8));
             } else {
                 update(key, value);
@@ -199,7 +236,7 @@ public final class CuratorZookeeperRegistryCenter implements RegistryCenter {
     @Override
     public void persistEphemeral(final String key, final String value) {
         try {
-            if (isExisted(key)) {
+            if (isExistedDirectly(key)) {
                 client.delete().deletingChildrenIfNeeded().forPath(key);
             }
             client.create().creatingParentsIfNeeded().withMode(CreateMode.EPHEMERAL).forPath(key, value.getBytes(Charsets.UTF_8));
@@ -242,7 +279,16 @@ public final class CuratorZookeeperRegistryCenter implements RegistryCenter {
     }
     
     private void addCacheData(final String cachePath) {
-        TreeCache cache = new TreeCache(client, cachePath);
+        final TreeCache cache = new TreeCache(client, cachePath);
+        cache.getListenable().addListener(new TreeCacheListener() {
+            
+            @Override
+            public void childEvent(final CuratorFramework client, final TreeCacheEvent event) {
+                if (TreeCacheEvent.Type.INITIALIZED == event.getType()) {
+                    initializedCaches.put(cachePath + "/", cache);
+                }
+            }
+        });
         try {
             cache.start();
             // CHECKSTYLE:OFF
@@ -255,6 +301,7 @@ public final class CuratorZookeeperRegistryCenter implements RegistryCenter {
     
     @Override
     public void close() {
+        initializedCaches.clear();
         for (Entry<String, TreeCache> each : caches.entrySet()) {
             each.getValue().close();
         }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.orchestration.reg.zookeeper.curator;
+
+import io.shardingsphere.orchestration.reg.api.RegistryCenterConfiguration;
+import io.shardingsphere.orchestration.reg.listener.DataChangedEvent;
+import io.shardingsphere.orchestration.reg.listener.EventListener;
+import org.apache.curator.test.TestingServer;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CuratorZookeeperRegistryCenterTest {
+    
+    private static TestingServer testingServer;
+    
+    private CuratorZookeeperRegistryCenter regCenter;
+    
+    @BeforeClass
+    public static void startServer() throws Exception {
+        testingServer = new TestingServer(-1, new File(String.format("target/test_zk_data/%s/", System.nanoTime())));
+    }
+    
+    @AfterClass
+    public static void stopServer() throws Exception {
+        testingServer.close();
+    }
+    
+    @Before
+    public void setUp() {
+        RegistryCenterConfiguration config = new RegistryCenterConfiguration();
+        config.setServerLists(testingServer.getConnectString());
+        config.setNamespace("test_" + System.nanoTime());
+        regCenter = new CuratorZookeeperRegistryCenter();
+        regCenter.init(config);
+        regCenter.persist("/test/children/child_0", "value_0");
+        regCenter.persist("/test/children/child_1", "value_1");
+    }
+    
+    @After
+    public void tearDown() {
+        regCenter.close();
+    }
+    
+    @Test
+    public void assertReadChildrenRightAfterWatch() {
+        regCenter.watch("/test", new EventListener() {
+            
+            @Override
+            public void onChange(final DataChangedEvent event) {
+            }
+        });
+        assertTrue(regCenter.isExisted("/test/children/child_0"));
+        assertThat(regCenter.getChildrenKeys("/test/children"), is(Arrays.asList("child_1", "child_0")));
+        Map<String, String> actual = regCenter.getChildrenData("/test/children");
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("child_0"), is("value_0"));
+        assertThat(actual.get("child_1"), is("value_1"));
+    }
+    
+    @Test
+    public void assertReadUpdatedValueAfterCacheInitialized() throws InterruptedException {
+        regCenter.watch("/test", new EventListener() {
+            
+            @Override
+            public void onChange(final DataChangedEvent event) {
+            }
+        });
+        regCenter.update("/test/children/child_0", "value_2");
+        String actual = regCenter.get("/test/children/child_0");
+        for (int i = 0; i < 50 && !"value_2".equals(actual); i++) {
+            Thread.sleep(100L);
+            actual = regCenter.get("/test/children/child_0");
+        }
+        assertThat(actual, is("value_2"));
+        assertThat(regCenter.getChildrenKeys("/test/children"), is(Arrays.asList("child_1", "child_0")));
+    }
+}
@@ -48,6 +48,8 @@ import lombok.NoArgsConstructor;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Backend handler factory.
@@ -60,6 +62,10 @@ public final class BackendHandlerFactory {
     
     private static final GlobalRegistry GLOBAL_REGISTRY = GlobalRegistry.getInstance();
     
+    private static final Pattern KILL_QUERY_PATTERN = Pattern.compile("^\\s*KILL\\s+QUERY\\s+(\\d+)\\s*;?\\s*$", Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern SHOW_METRICS_PATTERN = Pattern.compile("^\\s*SHOW\\s+SHARDING\\s+METRICS\\s*;?\\s*$", Pattern.CASE_INSENSITIVE);
+    
     /**
      * Create new instance of text protocol backend handler.
      *
@@ -113,6 +119,13 @@ public final class BackendHandlerFactory {
      */
     public static BackendHandler createBackendHandler(
             final int connectionId, final int sequenceId, final String sql, final BackendConnection backendConnection, final DatabaseType databaseType, final FrontendHandler frontendHandler) {
+        Matcher killQueryMatcher = KILL_QUERY_PATTERN.matcher(sql);
+        if (killQueryMatcher.matches()) {
+            return new KillQueryBackendHandler(Integer.parseInt(killQueryMatcher.group(1)), frontendHandler.getUsername());
+        }
+        if (SHOW_METRICS_PATTERN.matcher(sql).matches()) {
+            return new ShowMetricsBackendHandler(GLOBAL_REGISTRY.getLogicSchema(frontendHandler.getCurrentSchema()));
+        }
         SQLStatement sqlStatement = new SQLJudgeEngine(sql).judge();
         if (SQLType.DCL == sqlStatement.getType() || sqlStatement instanceof SetStatement) {
             return new SchemaBroadcastBackendHandler(connectionId, sequenceId, sql, databaseType);
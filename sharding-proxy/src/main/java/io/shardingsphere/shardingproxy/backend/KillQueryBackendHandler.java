@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingproxy.backend;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.shardingproxy.runtime.BackendConnectionRegistry;
+import io.shardingsphere.shardingproxy.runtime.GlobalRegistry;
+import io.shardingsphere.shardingproxy.transport.mysql.constant.ServerErrorCode;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandResponsePackets;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.generic.ErrPacket;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.generic.OKPacket;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Backend handler for kill query.
+ * 
+ * <p>Cancel all physical statements which are executing for target connection.
+ * Only the owner of target connection or the proxy user configured in authentication can kill query.</p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class KillQueryBackendHandler implements BackendHandler {
+    
+    private final int targetConnectionId;
+    
+    private final String username;
+    
+    @Override
+    public CommandResponsePackets execute() {
+        Optional<String> owner = BackendConnectionRegistry.getInstance().getUsername(targetConnectionId);
+        if (!owner.isPresent()) {
+            return new CommandResponsePackets(new ErrPacket(1, ServerErrorCode.ER_NO_SUCH_THREAD, targetConnectionId));
+        }
+        if (!owner.get().equals(username) && !isPrivileged()) {
+            return new CommandResponsePackets(new ErrPacket(1, ServerErrorCode.ER_KILL_DENIED_ERROR, targetConnectionId));
+        }
+        BackendConnectionRegistry.getInstance().cancel(targetConnectionId);
+        return new CommandResponsePackets(new OKPacket(1));
+    }
+    
+    private boolean isPrivileged() {
+        return null != username && username.equals(GlobalRegistry.getInstance().getAuthentication().getUsername());
+    }
+    
+    @Override
+    public boolean next() {
+        return false;
+    }
+    
+    @Override
+    public ResultPacket getResultValue() {
+        return null;
+    }
+}
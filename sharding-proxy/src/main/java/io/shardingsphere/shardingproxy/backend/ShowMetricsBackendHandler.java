@@ -0,0 +1,147 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingproxy.backend;
+
+import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatistics;
+import io.shardingsphere.metrics.ShardingMetricsRegistry;
+import io.shardingsphere.metrics.StageMetrics;
+import io.shardingsphere.metrics.histogram.LatencyHistogram;
+import io.shardingsphere.shardingproxy.runtime.schema.LogicSchema;
+import io.shardingsphere.shardingproxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandResponsePackets;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.FieldCountPacket;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.QueryResponsePackets;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.generic.EofPacket;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Backend handler for show sharding metrics.
+ * 
+ * <p>
+ * Show latency histograms of parse, route, rewrite, execute and merge stages, latencies are in nanoseconds.
+ * Then show connection plans of data sources of current schema with stage {@code CONNECTION_PLAN}, 
+ * count of {@code MEMORY_STRICTLY} is execute units which stream results, count of {@code CONNECTION_STRICTLY} is execute units which buffer results in memory.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class ShowMetricsBackendHandler implements BackendHandler {
+    
+    private static final String CONNECTION_PLAN_STAGE = "CONNECTION_PLAN";
+    
+    private static final List<String> STRING_COLUMNS = Arrays.asList("stage", "logic_table", "data_source", "connection_mode");
+    
+    private static final List<String> NUMBER_COLUMNS = Arrays.asList("count", "failure_count", "mean_nanos", "p50_nanos", "p90_nanos", "p99_nanos", "p999_nanos", "max_nanos");
+    
+    private final LogicSchema logicSchema;
+    
+    private final List<ColumnType> columnTypes = new ArrayList<>(STRING_COLUMNS.size() + NUMBER_COLUMNS.size());
+    
+    private Iterator<List<Object>> rows;
+    
+    private List<Object> currentRow;
+    
+    private int currentSequenceId;
+    
+    @Override
+    public CommandResponsePackets execute() {
+        rows = getRows().iterator();
+        int sequenceId = 0;
+        FieldCountPacket fieldCountPacket = new FieldCountPacket(++sequenceId, STRING_COLUMNS.size() + NUMBER_COLUMNS.size());
+        Collection<ColumnDefinition41Packet> columnDefinition41Packets = new ArrayList<>(STRING_COLUMNS.size() + NUMBER_COLUMNS.size());
+        for (String each : STRING_COLUMNS) {
+            columnDefinition41Packets.add(new ColumnDefinition41Packet(++sequenceId, "", "", "", each, "", 100, ColumnType.MYSQL_TYPE_VARCHAR, 0));
+        }
+        for (String each : NUMBER_COLUMNS) {
+            columnDefinition41Packets.add(new ColumnDefinition41Packet(++sequenceId, "", "", "", each, "", 20, ColumnType.MYSQL_TYPE_LONGLONG, 0));
+        }
+        QueryResponsePackets result = new QueryResponsePackets(fieldCountPacket, columnDefinition41Packets, new EofPacket(++sequenceId));
+        currentSequenceId = result.getPackets().size();
+        columnTypes.addAll(result.getColumnTypes());
+        return result;
+    }
+    
+    private List<List<Object>> getRows() {
+        List<List<Object>> result = new ArrayList<>();
+        for (StageMetrics each : ShardingMetricsRegistry.getInstance().getAllStageMetrics()) {
+            result.add(getStageMetricsRow(each));
+        }
+        if (null == logicSchema) {
+            return result;
+        }
+        for (String each : logicSchema.getDataSources().keySet()) {
+            DataSourceStatistics statistics = logicSchema.getStatisticsRegistry().getStatistics(each);
+            result.add(getConnectionPlanRow(each, ConnectionMode.MEMORY_STRICTLY, statistics.getStreamingUnitCount()));
+            result.add(getConnectionPlanRow(each, ConnectionMode.CONNECTION_STRICTLY, statistics.getBufferedUnitCount()));
+        }
+        return result;
+    }
+    
+    private List<Object> getStageMetricsRow(final StageMetrics stageMetrics) {
+        LatencyHistogram latencyHistogram = stageMetrics.getLatencyHistogram();
+        List<Object> result = new ArrayList<>(STRING_COLUMNS.size() + NUMBER_COLUMNS.size());
+        result.add(stageMetrics.getStage().name());
+        result.add(stageMetrics.getLogicTableName());
+        result.add(stageMetrics.getDataSourceName());
+        result.add(null == stageMetrics.getConnectionMode() ? null : stageMetrics.getConnectionMode().name());
+        result.add(latencyHistogram.getCount());
+        result.add(stageMetrics.getFailureCount());
+        result.add(latencyHistogram.getMeanNanos());
+        result.add(latencyHistogram.getNanosAtPercentile(50D));
+        result.add(latencyHistogram.getNanosAtPercentile(90D));
+        result.add(latencyHistogram.getNanosAtPercentile(99D));
+        result.add(latencyHistogram.getNanosAtPercentile(99.9D));
+        result.add(latencyHistogram.getMaxNanos());
+        return result;
+    }
+    
+    private List<Object> getConnectionPlanRow(final String dataSourceName, final ConnectionMode connectionMode, final long unitCount) {
+        List<Object> result = new ArrayList<>(STRING_COLUMNS.size() + NUMBER_COLUMNS.size());
+        result.add(CONNECTION_PLAN_STAGE);
+        result.add(null);
+        result.add(dataSourceName);
+        result.add(connectionMode.name());
+        result.add(unitCount);
+        result.addAll(Collections.nCopies(NUMBER_COLUMNS.size() - 1, null));
+        return result;
+    }
+    
+    @Override
+    public boolean next() {
+        if (null == rows || !rows.hasNext()) {
+            return false;
+        }
+        currentRow = rows.next();
+        return true;
+    }
+    
+    @Override
+    public ResultPacket getResultValue() {
+        return new ResultPacket(++currentSequenceId, currentRow, columnTypes.size(), columnTypes);
+    }
+}
@@ -18,7 +18,10 @@
 package io.shardingsphere.shardingproxy.backend.jdbc.connection;
 
 import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.core.executor.sql.execute.result.OffHeapQueryResult;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatistics;
 import io.shardingsphere.core.routing.router.masterslave.MasterVisitedManager;
+import io.shardingsphere.shardingproxy.backend.jdbc.datasource.JDBCBackendDataSource;
 import io.shardingsphere.shardingproxy.runtime.schema.LogicSchema;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -52,6 +55,12 @@ public final class BackendConnection implements AutoCloseable {
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<OffHeapQueryResult> cachedOffHeapQueryResults = new CopyOnWriteArrayList<>();
+    
+    private final Collection<JDBCBackendDataSource> retainedBackendDataSources = new CopyOnWriteArrayList<>();
+    
+    private final Collection<DataSourceStatistics> heldConnectionStatistics = new CopyOnWriteArrayList<>();
+    
     /**
      * Get connection size.
      * 
@@ -71,8 +80,15 @@ public final class BackendConnection implements AutoCloseable {
      * @throws SQLException SQL exception
      */
     public List<Connection> getConnections(final ConnectionMode connectionMode, final String dataSourceName, final int connectionSize) throws SQLException {
-        List<Connection> result = logicSchema.getBackendDataSource().getConnections(connectionMode, dataSourceName, connectionSize);
+        JDBCBackendDataSource backendDataSource = logicSchema.retainBackendDataSource();
+        retainedBackendDataSources.add(backendDataSource);
+        List<Connection> result = backendDataSource.getConnections(connectionMode, dataSourceName, connectionSize);
         cachedConnections.addAll(result);
+        DataSourceStatistics statistics = logicSchema.getStatisticsRegistry().getStatistics(dataSourceName);
+        for (int i = 0; i < result.size(); i++) {
+            statistics.acquireConnection();
+            heldConnectionStatistics.add(statistics);
+        }
         return result;
     }
     
@@ -94,6 +110,15 @@ public final class BackendConnection implements AutoCloseable {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add off-heap query result.
+     *
+     * @param queryResult off-heap query result to be added
+     */
+    public void add(final OffHeapQueryResult queryResult) {
+        cachedOffHeapQueryResults.add(queryResult);
+    }
+    
     /**
      * Cancel statement.
      */
@@ -109,13 +134,23 @@ public final class BackendConnection implements AutoCloseable {
     @Override
     public void close() throws SQLException {
         Collection<SQLException> exceptions = new LinkedList<>();
+        closeOffHeapQueryResults();
         exceptions.addAll(closeResultSets());
         exceptions.addAll(closeStatements());
         exceptions.addAll(closeConnections());
+        releaseHeldConnections();
+        releaseBackendDataSources();
         MasterVisitedManager.clear();
         throwSQLExceptionIfNecessary(exceptions);
     }
     
+    private void closeOffHeapQueryResults() {
+        for (OffHeapQueryResult each : cachedOffHeapQueryResults) {
+            each.close();
+        }
+        cachedOffHeapQueryResults.clear();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -152,6 +187,20 @@ public final class BackendConnection implements AutoCloseable {
         return result;
     }
     
+    private void releaseHeldConnections() {
+        for (DataSourceStatistics each : heldConnectionStatistics) {
+            each.releaseConnection();
+        }
+        heldConnectionStatistics.clear();
+    }
+    
+    private void releaseBackendDataSources() {
+        for (JDBCBackendDataSource each : retainedBackendDataSources) {
+            each.release();
+        }
+        retainedBackendDataSources.clear();
+    }
+    
     private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
         if (exceptions.isEmpty()) {
             return;
@@ -17,11 +17,13 @@
 
 package io.shardingsphere.shardingproxy.backend.jdbc.datasource;
 
+import com.google.common.base.Preconditions;
 import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.exception.ShardingException;
 import io.shardingsphere.core.rule.DataSourceParameter;
 import io.shardingsphere.shardingproxy.backend.BackendDataSource;
 import io.shardingsphere.shardingproxy.runtime.GlobalRegistry;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import javax.sql.DataSource;
@@ -29,11 +31,14 @@ import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Backend data source for JDBC.
@@ -48,10 +53,26 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
     @Getter
     private final Map<String, DataSource> dataSources;
     
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger referenceCount = new AtomicInteger(1);
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> retiredDataSourceNames = new CopyOnWriteArrayList<>();
+    
     public JDBCBackendDataSource(final Map<String, DataSourceParameter> dataSourceParameters) {
         dataSources = createDataSourceMap(dataSourceParameters);
     }
     
+    public JDBCBackendDataSource(final Map<String, DataSourceParameter> dataSourceParameters, final JDBCBackendDataSource originalBackendDataSource, final Collection<String> changedDataSourceNames) {
+        Map<String, DataSourceParameter> changedDataSourceParameters = new LinkedHashMap<>(dataSourceParameters);
+        changedDataSourceParameters.keySet().retainAll(changedDataSourceNames);
+        Map<String, DataSource> changedDataSources = createDataSourceMap(changedDataSourceParameters);
+        dataSources = new LinkedHashMap<>(dataSourceParameters.size(), 1);
+        for (String each : dataSourceParameters.keySet()) {
+            dataSources.put(each, changedDataSources.containsKey(each) ? changedDataSources.get(each) : originalBackendDataSource.getDataSources().get(each));
+        }
+    }
+    
     private Map<String, DataSource> createDataSourceMap(final Map<String, DataSourceParameter> dataSourceParameters) {
         // TODO getCircuitDataSourceMap if getCircuitBreakerDataSourceNames() is not empty
         return getNormalDataSourceMap(dataSourceParameters);
@@ -122,18 +143,56 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
         return result;
     }
     
+    /**
+     * Retain backend data source for backend connection.
+     */
+    public void retain() {
+        int count;
+        do {
+            count = referenceCount.get();
+            Preconditions.checkState(0 < count, "Backend data source has been retired.");
+        } while (!referenceCount.compareAndSet(count, count + 1));
+    }
+    
+    /**
+     * Release backend data source retained by backend connection.
+     */
+    public void release() {
+        if (0 == referenceCount.decrementAndGet()) {
+            close(retiredDataSourceNames);
+        }
+    }
+    
+    /**
+     * Retire backend data source after it is renewed.
+     * 
+     * <p>Data sources of given names are closed after all backend connections on this backend data source are released.</p>
+     *
+     * @param dataSourceNames names of data sources to be closed
+     */
+    public void retire(final Collection<String> dataSourceNames) {
+        retiredDataSourceNames.addAll(dataSourceNames);
+        release();
+    }
+    
     @Override
     public void close() {
-        closeOriginalDataSources();
+        close(dataSources.keySet());
     }
     
-    private void closeOriginalDataSources() {
-        for (DataSource each : dataSources.values()) {
-            try {
-                Method method = each.getClass().getDeclaredMethod("close");
-                method.invoke(each);
-            } catch (final ReflectiveOperationException ignored) {
+    private void close(final Collection<String> dataSourceNames) {
+        for (String each : dataSourceNames) {
+            if (dataSources.containsKey(each)) {
+                close(dataSources.get(each));
             }
         }
     }
+    
+    private void close(final DataSource dataSource) {
+        try {
+            Method method = dataSource.getClass().getDeclaredMethod("close");
+            method.invoke(dataSource);
+        } catch (final ReflectiveOperationException ignored) {
+        }
+    }
 }
@@ -28,7 +28,9 @@ import io.shardingsphere.core.executor.StatementExecuteUnit;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteCallback;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteTemplate;
 import io.shardingsphere.core.executor.sql.execute.result.MemoryQueryResult;
+import io.shardingsphere.core.executor.sql.execute.result.OffHeapQueryResult;
 import io.shardingsphere.core.executor.sql.execute.result.StreamQueryResult;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
 import io.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorExceptionHandler;
 import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareCallback;
 import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareTemplate;
@@ -99,9 +101,11 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         this.jdbcExecutorWrapper = jdbcExecutorWrapper;
         int maxConnectionsSizePerQuery = GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
         ShardingExecuteEngine executeEngine = BackendExecutorContext.getInstance().getExecuteEngine();
+        DataSourceStatisticsRegistry statisticsRegistry = backendConnection.getLogicSchema().getStatisticsRegistry();
         sqlExecutePrepareTemplate = TransactionType.XA == GlobalRegistry.getInstance().getTransactionType()
-                ? new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery) : new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery, executeEngine);
-        sqlExecuteTemplate = new SQLExecuteTemplate(executeEngine);
+                ? new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery, statisticsRegistry) : new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery, executeEngine, statisticsRegistry);
+        sqlExecuteTemplate = new SQLExecuteTemplate(
+                executeEngine, GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.QUERY_TIMEOUT_SECONDS), statisticsRegistry);
     }
     
     @SuppressWarnings("unchecked")
@@ -170,7 +174,15 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
     }
     
     private QueryResult createQueryResult(final ResultSet resultSet, final ConnectionMode connectionMode) throws SQLException {
-        return connectionMode == ConnectionMode.MEMORY_STRICTLY ? new StreamQueryResult(resultSet) : new MemoryQueryResult(resultSet);
+        if (connectionMode == ConnectionMode.MEMORY_STRICTLY) {
+            return new StreamQueryResult(resultSet);
+        }
+        if (!GlobalRegistry.getInstance().getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.OFF_HEAP_QUERY_RESULT_ENABLED) || !OffHeapQueryResult.isSupported(resultSet.getMetaData())) {
+            return new MemoryQueryResult(resultSet);
+        }
+        OffHeapQueryResult result = new OffHeapQueryResult(resultSet);
+        backendConnection.add(result);
+        return result;
     }
     
     @RequiredArgsConstructor
@@ -183,6 +195,11 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
             return getBackendConnection().getConnections(connectionMode, dataSourceName, connectionSize);
         }
         
+        @Override
+        public int getCachedConnectionSize(final String dataSourceName) {
+            return 0;
+        }
+        
         @Override
         public StatementExecuteUnit createStatementExecuteUnit(final Connection connection, final RouteUnit routeUnit, final ConnectionMode connectionMode) throws SQLException {
             Statement statement = getJdbcExecutorWrapper().createStatement(connection, routeUnit.getSqlUnit(), isReturnGeneratedKeys);
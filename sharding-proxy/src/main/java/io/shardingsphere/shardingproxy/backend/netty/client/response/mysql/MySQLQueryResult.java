@@ -19,6 +19,7 @@ package io.shardingsphere.shardingproxy.backend.netty.client.response.mysql;
 
 import com.google.common.collect.Lists;
 import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.util.NumberUtil;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandResponsePackets;
@@ -185,6 +186,21 @@ public final class MySQLQueryResult implements QueryResult {
         return currentRow.getData().get(columnLabelAndIndexMap.get(columnLabel));
     }
     
+    @Override
+    public int getInt(final int columnIndex) {
+        return (int) NumberUtil.toLongValue(currentRow.getData().get(columnIndex - 1));
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) {
+        return NumberUtil.toLongValue(currentRow.getData().get(columnIndex - 1));
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) {
+        return NumberUtil.toDoubleValue(currentRow.getData().get(columnIndex - 1));
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
         return currentRow.getData().get(columnIndex - 1);
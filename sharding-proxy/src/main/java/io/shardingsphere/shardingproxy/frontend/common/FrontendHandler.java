@@ -22,6 +22,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.shardingsphere.shardingproxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.shardingproxy.frontend.common.executor.ChannelThreadExecutorGroup;
+import io.shardingsphere.shardingproxy.runtime.BackendConnectionRegistry;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -36,6 +37,14 @@ public abstract class FrontendHandler extends ChannelInboundHandlerAdapter {
     
     @Setter
     private volatile BackendConnection backendConnection;
+    
+    @Getter
+    @Setter
+    private volatile int connectionId;
+    
+    @Getter
+    @Setter
+    private volatile String username;
 
     @Getter
     @Setter
@@ -70,6 +79,7 @@ public abstract class FrontendHandler extends ChannelInboundHandlerAdapter {
         if (null != backendConnection) {
             backendConnection.cancel();
         }
+        BackendConnectionRegistry.getInstance().logout(connectionId);
         ChannelThreadExecutorGroup.getInstance().unregister(context.channel().id());
     }
 }
@@ -18,11 +18,15 @@
 package io.shardingsphere.shardingproxy.frontend.common.executor;
 
 import io.netty.channel.ChannelId;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.shardingsphere.core.executor.ShardingThreadFactoryBuilder;
+import io.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -30,8 +34,9 @@ import java.util.concurrent.Executors;
  * Channel thread executor group.
  * 
  * <p>
- *     Manage the thread for each channel invoking.
- *     This ensure XA transaction framework processed by current thread id.
+ *     Manage the executor for each channel invoking.
+ *     Commands of all channels are executed on a bounded worker thread pool,
+ *     XA transaction of each channel is carried across worker threads by its channel executor.
  * </p>
  * 
  * @author zhaojun
@@ -42,7 +47,15 @@ public final class ChannelThreadExecutorGroup {
     
     private static final ChannelThreadExecutorGroup INSTANCE = new ChannelThreadExecutorGroup();
     
-    private final Map<ChannelId, ExecutorService> executorServices = new ConcurrentHashMap<>();
+    private final Map<ChannelId, ChannelTransactionExecutor> executors = new ConcurrentHashMap<>();
+    
+    private final Executor workerExecutor = new Executor() {
+        
+        @Override
+        public void execute(final Runnable command) {
+            WorkerExecutorHolder.WORKER_EXECUTOR.execute(command);
+        }
+    };
     
     /**
      * Get channel thread executor group.
@@ -59,17 +72,17 @@ public final class ChannelThreadExecutorGroup {
      * @param channelId channel id
      */
     public void register(final ChannelId channelId) {
-        executorServices.put(channelId, Executors.newSingleThreadExecutor());
+        executors.put(channelId, new ChannelTransactionExecutor(workerExecutor));
     }
     
     /**
-     * Get executor service of current channel.
+     * Get executor of current channel.
      *
      * @param channelId channel id
-     * @return executor service of current channel
+     * @return executor of current channel
      */
-    public ExecutorService get(final ChannelId channelId) {
-        return executorServices.get(channelId);
+    public ChannelTransactionExecutor get(final ChannelId channelId) {
+        return executors.get(channelId);
     }
     
     /**
@@ -78,6 +91,15 @@ public final class ChannelThreadExecutorGroup {
      * @param channelId channel id
      */
     public void unregister(final ChannelId channelId) {
-        executorServices.remove(channelId).shutdown();
+        ChannelTransactionExecutor executor = executors.remove(channelId);
+        if (null != executor) {
+            executor.close();
+        }
+    }
+    
+    private static final class WorkerExecutorHolder {
+        
+        private static final ExecutorService WORKER_EXECUTOR = Executors.newFixedThreadPool(
+                GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_XA_EXECUTOR_SIZE), ShardingThreadFactoryBuilder.build("Proxy-XA-Worker-%d"));
     }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingproxy.frontend.common.executor;
+
+import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.transaction.xa.manager.XATransactionManagerSPILoader;
+import lombok.RequiredArgsConstructor;
+
+import javax.transaction.InvalidTransactionException;
+import javax.transaction.Status;
+import javax.transaction.SystemException;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Executor of channel for XA transaction.
+ * 
+ * <p>
+ *     Commands of channel are executed serially on shared worker threads.
+ *     XA transaction is resumed to worker thread before each command and suspended from it after the command,
+ *     so the transaction follows the channel instead of a dedicated thread.
+ *     If transaction can not be resumed, it is kept for next command and the command is rejected.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class ChannelTransactionExecutor implements Executor {
+    
+    private final Executor workerExecutor;
+    
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicBoolean running = new AtomicBoolean();
+    
+    private volatile Transaction suspendedTransaction;
+    
+    @Override
+    public void execute(final Runnable command) {
+        commands.offer(command);
+        scheduleIfNecessary();
+    }
+    
+    private void scheduleIfNecessary() {
+        if (!commands.isEmpty() && running.compareAndSet(false, true)) {
+            workerExecutor.execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    runCommands();
+                }
+            });
+        }
+    }
+    
+    private void runCommands() {
+        try {
+            Runnable each;
+            while (null != (each = commands.poll())) {
+                runInTransaction(each);
+            }
+        } finally {
+            running.set(false);
+            scheduleIfNecessary();
+        }
+    }
+    
+    private void runInTransaction(final Runnable command) {
+        TransactionManager transactionManager = XATransactionManagerSPILoader.getInstance().getTransactionManager().getUnderlyingTransactionManager();
+        try {
+            resume(transactionManager);
+        } catch (final ShardingException ex) {
+            reject(command, ex);
+            return;
+        }
+        try {
+            command.run();
+        } finally {
+            suspend(transactionManager);
+        }
+    }
+    
+    private void resume(final TransactionManager transactionManager) {
+        if (null == suspendedTransaction) {
+            return;
+        }
+        try {
+            transactionManager.resume(suspendedTransaction);
+        } catch (final InvalidTransactionException | SystemException | IllegalStateException ex) {
+            throw new ShardingException(ex);
+        }
+        suspendedTransaction = null;
+    }
+    
+    private void reject(final Runnable command, final ShardingException cause) {
+        if (!(command instanceof ChannelCommand)) {
+            throw cause;
+        }
+        ((ChannelCommand) command).reject(cause);
+    }
+    
+    private void suspend(final TransactionManager transactionManager) {
+        try {
+            suspendedTransaction = transactionManager.suspend();
+        } catch (final SystemException ex) {
+            throw new ShardingException(ex);
+        }
+    }
+    
+    /**
+     * Close executor, rollback XA transaction of channel after executing rest commands.
+     */
+    public void close() {
+        if (null == suspendedTransaction && !running.get()) {
+            return;
+        }
+        execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                TransactionManager transactionManager = XATransactionManagerSPILoader.getInstance().getTransactionManager().getUnderlyingTransactionManager();
+                try {
+                    if (Status.STATUS_NO_TRANSACTION != transactionManager.getStatus()) {
+                        transactionManager.rollback();
+                    }
+                } catch (final SystemException ex) {
+                    throw new ShardingException(ex);
+                }
+            }
+        });
+    }
+}
@@ -23,7 +23,7 @@ import io.shardingsphere.core.constant.transaction.TransactionType;
 import io.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 import lombok.RequiredArgsConstructor;
 
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 
 /**
  * Executor group.
@@ -40,11 +40,11 @@ public final class ExecutorGroup {
     private final ChannelId channelId;
     
     /**
-     * Get executor service.
+     * Get executor.
      * 
-     * @return executor service
+     * @return executor
      */
-    public ExecutorService getExecutorService() {
+    public Executor getExecutor() {
         return TransactionType.XA == GLOBAL_REGISTRY.getTransactionType() ? ChannelThreadExecutorGroup.getInstance().get(channelId) : eventLoopGroup;
     }
 }
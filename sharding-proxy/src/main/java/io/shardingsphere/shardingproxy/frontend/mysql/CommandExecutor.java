@@ -22,6 +22,8 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.shardingsphere.shardingproxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.shardingproxy.frontend.common.FrontendHandler;
+import io.shardingsphere.shardingproxy.frontend.common.executor.ChannelCommand;
+import io.shardingsphere.shardingproxy.runtime.BackendConnectionRegistry;
 import io.shardingsphere.shardingproxy.runtime.ChannelRegistry;
 import io.shardingsphere.shardingproxy.transport.common.packet.DatabasePacket;
 import io.shardingsphere.shardingproxy.transport.mysql.constant.ServerErrorCode;
@@ -44,7 +46,11 @@ import java.sql.SQLException;
  * @author zhangyonglun
  */
 @RequiredArgsConstructor
-public final class CommandExecutor implements Runnable {
+public final class CommandExecutor implements ChannelCommand {
+    
+    private static final long MAX_UNWRITABLE_MILLISECONDS = 30000L;
+    
+    private static final long WRITABLE_CHECK_INTERVAL_MILLISECONDS = 1000L;
     
     private final ChannelHandlerContext context;
     
@@ -63,18 +69,13 @@ public final class CommandExecutor implements Runnable {
         try (MySQLPacketPayload payload = new MySQLPacketPayload(message);
              BackendConnection backendConnection = new BackendConnection()) {
             frontendHandler.setBackendConnection(backendConnection);
-            CommandPacket commandPacket = getCommandPacket(payload, backendConnection, frontendHandler);
-            Optional<CommandResponsePackets> responsePackets = commandPacket.execute();
-            if (!responsePackets.isPresent()) {
-                return;
+            int connectionId = ChannelRegistry.getInstance().getConnectionId(context.channel().id().asShortText());
+            BackendConnectionRegistry.getInstance().register(connectionId, backendConnection);
+            try {
+                connectionSize = execute(connectionId, payload, backendConnection);
+            } finally {
+                BackendConnectionRegistry.getInstance().unregister(connectionId, backendConnection);
             }
-            for (DatabasePacket each : responsePackets.get().getPackets()) {
-                context.writeAndFlush(each);
-            }
-            if (commandPacket instanceof QueryCommandPacket && !(responsePackets.get().getHeadPacket() instanceof OKPacket) && !(responsePackets.get().getHeadPacket() instanceof ErrPacket)) {
-                writeMoreResults((QueryCommandPacket) commandPacket, responsePackets.get().getPackets().size());
-            }
-            connectionSize = backendConnection.getConnectionSize();
         } catch (final SQLException ex) {
             context.writeAndFlush(new ErrPacket(++currentSequenceId, ex));
             // CHECKSTYLE:OFF
@@ -86,9 +87,23 @@ public final class CommandExecutor implements Runnable {
         }
     }
     
-    private CommandPacket getCommandPacket(final MySQLPacketPayload payload, final BackendConnection backendConnection, final FrontendHandler frontendHandler) throws SQLException {
+    private int execute(final int connectionId, final MySQLPacketPayload payload, final BackendConnection backendConnection) throws SQLException {
+        CommandPacket commandPacket = getCommandPacket(connectionId, payload, backendConnection, frontendHandler);
+        Optional<CommandResponsePackets> responsePackets = commandPacket.execute();
+        if (!responsePackets.isPresent()) {
+            return 0;
+        }
+        for (DatabasePacket each : responsePackets.get().getPackets()) {
+            context.writeAndFlush(each);
+        }
+        if (commandPacket instanceof QueryCommandPacket && !(responsePackets.get().getHeadPacket() instanceof OKPacket) && !(responsePackets.get().getHeadPacket() instanceof ErrPacket)) {
+            writeMoreResults((QueryCommandPacket) commandPacket, responsePackets.get().getPackets().size());
+        }
+        return backendConnection.getConnectionSize();
+    }
+    
+    private CommandPacket getCommandPacket(final int connectionId, final MySQLPacketPayload payload, final BackendConnection backendConnection, final FrontendHandler frontendHandler) throws SQLException {
         int sequenceId = payload.readInt1();
-        int connectionId = ChannelRegistry.getInstance().getConnectionId(context.channel().id().asShortText());
         return CommandPacketFactory.newInstance(sequenceId, connectionId, payload, backendConnection, frontendHandler);
     }
     
@@ -98,13 +113,9 @@ public final class CommandExecutor implements Runnable {
         }
         currentSequenceId = headPacketsCount;
         while (queryCommandPacket.next()) {
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                synchronized (io.shardingsphere.shardingproxy.frontend.mysql.CommandExecutor.this) {
-                    try {
-                        io.shardingsphere.shardingproxy.frontend.mysql.CommandExecutor.this.wait();
-                    } catch (final InterruptedException ignored) {
-                    }
-                }
+            if (!awaitWritable()) {
+                context.channel().close();
+                return;
             }
             DatabasePacket resultValue = queryCommandPacket.getResultValue();
             currentSequenceId = resultValue.getSequenceId();
@@ -112,5 +123,30 @@ public final class CommandExecutor implements Runnable {
         }
         context.writeAndFlush(new EofPacket(++currentSequenceId));
     }
+    
+    private boolean awaitWritable() {
+        long deadline = System.currentTimeMillis() + MAX_UNWRITABLE_MILLISECONDS;
+        synchronized (frontendHandler) {
+            while (!context.channel().isWritable() && context.channel().isActive()) {
+                long remainingMilliseconds = deadline - System.currentTimeMillis();
+                if (remainingMilliseconds <= 0L) {
+                    return false;
+                }
+                try {
+                    frontendHandler.wait(Math.min(remainingMilliseconds, WRITABLE_CHECK_INTERVAL_MILLISECONDS));
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return context.channel().isActive();
+    }
+    
+    @Override
+    public void reject(final Exception cause) {
+        message.release();
+        context.writeAndFlush(new ErrPacket(1, ServerErrorCode.ER_STD_UNKNOWN_EXCEPTION, cause.getMessage()));
+    }
 }
 
@@ -23,6 +23,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.EventLoopGroup;
 import io.shardingsphere.shardingproxy.frontend.common.FrontendHandler;
 import io.shardingsphere.shardingproxy.frontend.common.executor.ExecutorGroup;
+import io.shardingsphere.shardingproxy.runtime.BackendConnectionRegistry;
 import io.shardingsphere.shardingproxy.runtime.ChannelRegistry;
 import io.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 import io.shardingsphere.shardingproxy.transport.mysql.constant.ServerErrorCode;
@@ -53,6 +54,7 @@ public final class MySQLFrontendHandler extends FrontendHandler {
     @Override
     protected void handshake(final ChannelHandlerContext context) {
         int connectionId = ConnectionIdGenerator.getInstance().nextId();
+        setConnectionId(connectionId);
         ChannelRegistry.getInstance().putConnectionId(context.channel().id().asShortText(), connectionId);
         context.writeAndFlush(new HandshakePacket(connectionId, authenticationHandler.getAuthPluginData()));
     }
@@ -67,6 +69,8 @@ public final class MySQLFrontendHandler extends FrontendHandler {
                     return;
                 }
                 setCurrentSchema(response41.getDatabase());
+                setUsername(response41.getUsername());
+                BackendConnectionRegistry.getInstance().login(getConnectionId(), response41.getUsername());
                 context.writeAndFlush(new OKPacket(response41.getSequenceId() + 1));
             } else {
                 // TODO localhost should replace to real ip address
@@ -78,7 +82,7 @@ public final class MySQLFrontendHandler extends FrontendHandler {
     
     @Override
     protected void executeCommand(final ChannelHandlerContext context, final ByteBuf message) {
-        new ExecutorGroup(eventLoopGroup, context.channel().id()).getExecutorService().execute(new CommandExecutor(context, message, this));
+        new ExecutorGroup(eventLoopGroup, context.channel().id()).getExecutor().execute(new CommandExecutor(context, message, this));
     }
     
     @Override
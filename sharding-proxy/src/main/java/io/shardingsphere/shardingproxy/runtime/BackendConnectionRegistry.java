@@ -0,0 +1,114 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingproxy.runtime;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.shardingproxy.backend.jdbc.connection.BackendConnection;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of login users and backend connections which are executing command.
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BackendConnectionRegistry {
+    
+    private static final BackendConnectionRegistry INSTANCE = new BackendConnectionRegistry();
+    
+    private final ConcurrentMap<Integer, String> usernames = new ConcurrentHashMap<>();
+    
+    private final ConcurrentMap<Integer, BackendConnection> backendConnections = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of backend connection registry.
+     *
+     * @return instance of backend connection registry
+     */
+    public static BackendConnectionRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register login user of connection.
+     *
+     * @param connectionId database connection ID
+     * @param username login username
+     */
+    public void login(final int connectionId, final String username) {
+        usernames.put(connectionId, username);
+    }
+    
+    /**
+     * Unregister login user of connection after connection closed.
+     *
+     * @param connectionId database connection ID
+     */
+    public void logout(final int connectionId) {
+        usernames.remove(connectionId);
+    }
+    
+    /**
+     * Get login username of connection.
+     *
+     * @param connectionId database connection ID
+     * @return login username, absent if connection does not exist
+     */
+    public Optional<String> getUsername(final int connectionId) {
+        return Optional.fromNullable(usernames.get(connectionId));
+    }
+    
+    /**
+     * Register backend connection of command which is executing.
+     *
+     * @param connectionId database connection ID
+     * @param backendConnection backend connection
+     */
+    public void register(final int connectionId, final BackendConnection backendConnection) {
+        backendConnections.put(connectionId, backendConnection);
+    }
+    
+    /**
+     * Unregister backend connection after command finished.
+     *
+     * @param connectionId database connection ID
+     * @param backendConnection backend connection
+     */
+    public void unregister(final int connectionId, final BackendConnection backendConnection) {
+        backendConnections.remove(connectionId, backendConnection);
+    }
+    
+    /**
+     * Cancel executing command of connection.
+     *
+     * @param connectionId database connection ID
+     * @return executing command is found or not
+     */
+    public boolean cancel(final int connectionId) {
+        BackendConnection backendConnection = backendConnections.get(connectionId);
+        if (null == backendConnection) {
+            return false;
+        }
+        backendConnection.cancel();
+        return true;
+    }
+}
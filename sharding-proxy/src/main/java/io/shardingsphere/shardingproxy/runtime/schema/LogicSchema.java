@@ -18,16 +18,22 @@
 package io.shardingsphere.shardingproxy.runtime.schema;
 
 import com.google.common.eventbus.Subscribe;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
 import io.shardingsphere.core.metadata.ShardingMetaData;
 import io.shardingsphere.core.rule.DataSourceParameter;
 import io.shardingsphere.orchestration.internal.config.event.DataSourceChangedEvent;
 import io.shardingsphere.shardingproxy.backend.jdbc.datasource.JDBCBackendDataSource;
 import io.shardingsphere.shardingproxy.util.DataSourceConverter;
+import lombok.AccessLevel;
 import lombok.Getter;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Logic schema.
@@ -43,7 +49,10 @@ public abstract class LogicSchema {
     
     private final ShardingMetaData metaData;
     
-    private JDBCBackendDataSource backendDataSource;
+    private volatile JDBCBackendDataSource backendDataSource;
+    
+    @Getter(AccessLevel.NONE)
+    private final ReadWriteLock renewLock = new ReentrantReadWriteLock();
     
     public LogicSchema(final String name, final Map<String, DataSourceParameter> dataSources) {
         this.name = name;
@@ -63,6 +72,36 @@ public abstract class LogicSchema {
     
     protected abstract ShardingMetaData getShardingMetaData();
     
+    /**
+     * Get statistics registry of data sources.
+     *
+     * @return statistics registry of data sources
+     */
+    public abstract DataSourceStatisticsRegistry getStatisticsRegistry();
+    
+    protected final void registerMaxPoolSize() {
+        for (Entry<String, DataSourceParameter> entry : dataSources.entrySet()) {
+            getStatisticsRegistry().getStatistics(entry.getKey()).setMaxPoolSize(entry.getValue().getMaximumPoolSize());
+        }
+    }
+    
+    /**
+     * Retain backend data source for backend connection.
+     * 
+     * <p>Retained backend data source should be released after backend connection closed.</p>
+     *
+     * @return retained backend data source
+     */
+    public final JDBCBackendDataSource retainBackendDataSource() {
+        renewLock.readLock().lock();
+        try {
+            backendDataSource.retain();
+            return backendDataSource;
+        } finally {
+            renewLock.readLock().unlock();
+        }
+    }
+    
     /**
      * Renew data source configuration.
      *
@@ -73,9 +112,30 @@ public abstract class LogicSchema {
         if (!name.equals(dataSourceEvent.getSchemaName())) {
             return;
         }
-        backendDataSource.close();
+        Map<String, DataSourceParameter> dataSourceParameters = DataSourceConverter.getDataSourceParameterMap(dataSourceEvent.getDataSourceConfigurations());
+        Collection<String> changedDataSourceNames = getChangedDataSourceNames(dataSourceParameters);
+        JDBCBackendDataSource originalBackendDataSource = backendDataSource;
+        JDBCBackendDataSource renewedBackendDataSource = new JDBCBackendDataSource(dataSourceParameters, originalBackendDataSource, changedDataSourceNames);
+        renewLock.writeLock().lock();
+        try {
+            backendDataSource = renewedBackendDataSource;
+        } finally {
+            renewLock.writeLock().unlock();
+        }
+        originalBackendDataSource.retire(changedDataSourceNames);
         dataSources.clear();
-        dataSources.putAll(DataSourceConverter.getDataSourceParameterMap(dataSourceEvent.getDataSourceConfigurations()));
-        backendDataSource = new JDBCBackendDataSource(dataSources);
+        dataSources.putAll(dataSourceParameters);
+        registerMaxPoolSize();
+    }
+    
+    private Collection<String> getChangedDataSourceNames(final Map<String, DataSourceParameter> dataSourceParameters) {
+        Collection<String> result = new HashSet<>(dataSources.keySet());
+        result.addAll(dataSourceParameters.keySet());
+        for (Entry<String, DataSourceParameter> entry : dataSources.entrySet()) {
+            if (entry.getValue().equals(dataSourceParameters.get(entry.getKey()))) {
+                result.remove(entry.getKey());
+            }
+        }
+        return result;
     }
 }
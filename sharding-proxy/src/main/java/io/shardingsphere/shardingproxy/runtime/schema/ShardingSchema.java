@@ -22,6 +22,7 @@ import io.shardingsphere.api.config.ShardingRuleConfiguration;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.ShardingConstant;
 import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
 import io.shardingsphere.core.metadata.ShardingMetaData;
 import io.shardingsphere.core.rule.DataSourceParameter;
 import io.shardingsphere.core.rule.MasterSlaveRule;
@@ -56,12 +57,18 @@ public final class ShardingSchema extends LogicSchema {
     public ShardingSchema(final String name, final Map<String, DataSourceParameter> dataSources, final ShardingRuleConfiguration shardingRuleConfig, final boolean isUsingRegistry) {
         super(name, dataSources);
         shardingRule = getShardingRule(shardingRuleConfig, dataSources.keySet(), isUsingRegistry);
+        registerMaxPoolSize();
     }
     
     private ShardingRule getShardingRule(final ShardingRuleConfiguration shardingRule, final Collection<String> dataSourceNames, final boolean isUsingRegistry) {
         return isUsingRegistry ? new OrchestrationShardingRule(shardingRule, dataSourceNames) : new ShardingRule(shardingRule, dataSourceNames);
     }
     
+    @Override
+    public DataSourceStatisticsRegistry getStatisticsRegistry() {
+        return shardingRule.getStatisticsRegistry();
+    }
+    
     @Override
     protected ShardingMetaData getShardingMetaData() {
         return new ShardingMetaData(getDataSourceURLs(getDataSources()), shardingRule, DatabaseType.MySQL, BackendExecutorContext.getInstance().getExecuteEngine(),
@@ -79,6 +86,7 @@ public final class ShardingSchema extends LogicSchema {
             return;
         }
         shardingRule = new OrchestrationShardingRule(shardingEvent.getShardingRuleConfiguration(), getDataSources().keySet());
+        registerMaxPoolSize();
     }
     
     /**
@@ -37,6 +37,10 @@ public enum ServerErrorCode {
     
     ER_BAD_DB_ERROR(1049, "42000", "Unknown database '%s'"),
     
+    ER_NO_SUCH_THREAD(1094, "HY000", "Unknown thread id: %s"),
+    
+    ER_KILL_DENIED_ERROR(1095, "HY000", "You are not owner of thread %s"),
+    
     ER_ERROR_ON_MODIFYING_GTID_EXECUTED_TABLE(3176, "HY000", 
             "Please do not modify the %s table with an XA transaction. "
                     + "This is an internal system table used to store GTIDs for committed transactions. "
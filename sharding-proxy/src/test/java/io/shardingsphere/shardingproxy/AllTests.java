@@ -17,6 +17,7 @@
 
 package io.shardingsphere.shardingproxy;
 
+import io.shardingsphere.shardingproxy.backend.AllBackendTests;
 import io.shardingsphere.shardingproxy.config.AllConfigTests;
 import io.shardingsphere.shardingproxy.frontend.AllFrontendTests;
 import io.shardingsphere.shardingproxy.listener.AllListenerTests;
@@ -32,7 +33,8 @@ import org.junit.runners.Suite.SuiteClasses;
         AllListenerTests.class, 
         AllConfigTests.class, 
         AllTransportTests.class, 
-        AllFrontendTests.class
+        AllFrontendTests.class, 
+        AllBackendTests.class
 })
 public final class AllTests {
 }
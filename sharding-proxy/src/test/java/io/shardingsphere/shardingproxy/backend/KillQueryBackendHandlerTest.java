@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingproxy.backend;
+
+import io.shardingsphere.core.rule.Authentication;
+import io.shardingsphere.shardingproxy.backend.jdbc.connection.BackendConnection;
+import io.shardingsphere.shardingproxy.runtime.BackendConnectionRegistry;
+import io.shardingsphere.shardingproxy.runtime.GlobalRegistry;
+import io.shardingsphere.shardingproxy.transport.mysql.constant.ServerErrorCode;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandResponsePackets;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.generic.ErrPacket;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.generic.OKPacket;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public final class KillQueryBackendHandlerTest {
+    
+    private final BackendConnection backendConnection = mock(BackendConnection.class);
+    
+    @Before
+    public void setUp() throws ReflectiveOperationException {
+        Authentication authentication = new Authentication();
+        authentication.setUsername("root");
+        setAuthentication(authentication);
+        BackendConnectionRegistry.getInstance().login(3000, "user");
+        BackendConnectionRegistry.getInstance().register(3000, backendConnection);
+    }
+    
+    @After
+    public void tearDown() throws ReflectiveOperationException {
+        BackendConnectionRegistry.getInstance().unregister(3000, backendConnection);
+        BackendConnectionRegistry.getInstance().logout(3000);
+        setAuthentication(null);
+    }
+    
+    @Test
+    public void assertKillQueryByOwner() {
+        CommandResponsePackets actual = new KillQueryBackendHandler(3000, "user").execute();
+        assertThat(actual.getHeadPacket(), instanceOf(OKPacket.class));
+        verify(backendConnection).cancel();
+    }
+    
+    @Test
+    public void assertKillQueryByPrivilegedUser() {
+        CommandResponsePackets actual = new KillQueryBackendHandler(3000, "root").execute();
+        assertThat(actual.getHeadPacket(), instanceOf(OKPacket.class));
+        verify(backendConnection).cancel();
+    }
+    
+    @Test
+    public void assertKillQueryByOtherUser() {
+        CommandResponsePackets actual = new KillQueryBackendHandler(3000, "other").execute();
+        assertThat(actual.getHeadPacket(), instanceOf(ErrPacket.class));
+        assertThat(((ErrPacket) actual.getHeadPacket()).getErrorCode(), is(ServerErrorCode.ER_KILL_DENIED_ERROR.getErrorCode()));
+        verify(backendConnection, never()).cancel();
+    }
+    
+    @Test
+    public void assertKillQueryOfIdleConnection() {
+        BackendConnectionRegistry.getInstance().unregister(3000, backendConnection);
+        CommandResponsePackets actual = new KillQueryBackendHandler(3000, "user").execute();
+        assertThat(actual.getHeadPacket(), instanceOf(OKPacket.class));
+        verify(backendConnection, never()).cancel();
+    }
+    
+    @Test
+    public void assertKillQueryOfUnknownConnection() {
+        CommandResponsePackets actual = new KillQueryBackendHandler(3001, "root").execute();
+        assertThat(actual.getHeadPacket(), instanceOf(ErrPacket.class));
+        assertThat(((ErrPacket) actual.getHeadPacket()).getErrorCode(), is(ServerErrorCode.ER_NO_SUCH_THREAD.getErrorCode()));
+    }
+    
+    private void setAuthentication(final Authentication authentication) throws ReflectiveOperationException {
+        Field field = GlobalRegistry.class.getDeclaredField("authentication");
+        field.setAccessible(true);
+        field.set(GlobalRegistry.getInstance(), authentication);
+    }
+}
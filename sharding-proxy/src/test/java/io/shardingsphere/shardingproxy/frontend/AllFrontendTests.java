@@ -19,6 +19,7 @@ package io.shardingsphere.shardingproxy.frontend;
 
 import io.shardingsphere.shardingproxy.frontend.common.FrontendHandlerFactoryTest;
 import io.shardingsphere.shardingproxy.frontend.common.executor.ChannelThreadExecutorGroupTest;
+import io.shardingsphere.shardingproxy.frontend.common.executor.ChannelTransactionExecutorTest;
 import io.shardingsphere.shardingproxy.frontend.common.executor.ExecutorGroupTest;
 import io.shardingsphere.shardingproxy.frontend.mysql.MySQLFrontendHandlerTest;
 import org.junit.runner.RunWith;
@@ -30,7 +31,8 @@ import org.junit.runners.Suite.SuiteClasses;
         FrontendHandlerFactoryTest.class,
         MySQLFrontendHandlerTest.class, 
         ExecutorGroupTest.class, 
-        ChannelThreadExecutorGroupTest.class
+        ChannelThreadExecutorGroupTest.class, 
+        ChannelTransactionExecutorTest.class
 })
 public final class AllFrontendTests {
 }
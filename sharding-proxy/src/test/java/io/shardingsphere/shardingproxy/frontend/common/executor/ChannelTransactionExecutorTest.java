@@ -0,0 +1,216 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingproxy.frontend.common.executor;
+
+import io.shardingsphere.transaction.xa.manager.XATransactionManagerSPILoader;
+import lombok.SneakyThrows;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.transaction.Status;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ChannelTransactionExecutorTest {
+    
+    private final ExecutorService workerExecutor = Executors.newFixedThreadPool(4);
+    
+    private final TransactionManager transactionManager = XATransactionManagerSPILoader.getInstance().getTransactionManager().getUnderlyingTransactionManager();
+    
+    @After
+    public void tearDown() {
+        workerExecutor.shutdown();
+    }
+    
+    @Test
+    public void assertExecuteSerially() throws InterruptedException {
+        ChannelTransactionExecutor channelTransactionExecutor = new ChannelTransactionExecutor(workerExecutor);
+        final List<Integer> actual = new ArrayList<>(100);
+        final AtomicBoolean running = new AtomicBoolean();
+        final AtomicBoolean overlapped = new AtomicBoolean();
+        final CountDownLatch latch = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            final int index = i;
+            channelTransactionExecutor.execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    if (!running.compareAndSet(false, true)) {
+                        overlapped.set(true);
+                    }
+                    actual.add(index);
+                    running.set(false);
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertFalse(overlapped.get());
+        for (int i = 0; i < 100; i++) {
+            assertThat(actual.get(i), is(i));
+        }
+    }
+    
+    @Test
+    public void assertExecuteWithTransactionAcrossThreads() throws Exception {
+        ChannelTransactionExecutor channelTransactionExecutor = new ChannelTransactionExecutor(new NewThreadExecutor());
+        final Transaction transaction = execute(channelTransactionExecutor, new Callable<Transaction>() {
+            
+            @Override
+            public Transaction call() throws Exception {
+                transactionManager.begin();
+                return transactionManager.getTransaction();
+            }
+        });
+        assertThat(transactionManager.getStatus(), is(Status.STATUS_NO_TRANSACTION));
+        Transaction actual = execute(channelTransactionExecutor, new Callable<Transaction>() {
+            
+            @Override
+            public Transaction call() throws Exception {
+                Transaction result = transactionManager.getTransaction();
+                transactionManager.rollback();
+                return result;
+            }
+        });
+        assertThat(actual, is(transaction));
+        assertThat(execute(channelTransactionExecutor, new Callable<Integer>() {
+            
+            @Override
+            public Integer call() throws Exception {
+                return transactionManager.getStatus();
+            }
+        }), is(Status.STATUS_NO_TRANSACTION));
+    }
+    
+    @Test
+    public void assertCloseWithTransaction() throws Exception {
+        ChannelTransactionExecutor channelTransactionExecutor = new ChannelTransactionExecutor(workerExecutor);
+        Transaction transaction = execute(channelTransactionExecutor, new Callable<Transaction>() {
+            
+            @Override
+            public Transaction call() throws Exception {
+                transactionManager.begin();
+                return transactionManager.getTransaction();
+            }
+        });
+        channelTransactionExecutor.close();
+        execute(channelTransactionExecutor, new Callable<Integer>() {
+            
+            @Override
+            public Integer call() throws Exception {
+                return transactionManager.getStatus();
+            }
+        });
+        assertThat(transaction.getStatus(), not(Status.STATUS_ACTIVE));
+    }
+    
+    @Test
+    public void assertRejectCommandIfResumeFailed() throws Exception {
+        ExecutorService singleWorkerExecutor = Executors.newSingleThreadExecutor();
+        try {
+            ChannelTransactionExecutor channelTransactionExecutor = new ChannelTransactionExecutor(singleWorkerExecutor);
+            final Transaction transaction = execute(channelTransactionExecutor, new Callable<Transaction>() {
+                
+                @Override
+                public Transaction call() throws Exception {
+                    transactionManager.begin();
+                    return transactionManager.getTransaction();
+                }
+            });
+            execute(singleWorkerExecutor, new Callable<Void>() {
+                
+                @Override
+                public Void call() throws Exception {
+                    transactionManager.begin();
+                    return null;
+                }
+            });
+            RejectableCommand rejectedCommand = new RejectableCommand();
+            channelTransactionExecutor.execute(rejectedCommand);
+            assertTrue(rejectedCommand.rejected.await(5, TimeUnit.SECONDS));
+            assertFalse(rejectedCommand.ran);
+            execute(singleWorkerExecutor, new Callable<Void>() {
+                
+                @Override
+                public Void call() throws Exception {
+                    transactionManager.rollback();
+                    return null;
+                }
+            });
+            assertThat(execute(channelTransactionExecutor, new Callable<Transaction>() {
+                
+                @Override
+                public Transaction call() throws Exception {
+                    Transaction result = transactionManager.getTransaction();
+                    transactionManager.rollback();
+                    return result;
+                }
+            }), is(transaction));
+        } finally {
+            singleWorkerExecutor.shutdown();
+        }
+    }
+    
+    @SneakyThrows
+    private <T> T execute(final Executor executor, final Callable<T> callable) {
+        FutureTask<T> result = new FutureTask<>(callable);
+        executor.execute(result);
+        return result.get(5, TimeUnit.SECONDS);
+    }
+    
+    private static final class NewThreadExecutor implements Executor {
+        
+        @Override
+        public void execute(final Runnable command) {
+            new Thread(command).start();
+        }
+    }
+    
+    private static final class RejectableCommand implements ChannelCommand {
+        
+        private final CountDownLatch rejected = new CountDownLatch(1);
+        
+        private volatile boolean ran;
+        
+        @Override
+        public void run() {
+            ran = true;
+        }
+        
+        @Override
+        public void reject(final Exception cause) {
+            rejected.countDown();
+        }
+    }
+}
@@ -30,7 +30,7 @@ import org.junit.Test;
 
 import java.lang.reflect.Field;
 import java.util.Properties;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
@@ -46,21 +46,21 @@ public final class ExecutorGroupTest {
     }
     
     @Test
-    public void assertGetExecutorServiceWithLocal() throws ReflectiveOperationException {
+    public void assertGetExecutorWithLocal() throws ReflectiveOperationException {
         setTransactionType(TransactionType.LOCAL);
         EventLoopGroup eventLoopGroup = mock(EventLoopGroup.class);
         ChannelId channelId = mock(ChannelId.class);
-        assertThat(new ExecutorGroup(eventLoopGroup, channelId).getExecutorService(), CoreMatchers.<ExecutorService>is(eventLoopGroup));
+        assertThat(new ExecutorGroup(eventLoopGroup, channelId).getExecutor(), CoreMatchers.<Executor>is(eventLoopGroup));
     }
     
     @Test
-    public void assertGetExecutorServiceWithXA() throws ReflectiveOperationException {
+    public void assertGetExecutorWithXA() throws ReflectiveOperationException {
         setTransactionType(TransactionType.XA);
         EventLoopGroup eventLoopGroup = mock(EventLoopGroup.class);
         ChannelId channelId = mock(ChannelId.class);
         ChannelThreadExecutorGroup.getInstance().register(channelId);
-        assertThat(new ExecutorGroup(eventLoopGroup, channelId).getExecutorService(), Matchers.<ExecutorService>not(eventLoopGroup));
-        assertNotNull(new ExecutorGroup(eventLoopGroup, channelId).getExecutorService());
+        assertThat(new ExecutorGroup(eventLoopGroup, channelId).getExecutor(), Matchers.<Executor>not(eventLoopGroup));
+        assertNotNull(new ExecutorGroup(eventLoopGroup, channelId).getExecutor());
         ChannelThreadExecutorGroup.getInstance().unregister(channelId);
     }
     
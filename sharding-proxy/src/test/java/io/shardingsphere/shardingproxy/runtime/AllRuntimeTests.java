@@ -25,7 +25,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
         ProxyTableMetaDataConnectionManagerTest.class, 
-        ChannelRegistryTest.class
+        ChannelRegistryTest.class, 
+        BackendConnectionRegistryTest.class
 })
 public final class AllRuntimeTests {
 }
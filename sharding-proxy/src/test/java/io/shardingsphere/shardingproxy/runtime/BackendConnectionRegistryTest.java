@@ -0,0 +1,55 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingproxy.runtime;
+
+import io.shardingsphere.shardingproxy.backend.jdbc.connection.BackendConnection;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class BackendConnectionRegistryTest {
+    
+    @Test
+    public void assertCancelRegisteredConnection() {
+        BackendConnection backendConnection = mock(BackendConnection.class);
+        BackendConnectionRegistry.getInstance().register(2000, backendConnection);
+        assertTrue(BackendConnectionRegistry.getInstance().cancel(2000));
+        verify(backendConnection).cancel();
+    }
+    
+    @Test
+    public void assertCancelUnregisteredConnection() {
+        BackendConnection backendConnection = mock(BackendConnection.class);
+        BackendConnectionRegistry.getInstance().register(2001, backendConnection);
+        BackendConnectionRegistry.getInstance().unregister(2001, backendConnection);
+        assertFalse(BackendConnectionRegistry.getInstance().cancel(2001));
+    }
+    
+    @Test
+    public void assertGetUsernameOfLoginConnection() {
+        BackendConnectionRegistry.getInstance().login(2002, "root");
+        assertThat(BackendConnectionRegistry.getInstance().getUsername(2002).get(), is("root"));
+        BackendConnectionRegistry.getInstance().logout(2002);
+        assertFalse(BackendConnectionRegistry.getInstance().getUsername(2002).isPresent());
+    }
+}
@@ -34,11 +34,18 @@ import java.util.Properties;
 /**
  * Wrap XADataSource to transactional dataSource pool.
  *
+ * <p>
+ * Connections are not validated on borrow. Tomcat DBCP2 validates idle connections by {@code Connection.isValid} in eviction runs,
+ * Atomikos evicts idle connections in its pool maintenance and destroys connections which failed on use.
+ * </p>
+ *
  * @author zhaojun
  */
 @RequiredArgsConstructor
 public final class XATransactionDataSourceWrapper {
     
+    private static final long VALIDATION_INTERVAL_MILLISECONDS = 30 * 1000L;
+    
     private final TransactionManager transactionManager;
     
     /**
@@ -66,6 +73,9 @@ public final class XATransactionDataSourceWrapper {
         result.setMaxWaitMillis(parameter.getConnectionTimeout());
         result.setMaxIdle((int) parameter.getIdleTimeout());
         result.setMaxConnLifetimeMillis(parameter.getMaxLifetime());
+        result.setTestOnBorrow(false);
+        result.setTestWhileIdle(true);
+        result.setTimeBetweenEvictionRunsMillis(VALIDATION_INTERVAL_MILLISECONDS);
         result.setXADataSource(xaDataSource.getClass().getName());
         Properties xaProperties = XAPropertyFactory.build(XADatabaseType.find(xaDataSource.getClass().getName()), parameter);
         PropertyUtils.setProperties(xaDataSource, xaProperties);
@@ -80,7 +90,6 @@ public final class XATransactionDataSourceWrapper {
         result.setMaxIdleTime((int) parameter.getIdleTimeout());
         result.setBorrowConnectionTimeout((int) parameter.getConnectionTimeout());
         result.setMaxLifetime((int) parameter.getMaxLifetime());
-        result.setTestQuery("SELECT 1");
         result.setXaDataSourceClassName(xaDataSource.getClass().getName());
         Properties xaProperties = XAPropertyFactory.build(XADatabaseType.find(xaDataSource.getClass().getName()), parameter);
         PropertyUtils.setProperties(xaDataSource, xaProperties);
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.transaction.xa.manager;
+
+import io.shardingsphere.core.constant.transaction.TransactionOperationType;
+import io.shardingsphere.core.event.transaction.xa.XATransactionEvent;
+import lombok.RequiredArgsConstructor;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class AtomikosTransactionManagerCommitTest {
+    
+    private final AtomikosTransactionManager atomikosTransactionManager = new AtomikosTransactionManager();
+    
+    @Test
+    public void assertCommitOnePhaseForSingleResource() throws Exception {
+        XAResource xaResource = mockXAResource();
+        beginWith(xaResource);
+        atomikosTransactionManager.commit(new XATransactionEvent(TransactionOperationType.COMMIT));
+        verify(xaResource, never()).prepare(any(Xid.class));
+        verify(xaResource).commit(any(Xid.class), eq(true));
+    }
+    
+    @Test
+    public void assertCommitTwoPhaseInParallelForMultipleResources() throws Exception {
+        CountDownLatch preparingLatch = new CountDownLatch(2);
+        XAResource xaResource0 = mockXAResource();
+        XAResource xaResource1 = mockXAResource();
+        when(xaResource0.prepare(any(Xid.class))).thenAnswer(new ParallelPrepareAnswer(preparingLatch));
+        when(xaResource1.prepare(any(Xid.class))).thenAnswer(new ParallelPrepareAnswer(preparingLatch));
+        beginWith(xaResource0, xaResource1);
+        atomikosTransactionManager.commit(new XATransactionEvent(TransactionOperationType.COMMIT));
+        verify(xaResource0).commit(any(Xid.class), eq(false));
+        verify(xaResource1).commit(any(Xid.class), eq(false));
+    }
+    
+    private XAResource mockXAResource() throws XAException {
+        XAResource result = mock(XAResource.class);
+        when(result.recover(anyInt())).thenReturn(new Xid[0]);
+        return result;
+    }
+    
+    private void beginWith(final XAResource... xaResources) throws Exception {
+        atomikosTransactionManager.begin(new XATransactionEvent(TransactionOperationType.BEGIN));
+        for (XAResource each : xaResources) {
+            atomikosTransactionManager.getUnderlyingTransactionManager().getTransaction().enlistResource(each);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ParallelPrepareAnswer implements Answer<Integer> {
+        
+        private final CountDownLatch preparingLatch;
+        
+        @Override
+        public Integer answer(final InvocationOnMock invocation) throws XAException, InterruptedException {
+            preparingLatch.countDown();
+            if (!preparingLatch.await(5, TimeUnit.SECONDS)) {
+                throw new XAException(XAException.XAER_RMFAIL);
+            }
+            return XAResource.XA_OK;
+        }
+    }
+}
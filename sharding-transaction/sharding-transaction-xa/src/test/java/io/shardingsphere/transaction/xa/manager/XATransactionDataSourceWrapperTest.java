@@ -36,7 +36,10 @@ import javax.sql.XADataSource;
 import javax.transaction.TransactionManager;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public class XATransactionDataSourceWrapperTest {
     
@@ -66,6 +69,7 @@ public class XATransactionDataSourceWrapperTest {
         assertThat(targetDataSource.getXaDataSourceClassName(), is(XADatabaseType.MySQL.getClassName()));
         assertThat(targetDataSource.getUniqueResourceName(), is("ds1"));
         assertThat(targetDataSource.getMaxPoolSize(), is(parameter.getMaximumPoolSize()));
+        assertNull(targetDataSource.getTestQuery());
         assertThat(targetDataSource.getXaProperties().get("user"), Is.<Object>is(parameter.getUsername()));
         assertThat(targetDataSource.getXaProperties().get("password"), Is.<Object>is(parameter.getPassword()));
         assertThat(targetDataSource.getXaProperties().get("URL"), Is.<Object>is(parameter.getUrl()));
@@ -79,6 +83,8 @@ public class XATransactionDataSourceWrapperTest {
         assertThat(targetDataSource.getXaDataSourceInstance(), is(xaDataSource));
         assertThat(targetDataSource.getXADataSource(), is(XADatabaseType.MySQL.getClassName()));
         assertThat(targetDataSource.getMaxTotal(), is(parameter.getMaximumPoolSize()));
+        assertFalse(targetDataSource.getTestOnBorrow());
+        assertTrue(targetDataSource.getTestWhileIdle());
         MatcherAssert.assertThat(ReflectiveUtil.getProperty(targetDataSource.getXaDataSourceInstance(), "user"), Is.<Object>is(parameter.getUsername()));
         MatcherAssert.assertThat(ReflectiveUtil.getProperty(targetDataSource.getXaDataSourceInstance(), "password"), Is.<Object>is(parameter.getPassword()));
         MatcherAssert.assertThat(ReflectiveUtil.getProperty(targetDataSource.getXaDataSourceInstance(), "url"), Is.<Object>is(parameter.getUrl()));